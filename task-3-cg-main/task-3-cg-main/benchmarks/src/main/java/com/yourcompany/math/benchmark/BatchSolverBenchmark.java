@@ -0,0 +1,89 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.BatchSolver;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.parallel.ParallelBatch;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves 100000 independent 4x4 systems with {@link Matrix4x4#solveSystem} per system,
+ * with {@link BatchSolver} on one thread and with {@link ParallelBatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchSolverBenchmark {
+
+    private static final int SYSTEMS = 100_000;
+
+    private Matrix4x4[] matrices;
+    private Vector4[] rhs;
+    private double[] a;
+    private double[] b;
+    private double[] x;
+    private byte[] status;
+    private ParallelBatch parallel;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        matrices = new Matrix4x4[SYSTEMS];
+        rhs = new Vector4[SYSTEMS];
+        a = new double[16 * SYSTEMS];
+        b = new double[4 * SYSTEMS];
+        for (int i = 0; i < SYSTEMS; i++) {
+            double[] e = new double[16];
+            for (int k = 0; k < 16; k++) {
+                e[k] = random.nextDouble() - 0.5;
+                a[k * SYSTEMS + i] = e[k];
+            }
+            matrices[i] = Matrix4x4.fromArray(e, 0);
+            rhs[i] = new Vector4(random.nextDouble(), random.nextDouble(), random.nextDouble(), 1.0);
+            b[i] = rhs[i].getX();
+            b[SYSTEMS + i] = rhs[i].getY();
+            b[2 * SYSTEMS + i] = rhs[i].getZ();
+            b[3 * SYSTEMS + i] = rhs[i].getW();
+        }
+        x = new double[4 * SYSTEMS];
+        status = new byte[SYSTEMS];
+        parallel = new ParallelBatch(ForkJoinPool.commonPool(), 4096);
+    }
+
+    @Benchmark
+    public double solveSystemEach() {
+        double sum = 0.0;
+        for (int i = 0; i < SYSTEMS; i++) {
+            sum += Matrix4x4.solveSystem(matrices[i], rhs[i]).getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] batchSolver() {
+        BatchSolver.solve4(a, b, x, status, SYSTEMS);
+        return x;
+    }
+
+    @Benchmark
+    public double[] parallelBatch() {
+        parallel.solve4(a, b, x, status, SYSTEMS);
+        return x;
+    }
+}
@@ -0,0 +1,113 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector3Buffer;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transforms whole arrays of vectors by one {@link Matrix4x4}, from 10^3 up to 10^7 vectors,
+ * so that cache effects and allocation pressure show up alongside per-vertex cost.
+ * Scores are per batch; divide by {@code size} for the per-vertex time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class BatchTransformBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Matrix4x4 matrix;
+    private Vector4[] vectors;
+    private Vector4[] results;
+    private MutableVector4 dst;
+    private double[] packed;
+    private double[] packedOut;
+    private Vector3Buffer buffer;
+    private Vector3Buffer bufferOut;
+    private DirectVector3Buffer direct;
+    private DirectVector3Buffer directOut;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        matrix = new Matrix4x4(
+            0.8, -0.6, 0.0, 10.0,
+            0.6, 0.8, 0.0, -5.0,
+            0.0, 0.0, 1.0, 2.0,
+            0.0, 0.0, 0.0, 1.0);
+        Random random = new Random(42);
+        vectors = new Vector4[size];
+        for (int i = 0; i < size; i++) {
+            vectors[i] = new Vector4(random.nextDouble(), random.nextDouble(), random.nextDouble(), 1.0);
+        }
+        results = new Vector4[size];
+        dst = new MutableVector4();
+        packed = new double[3 * size];
+        buffer = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            packed[3 * i] = vectors[i].getX();
+            packed[3 * i + 1] = vectors[i].getY();
+            packed[3 * i + 2] = vectors[i].getZ();
+            buffer.set(i, packed[3 * i], packed[3 * i + 1], packed[3 * i + 2]);
+        }
+        packedOut = new double[3 * size];
+        bufferOut = new Vector3Buffer(size);
+        direct = new DirectVector3Buffer(size);
+        direct.put(0, packed, 0, size);
+        directOut = new DirectVector3Buffer(size);
+    }
+
+    @Benchmark
+    public Vector4[] multiplyEach() {
+        for (int i = 0; i < size; i++) {
+            results[i] = matrix.multiply(vectors[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public void multiplyEachInto(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(matrix.multiply(vectors[i], dst).getX());
+        }
+    }
+
+    @Benchmark
+    public double[] transformPointsPacked() {
+        matrix.transformPoints(packed, 0, packedOut, 0, size);
+        return packedOut;
+    }
+
+    @Benchmark
+    public Vector3Buffer transformPointsBuffer() {
+        matrix.transformPoints(buffer, 0, bufferOut, 0, size);
+        return bufferOut;
+    }
+
+    @Benchmark
+    public DirectVector3Buffer transformPointsDirect() {
+        matrix.transformPoints(direct, 0, directOut, 0, size);
+        return directOut;
+    }
+}
@@ -0,0 +1,49 @@
+package com.yourcompany.math.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of the benchmarks jar.
+ * Accepts the regular JMH command line and adds two defaults: the GC profiler, so that
+ * allocation per operation ({@code gc.alloc.rate.norm}) is always reported, and a JSON result
+ * file under {@code results/} named after the start time, so that runs can be compared later
+ * (for example with jmh.morethan.io or any JSON diff tool).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+
+        if (cmd.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!cmd.getResult().hasValue()) {
+            File dir = new File("results");
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IllegalStateException("Cannot create results directory " + dir.getAbsolutePath());
+            }
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            builder.result(new File(dir, "jmh-" + stamp + ".json").getPath());
+        }
+        if (!cmd.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.SingularValueDecomposition;
+import com.yourcompany.math.matrix.SymmetricEigenDecomposition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch normal estimation (smallest eigenvector of 3x3 covariance matrices), full symmetric
+ * eigen-decompositions, SVDs and polar rotations over 100000 packed matrices.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecompositionBenchmark {
+
+    private static final int COUNT = 100_000;
+
+    private double[] covariances;
+    private double[] general;
+    private double[] values;
+    private double[] vectors;
+    private double[] u;
+    private double[] v;
+    private double[] normals;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        covariances = new double[9 * COUNT];
+        general = new double[9 * COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            // Covariance of a flattened neighborhood: symmetric positive semi-definite
+            double[] g = new double[9];
+            for (int k = 0; k < 9; k++) {
+                g[k] = random.nextDouble() - 0.5;
+                general[9 * i + k] = g[k];
+            }
+            g[6] *= 0.01;
+            g[7] *= 0.01;
+            g[8] *= 0.01;
+            for (int r = 0; r < 3; r++) {
+                for (int c = 0; c < 3; c++) {
+                    covariances[9 * i + 3 * r + c] = g[r] * g[c] + g[3 + r] * g[3 + c] + g[6 + r] * g[6 + c];
+                }
+            }
+        }
+        values = new double[3 * COUNT];
+        vectors = new double[9 * COUNT];
+        u = new double[9 * COUNT];
+        v = new double[9 * COUNT];
+        normals = new double[3 * COUNT];
+    }
+
+    @Benchmark
+    public double[] normals() {
+        SymmetricEigenDecomposition.smallestEigenvectors(covariances, 0, normals, 0, COUNT);
+        return normals;
+    }
+
+    @Benchmark
+    public double[] eigen() {
+        SymmetricEigenDecomposition.decompose(covariances, 0, values, 0, vectors, 0, COUNT);
+        return vectors;
+    }
+
+    @Benchmark
+    public double[] svd() {
+        SingularValueDecomposition.decompose(general, 0, u, 0, values, 0, v, 0, COUNT);
+        return u;
+    }
+
+    @Benchmark
+    public double[] polarRotations() {
+        SingularValueDecomposition.rotations(general, 0, vectors, 0, COUNT);
+        return vectors;
+    }
+}
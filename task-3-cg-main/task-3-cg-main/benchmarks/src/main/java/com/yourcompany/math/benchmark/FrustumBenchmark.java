@@ -0,0 +1,122 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.geometry.BoundingBox;
+import com.yourcompany.math.geometry.Frustum;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Culls 500000 boxes and spheres scattered around a 90 degree perspective frustum (about a
+ * tenth of them visible) with the packed {@link Frustum} batch calls, against a loop of
+ * {@link Frustum#intersects(BoundingBox)} over box objects. The {@code threads} parameter sizes
+ * the pool of the parallel variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FrustumBenchmark {
+
+    private static final int SIZE = 500_000;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private Frustum frustum;
+    private double[] minX, minY, minZ, maxX, maxY, maxZ, radius;
+    private BoundingBox[] boxes;
+    private long[] visible;
+    private int[] indices;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        frustum = Frustum.of(new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, -1.002, -0.2002,
+            0.0, 0.0, -1.0, 0.0));
+        Random random = new Random(42);
+        minX = new double[SIZE];
+        minY = new double[SIZE];
+        minZ = new double[SIZE];
+        maxX = new double[SIZE];
+        maxY = new double[SIZE];
+        maxZ = new double[SIZE];
+        radius = new double[SIZE];
+        boxes = new BoundingBox[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            minX[i] = random.nextDouble() * 200 - 100;
+            minY[i] = random.nextDouble() * 200 - 100;
+            minZ[i] = random.nextDouble() * -100;
+            radius[i] = random.nextDouble();
+            maxX[i] = minX[i] + radius[i];
+            maxY[i] = minY[i] + radius[i];
+            maxZ[i] = minZ[i] + radius[i];
+            boxes[i] = new BoundingBox(new Vector3(minX[i], minY[i], minZ[i]), new Vector3(maxX[i], maxY[i], maxZ[i]));
+        }
+        visible = new long[(SIZE + 63) / 64];
+        indices = new int[SIZE];
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int boxObjects() {
+        int n = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (frustum.intersects(boxes[i])) {
+                indices[n++] = i;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int boxesBitset() {
+        return frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, SIZE, visible);
+    }
+
+    @Benchmark
+    public int boxesIndices() {
+        return frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, SIZE, indices);
+    }
+
+    @Benchmark
+    public int boxesParallel() {
+        return frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, SIZE, visible, pool);
+    }
+
+    @Benchmark
+    public int spheresBitset() {
+        return frustum.cullSpheres(minX, minY, minZ, radius, SIZE, visible);
+    }
+
+    @Benchmark
+    public int spheresParallel() {
+        return frustum.cullSpheres(minX, minY, minZ, radius, SIZE, visible, pool);
+    }
+}
@@ -0,0 +1,84 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.LUDecomposition;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves 1000 systems sharing one 4x4 coefficient matrix, with {@link Matrix4x4#solveSystem}
+ * per right-hand side and with a single {@link LUDecomposition}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LUDecompositionBenchmark {
+
+    private static final int SYSTEMS = 1000;
+
+    private Matrix4x4 a;
+    private Vector4[] rhs;
+    private double[] packed;
+    private double[] solutions;
+    private MutableVector4 dst;
+
+    @Setup
+    public void setup() {
+        a = new Matrix4x4(
+            0.0, 1.0, 2.0, 3.0,
+            2.0, 0.0, 1.0, -1.0,
+            1.0, 3.0, 0.0, 2.0,
+            4.0, 1.0, 1.0, 0.0);
+        rhs = new Vector4[SYSTEMS];
+        packed = new double[4 * SYSTEMS];
+        for (int i = 0; i < SYSTEMS; i++) {
+            rhs[i] = new Vector4(i, 1.0, -i, 2.0);
+            packed[4 * i] = i;
+            packed[4 * i + 1] = 1.0;
+            packed[4 * i + 2] = -i;
+            packed[4 * i + 3] = 2.0;
+        }
+        solutions = new double[4 * SYSTEMS];
+        dst = new MutableVector4();
+    }
+
+    @Benchmark
+    public double solveSystemEach() {
+        double sum = 0.0;
+        for (Vector4 b : rhs) {
+            sum += Matrix4x4.solveSystem(a, b).getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double factorOnceSolveEach() {
+        LUDecomposition lu = LUDecomposition.of(a);
+        double sum = 0.0;
+        for (Vector4 b : rhs) {
+            sum += lu.solve(b, dst).getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] factorOnceSolveBatch() {
+        LUDecomposition.of(a).solve(packed, 0, solutions, 0, SYSTEMS);
+        return solutions;
+    }
+}
@@ -0,0 +1,123 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.MutableMatrix3x3;
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.Vector3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation benchmarks for {@link Matrix3x3}, allocating and destination variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Matrix3x3Benchmark {
+
+    private Matrix3x3 a;
+    private Matrix3x3 b;
+    private Vector3 v;
+    private double[] flat;
+    private MutableMatrix3x3 dst;
+    private MutableVector3 vdst;
+
+    @Setup
+    public void setup() {
+        a = new Matrix3x3(
+            2.0, 1.0, 1.0,
+            1.0, 3.0, 2.0,
+            1.0, 0.0, 0.0);
+        b = new Matrix3x3(
+            1.0, 2.0, 3.0,
+            0.0, 1.0, 4.0,
+            5.0, 6.0, 0.0);
+        v = new Vector3(1.0, 2.0, 3.0);
+        flat = a.toArray(new double[9], 0);
+        dst = new MutableMatrix3x3();
+        vdst = new MutableVector3();
+    }
+
+    @Benchmark
+    public double get() {
+        return a.get(1, 2);
+    }
+
+    @Benchmark
+    public Matrix3x3 fromArray() {
+        return Matrix3x3.fromArray(flat, 0);
+    }
+
+    @Benchmark
+    public double[] toArray() {
+        return a.toArray(flat, 0);
+    }
+
+    @Benchmark
+    public Matrix3x3 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Matrix3x3 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Matrix3x3 multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Vector3 multiplyVector() {
+        return a.multiply(v);
+    }
+
+    @Benchmark
+    public Matrix3x3 transpose() {
+        return a.transpose();
+    }
+
+    @Benchmark
+    public double determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public Matrix3x3 inverse() {
+        return a.inverse();
+    }
+
+    @Benchmark
+    public Vector3 solveSystem() {
+        return Matrix3x3.solveSystem(a, v);
+    }
+
+    @Benchmark
+    public MutableMatrix3x3 multiplyInto() {
+        return a.multiply(b, dst);
+    }
+
+    @Benchmark
+    public MutableVector3 multiplyVectorInto() {
+        return a.multiply(v, vdst);
+    }
+
+    @Benchmark
+    public MutableMatrix3x3 inverseInto() {
+        return a.inverse(dst);
+    }
+}
@@ -0,0 +1,159 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.matrix.MutableMatrix4x4;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation benchmarks for {@link Matrix4x4}, allocating and destination variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Matrix4x4Benchmark {
+
+    private Matrix4x4 general;
+    private Matrix4x4 affine;
+    private Matrix4x4 rigid;
+    private Vector4 v;
+    private double[] flat;
+    private MutableMatrix4x4 dst;
+    private MutableVector4 vdst;
+
+    @Setup
+    public void setup() {
+        general = new Matrix4x4(
+            3.0, 2.0, 0.0, 1.0,
+            4.0, 0.0, 1.0, 2.0,
+            3.0, 0.0, 2.0, 1.0,
+            9.0, 2.0, 3.0, 1.0);
+        affine = new Matrix4x4(
+            2.0, 0.5, 0.0, 3.0,
+            0.0, 3.0, 1.0, -2.0,
+            1.0, 0.0, 4.0, 1.5,
+            0.0, 0.0, 0.0, 1.0);
+        double c = Math.cos(0.7);
+        double s = Math.sin(0.7);
+        rigid = new Matrix4x4(
+            c, -s, 0.0, 4.0,
+            s, c, 0.0, -1.0,
+            0.0, 0.0, 1.0, 2.5,
+            0.0, 0.0, 0.0, 1.0);
+        v = new Vector4(1.0, 2.0, 3.0, 1.0);
+        flat = general.toArray(new double[16], 0);
+        dst = new MutableMatrix4x4();
+        vdst = new MutableVector4();
+    }
+
+    @Benchmark
+    public double get() {
+        return general.get(2, 3);
+    }
+
+    @Benchmark
+    public Matrix4x4 fromArray() {
+        return Matrix4x4.fromArray(flat, 0);
+    }
+
+    @Benchmark
+    public double[] toArray() {
+        return general.toArray(flat, 0);
+    }
+
+    @Benchmark
+    public Matrix4x4 add() {
+        return general.add(affine);
+    }
+
+    @Benchmark
+    public Matrix4x4 subtract() {
+        return general.subtract(affine);
+    }
+
+    @Benchmark
+    public Matrix4x4 multiply() {
+        return general.multiply(affine);
+    }
+
+    @Benchmark
+    public Vector4 multiplyVector() {
+        return general.multiply(v);
+    }
+
+    @Benchmark
+    public Matrix4x4 transpose() {
+        return general.transpose();
+    }
+
+    @Benchmark
+    public double determinant() {
+        return general.determinant();
+    }
+
+    @Benchmark
+    public Matrix4x4 inverse() {
+        return general.inverse();
+    }
+
+    @Benchmark
+    public double determinantUncached() {
+        // A fresh instance starts with an empty cache, so this measures the computation itself
+        return Matrix4x4.fromArray(flat, 0).determinant();
+    }
+
+    @Benchmark
+    public Matrix4x4 inverseUncached() {
+        return Matrix4x4.fromArray(flat, 0).inverse();
+    }
+
+    @Benchmark
+    public boolean isAffine() {
+        return affine.isAffine();
+    }
+
+    @Benchmark
+    public Matrix4x4 inverseAffine() {
+        return affine.inverseAffine();
+    }
+
+    @Benchmark
+    public Matrix4x4 inverseRigid() {
+        return rigid.inverseRigid();
+    }
+
+    @Benchmark
+    public Vector4 solveSystem() {
+        return Matrix4x4.solveSystem(general, v);
+    }
+
+    @Benchmark
+    public MutableMatrix4x4 multiplyInto() {
+        return general.multiply(affine, dst);
+    }
+
+    @Benchmark
+    public MutableVector4 multiplyVectorInto() {
+        return general.multiply(v, vdst);
+    }
+
+    @Benchmark
+    public MutableMatrix4x4 inverseInto() {
+        return general.inverse(dst);
+    }
+}
@@ -0,0 +1,86 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.MatrixN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multiplies square {@link MatrixN} instances with the naive triple loop, with the blocked
+ * kernel on one thread and with the blocked kernel on the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixNBenchmark {
+
+    @Param({"64", "256", "1024"})
+    private int size;
+
+    private MatrixN a;
+    private MatrixN b;
+    private double[] aData;
+    private double[] bData;
+    private ForkJoinPool single;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        aData = new double[size * size];
+        bData = new double[size * size];
+        for (int i = 0; i < aData.length; i++) {
+            aData[i] = random.nextDouble();
+            bData[i] = random.nextDouble();
+        }
+        a = MatrixN.fromArray(size, size, aData, 0);
+        b = MatrixN.fromArray(size, size, bData, 0);
+        single = new ForkJoinPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    @Benchmark
+    public double[] naive() {
+        double[] r = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double s = 0.0;
+                for (int k = 0; k < size; k++) {
+                    s += aData[i * size + k] * bData[k * size + j];
+                }
+                r[i * size + j] = s;
+            }
+        }
+        return r;
+    }
+
+    @Benchmark
+    public MatrixN blockedSingleThread() {
+        return a.multiply(b, single);
+    }
+
+    @Benchmark
+    public MatrixN blockedCommonPool() {
+        return a.multiply(b);
+    }
+}
@@ -0,0 +1,100 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.kernel.Normalization;
+import com.yourcompany.math.kernel.PackedKernels;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and Vector API implementations of {@link PackedKernels} on
+ * structure-of-arrays data. The {@code kernels} parameter selects the implementation through
+ * the {@value PackedKernels#FORCE_SCALAR_PROPERTY} property in each forked JVM; the
+ * forks add {@code jdk.incubator.vector}, so this benchmark needs a Java 17+ JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class PackedKernelsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private Matrix4x4 matrix;
+    private Vector3Buffer points;
+    private Vector3Buffer out;
+    private Vector3 fallback;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(PackedKernels.FORCE_SCALAR_PROPERTY, Boolean.toString("scalar".equals(kernels)));
+        if (!kernels.equals(PackedKernels.implementation())) {
+            throw new IllegalStateException("Requested " + kernels + " kernels but got "
+                + PackedKernels.implementation());
+        }
+        matrix = new Matrix4x4(
+            0.8, -0.6, 0.0, 10.0,
+            0.6, 0.8, 0.0, -5.0,
+            0.0, 0.0, 1.0, 2.0,
+            0.0, 0.0, 0.0, 1.0);
+        Random random = new Random(42);
+        points = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            points.set(i, random.nextDouble() + 0.1, random.nextDouble(), random.nextDouble());
+        }
+        out = new Vector3Buffer(size);
+        fallback = new Vector3(0.0, 0.0, 1.0);
+    }
+
+    @Benchmark
+    public Vector3Buffer add() {
+        return points.add(points, out);
+    }
+
+    @Benchmark
+    public double dot() {
+        return PackedKernels.dot(points.xArray(), 0, points.yArray(), 0, size);
+    }
+
+    @Benchmark
+    public Vector3Buffer normalize() {
+        return points.normalize(out);
+    }
+
+    @Benchmark
+    public Vector3Buffer normalizeExact() {
+        return points.normalize(out, Normalization.EXACT, fallback);
+    }
+
+    @Benchmark
+    public Vector3Buffer normalizeApproximate() {
+        return points.normalize(out, Normalization.APPROXIMATE, fallback);
+    }
+
+    @Benchmark
+    public Vector3Buffer transformPoints() {
+        matrix.transformPoints(points, 0, out, 0, size);
+        return out;
+    }
+}
@@ -0,0 +1,99 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.geometry.BoundingBox;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.parallel.ParallelBatch;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential batch transform with {@link ParallelBatch} on large point sets, and
+ * measures the parallel reductions. The {@code threads} parameter sizes a dedicated pool;
+ * 1 shows the fork-join overhead against {@code sequentialTransform}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ParallelBatchBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private Matrix4x4 matrix;
+    private Vector3Buffer points;
+    private Vector3Buffer out;
+    private ForkJoinPool pool;
+    private ParallelBatch batch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        matrix = new Matrix4x4(
+            0.8, -0.6, 0.0, 10.0,
+            0.6, 0.8, 0.0, -5.0,
+            0.0, 0.0, 1.0, 2.0,
+            0.0, 0.0, 0.0, 1.0);
+        Random random = new Random(42);
+        points = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            points.set(i, random.nextDouble(), random.nextDouble(), random.nextDouble());
+        }
+        out = new Vector3Buffer(size);
+        pool = new ForkJoinPool(threads);
+        batch = new ParallelBatch(pool, ParallelBatch.DEFAULT_GRAIN_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Vector3Buffer sequentialTransform() {
+        matrix.transformPoints(points, 0, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public Vector3Buffer parallelTransform() {
+        batch.transformPoints(matrix, points, 0, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public BoundingBox boundingBox() {
+        return batch.boundingBox(points);
+    }
+
+    @Benchmark
+    public Vector3 centroid() {
+        return batch.centroid(points);
+    }
+
+    @Benchmark
+    public double sumOfSquaredLengths() {
+        return batch.sumOfSquaredLengths(points);
+    }
+}
@@ -0,0 +1,105 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.kernel.PackedKernels;
+import com.yourcompany.math.kernel.Precision;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.parallel.ParallelBatch;
+import com.yourcompany.math.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Precision#COMPENSATED} against {@link Precision#STANDARD} for a 1M element dot
+ * product, a chain of 64 4x4 matrix products and the parallel sum of squared lengths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrecisionBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final int CHAIN = 64;
+
+    @Param({"STANDARD", "COMPENSATED"})
+    public Precision precision;
+
+    private double[] a;
+    private double[] b;
+    private Matrix4x4[] chain;
+    private Vector3Buffer points;
+    private ForkJoinPool pool;
+    private ParallelBatch batch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        a = new double[SIZE];
+        b = new double[SIZE];
+        points = new Vector3Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            a[i] = random.nextDouble() - 0.5;
+            b[i] = random.nextDouble() - 0.5;
+            points.set(i, random.nextDouble(), random.nextDouble(), random.nextDouble());
+        }
+        chain = new Matrix4x4[CHAIN];
+        for (int i = 0; i < CHAIN; i++) {
+            double angle = random.nextDouble();
+            double c = Math.cos(angle), s = Math.sin(angle);
+            chain[i] = new Matrix4x4(
+                c, -s, 0.0, random.nextDouble(),
+                s, c, 0.0, random.nextDouble(),
+                0.0, 0.0, 1.0, random.nextDouble(),
+                0.0, 0.0, 0.0, 1.0);
+        }
+        pool = new ForkJoinPool(4);
+        batch = new ParallelBatch(pool, 1 << 14, precision);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double dot() {
+        return PackedKernels.dot(a, 0, b, 0, SIZE, precision);
+    }
+
+    @Benchmark
+    public Matrix4x4 matrixChain() {
+        Matrix4x4 m = Matrix4x4.identity();
+        if (precision == Precision.COMPENSATED) {
+            for (Matrix4x4 next : chain) {
+                m = m.multiplyCompensated(next);
+            }
+        } else {
+            for (Matrix4x4 next : chain) {
+                m = m.multiply(next);
+            }
+        }
+        return m;
+    }
+
+    @Benchmark
+    public double sumOfSquaredLengths() {
+        return batch.sumOfSquaredLengths(points);
+    }
+}
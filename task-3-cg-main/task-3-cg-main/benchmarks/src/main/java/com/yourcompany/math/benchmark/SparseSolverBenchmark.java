@@ -0,0 +1,91 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.SolverResult;
+import com.yourcompany.math.matrix.SparseMatrix;
+import com.yourcompany.math.matrix.SparseSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sparse products and solves on the five-point Laplacian of a 512x512 grid (262144 unknowns),
+ * sequentially and on the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseSolverBenchmark {
+
+    private static final int GRID = 512;
+    private static final int ITERATIONS = 50;
+
+    private SparseMatrix laplacian;
+    private double[] b;
+    private double[] x;
+    private double[] y;
+
+    @Setup
+    public void setup() {
+        int n = GRID * GRID;
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int r = 0; r < GRID; r++) {
+            for (int c = 0; c < GRID; c++) {
+                int i = r * GRID + c;
+                builder.add(i, i, 4.01);
+                if (c > 0) builder.add(i, i - 1, -1.0);
+                if (c < GRID - 1) builder.add(i, i + 1, -1.0);
+                if (r > 0) builder.add(i, i - GRID, -1.0);
+                if (r < GRID - 1) builder.add(i, i + GRID, -1.0);
+            }
+        }
+        laplacian = builder.build();
+        b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = Math.sin(i * 0.01);
+        }
+        x = new double[n];
+        y = new double[n];
+    }
+
+    @Benchmark
+    public double[] multiplySequential() {
+        return laplacian.multiply(b, y);
+    }
+
+    @Benchmark
+    public double[] multiplyParallel() {
+        return laplacian.multiply(b, y, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public SolverResult conjugateGradientSequential() {
+        Arrays.fill(x, 0.0);
+        return SparseSolver.conjugateGradient(laplacian, b, x, 0.0, ITERATIONS);
+    }
+
+    @Benchmark
+    public SolverResult conjugateGradientParallel() {
+        Arrays.fill(x, 0.0);
+        return SparseSolver.conjugateGradient(laplacian, b, x, 0.0, ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public SolverResult gaussSeidel() {
+        Arrays.fill(x, 0.0);
+        return SparseSolver.gaussSeidel(laplacian, b, x, 0.0, ITERATIONS);
+    }
+}
@@ -0,0 +1,103 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.matrix.TransformChain;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies model, view and projection to a batch of vertices, either as three separate
+ * {@link Matrix4x4#multiply(Vector4)} calls per vertex or through a fused {@link TransformChain}.
+ * {@code affine} drops the projection so the chain takes its 3x4 fast path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformChainBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean affine;
+
+    private Matrix4x4 model;
+    private Matrix4x4 view;
+    private Matrix4x4 projection;
+    private Vector4[] vectors;
+    private Vector4[] results;
+    private double[] packed;
+    private double[] packedOut;
+    private TransformChain chain;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        model = new Matrix4x4(
+            0.8, -0.6, 0.0, 10.0,
+            0.6, 0.8, 0.0, -5.0,
+            0.0, 0.0, 1.0, 2.0,
+            0.0, 0.0, 0.0, 1.0);
+        view = new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 0.8, -0.6, 3.0,
+            0.0, 0.6, 0.8, -10.0,
+            0.0, 0.0, 0.0, 1.0);
+        projection = affine ? Matrix4x4.identity() : new Matrix4x4(
+            1.5, 0.0, 0.0, 0.0,
+            0.0, 2.0, 0.0, 0.0,
+            0.0, 0.0, -1.2, -2.2,
+            0.0, 0.0, -1.0, 0.0);
+        Random random = new Random(42);
+        vectors = new Vector4[size];
+        results = new Vector4[size];
+        packed = new double[4 * size];
+        packedOut = new double[4 * size];
+        for (int i = 0; i < size; i++) {
+            vectors[i] = new Vector4(random.nextDouble(), random.nextDouble(), random.nextDouble(), 1.0);
+            packed[4 * i] = vectors[i].getX();
+            packed[4 * i + 1] = vectors[i].getY();
+            packed[4 * i + 2] = vectors[i].getZ();
+            packed[4 * i + 3] = 1.0;
+        }
+        chain = new TransformChain(model, view, projection);
+    }
+
+    @Benchmark
+    public Vector4[] separateMultiplies() {
+        for (int i = 0; i < size; i++) {
+            results[i] = projection.multiply(view.multiply(model.multiply(vectors[i])));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public double[] fusedChain() {
+        chain.transform(packed, 0, packedOut, 0, size);
+        return packedOut;
+    }
+
+    @Benchmark
+    public double[] fusedChainRebuilt() {
+        // A changed stage forces a new fusion before the batch
+        chain.set(0, chain.get(0) == model ? view : model);
+        chain.transform(packed, 0, packedOut, 0, size);
+        return packedOut;
+    }
+}
@@ -0,0 +1,86 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.vector.MutableVector2;
+import com.yourcompany.math.vector.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation benchmarks for {@link Vector2}, allocating and destination variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector2Benchmark {
+
+    private Vector2 a;
+    private Vector2 b;
+    private double scalar;
+    private MutableVector2 dst;
+
+    @Setup
+    public void setup() {
+        a = new Vector2(1.5, -2.25);
+        b = new Vector2(-0.5, 4.0);
+        scalar = 1.75;
+        dst = new MutableVector2();
+    }
+
+    @Benchmark
+    public Vector2 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector2 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Vector2 multiply() {
+        return a.multiply(scalar);
+    }
+
+    @Benchmark
+    public Vector2 divide() {
+        return a.divide(scalar);
+    }
+
+    @Benchmark
+    public double length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Vector2 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public double dotProduct() {
+        return a.dotProduct(b);
+    }
+
+    @Benchmark
+    public MutableVector2 addInto() {
+        return a.add(b, dst);
+    }
+
+    @Benchmark
+    public MutableVector2 normalizeInto() {
+        return a.normalize(dst);
+    }
+}
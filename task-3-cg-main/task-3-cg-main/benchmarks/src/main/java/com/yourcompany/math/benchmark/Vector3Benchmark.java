@@ -0,0 +1,117 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.Vector3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation benchmarks for {@link Vector3}, allocating and destination variants, and a
+ * transform, add, normalize and cross chain run on immutable vectors and on one
+ * {@link MutableVector3}. Run with {@code -prof gc} to check that the mutable variants do not
+ * allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector3Benchmark {
+
+    private Vector3 a;
+    private Vector3 b;
+    private double scalar;
+    private MutableVector3 dst;
+    private MutableVector3 source;
+    private Matrix3x3 rotation;
+
+    @Setup
+    public void setup() {
+        a = new Vector3(1.5, -2.25, 3.0);
+        b = new Vector3(-0.5, 4.0, 2.75);
+        scalar = 1.75;
+        dst = new MutableVector3();
+        source = new MutableVector3(a);
+        rotation = new Matrix3x3(
+            0.8, -0.6, 0.0,
+            0.6, 0.8, 0.0,
+            0.0, 0.0, 1.0);
+    }
+
+    @Benchmark
+    public Vector3 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector3 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Vector3 multiply() {
+        return a.multiply(scalar);
+    }
+
+    @Benchmark
+    public Vector3 divide() {
+        return a.divide(scalar);
+    }
+
+    @Benchmark
+    public double length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Vector3 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public double dotProduct() {
+        return a.dotProduct(b);
+    }
+
+    @Benchmark
+    public Vector3 crossProduct() {
+        return a.crossProduct(b);
+    }
+
+    @Benchmark
+    public MutableVector3 addInto() {
+        return a.add(b, dst);
+    }
+
+    @Benchmark
+    public MutableVector3 normalizeInto() {
+        return a.normalize(dst);
+    }
+
+    @Benchmark
+    public MutableVector3 crossProductInto() {
+        return a.crossProduct(b, dst);
+    }
+
+    @Benchmark
+    public Vector3 chain() {
+        return rotation.multiply(a).add(b).normalize().crossProduct(b);
+    }
+
+    @Benchmark
+    public MutableVector3 chainInto() {
+        return rotation.multiply(source, dst).add(b).normalize().crossProduct(b);
+    }
+}
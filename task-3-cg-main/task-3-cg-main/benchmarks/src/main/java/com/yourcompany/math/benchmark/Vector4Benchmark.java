@@ -0,0 +1,86 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation benchmarks for {@link Vector4}, allocating and destination variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector4Benchmark {
+
+    private Vector4 a;
+    private Vector4 b;
+    private double scalar;
+    private MutableVector4 dst;
+
+    @Setup
+    public void setup() {
+        a = new Vector4(1.5, -2.25, 3.0, 1.0);
+        b = new Vector4(-0.5, 4.0, 2.75, 0.0);
+        scalar = 1.75;
+        dst = new MutableVector4();
+    }
+
+    @Benchmark
+    public Vector4 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector4 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Vector4 multiply() {
+        return a.multiply(scalar);
+    }
+
+    @Benchmark
+    public Vector4 divide() {
+        return a.divide(scalar);
+    }
+
+    @Benchmark
+    public double length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Vector4 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public double dotProduct() {
+        return a.dotProduct(b);
+    }
+
+    @Benchmark
+    public MutableVector4 addInto() {
+        return a.add(b, dst);
+    }
+
+    @Benchmark
+    public MutableVector4 normalizeInto() {
+        return a.normalize(dst);
+    }
+}
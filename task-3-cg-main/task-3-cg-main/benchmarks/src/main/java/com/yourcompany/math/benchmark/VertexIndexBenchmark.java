@@ -0,0 +1,90 @@
+package com.yourcompany.math.benchmark;
+
+import com.yourcompany.math.geometry.VertexIndex;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Welds a triangle soup of 1.2M vertices over a 200 x 200 x 5 grid (200000 unique positions,
+ * each repeated six times in shuffled order) with {@link VertexIndex} and with the
+ * {@code HashMap<Vector3, Integer>} it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class VertexIndexBenchmark {
+
+    private static final int SIDE = 200;
+    private static final int LAYERS = 5;
+    private static final int UNIQUE = SIDE * SIDE * LAYERS;
+    private static final int REPEATS = 6;
+
+    private Vector3Buffer vertices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int n = UNIQUE * REPEATS;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i % UNIQUE;
+        }
+        Random random = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        vertices = new Vector3Buffer(n);
+        for (int i = 0; i < n; i++) {
+            int v = order[i];
+            vertices.set(i, (v % SIDE) * 0.5, ((v / SIDE) % SIDE) * 0.5, (v / (SIDE * SIDE)) * 0.5);
+        }
+    }
+
+    @Benchmark
+    public int[] hashMap() {
+        Map<Vector3, Integer> map = new HashMap<>();
+        int[] remap = new int[vertices.size()];
+        for (int i = 0; i < remap.length; i++) {
+            Integer next = map.size();
+            Integer index = map.putIfAbsent(vertices.get(i), next);
+            remap[i] = index == null ? next : index;
+        }
+        return remap;
+    }
+
+    @Benchmark
+    public int[] exact() {
+        return new VertexIndex(0.0).addAll(vertices);
+    }
+
+    @Benchmark
+    public int[] exactPresized() {
+        return new VertexIndex(0.0, UNIQUE).addAll(vertices);
+    }
+
+    @Benchmark
+    public int[] tolerance() {
+        return new VertexIndex(1e-6, UNIQUE).addAll(vertices);
+    }
+}
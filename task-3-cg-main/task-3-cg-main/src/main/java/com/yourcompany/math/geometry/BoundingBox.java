@@ -0,0 +1,99 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.vector.Vector3;
+
+/**
+ * Immutable axis-aligned bounding box given by its minimum and maximum corners.
+ */
+public final class BoundingBox {
+    private final Vector3 min;
+    private final Vector3 max;
+
+    /**
+     * Constructs a bounding box from its corners.
+     *
+     * @param min the corner with the smallest coordinates
+     * @param max the corner with the largest coordinates
+     * @throws IllegalArgumentException if a corner is null or min exceeds max on some axis
+     */
+    public BoundingBox(Vector3 min, Vector3 max) {
+        if (min == null || max == null) {
+            throw new IllegalArgumentException("Corners cannot be null");
+        }
+        if (min.getX() > max.getX() || min.getY() > max.getY() || min.getZ() > max.getZ()) {
+            throw new IllegalArgumentException("Minimum corner cannot exceed maximum corner");
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Returns the corner with the smallest coordinates.
+     *
+     * @return the minimum corner
+     */
+    public Vector3 getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the corner with the largest coordinates.
+     *
+     * @return the maximum corner
+     */
+    public Vector3 getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the center of this box.
+     *
+     * @return the midpoint of the two corners
+     */
+    public Vector3 center() {
+        return min.add(max).multiply(0.5);
+    }
+
+    /**
+     * Returns the edge lengths of this box along each axis.
+     *
+     * @return the difference of the two corners
+     */
+    public Vector3 extent() {
+        return max.subtract(min);
+    }
+
+    /**
+     * Checks whether a point lies inside this box or on its boundary.
+     *
+     * @param p the point to test
+     * @return true if the point is contained
+     * @throws IllegalArgumentException if p is null
+     */
+    public boolean contains(Vector3 p) {
+        if (p == null) {
+            throw new IllegalArgumentException("Point cannot be null");
+        }
+        return p.getX() >= min.getX() && p.getX() <= max.getX()
+            && p.getY() >= min.getY() && p.getY() <= max.getY()
+            && p.getZ() >= min.getZ() && p.getZ() <= max.getZ();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        BoundingBox box = (BoundingBox) obj;
+        return min.equals(box.min) && max.equals(box.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return min.hashCode() * 31 + max.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundingBox(" + min + ", " + max + ")";
+    }
+}
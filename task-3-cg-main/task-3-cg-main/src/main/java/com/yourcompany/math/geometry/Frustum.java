@@ -0,0 +1,525 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable view frustum given by six inward-facing planes, extracted from a view-projection
+ * matrix, with batch culling of bounding volumes.
+ * <p>
+ * Planes are stored as {@code (a, b, c, d)} with a unit normal {@code (a, b, c)}, so that
+ * {@code a * x + b * y + c * z + d} is the signed distance of a point, positive inside. The tests
+ * are conservative: an object is culled only if it lies entirely on the outer side of some plane,
+ * so objects near the corners of the frustum may be kept although they are outside it.
+ * <p>
+ * The batch methods read bounding boxes and spheres in structure-of-arrays form, one array per
+ * component, and stop testing an object at the first plane that rejects it. Results are written
+ * either as a bitset, bit {@code i % 64} of word {@code i / 64} set for each visible object
+ * {@code i}, or as a compacted list of the indices of the visible objects in increasing order.
+ * The bitset versions can run on a {@link ForkJoinPool}; since every task writes whole words of
+ * its own range, the result is identical for any number of threads.
+ */
+public final class Frustum {
+
+    /** Index of the plane {@code x >= -w} in clip space. */
+    public static final int LEFT = 0;
+    /** Index of the plane {@code x <= w} in clip space. */
+    public static final int RIGHT = 1;
+    /** Index of the plane {@code y >= -w} in clip space. */
+    public static final int BOTTOM = 2;
+    /** Index of the plane {@code y <= w} in clip space. */
+    public static final int TOP = 3;
+    /** Index of the near plane, {@code z >= -w} or {@code z >= 0} in clip space. */
+    public static final int NEAR = 4;
+    /** Index of the plane {@code z <= w} in clip space. */
+    public static final int FAR = 5;
+
+    /**
+     * Number of bitset words, of 64 objects each, culled by one task of the parallel versions.
+     */
+    static final int GRAIN_WORDS = 256;
+
+    /** Plane coefficients, four per plane in the order of the index constants. */
+    private final double[] planes;
+
+    private Frustum(double[] planes) {
+        this.planes = planes;
+    }
+
+    /**
+     * Extracts the frustum of a view-projection matrix that maps points to clip space as
+     * {@code M * (x, y, z, 1)}, with visible points satisfying {@code -w <= x, y, z <= w}
+     * (OpenGL depth convention).
+     *
+     * @param viewProjection the view-projection matrix
+     * @return the frustum
+     * @throws IllegalArgumentException if viewProjection is null
+     */
+    public static Frustum of(Matrix4x4 viewProjection) {
+        return of(viewProjection, false);
+    }
+
+    /**
+     * Extracts the frustum of a view-projection matrix that maps points to clip space as
+     * {@code M * (x, y, z, 1)}. Planes whose normal vanishes are kept unnormalized; the far
+     * plane of an infinite projection is one, and since its distance is a positive constant it
+     * culls nothing.
+     *
+     * @param viewProjection the view-projection matrix
+     * @param zeroToOneDepth true if visible depths satisfy {@code 0 <= z <= w} (Direct3D and
+     *                       Vulkan convention), false for {@code -w <= z <= w}
+     * @return the frustum
+     * @throws IllegalArgumentException if viewProjection is null
+     */
+    public static Frustum of(Matrix4x4 viewProjection, boolean zeroToOneDepth) {
+        if (viewProjection == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double[] m = viewProjection.toArray(new double[16], 0);
+        double[] planes = new double[24];
+        for (int c = 0; c < 4; c++) {
+            double r0 = m[c], r1 = m[4 + c], r2 = m[8 + c], r3 = m[12 + c];
+            planes[4 * LEFT + c] = r3 + r0;
+            planes[4 * RIGHT + c] = r3 - r0;
+            planes[4 * BOTTOM + c] = r3 + r1;
+            planes[4 * TOP + c] = r3 - r1;
+            planes[4 * NEAR + c] = zeroToOneDepth ? r2 : r3 + r2;
+            planes[4 * FAR + c] = r3 - r2;
+        }
+        for (int k = 0; k < 24; k += 4) {
+            double length = Math.sqrt(planes[k] * planes[k] + planes[k + 1] * planes[k + 1]
+                + planes[k + 2] * planes[k + 2]);
+            if (length > 0.0) {
+                double inv = 1.0 / length;
+                planes[k] *= inv;
+                planes[k + 1] *= inv;
+                planes[k + 2] *= inv;
+                planes[k + 3] *= inv;
+            }
+        }
+        return new Frustum(planes);
+    }
+
+    /**
+     * Returns a plane of this frustum.
+     *
+     * @param index the plane index, one of {@link #LEFT} to {@link #FAR}
+     * @return the plane as {@code (a, b, c, d)} with a unit, inward normal
+     * @throws IndexOutOfBoundsException if index is not between 0 and 5
+     */
+    public Vector4 getPlane(int index) {
+        if (index < 0 || index >= 6) {
+            throw new IndexOutOfBoundsException("Plane index must be between 0 and 5");
+        }
+        int k = 4 * index;
+        return new Vector4(planes[k], planes[k + 1], planes[k + 2], planes[k + 3]);
+    }
+
+    /**
+     * Checks whether a point lies inside this frustum or on its boundary.
+     *
+     * @param p the point to test
+     * @return true if the point is on the inner side of every plane
+     * @throws IllegalArgumentException if p is null
+     */
+    public boolean contains(Vector3 p) {
+        if (p == null) {
+            throw new IllegalArgumentException("Point cannot be null");
+        }
+        return !sphereOutside(planes, p.getX(), p.getY(), p.getZ(), 0.0);
+    }
+
+    /**
+     * Checks whether a bounding box may intersect this frustum.
+     *
+     * @param box the box to test
+     * @return false if the box lies entirely outside one of the planes
+     * @throws IllegalArgumentException if box is null
+     */
+    public boolean intersects(BoundingBox box) {
+        if (box == null) {
+            throw new IllegalArgumentException("Box cannot be null");
+        }
+        Vector3 min = box.getMin(), max = box.getMax();
+        return !boxOutside(planes, min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    /**
+     * Checks whether a sphere may intersect this frustum.
+     *
+     * @param center the center of the sphere
+     * @param radius the radius of the sphere
+     * @return false if the sphere lies entirely outside one of the planes
+     * @throws IllegalArgumentException if center is null or radius is negative
+     */
+    public boolean intersects(Vector3 center, double radius) {
+        if (center == null) {
+            throw new IllegalArgumentException("Center cannot be null");
+        }
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius cannot be negative");
+        }
+        return !sphereOutside(planes, center.getX(), center.getY(), center.getZ(), radius);
+    }
+
+    /**
+     * Culls axis-aligned boxes, writing a bitset of the visible ones. Boxes with a minimum
+     * corner above the maximum corner are not detected.
+     *
+     * @param minX    the minimum x of each box
+     * @param minY    the minimum y of each box
+     * @param minZ    the minimum z of each box
+     * @param maxX    the maximum x of each box
+     * @param maxY    the maximum y of each box
+     * @param maxZ    the maximum z of each box
+     * @param count   the number of boxes
+     * @param visible the destination bitset, at least {@code (count + 63) / 64} words; bits
+     *                beyond count in the last word are cleared
+     * @return the number of visible boxes
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count boxes
+     */
+    public int cullBoxes(double[] minX, double[] minY, double[] minZ,
+                         double[] maxX, double[] maxY, double[] maxZ, int count, long[] visible) {
+        checkBoxes(minX, minY, minZ, maxX, maxY, maxZ, count);
+        checkBitset(visible, count);
+        return cullBoxWords(minX, minY, minZ, maxX, maxY, maxZ, count, visible, 0, words(count));
+    }
+
+    /**
+     * Culls axis-aligned boxes on a fork-join pool, writing a bitset of the visible ones.
+     * Batches of up to 16384 boxes run on the calling thread.
+     *
+     * @param minX    the minimum x of each box
+     * @param minY    the minimum y of each box
+     * @param minZ    the minimum z of each box
+     * @param maxX    the maximum x of each box
+     * @param maxY    the maximum y of each box
+     * @param maxZ    the maximum z of each box
+     * @param count   the number of boxes
+     * @param visible the destination bitset, at least {@code (count + 63) / 64} words
+     * @param pool    the pool that executes the tasks
+     * @return the number of visible boxes
+     * @throws IllegalArgumentException if an array or pool is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count boxes
+     */
+    public int cullBoxes(double[] minX, double[] minY, double[] minZ,
+                         double[] maxX, double[] maxY, double[] maxZ, int count, long[] visible,
+                         ForkJoinPool pool) {
+        checkBoxes(minX, minY, minZ, maxX, maxY, maxZ, count);
+        checkBitset(visible, count);
+        checkPool(pool);
+        return invoke(pool, words(count), (from, to) ->
+            cullBoxWords(minX, minY, minZ, maxX, maxY, maxZ, count, visible, from, to));
+    }
+
+    /**
+     * Culls axis-aligned boxes, writing the indices of the visible ones in increasing order.
+     *
+     * @param minX    the minimum x of each box
+     * @param minY    the minimum y of each box
+     * @param minZ    the minimum z of each box
+     * @param maxX    the maximum x of each box
+     * @param maxY    the maximum y of each box
+     * @param maxZ    the maximum z of each box
+     * @param count   the number of boxes
+     * @param indices the destination for the indices, at least count elements
+     * @return the number of visible boxes, that is of indices written
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count boxes
+     */
+    public int cullBoxes(double[] minX, double[] minY, double[] minZ,
+                         double[] maxX, double[] maxY, double[] maxZ, int count, int[] indices) {
+        checkBoxes(minX, minY, minZ, maxX, maxY, maxZ, count);
+        checkIndices(indices, count);
+        double[] p = planes;
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (!boxOutside(p, minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i])) {
+                indices[n++] = i;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Culls spheres, writing a bitset of the visible ones. Radii are expected to be
+     * non-negative.
+     *
+     * @param centerX the x coordinate of each center
+     * @param centerY the y coordinate of each center
+     * @param centerZ the z coordinate of each center
+     * @param radius  the radius of each sphere
+     * @param count   the number of spheres
+     * @param visible the destination bitset, at least {@code (count + 63) / 64} words; bits
+     *                beyond count in the last word are cleared
+     * @return the number of visible spheres
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count spheres
+     */
+    public int cullSpheres(double[] centerX, double[] centerY, double[] centerZ, double[] radius,
+                           int count, long[] visible) {
+        checkSpheres(centerX, centerY, centerZ, radius, count);
+        checkBitset(visible, count);
+        return cullSphereWords(centerX, centerY, centerZ, radius, count, visible, 0, words(count));
+    }
+
+    /**
+     * Culls spheres on a fork-join pool, writing a bitset of the visible ones.
+     * Batches of up to 16384 spheres run on the calling thread.
+     *
+     * @param centerX the x coordinate of each center
+     * @param centerY the y coordinate of each center
+     * @param centerZ the z coordinate of each center
+     * @param radius  the radius of each sphere
+     * @param count   the number of spheres
+     * @param visible the destination bitset, at least {@code (count + 63) / 64} words
+     * @param pool    the pool that executes the tasks
+     * @return the number of visible spheres
+     * @throws IllegalArgumentException if an array or pool is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count spheres
+     */
+    public int cullSpheres(double[] centerX, double[] centerY, double[] centerZ, double[] radius,
+                           int count, long[] visible, ForkJoinPool pool) {
+        checkSpheres(centerX, centerY, centerZ, radius, count);
+        checkBitset(visible, count);
+        checkPool(pool);
+        return invoke(pool, words(count), (from, to) ->
+            cullSphereWords(centerX, centerY, centerZ, radius, count, visible, from, to));
+    }
+
+    /**
+     * Culls spheres, writing the indices of the visible ones in increasing order.
+     *
+     * @param centerX the x coordinate of each center
+     * @param centerY the y coordinate of each center
+     * @param centerZ the z coordinate of each center
+     * @param radius  the radius of each sphere
+     * @param count   the number of spheres
+     * @param indices the destination for the indices, at least count elements
+     * @return the number of visible spheres, that is of indices written
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count spheres
+     */
+    public int cullSpheres(double[] centerX, double[] centerY, double[] centerZ, double[] radius,
+                           int count, int[] indices) {
+        checkSpheres(centerX, centerY, centerZ, radius, count);
+        checkIndices(indices, count);
+        double[] p = planes;
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (!sphereOutside(p, centerX[i], centerY[i], centerZ[i], radius[i])) {
+                indices[n++] = i;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Converts a bitset written by the cull methods into a compacted index list, for example
+     * after a parallel cull.
+     *
+     * @param visible the bitset
+     * @param count   the number of objects covered by the bitset
+     * @param indices the destination for the indices of the set bits below count, in increasing
+     *                order
+     * @return the number of indices written
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for count objects
+     */
+    public static int toIndices(long[] visible, int count, int[] indices) {
+        checkBitset(visible, count);
+        checkIndices(indices, count);
+        int n = 0;
+        for (int w = 0, words = words(count); w < words; w++) {
+            long word = visible[w];
+            if (w == words - 1 && (count & 63) != 0) {
+                word &= (1L << (count & 63)) - 1;
+            }
+            while (word != 0) {
+                indices[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Frustum(");
+        for (int i = 0; i < 6; i++) {
+            sb.append(i == 0 ? "" : ", ").append(getPlane(i));
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Culls the boxes of the bitset words {@code [fromWord, toWord)} and returns how many are
+     * visible.
+     */
+    private int cullBoxWords(double[] minX, double[] minY, double[] minZ,
+                             double[] maxX, double[] maxY, double[] maxZ, int count, long[] visible,
+                             int fromWord, int toWord) {
+        double[] p = planes;
+        int total = 0;
+        for (int w = fromWord; w < toWord; w++) {
+            long word = 0L;
+            for (int i = w << 6, end = Math.min(count, i + 64), bit = 0; i < end; i++, bit++) {
+                if (!boxOutside(p, minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i])) {
+                    word |= 1L << bit;
+                }
+            }
+            visible[w] = word;
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Culls the spheres of the bitset words {@code [fromWord, toWord)} and returns how many are
+     * visible.
+     */
+    private int cullSphereWords(double[] centerX, double[] centerY, double[] centerZ, double[] radius,
+                                int count, long[] visible, int fromWord, int toWord) {
+        double[] p = planes;
+        int total = 0;
+        for (int w = fromWord; w < toWord; w++) {
+            long word = 0L;
+            for (int i = w << 6, end = Math.min(count, i + 64), bit = 0; i < end; i++, bit++) {
+                if (!sphereOutside(p, centerX[i], centerY[i], centerZ[i], radius[i])) {
+                    word |= 1L << bit;
+                }
+            }
+            visible[w] = word;
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Tests the corner of a box furthest along each plane normal, stopping at the first plane
+     * that has it on its outer side.
+     */
+    private static boolean boxOutside(double[] p, double x0, double y0, double z0,
+                                      double x1, double y1, double z1) {
+        for (int k = 0; k < 24; k += 4) {
+            double a = p[k], b = p[k + 1], c = p[k + 2];
+            if (a * (a >= 0.0 ? x1 : x0) + b * (b >= 0.0 ? y1 : y0) + c * (c >= 0.0 ? z1 : z0) + p[k + 3] < 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sphereOutside(double[] p, double x, double y, double z, double r) {
+        for (int k = 0; k < 24; k += 4) {
+            if (p[k] * x + p[k + 1] * y + p[k + 2] * z + p[k + 3] < -r) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int invoke(ForkJoinPool pool, int words, WordCuller culler) {
+        if (words <= GRAIN_WORDS) {
+            return culler.cull(0, words);
+        }
+        return pool.invoke(new CullTask(culler, 0, words));
+    }
+
+    private static int words(int count) {
+        return (count + 63) >>> 6;
+    }
+
+    private static void checkBoxes(double[] minX, double[] minY, double[] minZ,
+                                   double[] maxX, double[] maxY, double[] maxZ, int count) {
+        if (minX == null || minY == null || minZ == null || maxX == null || maxY == null || maxZ == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        checkCount(count);
+        if (minX.length < count || minY.length < count || minZ.length < count
+            || maxX.length < count || maxY.length < count || maxZ.length < count) {
+            throw new IndexOutOfBoundsException("Box arrays do not hold " + count + " boxes");
+        }
+    }
+
+    private static void checkSpheres(double[] centerX, double[] centerY, double[] centerZ,
+                                     double[] radius, int count) {
+        if (centerX == null || centerY == null || centerZ == null || radius == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        checkCount(count);
+        if (centerX.length < count || centerY.length < count || centerZ.length < count || radius.length < count) {
+            throw new IndexOutOfBoundsException("Sphere arrays do not hold " + count + " spheres");
+        }
+    }
+
+    private static void checkBitset(long[] visible, int count) {
+        if (visible == null) {
+            throw new IllegalArgumentException("Bitset cannot be null");
+        }
+        checkCount(count);
+        if (visible.length < words(count)) {
+            throw new IndexOutOfBoundsException("Bitset of " + visible.length + " words does not hold "
+                + count + " bits");
+        }
+    }
+
+    private static void checkIndices(int[] indices, int count) {
+        if (indices == null) {
+            throw new IllegalArgumentException("Index array cannot be null");
+        }
+        if (indices.length < count) {
+            throw new IndexOutOfBoundsException("Index array of length " + indices.length
+                + " does not hold " + count + " indices");
+        }
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+    }
+
+    private static void checkPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+    }
+
+    /**
+     * Culls the objects of the bitset words {@code [fromWord, toWord)} and returns how many are
+     * visible.
+     */
+    private interface WordCuller {
+        int cull(int fromWord, int toWord);
+    }
+
+    private static final class CullTask extends RecursiveTask<Integer> {
+        private final WordCuller culler;
+        private final int from;
+        private final int to;
+
+        CullTask(WordCuller culler, int from, int to) {
+            this.culler = culler;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= GRAIN_WORDS) {
+                return culler.cull(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CullTask left = new CullTask(culler, from, mid);
+            left.fork();
+            int right = new CullTask(culler, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+}
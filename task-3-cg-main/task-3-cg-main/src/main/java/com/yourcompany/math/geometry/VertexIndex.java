@@ -0,0 +1,340 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+
+import java.util.Arrays;
+
+/**
+ * Vertex welding index: maps vertex positions to the indices of unique vertices, in the order
+ * in which they were first added.
+ * <p>
+ * The index is an open-addressing hash table with linear probing over primitive arrays, so no
+ * per-vertex objects are created. The table has a power-of-two capacity and is kept at most half
+ * full; with its coordinate arrays it takes 40 to 80 bytes per unique vertex. Sized up front with
+ * the expected number of unique vertices, the index never rehashes, and ten million unique
+ * vertices fit in well under a gigabyte.
+ * <p>
+ * With a tolerance of zero, positions are welded only if they compare equal, so {@code 0.0} and
+ * {@code -0.0} weld and NaN coordinates never do. With a positive tolerance, positions are
+ * quantized to cubic cells with an edge of four times the tolerance, and the cell coordinates
+ * are hashed with a 64-bit finalizer, so grid-aligned meshes spread evenly over the table. A new
+ * position is welded to the earliest added unique vertex within the tolerance (Euclidean
+ * distance); only the cells that overlap the cube of half-edge tolerance around it are probed,
+ * one for positions near a cell center and at most eight. Welding is greedy, so the result
+ * depends on insertion order, but every position lies within the tolerance of the vertex it is
+ * welded to.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class VertexIndex {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final double tolerance;
+    private final double toleranceSquared;
+    private final double inverseCell;
+
+    /** Unique vertex index plus one for each slot; 0 marks an empty slot. */
+    private int[] table;
+    /** Hash of the cell of the vertex in each slot. */
+    private int[] hashes;
+    private int mask;
+
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private int size;
+
+    /**
+     * Constructs an empty index with a small initial capacity.
+     *
+     * @param tolerance the largest distance at which positions are welded, 0 for exact matches
+     * @throws IllegalArgumentException if tolerance is negative, infinite or NaN
+     */
+    public VertexIndex(double tolerance) {
+        this(tolerance, MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Constructs an empty index sized for the given number of unique vertices.
+     *
+     * @param tolerance        the largest distance at which positions are welded, 0 for exact matches
+     * @param expectedVertices the number of unique vertices the index holds without growing
+     * @throws IllegalArgumentException if tolerance is negative, infinite or NaN, or
+     *                                  expectedVertices is negative or too large
+     */
+    public VertexIndex(double tolerance, int expectedVertices) {
+        if (!(tolerance >= 0.0) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException("Tolerance must be finite and non-negative");
+        }
+        if (expectedVertices < 0 || expectedVertices > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException("Expected vertex count must be between 0 and " + MAX_CAPACITY / 2);
+        }
+        this.tolerance = tolerance;
+        this.toleranceSquared = tolerance * tolerance;
+        this.inverseCell = tolerance > 0.0 ? 0.25 / tolerance : 0.0;
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2 * expectedVertices) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        this.x = new double[capacity / 2];
+        this.y = new double[capacity / 2];
+        this.z = new double[capacity / 2];
+    }
+
+    /**
+     * Returns the weld tolerance.
+     *
+     * @return the largest distance at which positions are welded
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns the number of unique vertices.
+     *
+     * @return the number of unique vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of a unique vertex.
+     *
+     * @param index the index of the unique vertex
+     * @return its position, as first added
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Vector3 get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return new Vector3(x[index], y[index], z[index]);
+    }
+
+    /**
+     * Finds the unique vertex a position would be welded to.
+     *
+     * @param px the x coordinate
+     * @param py the y coordinate
+     * @param pz the z coordinate
+     * @return the index of the earliest unique vertex within the tolerance, or -1 if there is none
+     */
+    public int find(double px, double py, double pz) {
+        if (tolerance == 0.0) {
+            return findExact(px, py, pz);
+        }
+        long x0 = cell(px - tolerance), x1 = cell(px + tolerance);
+        long y0 = cell(py - tolerance), y1 = cell(py + tolerance);
+        long z0 = cell(pz - tolerance), z1 = cell(pz + tolerance);
+        int best = Integer.MAX_VALUE;
+        // The loops stop on equality so that cells saturated at Long.MAX_VALUE cannot wrap around
+        for (long cx = x0; ; cx++) {
+            for (long cy = y0; ; cy++) {
+                for (long cz = z0; ; cz++) {
+                    best = Math.min(best, findInCell(hash(cx, cy, cz), px, py, pz));
+                    if (cz == z1) {
+                        break;
+                    }
+                }
+                if (cy == y1) {
+                    break;
+                }
+            }
+            if (cx == x1) {
+                break;
+            }
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * Adds a position, welding it to an existing unique vertex if one lies within the tolerance.
+     *
+     * @param px the x coordinate
+     * @param py the y coordinate
+     * @param pz the z coordinate
+     * @return the index of the unique vertex the position is welded to, or of the new vertex
+     * @throws IllegalStateException if the index already holds the largest supported number of vertices
+     */
+    public int add(double px, double py, double pz) {
+        int found = find(px, py, pz);
+        if (found >= 0) {
+            return found;
+        }
+        if (2 * (size + 1) > table.length) {
+            grow();
+        }
+        int h = tolerance == 0.0 ? exactHash(px, py, pz) : hash(cell(px), cell(py), cell(pz));
+        int index = size++;
+        x[index] = px;
+        y[index] = py;
+        z[index] = pz;
+        insert(h, index);
+        return index;
+    }
+
+    /**
+     * Adds a position given as a vector.
+     *
+     * @param v the position
+     * @return the index of the unique vertex the position is welded to, or of the new vertex
+     * @throws IllegalArgumentException if v is null
+     * @throws IllegalStateException if the index already holds the largest supported number of vertices
+     */
+    public int add(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return add(v.getX(), v.getY(), v.getZ());
+    }
+
+    /**
+     * Adds every vertex of a buffer in order.
+     *
+     * @param vertices the positions to add
+     * @return the remap table: for each vertex of the buffer, the index of its unique vertex
+     * @throws IllegalArgumentException if vertices is null
+     * @throws IllegalStateException if the index already holds the largest supported number of vertices
+     */
+    public int[] addAll(Vector3Buffer vertices) {
+        if (vertices == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        double[] vx = vertices.xArray(), vy = vertices.yArray(), vz = vertices.zArray();
+        int[] remap = new int[vertices.size()];
+        for (int i = 0; i < remap.length; i++) {
+            remap[i] = add(vx[i], vy[i], vz[i]);
+        }
+        return remap;
+    }
+
+    /**
+     * Copies the unique vertex positions into a new buffer, in index order.
+     *
+     * @return a buffer of {@link #size()} positions
+     */
+    public Vector3Buffer toBuffer() {
+        return new Vector3Buffer(Arrays.copyOf(x, size), Arrays.copyOf(y, size), Arrays.copyOf(z, size));
+    }
+
+    /**
+     * Rewrites an index buffer, such as the triangle list of a mesh, through a remap table
+     * returned by {@link #addAll(Vector3Buffer)}.
+     *
+     * @param indices the vertex indices to rewrite
+     * @param remap   the index of the unique vertex for each original vertex
+     * @return a new array holding {@code remap[indices[i]]} for each i
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if an index is out of range of the remap table
+     */
+    public static int[] remapIndices(int[] indices, int[] remap) {
+        if (indices == null || remap == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        int[] result = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = remap[indices[i]];
+        }
+        return result;
+    }
+
+    private int findExact(double px, double py, double pz) {
+        int h = exactHash(px, py, pz);
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int v = entry - 1;
+            if (hashes[slot] == h && x[v] == px && y[v] == py && z[v] == pz) {
+                return v;
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest index within the tolerance among the vertices hashed to h, or
+     * {@code Integer.MAX_VALUE}. Vertices of other cells sharing the hash are harmless: they are
+     * accepted only if they are within the tolerance as well.
+     */
+    private int findInCell(int h, double px, double py, double pz) {
+        int best = Integer.MAX_VALUE;
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return best;
+            }
+            int v = entry - 1;
+            if (hashes[slot] == h && v < best) {
+                double dx = x[v] - px, dy = y[v] - py, dz = z[v] - pz;
+                if (dx * dx + dy * dy + dz * dz <= toleranceSquared) {
+                    best = v;
+                }
+            }
+        }
+    }
+
+    private void insert(int h, int index) {
+        int slot = h & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+        hashes[slot] = h;
+    }
+
+    private void grow() {
+        if (table.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Vertex index cannot hold more than " + MAX_CAPACITY / 2 + " vertices");
+        }
+        int[] oldTable = table;
+        int[] oldHashes = hashes;
+        allocate(oldTable.length << 1);
+        for (int slot = 0; slot < oldTable.length; slot++) {
+            if (oldTable[slot] != 0) {
+                insert(oldHashes[slot], oldTable[slot] - 1);
+            }
+        }
+        x = Arrays.copyOf(x, table.length / 2);
+        y = Arrays.copyOf(y, table.length / 2);
+        z = Arrays.copyOf(z, table.length / 2);
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cell of a coordinate. Cells are offset by half an edge so that round
+     * coordinates, common in modeled meshes, lie at cell centers and need a single probe.
+     */
+    private long cell(double coordinate) {
+        return (long) Math.floor(coordinate * inverseCell + 0.5);
+    }
+
+    private static int exactHash(double px, double py, double pz) {
+        // Adding 0.0 turns -0.0 into 0.0, which compares equal to it
+        return hash(Double.doubleToLongBits(px + 0.0), Double.doubleToLongBits(py + 0.0),
+            Double.doubleToLongBits(pz + 0.0));
+    }
+
+    /**
+     * Hashes three 64-bit keys: an odd-multiplier combination followed by the SplitMix64
+     * finalizer, so that every input bit affects every output bit.
+     */
+    private static int hash(long a, long b, long c) {
+        long h = a * 0x9E3779B97F4A7C15L + b * 0xC2B2AE3D27D4EB4FL + c * 0x165667B19E3779F9L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return (int) (h ^ (h >>> 32));
+    }
+}
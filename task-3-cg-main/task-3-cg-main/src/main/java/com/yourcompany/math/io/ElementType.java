@@ -0,0 +1,53 @@
+package com.yourcompany.math.io;
+
+/**
+ * Primitive type of the components stored in a packed array file.
+ */
+public enum ElementType {
+    /** 64-bit IEEE 754 components. */
+    DOUBLE(1, Double.BYTES),
+    /** 32-bit IEEE 754 components. */
+    FLOAT(2, Float.BYTES);
+
+    private final int code;
+    private final int bytes;
+
+    ElementType(int code, int bytes) {
+        this.code = code;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the code that identifies this type in a file header.
+     *
+     * @return the type code
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Returns the size of one component in bytes.
+     *
+     * @return the component size
+     */
+    public int bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the type with the given header code.
+     *
+     * @param code the type code
+     * @return the matching type
+     * @throws IllegalArgumentException if no type has this code
+     */
+    public static ElementType fromCode(int code) {
+        for (ElementType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown element type code " + code);
+    }
+}
@@ -0,0 +1,186 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.vector.DirectVector2Buffer;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.DirectVector4Buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Common part of {@link PackedArrayReader} and {@link PackedArrayWriter}: an open packed array
+ * file whose elements are exposed as memory-mapped views.
+ * <p>
+ * A single mapping cannot exceed 2 GB, so files are accessed in chunks of elements; each
+ * {@code map} call maps one chunk. Views stay valid after {@link #close()}, until they are
+ * garbage-collected, because Java 11 offers no portable way to unmap a file.
+ */
+abstract class MappedPackedArray implements Closeable {
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final PackedArrayHeader header;
+
+    MappedPackedArray(FileChannel channel, FileChannel.MapMode mode, PackedArrayHeader header) {
+        this.channel = channel;
+        this.mode = mode;
+        this.header = header;
+    }
+
+    /**
+     * Returns the header of the file.
+     *
+     * @return the header
+     */
+    public PackedArrayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the largest number of elements that one mapped chunk can hold.
+     *
+     * @return the maximum chunk length
+     */
+    public int maxChunkElements() {
+        return Integer.MAX_VALUE / header.elementBytes();
+    }
+
+    /**
+     * Maps a chunk of elements as bytes in the file's little-endian order.
+     *
+     * @param first the index of the first element
+     * @param count the number of elements
+     * @return a mapped view of the chunk
+     * @throws IllegalArgumentException if count is negative or larger than
+     *                                  {@link #maxChunkElements()}
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public ByteBuffer map(long first, int count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (count > maxChunkElements()) {
+            throw new IllegalArgumentException("A chunk cannot exceed " + maxChunkElements() + " elements");
+        }
+        if (first < 0 || first > header.getCount() - count) {
+            throw new IndexOutOfBoundsException("Range of " + count + " elements at index " + first
+                + " does not fit a file of " + header.getCount() + " elements");
+        }
+        long stride = header.elementBytes();
+        MappedByteBuffer buffer = channel.map(mode, PackedArrayHeader.BYTES + first * stride, count * stride);
+        buffer.order(PackedArrayHeader.BYTE_ORDER);
+        return buffer;
+    }
+
+    /**
+     * Maps a chunk of a double file as a view of packed components.
+     *
+     * @param first the index of the first element
+     * @param count the number of elements
+     * @return a view holding {@code count * dimension} components
+     * @throws IllegalStateException if the file does not hold doubles
+     * @throws IllegalArgumentException if count is negative or too large
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public DoubleBuffer mapDoubles(long first, int count) throws IOException {
+        requireType(ElementType.DOUBLE);
+        return map(first, count).asDoubleBuffer();
+    }
+
+    /**
+     * Maps a chunk of a float file as a view of packed components.
+     *
+     * @param first the index of the first element
+     * @param count the number of elements
+     * @return a view holding {@code count * dimension} components
+     * @throws IllegalStateException if the file does not hold floats
+     * @throws IllegalArgumentException if count is negative or too large
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public FloatBuffer mapFloats(long first, int count) throws IOException {
+        requireType(ElementType.FLOAT);
+        return map(first, count).asFloatBuffer();
+    }
+
+    /**
+     * Maps a chunk of a 2D double file as an off-heap vector buffer.
+     *
+     * @param first the index of the first vector
+     * @param count the number of vectors
+     * @return a buffer sharing the mapped storage
+     * @throws IllegalStateException if the file does not hold 2D double vectors
+     * @throws IllegalArgumentException if count is negative or too large
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public DirectVector2Buffer mapVector2(long first, int count) throws IOException {
+        requireLayout(ElementType.DOUBLE, 2);
+        return DirectVector2Buffer.wrap(map(first, count));
+    }
+
+    /**
+     * Maps a chunk of a 3D double file as an off-heap vector buffer.
+     *
+     * @param first the index of the first vector
+     * @param count the number of vectors
+     * @return a buffer sharing the mapped storage
+     * @throws IllegalStateException if the file does not hold 3D double vectors
+     * @throws IllegalArgumentException if count is negative or too large
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public DirectVector3Buffer mapVector3(long first, int count) throws IOException {
+        requireLayout(ElementType.DOUBLE, 3);
+        return DirectVector3Buffer.wrap(map(first, count));
+    }
+
+    /**
+     * Maps a chunk of a 4D double file as an off-heap vector buffer.
+     *
+     * @param first the index of the first vector
+     * @param count the number of vectors
+     * @return a buffer sharing the mapped storage
+     * @throws IllegalStateException if the file does not hold 4D double vectors
+     * @throws IllegalArgumentException if count is negative or too large
+     * @throws IndexOutOfBoundsException if the chunk does not fit the file
+     * @throws IOException if the mapping fails
+     */
+    public DirectVector4Buffer mapVector4(long first, int count) throws IOException {
+        requireLayout(ElementType.DOUBLE, 4);
+        return DirectVector4Buffer.wrap(map(first, count));
+    }
+
+    /**
+     * Closes the underlying file channel. Views mapped earlier remain usable.
+     *
+     * @throws IOException if closing the channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    FileChannel channel() {
+        return channel;
+    }
+
+    private void requireType(ElementType type) {
+        if (header.getElementType() != type) {
+            throw new IllegalStateException("File holds " + header.getElementType() + " components, not " + type);
+        }
+    }
+
+    private void requireLayout(ElementType type, int dimension) {
+        if (header.getElementType() != type || header.getDimension() != dimension) {
+            throw new IllegalStateException("File holds " + header.getDimension() + "D "
+                + header.getElementType() + " elements, not " + dimension + "D " + type);
+        }
+    }
+}
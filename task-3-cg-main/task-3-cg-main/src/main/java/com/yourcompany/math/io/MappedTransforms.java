@@ -0,0 +1,170 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4f;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.DirectVector4Buffer;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+/**
+ * Streams batch transforms from one packed array file into another, one mapped chunk at a time,
+ * so files far larger than the heap (or than a single 2 GB mapping) can be processed.
+ * <p>
+ * Double files are transformed in place in the mapped memory. Float files are copied through
+ * a chunk-sized scratch array, because the float kernels of {@link Matrix4f} work on arrays;
+ * the matrix is narrowed to float for them.
+ */
+public final class MappedTransforms {
+
+    /**
+     * Default number of elements mapped per chunk.
+     */
+    public static final int DEFAULT_CHUNK_ELEMENTS = 1 << 20;
+
+    private MappedTransforms() {
+    }
+
+    /**
+     * Transforms every 3D point of {@code in} by {@code m} and writes it to {@code out}.
+     *
+     * @param m             the transform
+     * @param in            the source file, holding 3D vectors
+     * @param out           the destination file, with the same header as {@code in}
+     * @param chunkElements the number of points mapped at a time
+     * @throws IllegalArgumentException if an argument is null, the headers differ, the files do
+     *                                  not hold 3D vectors, or chunkElements is not positive
+     * @throws IOException if mapping fails
+     */
+    public static void transformPoints(Matrix4x4 m, PackedArrayReader in, PackedArrayWriter out,
+                                       int chunkElements) throws IOException {
+        run(Operation.POINTS, m, in, out, chunkElements, 3);
+    }
+
+    /**
+     * Transforms every 3D direction of {@code in} by {@code m}, ignoring translation, and writes
+     * it to {@code out}.
+     *
+     * @param m             the transform
+     * @param in            the source file, holding 3D vectors
+     * @param out           the destination file, with the same header as {@code in}
+     * @param chunkElements the number of directions mapped at a time
+     * @throws IllegalArgumentException if an argument is null, the headers differ, the files do
+     *                                  not hold 3D vectors, or chunkElements is not positive
+     * @throws IOException if mapping fails
+     */
+    public static void transformDirections(Matrix4x4 m, PackedArrayReader in, PackedArrayWriter out,
+                                           int chunkElements) throws IOException {
+        run(Operation.DIRECTIONS, m, in, out, chunkElements, 3);
+    }
+
+    /**
+     * Multiplies {@code m} by every 4D vector of {@code in} and writes it to {@code out}.
+     *
+     * @param m             the transform
+     * @param in            the source file, holding 4D vectors
+     * @param out           the destination file, with the same header as {@code in}
+     * @param chunkElements the number of vectors mapped at a time
+     * @throws IllegalArgumentException if an argument is null, the headers differ, the files do
+     *                                  not hold 4D vectors, or chunkElements is not positive
+     * @throws IOException if mapping fails
+     */
+    public static void transform(Matrix4x4 m, PackedArrayReader in, PackedArrayWriter out,
+                                 int chunkElements) throws IOException {
+        run(Operation.VECTORS4, m, in, out, chunkElements, 4);
+    }
+
+    /**
+     * Multiplies {@code m} by every 3D vector of {@code in} and writes it to {@code out}.
+     *
+     * @param m             the transform
+     * @param in            the source file, holding 3D vectors
+     * @param out           the destination file, with the same header as {@code in}
+     * @param chunkElements the number of vectors mapped at a time
+     * @throws IllegalArgumentException if an argument is null, the headers differ, the files do
+     *                                  not hold 3D vectors, or chunkElements is not positive
+     * @throws IOException if mapping fails
+     */
+    public static void transform(Matrix3x3 m, PackedArrayReader in, PackedArrayWriter out,
+                                 int chunkElements) throws IOException {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        // A 3x3 transform is the direction transform of the equivalent 4x4 matrix
+        Matrix4x4 linear = new Matrix4x4(
+            m.get(0, 0), m.get(0, 1), m.get(0, 2), 0.0,
+            m.get(1, 0), m.get(1, 1), m.get(1, 2), 0.0,
+            m.get(2, 0), m.get(2, 1), m.get(2, 2), 0.0,
+            0.0, 0.0, 0.0, 1.0);
+        run(Operation.DIRECTIONS, linear, in, out, chunkElements, 3);
+    }
+
+    private enum Operation {
+        POINTS, DIRECTIONS, VECTORS4
+    }
+
+    private static void run(Operation op, Matrix4x4 m, PackedArrayReader in, PackedArrayWriter out,
+                            int chunkElements, int dimension) throws IOException {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        checkFiles(in, out, chunkElements, dimension);
+        Matrix4f narrow = null;
+        float[] scratch = null;
+        long count = in.getHeader().getCount();
+        int chunk = Math.min(chunkElements, in.maxChunkElements());
+        for (long first = 0; first < count; first += chunk) {
+            int n = (int) Math.min(chunk, count - first);
+            if (in.getHeader().getElementType() == ElementType.DOUBLE) {
+                if (op == Operation.VECTORS4) {
+                    DirectVector4Buffer src = in.mapVector4(first, n);
+                    DirectVector4Buffer dst = out.mapVector4(first, n);
+                    m.transform(src, 0, dst, 0, n);
+                } else {
+                    DirectVector3Buffer src = in.mapVector3(first, n);
+                    DirectVector3Buffer dst = out.mapVector3(first, n);
+                    if (op == Operation.POINTS) {
+                        m.transformPoints(src, 0, dst, 0, n);
+                    } else {
+                        m.transformDirections(src, 0, dst, 0, n);
+                    }
+                }
+            } else {
+                if (narrow == null) {
+                    narrow = Matrix4f.narrow(m);
+                    scratch = new float[dimension * chunk];
+                }
+                in.mapFloats(first, n).get(scratch, 0, dimension * n);
+                switch (op) {
+                    case POINTS:
+                        narrow.transformPoints(scratch, 0, scratch, 0, n);
+                        break;
+                    case DIRECTIONS:
+                        narrow.transformDirections(scratch, 0, scratch, 0, n);
+                        break;
+                    default:
+                        narrow.transform(scratch, 0, scratch, 0, n);
+                        break;
+                }
+                out.mapFloats(first, n).put(scratch, 0, dimension * n);
+            }
+        }
+    }
+
+    private static void checkFiles(PackedArrayReader in, PackedArrayWriter out, int chunkElements, int dimension) {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Files cannot be null");
+        }
+        if (chunkElements < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (in.getHeader().getDimension() != dimension) {
+            throw new IllegalArgumentException("Files must hold " + dimension + "D vectors");
+        }
+        if (!in.getHeader().equals(out.getHeader())) {
+            throw new IllegalArgumentException("Output header must match input header");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.yourcompany.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Immutable header of a packed array file, which stores {@code count} elements of
+ * {@code dimension} components each: vectors (dimension 2, 3 or 4) or row-major matrices
+ * (dimension 9 or 16).
+ * <p>
+ * The file is a {@value #BYTES}-byte header followed directly by the packed components. All
+ * values are little-endian:
+ * <pre>
+ * offset  size  field
+ *      0     4  magic, the ASCII bytes "LAPA"
+ *      4     2  format version, currently 1
+ *      6     1  element type code (1 = double, 2 = float)
+ *      7     1  dimension, 1-255
+ *      8     8  element count
+ *     16    16  reserved, zero
+ * </pre>
+ * The header size keeps the data aligned for both component types.
+ */
+public final class PackedArrayHeader {
+
+    /** Size of the header in bytes. */
+    public static final int BYTES = 32;
+
+    /** Current format version. */
+    public static final int VERSION = 1;
+
+    /** Byte order of the header and of the data. */
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final byte[] MAGIC = {'L', 'A', 'P', 'A'};
+
+    private final ElementType elementType;
+    private final int dimension;
+    private final long count;
+
+    /**
+     * Constructs a header.
+     *
+     * @param elementType the component type
+     * @param dimension   the number of components per element, 1-255
+     * @param count       the number of elements
+     * @throws IllegalArgumentException if elementType is null, dimension is out of range,
+     *                                  count is negative or the data size overflows
+     */
+    public PackedArrayHeader(ElementType elementType, int dimension, long count) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (dimension < 1 || dimension > 255) {
+            throw new IllegalArgumentException("Dimension must be between 1 and 255");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (count > (Long.MAX_VALUE - BYTES) / ((long) dimension * elementType.bytes())) {
+            throw new IllegalArgumentException("Count is too large");
+        }
+        this.elementType = elementType;
+        this.dimension = dimension;
+        this.count = count;
+    }
+
+    /**
+     * Returns the component type.
+     *
+     * @return the element type
+     */
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Returns the number of components per element.
+     *
+     * @return the dimension
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the element count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the size of one element in bytes.
+     *
+     * @return the element stride
+     */
+    public int elementBytes() {
+        return dimension * elementType.bytes();
+    }
+
+    /**
+     * Returns the size of the whole file, header included.
+     *
+     * @return the file size in bytes
+     */
+    public long fileBytes() {
+        return BYTES + count * elementBytes();
+    }
+
+    void write(ByteBuffer dst) {
+        ByteBuffer b = dst.duplicate().order(BYTE_ORDER);
+        b.put(MAGIC);
+        b.putShort((short) VERSION);
+        b.put((byte) elementType.code());
+        b.put((byte) dimension);
+        b.putLong(count);
+        for (int i = 0; i < 16; i++) {
+            b.put((byte) 0);
+        }
+    }
+
+    static PackedArrayHeader read(ByteBuffer src) throws IOException {
+        ByteBuffer b = src.duplicate().order(BYTE_ORDER);
+        if (b.remaining() < BYTES) {
+            throw new IOException("File is too short for a packed array header");
+        }
+        for (byte m : MAGIC) {
+            if (b.get() != m) {
+                throw new IOException("Not a packed array file");
+            }
+        }
+        int version = b.getShort() & 0xFFFF;
+        if (version != VERSION) {
+            throw new IOException("Unsupported packed array version " + version);
+        }
+        int typeCode = b.get() & 0xFF;
+        int dimension = b.get() & 0xFF;
+        long count = b.getLong();
+        try {
+            return new PackedArrayHeader(ElementType.fromCode(typeCode), dimension, count);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt packed array header: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PackedArrayHeader header = (PackedArrayHeader) obj;
+        return elementType == header.elementType && dimension == header.dimension && count == header.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return (elementType.hashCode() * 31 + dimension) * 31 + Long.hashCode(count);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedArrayHeader(" + elementType + ", dimension=" + dimension + ", count=" + count + ")";
+    }
+}
@@ -0,0 +1,51 @@
+package com.yourcompany.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only access to a packed array file (see {@link PackedArrayHeader} for the layout).
+ * Elements are exposed as read-only memory-mapped views, so loading costs no copying and no
+ * heap beyond the view objects.
+ */
+public final class PackedArrayReader extends MappedPackedArray {
+
+    private PackedArrayReader(FileChannel channel, PackedArrayHeader header) {
+        super(channel, FileChannel.MapMode.READ_ONLY, header);
+    }
+
+    /**
+     * Opens a packed array file and validates its header.
+     *
+     * @param path the file to open
+     * @return a reader for the file
+     * @throws IllegalArgumentException if path is null
+     * @throws IOException if the file cannot be read, is not a packed array file, or is
+     *                     shorter than its header declares
+     */
+    public static PackedArrayReader open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(PackedArrayHeader.BYTES);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            bytes.flip();
+            PackedArrayHeader header = PackedArrayHeader.read(bytes);
+            if (channel.size() < header.fileBytes()) {
+                throw new IOException("File is truncated: expected " + header.fileBytes()
+                    + " bytes but found " + channel.size());
+            }
+            return new PackedArrayReader(channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
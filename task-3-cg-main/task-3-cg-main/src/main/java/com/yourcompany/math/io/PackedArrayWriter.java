@@ -0,0 +1,64 @@
+package com.yourcompany.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Creates a packed array file (see {@link PackedArrayHeader} for the layout) of a fixed size
+ * and exposes its elements as writable memory-mapped views. Data written to a view goes straight
+ * to the page cache; {@link #force()} flushes it to the storage device.
+ */
+public final class PackedArrayWriter extends MappedPackedArray {
+
+    private PackedArrayWriter(FileChannel channel, PackedArrayHeader header) {
+        super(channel, FileChannel.MapMode.READ_WRITE, header);
+    }
+
+    /**
+     * Creates or truncates a file, writes the header and sizes the file for all elements.
+     * The elements start out as zeros.
+     *
+     * @param path   the file to create
+     * @param header the header describing the contents
+     * @return a writer for the file
+     * @throws IllegalArgumentException if path or header is null
+     * @throws IOException if the file cannot be created
+     */
+    public static PackedArrayWriter create(Path path, PackedArrayHeader header) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (header == null) {
+            throw new IllegalArgumentException("Header cannot be null");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(PackedArrayHeader.BYTES);
+            header.write(bytes);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (header.fileBytes() > PackedArrayHeader.BYTES) {
+                // Extend the file to its final size so that every chunk can be mapped
+                channel.write(ByteBuffer.allocate(1), header.fileBytes() - 1);
+            }
+            return new PackedArrayWriter(channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Flushes the written data to the storage device.
+     *
+     * @throws IOException if flushing fails
+     */
+    public void force() throws IOException {
+        channel().force(false);
+    }
+}
@@ -0,0 +1,20 @@
+package com.yourcompany.math.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A sequential destination for 3D points delivered in chunks of packed (x, y, z) triples.
+ * Implementations for files, mapped regions and consumers are provided by {@link PointSinks}.
+ */
+public interface PointSink extends Closeable {
+
+    /**
+     * Appends points to this sink. The array may be reused by the caller once this method returns.
+     *
+     * @param src   the packed source coordinates, starting at index 0
+     * @param count the number of points to append
+     * @throws IOException if writing fails
+     */
+    void write(double[] src, int count) throws IOException;
+}
@@ -0,0 +1,211 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.vector.Vector3;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Factory methods for {@link PointSink} implementations.
+ * <p>
+ * Sinks write packed array files of 3D points (see {@link PackedArrayHeader}); when the file
+ * holds floats, components are narrowed on the way out.
+ */
+public final class PointSinks {
+
+    private PointSinks() {
+    }
+
+    /**
+     * Creates or truncates a packed array file of 3D points and appends to it through ordinary
+     * channel writes. The number of points does not need to be known in advance: the header is
+     * completed when the sink is closed, so the file is only valid after {@link PointSink#close()}.
+     *
+     * @param path        the file to create
+     * @param elementType the component type stored in the file
+     * @return a sink appending to the file
+     * @throws IllegalArgumentException if path or elementType is null
+     * @throws IOException if the file cannot be created
+     */
+    public static PointSink create(Path path, ElementType elementType) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ChannelSink sink = new ChannelSink(channel, elementType);
+            sink.writeHeader();
+            return sink;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a sink that fills a mapped file from a given point onwards. Each chunk is mapped and
+     * copied in separately. Closing the sink does not close the writer.
+     *
+     * @param writer the file to write
+     * @param first  the index of the first point to overwrite
+     * @return a sink writing consecutive points of the file
+     * @throws IllegalArgumentException if writer is null or the file does not hold 3D points
+     * @throws IndexOutOfBoundsException if first is outside the file; writing past the end of
+     *                                   the file fails the same way
+     */
+    public static PointSink into(PackedArrayWriter writer, long first) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        PointSources.checkRange(writer, first, 0);
+        return new MappedSink(writer, first);
+    }
+
+    /**
+     * Returns a sink that passes each point to a consumer as a new vector.
+     *
+     * @param consumer the consumer of the points
+     * @return a sink feeding the consumer
+     * @throws IllegalArgumentException if consumer is null
+     */
+    public static PointSink to(Consumer<? super Vector3> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        return new ConsumerSink(consumer);
+    }
+
+    private static void checkChunk(double[] src, int count) {
+        if (src == null) {
+            throw new IllegalArgumentException("Source array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (src.length / 3 < count) {
+            throw new IndexOutOfBoundsException("Array of length " + src.length
+                + " does not hold " + count + " points");
+        }
+    }
+
+    private static final class ChannelSink implements PointSink {
+        private final FileChannel channel;
+        private final ElementType elementType;
+        private long count;
+        private ByteBuffer bytes;
+
+        ChannelSink(FileChannel channel, ElementType elementType) {
+            this.channel = channel;
+            this.elementType = elementType;
+        }
+
+        @Override
+        public void write(double[] src, int n) throws IOException {
+            checkChunk(src, n);
+            int length = 3 * n * elementType.bytes();
+            if (bytes == null || bytes.capacity() < length) {
+                bytes = ByteBuffer.allocate(length).order(PackedArrayHeader.BYTE_ORDER);
+            }
+            bytes.clear();
+            if (elementType == ElementType.DOUBLE) {
+                bytes.asDoubleBuffer().put(src, 0, 3 * n);
+            } else {
+                for (int i = 0; i < 3 * n; i++) {
+                    bytes.putFloat(4 * i, (float) src[i]);
+                }
+            }
+            bytes.limit(length);
+            long offset = PackedArrayHeader.BYTES + count * 3 * elementType.bytes();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes, offset + bytes.position());
+            }
+            count += n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                writeHeader();
+            } finally {
+                channel.close();
+            }
+        }
+
+        void writeHeader() throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(PackedArrayHeader.BYTES);
+            new PackedArrayHeader(elementType, 3, count).write(header);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    private static final class MappedSink implements PointSink {
+        private final PackedArrayWriter writer;
+        private long position;
+        private float[] scratch;
+
+        MappedSink(PackedArrayWriter writer, long first) {
+            this.writer = writer;
+            this.position = first;
+        }
+
+        @Override
+        public void write(double[] src, int n) throws IOException {
+            checkChunk(src, n);
+            int chunk = writer.maxChunkElements();
+            for (int done = 0; done < n; done += chunk) {
+                int m = Math.min(chunk, n - done);
+                if (writer.getHeader().getElementType() == ElementType.DOUBLE) {
+                    writer.mapDoubles(position, m).put(src, 3 * done, 3 * m);
+                } else {
+                    if (scratch == null || scratch.length < 3 * m) {
+                        scratch = new float[3 * m];
+                    }
+                    for (int i = 0; i < 3 * m; i++) {
+                        scratch[i] = (float) src[3 * done + i];
+                    }
+                    writer.mapFloats(position, m).put(scratch, 0, 3 * m);
+                }
+                position += m;
+            }
+        }
+
+        @Override
+        public void close() {
+            // The writer belongs to the caller
+        }
+    }
+
+    private static final class ConsumerSink implements PointSink {
+        private final Consumer<? super Vector3> consumer;
+
+        ConsumerSink(Consumer<? super Vector3> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void write(double[] src, int n) {
+            checkChunk(src, n);
+            for (int i = 0; i < n; i++) {
+                consumer.accept(new Vector3(src[3 * i], src[3 * i + 1], src[3 * i + 2]));
+            }
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.yourcompany.math.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A sequential source of 3D points delivered in chunks of packed (x, y, z) triples.
+ * Implementations for files, mapped regions and iterators are provided by {@link PointSources}.
+ */
+public interface PointSource extends Closeable {
+
+    /**
+     * Reads the next points into {@code dst}, starting at index 0.
+     *
+     * @param dst       the packed destination coordinates, at least {@code 3 * maxPoints} long
+     * @param maxPoints the largest number of points to read
+     * @return the number of points read, between 1 and maxPoints, or 0 once the source is exhausted
+     * @throws IOException if reading fails
+     */
+    int read(double[] dst, int maxPoints) throws IOException;
+}
@@ -0,0 +1,250 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.vector.Vector3;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Factory methods for {@link PointSource} implementations.
+ * <p>
+ * Sources read packed array files of 3D points (see {@link PackedArrayHeader}) with either
+ * element type; float components are widened to double.
+ */
+public final class PointSources {
+
+    private PointSources() {
+    }
+
+    /**
+     * Opens a packed array file and streams its points through ordinary channel reads, so only
+     * one chunk is held in memory at a time. Closing the source closes the file.
+     *
+     * @param path the file to read
+     * @return a source over all points of the file
+     * @throws IllegalArgumentException if path is null
+     * @throws IOException if the file cannot be opened, is not a packed array file of 3D points,
+     *                     or is shorter than its header declares
+     */
+    public static PointSource open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(PackedArrayHeader.BYTES);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            bytes.flip();
+            PackedArrayHeader header = PackedArrayHeader.read(bytes);
+            if (header.getDimension() != 3) {
+                throw new IOException("File holds " + header.getDimension() + "D elements, not 3D points");
+            }
+            if (channel.size() < header.fileBytes()) {
+                throw new IOException("File is truncated: expected " + header.fileBytes()
+                    + " bytes but found " + channel.size());
+            }
+            return new ChannelSource(channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a source over all points of a mapped file. Each chunk is mapped and copied out
+     * separately. Closing the source does not close the reader.
+     *
+     * @param reader the file to read
+     * @return a source over all points of the file
+     * @throws IllegalArgumentException if reader is null or the file does not hold 3D points
+     */
+    public static PointSource of(PackedArrayReader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        return of(reader, 0, reader.getHeader().getCount());
+    }
+
+    /**
+     * Returns a source over a range of points of a mapped file. Each chunk is mapped and copied
+     * out separately. Closing the source does not close the reader.
+     *
+     * @param reader the file to read
+     * @param first  the index of the first point
+     * @param count  the number of points
+     * @return a source over the range
+     * @throws IllegalArgumentException if reader is null, the file does not hold 3D points,
+     *                                  or count is negative
+     * @throws IndexOutOfBoundsException if the range does not fit the file
+     */
+    public static PointSource of(PackedArrayReader reader, long first, long count) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        checkRange(reader, first, count);
+        return new MappedSource(reader, first, count);
+    }
+
+    /**
+     * Returns a source over the vectors of an iterator.
+     *
+     * @param vectors the vectors to read; null elements are not allowed
+     * @return a source over the remaining vectors of the iterator
+     * @throws IllegalArgumentException if vectors is null
+     */
+    public static PointSource of(Iterator<? extends Vector3> vectors) {
+        if (vectors == null) {
+            throw new IllegalArgumentException("Iterator cannot be null");
+        }
+        return new IteratorSource(vectors);
+    }
+
+    static void checkRange(MappedPackedArray file, long first, long count) {
+        if (file.getHeader().getDimension() != 3) {
+            throw new IllegalArgumentException("File must hold 3D points");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (first < 0 || first > file.getHeader().getCount() - count) {
+            throw new IndexOutOfBoundsException("Range of " + count + " points at index " + first
+                + " does not fit a file of " + file.getHeader().getCount() + " points");
+        }
+    }
+
+    private static void checkChunk(double[] dst, int maxPoints) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination array cannot be null");
+        }
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (dst.length / 3 < maxPoints) {
+            throw new IndexOutOfBoundsException("Array of length " + dst.length
+                + " cannot hold " + maxPoints + " points");
+        }
+    }
+
+    private static final class ChannelSource implements PointSource {
+        private final FileChannel channel;
+        private final PackedArrayHeader header;
+        private long position;
+        private ByteBuffer bytes;
+
+        ChannelSource(FileChannel channel, PackedArrayHeader header) {
+            this.channel = channel;
+            this.header = header;
+        }
+
+        @Override
+        public int read(double[] dst, int maxPoints) throws IOException {
+            checkChunk(dst, maxPoints);
+            int n = (int) Math.min(maxPoints, header.getCount() - position);
+            if (n == 0) {
+                return 0;
+            }
+            int length = n * header.elementBytes();
+            if (bytes == null || bytes.capacity() < length) {
+                bytes = ByteBuffer.allocate(length).order(PackedArrayHeader.BYTE_ORDER);
+            }
+            bytes.clear().limit(length);
+            long offset = PackedArrayHeader.BYTES + position * header.elementBytes();
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, offset + bytes.position()) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+            bytes.flip();
+            if (header.getElementType() == ElementType.DOUBLE) {
+                bytes.asDoubleBuffer().get(dst, 0, 3 * n);
+            } else {
+                for (int i = 0; i < 3 * n; i++) {
+                    dst[i] = bytes.getFloat(4 * i);
+                }
+            }
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class MappedSource implements PointSource {
+        private final PackedArrayReader reader;
+        private final long end;
+        private long position;
+        private float[] scratch;
+
+        MappedSource(PackedArrayReader reader, long first, long count) {
+            this.reader = reader;
+            this.position = first;
+            this.end = first + count;
+        }
+
+        @Override
+        public int read(double[] dst, int maxPoints) throws IOException {
+            checkChunk(dst, maxPoints);
+            int n = (int) Math.min(Math.min(maxPoints, reader.maxChunkElements()), end - position);
+            if (n == 0) {
+                return 0;
+            }
+            if (reader.getHeader().getElementType() == ElementType.DOUBLE) {
+                reader.mapDoubles(position, n).get(dst, 0, 3 * n);
+            } else {
+                if (scratch == null || scratch.length < 3 * n) {
+                    scratch = new float[3 * n];
+                }
+                reader.mapFloats(position, n).get(scratch, 0, 3 * n);
+                for (int i = 0; i < 3 * n; i++) {
+                    dst[i] = scratch[i];
+                }
+            }
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // The reader belongs to the caller
+        }
+    }
+
+    private static final class IteratorSource implements PointSource {
+        private final Iterator<? extends Vector3> vectors;
+
+        IteratorSource(Iterator<? extends Vector3> vectors) {
+            this.vectors = vectors;
+        }
+
+        @Override
+        public int read(double[] dst, int maxPoints) {
+            checkChunk(dst, maxPoints);
+            int n = 0;
+            while (n < maxPoints && vectors.hasNext()) {
+                Vector3 v = vectors.next();
+                if (v == null) {
+                    throw new IllegalArgumentException("Vector cannot be null");
+                }
+                dst[3 * n] = v.getX();
+                dst[3 * n + 1] = v.getY();
+                dst[3 * n + 2] = v.getZ();
+                n++;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release
+        }
+    }
+}
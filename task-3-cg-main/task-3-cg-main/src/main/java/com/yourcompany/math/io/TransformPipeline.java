@@ -0,0 +1,282 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4x4;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chain of per-point stages applied to a stream of 3D points that may be far larger than the
+ * heap, such as a point cloud being re-projected from one file into another.
+ * <p>
+ * Points are processed in fixed-size chunks of packed (x, y, z) triples, so memory use is bounded
+ * by two chunk buffers regardless of the input size. Reading is double-buffered: while one chunk
+ * runs through the stages and is written to the sink, the next chunk is read on a background
+ * thread, so input I/O overlaps computation. Stages run in the order they were added.
+ * <p>
+ * A pipeline can be run any number of times; it must not be modified while running.
+ */
+public final class TransformPipeline {
+
+    /**
+     * Default number of points per chunk.
+     */
+    public static final int DEFAULT_CHUNK_POINTS = 1 << 16;
+
+    /**
+     * A predicate deciding whether a point stays in the stream.
+     */
+    @FunctionalInterface
+    public interface PointFilter {
+
+        /**
+         * Tests a point.
+         *
+         * @param x the x coordinate
+         * @param y the y coordinate
+         * @param z the z coordinate
+         * @return true to keep the point, false to drop it
+         */
+        boolean test(double x, double y, double z);
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        int apply(double[] points, int count);
+    }
+
+    private final int chunkPoints;
+    private final List<Stage> stages = new ArrayList<>();
+
+    /**
+     * Creates an empty pipeline processing {@link #DEFAULT_CHUNK_POINTS} points per chunk.
+     */
+    public TransformPipeline() {
+        this(DEFAULT_CHUNK_POINTS);
+    }
+
+    /**
+     * Creates an empty pipeline.
+     *
+     * @param chunkPoints the number of points per chunk
+     * @throws IllegalArgumentException if chunkPoints is not positive or too large for an array
+     */
+    public TransformPipeline(int chunkPoints) {
+        if (chunkPoints < 1 || chunkPoints > Integer.MAX_VALUE / 3) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + Integer.MAX_VALUE / 3);
+        }
+        this.chunkPoints = chunkPoints;
+    }
+
+    /**
+     * Returns the number of points per chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkPoints() {
+        return chunkPoints;
+    }
+
+    /**
+     * Appends a stage transforming every point by a matrix, with perspective division when the
+     * matrix is not affine.
+     *
+     * @param m the transform
+     * @return this pipeline
+     * @throws IllegalArgumentException if m is null
+     */
+    public TransformPipeline transformPoints(Matrix4x4 m) {
+        requireMatrix(m);
+        stages.add((points, count) -> {
+            m.transformPoints(points, 0, points, 0, count);
+            return count;
+        });
+        return this;
+    }
+
+    /**
+     * Appends a stage transforming every point as a direction, ignoring translation.
+     *
+     * @param m the transform
+     * @return this pipeline
+     * @throws IllegalArgumentException if m is null
+     */
+    public TransformPipeline transformDirections(Matrix4x4 m) {
+        requireMatrix(m);
+        stages.add((points, count) -> {
+            m.transformDirections(points, 0, points, 0, count);
+            return count;
+        });
+        return this;
+    }
+
+    /**
+     * Appends a stage multiplying a matrix by every point.
+     *
+     * @param m the transform
+     * @return this pipeline
+     * @throws IllegalArgumentException if m is null
+     */
+    public TransformPipeline transform(Matrix3x3 m) {
+        requireMatrix(m);
+        stages.add((points, count) -> {
+            m.transform(points, 0, points, 0, count);
+            return count;
+        });
+        return this;
+    }
+
+    /**
+     * Appends a stage scaling every point to unit length. Running the pipeline throws
+     * {@link ArithmeticException} if a zero vector reaches this stage; add a {@link #filter} first
+     * if the input may contain one.
+     *
+     * @return this pipeline
+     */
+    public TransformPipeline normalize() {
+        stages.add(TransformPipeline::normalize);
+        return this;
+    }
+
+    /**
+     * Appends a stage dropping the points rejected by a filter. Kept points retain their order.
+     *
+     * @param filter the filter
+     * @return this pipeline
+     * @throws IllegalArgumentException if filter is null
+     */
+    public TransformPipeline filter(PointFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        stages.add((points, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                double x = points[3 * i], y = points[3 * i + 1], z = points[3 * i + 2];
+                if (filter.test(x, y, z)) {
+                    points[3 * kept] = x;
+                    points[3 * kept + 1] = y;
+                    points[3 * kept + 2] = z;
+                    kept++;
+                }
+            }
+            return kept;
+        });
+        return this;
+    }
+
+    /**
+     * Runs every point of the source through the stages and writes the surviving points to the
+     * sink. Neither the source nor the sink is closed.
+     *
+     * @param source the points to process
+     * @param sink   the destination of the processed points
+     * @return the number of points written to the sink
+     * @throws IllegalArgumentException if source or sink is null
+     * @throws ArithmeticException if a zero vector reaches a normalize stage
+     * @throws InterruptedIOException if the calling thread is interrupted
+     * @throws IOException if reading or writing fails
+     */
+    public long run(PointSource source, PointSink sink) throws IOException {
+        if (source == null || sink == null) {
+            throw new IllegalArgumentException("Source and sink cannot be null");
+        }
+        Stage[] chain = stages.toArray(new Stage[0]);
+        ExecutorService readAhead = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "transform-pipeline-read-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            double[] current = new double[3 * chunkPoints];
+            double[] next = new double[3 * chunkPoints];
+            long written = 0;
+            int count = source.read(current, chunkPoints);
+            while (count > 0) {
+                double[] ahead = next;
+                Future<Integer> pending = readAhead.submit(() -> source.read(ahead, chunkPoints));
+                int kept = count;
+                for (Stage stage : chain) {
+                    kept = stage.apply(current, kept);
+                }
+                if (kept > 0) {
+                    sink.write(current, kept);
+                    written += kept;
+                }
+                count = await(pending);
+                next = current;
+                current = ahead;
+            }
+            return written;
+        } finally {
+            shutdown(readAhead);
+        }
+    }
+
+    private static int normalize(double[] points, int count) {
+        for (int i = 0; i < 3 * count; i += 3) {
+            double x = points[i], y = points[i + 1], z = points[i + 2];
+            double len = Math.sqrt(x * x + y * y + z * z);
+            if (len == 0.0) {
+                throw new ArithmeticException("Cannot normalize zero vector");
+            }
+            points[i] = x / len;
+            points[i + 1] = y / len;
+            points[i + 2] = z / len;
+        }
+        return count;
+    }
+
+    private static int await(Future<Integer> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading ahead");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void shutdown(ExecutorService readAhead) {
+        // Wait for an outstanding read so the source is never used after run returns
+        readAhead.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (readAhead.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void requireMatrix(Object m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Error-compensated dot products and sums used by {@link Precision#COMPENSATED}.
+ * <p>
+ * Dot products follow the Dot2 algorithm of Ogita, Rump and Oishi: the rounding error of each
+ * product is recovered exactly with {@link Math#fma}, the rounding error of each addition with
+ * a two-sum, and all errors are accumulated separately and added at the end. Sums use Neumaier's
+ * improved Kahan summation.
+ */
+public final class Compensated {
+
+    private Compensated() {
+    }
+
+    /**
+     * Computes {@code a0 * b0 + a1 * b1} with compensation.
+     *
+     * @return the dot product
+     */
+    public static double dot2(double a0, double b0, double a1, double b1) {
+        double p = a0 * b0;
+        double s = Math.fma(a0, b0, -p);
+        double h = a1 * b1;
+        double q = p + h;
+        double z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a1, b1, -h);
+        return q + s;
+    }
+
+    /**
+     * Computes {@code a0 * b0 + a1 * b1 + a2 * b2} with compensation.
+     *
+     * @return the dot product
+     */
+    public static double dot3(double a0, double b0, double a1, double b1, double a2, double b2) {
+        double p = a0 * b0;
+        double s = Math.fma(a0, b0, -p);
+        double h = a1 * b1;
+        double q = p + h;
+        double z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a1, b1, -h);
+        p = q;
+        h = a2 * b2;
+        q = p + h;
+        z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a2, b2, -h);
+        return q + s;
+    }
+
+    /**
+     * Computes {@code a0 * b0 + a1 * b1 + a2 * b2 + a3 * b3} with compensation.
+     *
+     * @return the dot product
+     */
+    public static double dot4(double a0, double b0, double a1, double b1,
+                              double a2, double b2, double a3, double b3) {
+        double p = a0 * b0;
+        double s = Math.fma(a0, b0, -p);
+        double h = a1 * b1;
+        double q = p + h;
+        double z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a1, b1, -h);
+        p = q;
+        h = a2 * b2;
+        q = p + h;
+        z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a2, b2, -h);
+        p = q;
+        h = a3 * b3;
+        q = p + h;
+        z = q - p;
+        s += ((p - (q - z)) + (h - z)) + Math.fma(a3, b3, -h);
+        return q + s;
+    }
+
+    /**
+     * Returns the rounding error of {@code sum = a + b}, so that {@code a + b = sum + error}
+     * exactly (Neumaier's branch on the larger magnitude).
+     *
+     * @param a   the first addend
+     * @param b   the second addend
+     * @param sum the rounded sum {@code a + b}
+     * @return the exact rounding error
+     */
+    public static double sumError(double a, double b, double sum) {
+        return Math.abs(a) >= Math.abs(b) ? (a - sum) + b : (b - sum) + a;
+    }
+
+    /**
+     * Dot product of two array ranges with compensation. Arguments are not validated.
+     */
+    static double dot(double[] a, int aOff, double[] b, int bOff, int length) {
+        double p = 0.0, s = 0.0;
+        for (int i = 0; i < length; i++) {
+            double x = a[aOff + i], y = b[bOff + i];
+            double h = x * y;
+            double q = p + h;
+            double z = q - p;
+            s += ((p - (q - z)) + (h - z)) + Math.fma(x, y, -h);
+            p = q;
+        }
+        return p + s;
+    }
+
+    /**
+     * Sum of an array range with Neumaier summation. Arguments are not validated.
+     */
+    static double sum(double[] a, int off, int length) {
+        double sum = 0.0, error = 0.0;
+        for (int i = 0; i < length; i++) {
+            double v = a[off + i];
+            double t = sum + v;
+            error += sumError(sum, v, t);
+            sum = t;
+        }
+        return sum + error;
+    }
+}
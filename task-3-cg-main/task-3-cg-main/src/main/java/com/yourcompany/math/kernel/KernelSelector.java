@@ -0,0 +1,16 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Chooses the kernel implementation at class-initialization time.
+ * This is the Java 11 version, which always selects the scalar kernels; the multi-release
+ * layer for Java 17+ replaces this class with one that can select the Vector API kernels.
+ */
+final class KernelSelector {
+
+    private KernelSelector() {
+    }
+
+    static Kernels select() {
+        return new ScalarKernels();
+    }
+}
@@ -0,0 +1,57 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Implementation contract of the bulk kernels behind {@link PackedKernels}.
+ * Arguments are validated by PackedKernels before they reach an implementation.
+ */
+interface Kernels {
+
+    /**
+     * Returns a short name of the implementation, such as "scalar".
+     */
+    String name();
+
+    void add(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int length);
+
+    void scale(double[] a, int aOff, double factor, double[] dst, int dstOff, int length);
+
+    double dot(double[] a, int aOff, double[] b, int bOff, int length);
+
+    /**
+     * Computes dst = M * (x, y, z, w) for structure-of-arrays data; m is a 4x4 row-major matrix.
+     */
+    void transform4(double[] m,
+                    double[] sx, double[] sy, double[] sz, double[] sw, int srcOff,
+                    double[] dx, double[] dy, double[] dz, double[] dw, int dstOff, int length);
+
+    /**
+     * Computes dst = A * (x, y, z) + t for structure-of-arrays data; m holds the top three rows
+     * of a 4x4 row-major matrix (A in columns 0-2, t in column 3).
+     */
+    void transform3(double[] m,
+                    double[] sx, double[] sy, double[] sz, int srcOff,
+                    double[] dx, double[] dy, double[] dz, int dstOff, int length);
+
+    /**
+     * Normalizes 3D vectors held as structure-of-arrays data.
+     * Stops at the first zero vector without writing it.
+     *
+     * @return the position of the first zero vector relative to the start of the range, or -1
+     */
+    int normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                   double[] dx, double[] dy, double[] dz, int dstOff, int length);
+
+    /**
+     * Normalizes 3D vectors held as structure-of-arrays data, writing (fx, fy, fz) for vectors
+     * whose squared length is zero.
+     */
+    void normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                    double[] dx, double[] dy, double[] dz, int dstOff, int length,
+                    Normalization normalization, double fx, double fy, double fz);
+
+    /**
+     * Computes the length of 3D vectors held as structure-of-arrays data.
+     */
+    void length3(double[] sx, double[] sy, double[] sz, int srcOff,
+                 double[] dst, int dstOff, int length, Normalization normalization);
+}
@@ -0,0 +1,26 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Accuracy of the bulk normalization and length kernels of {@link PackedKernels}.
+ */
+public enum Normalization {
+    /**
+     * One square root and one division per vector; results are identical to those of the
+     * throwing {@link PackedKernels#normalize3} and correct to within a rounding.
+     */
+    EXACT,
+    /**
+     * Reciprocal square root from the classic exponent-halving bit trick refined by one Newton
+     * step, with no square root or division at all. The relative error of lengths and of the
+     * unit vectors is below {@value #APPROXIMATE_ERROR}, which is enough for shading normals
+     * and normal maps stored with 8 bits per component. Vectors shorter than about 1.5e-154,
+     * whose squared lengths are subnormal, are rescaled before the bit trick, so the bound holds
+     * relative to {@link #EXACT} for them as well.
+     */
+    APPROXIMATE;
+
+    /**
+     * Bound on the relative error of {@link #APPROXIMATE} results.
+     */
+    public static final double APPROXIMATE_ERROR = 1.8e-3;
+}
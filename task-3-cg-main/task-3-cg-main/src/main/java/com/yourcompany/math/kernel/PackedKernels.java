@@ -0,0 +1,326 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Bulk kernels over primitive arrays, shared by the buffer and batch-transform APIs.
+ * <p>
+ * The implementation is chosen once, when this class is initialized. On Java 11 the portable
+ * scalar loops are always used. On Java 17 and later the multi-release layer of the jar
+ * provides SIMD kernels built on the {@code jdk.incubator.vector} API; they are selected
+ * automatically when the JVM is started with {@code --add-modules jdk.incubator.vector}.
+ * Setting the system property {@value #FORCE_SCALAR_PROPERTY} to {@code true} forces the scalar
+ * kernels, which is useful for A/B comparisons.
+ * <p>
+ * Element-wise kernels produce identical results with either implementation. Reductions such as
+ * {@link #dot} may differ in the last bits because the vectorized version sums in lanes.
+ * Source and destination ranges may be the same array only if their offsets are equal.
+ */
+public final class PackedKernels {
+
+    /**
+     * System property that forces the scalar kernels when set to {@code true}.
+     */
+    public static final String FORCE_SCALAR_PROPERTY = "com.yourcompany.math.kernel.scalar";
+
+    private static final Kernels KERNELS = KernelSelector.select();
+
+    private PackedKernels() {
+    }
+
+    /**
+     * Returns the name of the active implementation: "scalar" or "vector".
+     *
+     * @return the implementation name
+     */
+    public static String implementation() {
+        return KERNELS.name();
+    }
+
+    /**
+     * Returns whether the SIMD implementation is active.
+     *
+     * @return true if the Vector API kernels are in use
+     */
+    public static boolean isVectorized() {
+        return !"scalar".equals(KERNELS.name());
+    }
+
+    /**
+     * Adds two ranges element by element: {@code dst[dstOff + i] = a[aOff + i] + b[bOff + i]}.
+     *
+     * @param a      the first operand array
+     * @param aOff   the offset of the first operand range
+     * @param b      the second operand array
+     * @param bOff   the offset of the second operand range
+     * @param dst    the destination array
+     * @param dstOff the offset of the destination range
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void add(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int length) {
+        checkRange(a, aOff, length);
+        checkRange(b, bOff, length);
+        checkRange(dst, dstOff, length);
+        KERNELS.add(a, aOff, b, bOff, dst, dstOff, length);
+    }
+
+    /**
+     * Multiplies a range by a scalar: {@code dst[dstOff + i] = a[aOff + i] * factor}.
+     *
+     * @param a      the source array
+     * @param aOff   the offset of the source range
+     * @param factor the scalar to multiply by
+     * @param dst    the destination array
+     * @param dstOff the offset of the destination range
+     * @param length the number of elements
+     * @throws IllegalArgumentException if an array is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void scale(double[] a, int aOff, double factor, double[] dst, int dstOff, int length) {
+        checkRange(a, aOff, length);
+        checkRange(dst, dstOff, length);
+        KERNELS.scale(a, aOff, factor, dst, dstOff, length);
+    }
+
+    /**
+     * Computes the dot product of two ranges, i.e. the sum of {@code a[aOff + i] * b[bOff + i]}.
+     *
+     * @param a      the first operand array
+     * @param aOff   the offset of the first operand range
+     * @param b      the second operand array
+     * @param bOff   the offset of the second operand range
+     * @param length the number of elements
+     * @return the dot product
+     * @throws IllegalArgumentException if an array is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static double dot(double[] a, int aOff, double[] b, int bOff, int length) {
+        checkRange(a, aOff, length);
+        checkRange(b, bOff, length);
+        return KERNELS.dot(a, aOff, b, bOff, length);
+    }
+
+    /**
+     * Computes the dot product of two ranges in the given precision. The compensated version
+     * always runs on the scalar path.
+     *
+     * @param a         the first operand array
+     * @param aOff      the offset of the first operand range
+     * @param b         the second operand array
+     * @param bOff      the offset of the second operand range
+     * @param length    the number of elements
+     * @param precision the accumulation mode
+     * @return the dot product
+     * @throws IllegalArgumentException if an array or precision is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static double dot(double[] a, int aOff, double[] b, int bOff, int length, Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        checkRange(a, aOff, length);
+        checkRange(b, bOff, length);
+        return precision == Precision.COMPENSATED
+            ? Compensated.dot(a, aOff, b, bOff, length)
+            : KERNELS.dot(a, aOff, b, bOff, length);
+    }
+
+    /**
+     * Computes the sum of a range with Neumaier-compensated summation.
+     *
+     * @param a      the source array
+     * @param aOff   the offset of the range
+     * @param length the number of elements
+     * @return the sum of the range
+     * @throws IllegalArgumentException if a is null or length is negative
+     * @throws IndexOutOfBoundsException if the range does not fit the array
+     */
+    public static double compensatedSum(double[] a, int aOff, int length) {
+        checkRange(a, aOff, length);
+        return Compensated.sum(a, aOff, length);
+    }
+
+    /**
+     * Multiplies a 4x4 matrix by a range of 4D vectors held in structure-of-arrays form.
+     *
+     * @param m      the matrix as 16 row-major elements
+     * @param sx     the source x components
+     * @param sy     the source y components
+     * @param sz     the source z components
+     * @param sw     the source w components
+     * @param srcOff the index of the first source vector
+     * @param dx     the destination x components
+     * @param dy     the destination y components
+     * @param dz     the destination z components
+     * @param dw     the destination w components
+     * @param dstOff the index of the first destination vector
+     * @param length the number of vectors
+     * @throws IllegalArgumentException if an array is null, m has fewer than 16 elements
+     *                                  or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void transform4(double[] m,
+                                  double[] sx, double[] sy, double[] sz, double[] sw, int srcOff,
+                                  double[] dx, double[] dy, double[] dz, double[] dw, int dstOff, int length) {
+        checkMatrix(m, 16);
+        checkRange(sx, srcOff, length);
+        checkRange(sy, srcOff, length);
+        checkRange(sz, srcOff, length);
+        checkRange(sw, srcOff, length);
+        checkRange(dx, dstOff, length);
+        checkRange(dy, dstOff, length);
+        checkRange(dz, dstOff, length);
+        checkRange(dw, dstOff, length);
+        KERNELS.transform4(m, sx, sy, sz, sw, srcOff, dx, dy, dz, dw, dstOff, length);
+    }
+
+    /**
+     * Applies an affine 3D transform {@code A * v + t} to a range of vectors held in
+     * structure-of-arrays form. Pass zeros for t to transform directions.
+     *
+     * @param m      the top three rows of a 4x4 row-major matrix (12 elements)
+     * @param sx     the source x components
+     * @param sy     the source y components
+     * @param sz     the source z components
+     * @param srcOff the index of the first source vector
+     * @param dx     the destination x components
+     * @param dy     the destination y components
+     * @param dz     the destination z components
+     * @param dstOff the index of the first destination vector
+     * @param length the number of vectors
+     * @throws IllegalArgumentException if an array is null, m has fewer than 12 elements
+     *                                  or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void transform3(double[] m,
+                                  double[] sx, double[] sy, double[] sz, int srcOff,
+                                  double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        checkMatrix(m, 12);
+        checkRange(sx, srcOff, length);
+        checkRange(sy, srcOff, length);
+        checkRange(sz, srcOff, length);
+        checkRange(dx, dstOff, length);
+        checkRange(dy, dstOff, length);
+        checkRange(dz, dstOff, length);
+        KERNELS.transform3(m, sx, sy, sz, srcOff, dx, dy, dz, dstOff, length);
+    }
+
+    /**
+     * Normalizes a range of 3D vectors held in structure-of-arrays form.
+     * If a zero vector is encountered, the vectors before it have already been written.
+     *
+     * @param sx     the source x components
+     * @param sy     the source y components
+     * @param sz     the source z components
+     * @param srcOff the index of the first source vector
+     * @param dx     the destination x components
+     * @param dy     the destination y components
+     * @param dz     the destination z components
+     * @param dstOff the index of the first destination vector
+     * @param length the number of vectors
+     * @throws IllegalArgumentException if an array is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     * @throws ArithmeticException if any vector in the range is a zero vector
+     */
+    public static void normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                                  double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        checkRange(sx, srcOff, length);
+        checkRange(sy, srcOff, length);
+        checkRange(sz, srcOff, length);
+        checkRange(dx, dstOff, length);
+        checkRange(dy, dstOff, length);
+        checkRange(dz, dstOff, length);
+        int zero = KERNELS.normalize3(sx, sy, sz, srcOff, dx, dy, dz, dstOff, length);
+        if (zero >= 0) {
+            throw new ArithmeticException("Cannot normalize zero vector at index " + (srcOff + zero));
+        }
+    }
+
+    /**
+     * Normalizes a range of 3D vectors held in structure-of-arrays form without failing on zero
+     * vectors. Each vector is multiplied by the reciprocal of its length, computed exactly or
+     * approximately as selected by {@code normalization}. Vectors whose squared length is zero,
+     * including ones so short that it underflows, are replaced by the fallback; pass
+     * {@code (0, 0, 0)} to leave them as zero vectors or a unit axis to keep every result unit
+     * length. The loop has no data-dependent branches.
+     *
+     * @param sx            the source x components
+     * @param sy            the source y components
+     * @param sz            the source z components
+     * @param srcOff        the index of the first source vector
+     * @param dx            the destination x components
+     * @param dy            the destination y components
+     * @param dz            the destination z components
+     * @param dstOff        the index of the first destination vector
+     * @param length        the number of vectors
+     * @param normalization the accuracy of the reciprocal length
+     * @param fallbackX     the x component written for zero vectors
+     * @param fallbackY     the y component written for zero vectors
+     * @param fallbackZ     the z component written for zero vectors
+     * @throws IllegalArgumentException if an array or normalization is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                                  double[] dx, double[] dy, double[] dz, int dstOff, int length,
+                                  Normalization normalization,
+                                  double fallbackX, double fallbackY, double fallbackZ) {
+        checkRange(sx, srcOff, length);
+        checkRange(sy, srcOff, length);
+        checkRange(sz, srcOff, length);
+        checkRange(dx, dstOff, length);
+        checkRange(dy, dstOff, length);
+        checkRange(dz, dstOff, length);
+        checkNormalization(normalization);
+        KERNELS.normalize3(sx, sy, sz, srcOff, dx, dy, dz, dstOff, length,
+            normalization, fallbackX, fallbackY, fallbackZ);
+    }
+
+    /**
+     * Computes the lengths of a range of 3D vectors held in structure-of-arrays form.
+     *
+     * @param sx            the source x components
+     * @param sy            the source y components
+     * @param sz            the source z components
+     * @param srcOff        the index of the first source vector
+     * @param dst           the array receiving one length per vector
+     * @param dstOff        the offset of the destination range
+     * @param length        the number of vectors
+     * @param normalization the accuracy of the square root
+     * @throws IllegalArgumentException if an array or normalization is null or length is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void length3(double[] sx, double[] sy, double[] sz, int srcOff,
+                               double[] dst, int dstOff, int length, Normalization normalization) {
+        checkRange(sx, srcOff, length);
+        checkRange(sy, srcOff, length);
+        checkRange(sz, srcOff, length);
+        checkRange(dst, dstOff, length);
+        checkNormalization(normalization);
+        KERNELS.length3(sx, sy, sz, srcOff, dst, dstOff, length, normalization);
+    }
+
+    private static void checkRange(double[] array, int offset, int length) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        if (offset < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Range of " + length + " elements at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    private static void checkNormalization(Normalization normalization) {
+        if (normalization == null) {
+            throw new IllegalArgumentException("Normalization cannot be null");
+        }
+    }
+
+    private static void checkMatrix(double[] m, int elements) {
+        if (m == null || m.length < elements) {
+            throw new IllegalArgumentException("Matrix must have " + elements + " elements");
+        }
+    }
+}
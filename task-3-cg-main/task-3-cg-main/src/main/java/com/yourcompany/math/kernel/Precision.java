@@ -0,0 +1,17 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Accumulation mode of dot products, products and reductions that accept one.
+ */
+public enum Precision {
+    /** Plain {@code a * b + c * d} accumulation, one rounding per operation. */
+    STANDARD,
+    /**
+     * Products split exactly with {@link Math#fma} and sums compensated in the manner of
+     * Kahan and Neumaier. Dot products are as accurate as if computed in twice the working
+     * precision and then rounded; long sums lose no more than a rounding or two in total.
+     * {@code Math.fma} is a single instruction on hardware with FMA units and much slower
+     * elsewhere.
+     */
+    COMPENSATED
+}
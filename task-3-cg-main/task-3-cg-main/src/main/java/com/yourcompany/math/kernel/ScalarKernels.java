@@ -0,0 +1,145 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Portable scalar implementation of the bulk kernels, used on every JDK and whenever
+ * the vectorized implementation is unavailable or disabled.
+ */
+final class ScalarKernels implements Kernels {
+
+    /**
+     * Initial guess of the bit-level reciprocal square root for doubles (Lomont's constant).
+     */
+    static final long RSQRT_MAGIC = 0x5FE6EB50C7B537A9L;
+
+    /**
+     * Scale applied to subnormal inputs of {@link #inverseSqrt}, and its square root, applied to
+     * the result.
+     */
+    static final double SUBNORMAL_SCALE = 0x1p108;
+    static final double SUBNORMAL_RESULT_SCALE = 0x1p54;
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void add(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dstOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    @Override
+    public void scale(double[] a, int aOff, double factor, double[] dst, int dstOff, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dstOff + i] = a[aOff + i] * factor;
+        }
+    }
+
+    @Override
+    public double dot(double[] a, int aOff, double[] b, int bOff, int length) {
+        double sum = 0.0;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOff + i] * b[bOff + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void transform4(double[] m,
+                           double[] sx, double[] sy, double[] sz, double[] sw, int srcOff,
+                           double[] dx, double[] dy, double[] dz, double[] dw, int dstOff, int length) {
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        double m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        for (int i = 0; i < length; i++) {
+            double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i], w = sw[srcOff + i];
+            dx[dstOff + i] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dy[dstOff + i] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dz[dstOff + i] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dw[dstOff + i] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    @Override
+    public void transform3(double[] m,
+                           double[] sx, double[] sy, double[] sz, int srcOff,
+                           double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        for (int i = 0; i < length; i++) {
+            double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i];
+            dx[dstOff + i] = m00 * x + m01 * y + m02 * z + m03;
+            dy[dstOff + i] = m10 * x + m11 * y + m12 * z + m13;
+            dz[dstOff + i] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    @Override
+    public int normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                          double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        for (int i = 0; i < length; i++) {
+            double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i];
+            double len = Math.sqrt(x * x + y * y + z * z);
+            if (len == 0.0) {
+                return i;
+            }
+            double inv = 1.0 / len;
+            dx[dstOff + i] = x * inv;
+            dy[dstOff + i] = y * inv;
+            dz[dstOff + i] = z * inv;
+        }
+        return -1;
+    }
+
+    @Override
+    public void normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                           double[] dx, double[] dy, double[] dz, int dstOff, int length,
+                           Normalization normalization, double fx, double fy, double fz) {
+        boolean approximate = normalization == Normalization.APPROXIMATE;
+        for (int i = 0; i < length; i++) {
+            double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i];
+            double s = x * x + y * y + z * z;
+            double inv = approximate ? inverseSqrt(s) : 1.0 / Math.sqrt(s);
+            // Selects rather than branches, so the JIT can emit conditional moves
+            boolean zero = s == 0.0;
+            dx[dstOff + i] = zero ? fx : x * inv;
+            dy[dstOff + i] = zero ? fy : y * inv;
+            dz[dstOff + i] = zero ? fz : z * inv;
+        }
+    }
+
+    @Override
+    public void length3(double[] sx, double[] sy, double[] sz, int srcOff,
+                        double[] dst, int dstOff, int length, Normalization normalization) {
+        if (normalization == Normalization.APPROXIMATE) {
+            for (int i = 0; i < length; i++) {
+                double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i];
+                double s = x * x + y * y + z * z;
+                dst[dstOff + i] = s * inverseSqrt(s);
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            double x = sx[srcOff + i], y = sy[srcOff + i], z = sz[srcOff + i];
+            dst[dstOff + i] = Math.sqrt(x * x + y * y + z * z);
+        }
+    }
+
+    /**
+     * Approximates {@code 1 / sqrt(s)} for {@code s >= 0} by halving the exponent in the bit
+     * pattern and taking one Newton step. The bit pattern of a subnormal s has no exponent to
+     * halve, so subnormal inputs are scaled by 2^108 into the normal range and the result by
+     * 2^54; both are exact, and both are selects rather than branches. For {@code s == 0} the
+     * result is large but finite, so multiplying a zero vector by it still gives zero.
+     */
+    static double inverseSqrt(double s) {
+        boolean subnormal = s < Double.MIN_NORMAL;
+        double t = s * (subnormal ? SUBNORMAL_SCALE : 1.0);
+        double y = Double.longBitsToDouble(RSQRT_MAGIC - (Double.doubleToRawLongBits(t) >> 1));
+        return y * (1.5 - 0.5 * t * y * y) * (subnormal ? SUBNORMAL_RESULT_SCALE : 1.0);
+    }
+}
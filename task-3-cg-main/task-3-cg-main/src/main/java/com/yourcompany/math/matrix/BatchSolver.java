@@ -0,0 +1,358 @@
+package com.yourcompany.math.matrix;
+
+/**
+ * Solves large batches of independent 3x3 or 4x4 linear systems {@code A_i * x_i = b_i} held in
+ * flat arrays, without creating a matrix, vector or augmented array per system.
+ * <p>
+ * The arrays use a structure-of-arrays layout across systems: element {@code e} of system
+ * {@code i} is stored at index {@code e * count + i}, where {@code count} is the number of
+ * systems in the batch. Coefficients are numbered in row-major order (element {@code r * n + c}
+ * is row r, column c), right-hand sides and solutions by component. A batch of 3x3 systems thus
+ * uses {@code 9 * count} coefficients, {@code 3 * count} right-hand side elements and
+ * {@code 3 * count} solution elements.
+ * <p>
+ * Each system is solved by Gaussian elimination with partial pivoting, like
+ * {@link Matrix3x3#solveSystem} and {@link Matrix4x4#solveSystem}. A system whose pivot falls
+ * below 1e-10 in absolute value is not an error: its status is set to {@link #SINGULAR}, its
+ * solution to NaN, and the rest of the batch is solved normally. The range methods solve part of
+ * a batch, so disjoint ranges may be processed concurrently; see
+ * {@code ParallelBatch#solve3} and {@code ParallelBatch#solve4}.
+ */
+public final class BatchSolver {
+
+    /**
+     * Status of a system that was solved.
+     */
+    public static final byte SOLVED = 0;
+
+    /**
+     * Status of a system whose matrix is singular; its solution is NaN.
+     */
+    public static final byte SINGULAR = 1;
+
+    private static final double SINGULAR_TOLERANCE = 1e-10;
+
+    private BatchSolver() {
+    }
+
+    /**
+     * Solves a batch of 3x3 systems.
+     *
+     * @param a      the coefficients, {@code 9 * count} elements
+     * @param b      the right-hand sides, {@code 3 * count} elements
+     * @param x      the destination for the solutions, {@code 3 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the batch
+     * @return the number of singular systems
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch
+     */
+    public static int solve3(double[] a, double[] b, double[] x, byte[] status, int count) {
+        return solve3(a, b, x, status, count, 0, count);
+    }
+
+    /**
+     * Solves the systems {@code [first, first + length)} of a batch of 3x3 systems.
+     *
+     * @param a      the coefficients, {@code 9 * count} elements
+     * @param b      the right-hand sides, {@code 3 * count} elements
+     * @param x      the destination for the solutions, {@code 3 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the whole batch
+     * @param first  the index of the first system to solve
+     * @param length the number of systems to solve
+     * @return the number of singular systems in the range
+     * @throws IllegalArgumentException if an array is null or count or length is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch or the range
+     *                                   does not fit the batch
+     */
+    public static int solve3(double[] a, double[] b, double[] x, byte[] status, int count, int first, int length) {
+        checkBatch(a, b, x, status, count, 3);
+        checkRange(count, first, length);
+        return solveRange3(a, b, x, status, count, first, length);
+    }
+
+    /**
+     * Solves a batch of 4x4 systems.
+     *
+     * @param a      the coefficients, {@code 16 * count} elements
+     * @param b      the right-hand sides, {@code 4 * count} elements
+     * @param x      the destination for the solutions, {@code 4 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the batch
+     * @return the number of singular systems
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch
+     */
+    public static int solve4(double[] a, double[] b, double[] x, byte[] status, int count) {
+        return solve4(a, b, x, status, count, 0, count);
+    }
+
+    /**
+     * Solves the systems {@code [first, first + length)} of a batch of 4x4 systems.
+     *
+     * @param a      the coefficients, {@code 16 * count} elements
+     * @param b      the right-hand sides, {@code 4 * count} elements
+     * @param x      the destination for the solutions, {@code 4 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the whole batch
+     * @param first  the index of the first system to solve
+     * @param length the number of systems to solve
+     * @return the number of singular systems in the range
+     * @throws IllegalArgumentException if an array is null or count or length is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch or the range
+     *                                   does not fit the batch
+     */
+    public static int solve4(double[] a, double[] b, double[] x, byte[] status, int count, int first, int length) {
+        checkBatch(a, b, x, status, count, 4);
+        checkRange(count, first, length);
+        return solveRange4(a, b, x, status, count, first, length);
+    }
+
+    private static int solveRange3(double[] a, double[] b, double[] x, byte[] status,
+                                   int count, int first, int length) {
+        int singular = 0;
+        for (int i = first, end = first + length; i < end; i++) {
+            double a00 = a[i], a01 = a[count + i], a02 = a[2 * count + i];
+            double a10 = a[3 * count + i], a11 = a[4 * count + i], a12 = a[5 * count + i];
+            double a20 = a[6 * count + i], a21 = a[7 * count + i], a22 = a[8 * count + i];
+            double b0 = b[i], b1 = b[count + i], b2 = b[2 * count + i];
+            double t;
+
+            // Column 0: the row with the largest pivot is exchanged into row 0
+            int pivotRow = 0;
+            double max = Math.abs(a00);
+            if (Math.abs(a10) > max) {
+                max = Math.abs(a10);
+                pivotRow = 1;
+            }
+            if (Math.abs(a20) > max) {
+                max = Math.abs(a20);
+                pivotRow = 2;
+            }
+            if (!(max >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(3, x, status, count, i);
+                continue;
+            }
+            if (pivotRow == 1) {
+                t = a00; a00 = a10; a10 = t;
+                t = a01; a01 = a11; a11 = t;
+                t = a02; a02 = a12; a12 = t;
+                t = b0; b0 = b1; b1 = t;
+            } else if (pivotRow == 2) {
+                t = a00; a00 = a20; a20 = t;
+                t = a01; a01 = a21; a21 = t;
+                t = a02; a02 = a22; a22 = t;
+                t = b0; b0 = b2; b2 = t;
+            }
+            double f = a10 / a00;
+            a11 -= f * a01;
+            a12 -= f * a02;
+            b1 -= f * b0;
+            f = a20 / a00;
+            a21 -= f * a01;
+            a22 -= f * a02;
+            b2 -= f * b0;
+
+            // Column 1
+            if (Math.abs(a21) > Math.abs(a11)) {
+                t = a11; a11 = a21; a21 = t;
+                t = a12; a12 = a22; a22 = t;
+                t = b1; b1 = b2; b2 = t;
+            }
+            if (!(Math.abs(a11) >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(3, x, status, count, i);
+                continue;
+            }
+            f = a21 / a11;
+            a22 -= f * a12;
+            b2 -= f * b1;
+
+            // Column 2
+            if (!(Math.abs(a22) >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(3, x, status, count, i);
+                continue;
+            }
+
+            double x2 = b2 / a22;
+            double x1 = (b1 - a12 * x2) / a11;
+            double x0 = (b0 - a01 * x1 - a02 * x2) / a00;
+            x[i] = x0;
+            x[count + i] = x1;
+            x[2 * count + i] = x2;
+            status[i] = SOLVED;
+        }
+        return singular;
+    }
+
+    private static int solveRange4(double[] a, double[] b, double[] x, byte[] status,
+                                   int count, int first, int length) {
+        int singular = 0;
+        for (int i = first, end = first + length; i < end; i++) {
+            double a00 = a[i], a01 = a[count + i], a02 = a[2 * count + i], a03 = a[3 * count + i];
+            double a10 = a[4 * count + i], a11 = a[5 * count + i], a12 = a[6 * count + i], a13 = a[7 * count + i];
+            double a20 = a[8 * count + i], a21 = a[9 * count + i], a22 = a[10 * count + i], a23 = a[11 * count + i];
+            double a30 = a[12 * count + i], a31 = a[13 * count + i], a32 = a[14 * count + i], a33 = a[15 * count + i];
+            double b0 = b[i], b1 = b[count + i], b2 = b[2 * count + i], b3 = b[3 * count + i];
+            double t;
+
+            // Column 0: the row with the largest pivot is exchanged into row 0
+            int pivotRow = 0;
+            double max = Math.abs(a00);
+            if (Math.abs(a10) > max) {
+                max = Math.abs(a10);
+                pivotRow = 1;
+            }
+            if (Math.abs(a20) > max) {
+                max = Math.abs(a20);
+                pivotRow = 2;
+            }
+            if (Math.abs(a30) > max) {
+                max = Math.abs(a30);
+                pivotRow = 3;
+            }
+            if (!(max >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(4, x, status, count, i);
+                continue;
+            }
+            if (pivotRow == 1) {
+                t = a00; a00 = a10; a10 = t;
+                t = a01; a01 = a11; a11 = t;
+                t = a02; a02 = a12; a12 = t;
+                t = a03; a03 = a13; a13 = t;
+                t = b0; b0 = b1; b1 = t;
+            } else if (pivotRow == 2) {
+                t = a00; a00 = a20; a20 = t;
+                t = a01; a01 = a21; a21 = t;
+                t = a02; a02 = a22; a22 = t;
+                t = a03; a03 = a23; a23 = t;
+                t = b0; b0 = b2; b2 = t;
+            } else if (pivotRow == 3) {
+                t = a00; a00 = a30; a30 = t;
+                t = a01; a01 = a31; a31 = t;
+                t = a02; a02 = a32; a32 = t;
+                t = a03; a03 = a33; a33 = t;
+                t = b0; b0 = b3; b3 = t;
+            }
+            double f = a10 / a00;
+            a11 -= f * a01;
+            a12 -= f * a02;
+            a13 -= f * a03;
+            b1 -= f * b0;
+            f = a20 / a00;
+            a21 -= f * a01;
+            a22 -= f * a02;
+            a23 -= f * a03;
+            b2 -= f * b0;
+            f = a30 / a00;
+            a31 -= f * a01;
+            a32 -= f * a02;
+            a33 -= f * a03;
+            b3 -= f * b0;
+
+            // Column 1
+            pivotRow = 1;
+            max = Math.abs(a11);
+            if (Math.abs(a21) > max) {
+                max = Math.abs(a21);
+                pivotRow = 2;
+            }
+            if (Math.abs(a31) > max) {
+                max = Math.abs(a31);
+                pivotRow = 3;
+            }
+            if (!(max >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(4, x, status, count, i);
+                continue;
+            }
+            if (pivotRow == 2) {
+                t = a11; a11 = a21; a21 = t;
+                t = a12; a12 = a22; a22 = t;
+                t = a13; a13 = a23; a23 = t;
+                t = b1; b1 = b2; b2 = t;
+            } else if (pivotRow == 3) {
+                t = a11; a11 = a31; a31 = t;
+                t = a12; a12 = a32; a32 = t;
+                t = a13; a13 = a33; a33 = t;
+                t = b1; b1 = b3; b3 = t;
+            }
+            f = a21 / a11;
+            a22 -= f * a12;
+            a23 -= f * a13;
+            b2 -= f * b1;
+            f = a31 / a11;
+            a32 -= f * a12;
+            a33 -= f * a13;
+            b3 -= f * b1;
+
+            // Column 2
+            if (Math.abs(a32) > Math.abs(a22)) {
+                t = a22; a22 = a32; a32 = t;
+                t = a23; a23 = a33; a33 = t;
+                t = b2; b2 = b3; b3 = t;
+            }
+            if (!(Math.abs(a22) >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(4, x, status, count, i);
+                continue;
+            }
+            f = a32 / a22;
+            a33 -= f * a23;
+            b3 -= f * b2;
+
+            // Column 3
+            if (!(Math.abs(a33) >= SINGULAR_TOLERANCE)) {
+                singular += markSingular(4, x, status, count, i);
+                continue;
+            }
+
+            double x3 = b3 / a33;
+            double x2 = (b2 - a23 * x3) / a22;
+            double x1 = (b1 - a12 * x2 - a13 * x3) / a11;
+            double x0 = (b0 - a01 * x1 - a02 * x2 - a03 * x3) / a00;
+            x[i] = x0;
+            x[count + i] = x1;
+            x[2 * count + i] = x2;
+            x[3 * count + i] = x3;
+            status[i] = SOLVED;
+        }
+        return singular;
+    }
+
+    private static int markSingular(int n, double[] x, byte[] status, int count, int i) {
+        for (int r = 0; r < n; r++) {
+            x[r * count + i] = Double.NaN;
+        }
+        status[i] = SINGULAR;
+        return 1;
+    }
+
+    private static void checkBatch(double[] a, double[] b, double[] x, byte[] status, int count, int n) {
+        if (a == null || b == null || x == null || status == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (a.length < (long) n * n * count) {
+            throw new IndexOutOfBoundsException("Coefficient array of length " + a.length
+                + " does not hold " + count + " " + n + "x" + n + " systems");
+        }
+        if (b.length < (long) n * count || x.length < (long) n * count) {
+            throw new IndexOutOfBoundsException("Vector arrays do not hold " + count + " " + n + "D vectors");
+        }
+        if (status.length < count) {
+            throw new IndexOutOfBoundsException("Status array of length " + status.length
+                + " does not hold " + count + " systems");
+        }
+    }
+
+    private static void checkRange(int count, int first, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        if (first < 0 || (long) first + length > count) {
+            throw new IndexOutOfBoundsException("Range of " + length + " systems at index " + first
+                + " does not fit a batch of " + count);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+
+/**
+ * LU factorization with partial pivoting of a {@link Matrix3x3} or {@link Matrix4x4}, for solving
+ * many systems that share the same coefficient matrix.
+ * <p>
+ * The matrix is factored once, as {@code P * A = L * U}, into a flat array; each solve is then a
+ * forward and a back substitution that allocates nothing beyond its result. The solvers of
+ * {@link Matrix3x3#solveSystem} and {@link Matrix4x4#solveSystem} instead repeat the elimination
+ * and allocate an augmented matrix on every call.
+ * <p>
+ * A matrix is treated as singular when a pivot is smaller than 1e-10 in absolute value, as in
+ * {@code solveSystem}. Factoring a singular matrix succeeds, so that its determinant can be read,
+ * but solving with it or inverting it throws {@link ArithmeticException}.
+ */
+public final class LUDecomposition {
+
+    private static final double SINGULAR_TOLERANCE = 1e-10;
+
+    private final int n;
+    // Row-major n x n: U on and above the diagonal, the unit lower factor L below it
+    private final double[] lu;
+    // Row i of P * A is row perm[i] of A
+    private final int[] perm;
+    private final double determinant;
+    private final boolean singular;
+
+    private LUDecomposition(int n, double[] a) {
+        this.n = n;
+        this.lu = a;
+        this.perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        double det = 1.0;
+        boolean isSingular = false;
+        for (int col = 0; col < n; col++) {
+            int maxRow = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row * n + col]) > Math.abs(a[maxRow * n + col])) {
+                    maxRow = row;
+                }
+            }
+            if (maxRow != col) {
+                for (int k = 0; k < n; k++) {
+                    double t = a[col * n + k];
+                    a[col * n + k] = a[maxRow * n + k];
+                    a[maxRow * n + k] = t;
+                }
+                int t = perm[col];
+                perm[col] = perm[maxRow];
+                perm[maxRow] = t;
+                det = -det;
+            }
+            double pivot = a[col * n + col];
+            det *= pivot;
+            if (Math.abs(pivot) < SINGULAR_TOLERANCE) {
+                isSingular = true;
+                if (pivot == 0.0) {
+                    // Nothing to eliminate below an exact zero pivot
+                    continue;
+                }
+            }
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row * n + col] / pivot;
+                a[row * n + col] = factor;
+                for (int k = col + 1; k < n; k++) {
+                    a[row * n + k] -= factor * a[col * n + k];
+                }
+            }
+        }
+        this.determinant = det;
+        this.singular = isSingular;
+    }
+
+    /**
+     * Factors a 3x3 matrix.
+     *
+     * @param a the matrix to factor
+     * @return the factorization
+     * @throws IllegalArgumentException if a is null
+     */
+    public static LUDecomposition of(Matrix3x3 a) {
+        if (a == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new LUDecomposition(3, a.toArray(new double[9], 0));
+    }
+
+    /**
+     * Factors a 4x4 matrix.
+     *
+     * @param a the matrix to factor
+     * @return the factorization
+     * @throws IllegalArgumentException if a is null
+     */
+    public static LUDecomposition of(Matrix4x4 a) {
+        if (a == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new LUDecomposition(4, a.toArray(new double[16], 0));
+    }
+
+    /**
+     * Returns the dimension of the factored matrix, 3 or 4.
+     *
+     * @return the number of rows and columns
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Checks whether the factored matrix is singular.
+     *
+     * @return true if a pivot is smaller than 1e-10 in absolute value
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Returns the determinant of the factored matrix, the signed product of the pivots.
+     *
+     * @return the determinant
+     */
+    public double determinant() {
+        return determinant;
+    }
+
+    /**
+     * Solves A * x = b for a 3x3 factorization.
+     *
+     * @param b the constant vector
+     * @return a new Vector3 representing the solution x
+     * @throws IllegalArgumentException if b is null
+     * @throws IllegalStateException if the factored matrix is not 3x3
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public Vector3 solve(Vector3 b) {
+        return solve(b, new MutableVector3()).toVector3();
+    }
+
+    /**
+     * Solves A * x = b for a 3x3 factorization and writes x into a destination vector.
+     *
+     * @param b   the constant vector
+     * @param dst the destination for the solution
+     * @return the destination vector
+     * @throws IllegalArgumentException if b or dst is null
+     * @throws IllegalStateException if the factored matrix is not 3x3
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public MutableVector3 solve(Vector3 b, MutableVector3 dst) {
+        if (b == null) {
+            throw new IllegalArgumentException("Vector b cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        requireSize(3);
+        requireRegular();
+        double[] f = lu;
+        double b0 = b.getX(), b1 = b.getY(), b2 = b.getZ();
+        double y0 = pick(perm[0], b0, b1, b2, 0.0);
+        double y1 = pick(perm[1], b0, b1, b2, 0.0) - f[3] * y0;
+        double y2 = pick(perm[2], b0, b1, b2, 0.0) - f[6] * y0 - f[7] * y1;
+        double x2 = y2 / f[8];
+        double x1 = (y1 - f[5] * x2) / f[4];
+        double x0 = (y0 - f[1] * x1 - f[2] * x2) / f[0];
+        return dst.set(x0, x1, x2);
+    }
+
+    /**
+     * Solves A * x = b for a 4x4 factorization.
+     *
+     * @param b the constant vector
+     * @return a new Vector4 representing the solution x
+     * @throws IllegalArgumentException if b is null
+     * @throws IllegalStateException if the factored matrix is not 4x4
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public Vector4 solve(Vector4 b) {
+        return solve(b, new MutableVector4()).toVector4();
+    }
+
+    /**
+     * Solves A * x = b for a 4x4 factorization and writes x into a destination vector.
+     *
+     * @param b   the constant vector
+     * @param dst the destination for the solution
+     * @return the destination vector
+     * @throws IllegalArgumentException if b or dst is null
+     * @throws IllegalStateException if the factored matrix is not 4x4
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public MutableVector4 solve(Vector4 b, MutableVector4 dst) {
+        if (b == null) {
+            throw new IllegalArgumentException("Vector b cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        requireSize(4);
+        requireRegular();
+        double[] f = lu;
+        double b0 = b.getX(), b1 = b.getY(), b2 = b.getZ(), b3 = b.getW();
+        double y0 = pick(perm[0], b0, b1, b2, b3);
+        double y1 = pick(perm[1], b0, b1, b2, b3) - f[4] * y0;
+        double y2 = pick(perm[2], b0, b1, b2, b3) - f[8] * y0 - f[9] * y1;
+        double y3 = pick(perm[3], b0, b1, b2, b3) - f[12] * y0 - f[13] * y1 - f[14] * y2;
+        double x3 = y3 / f[15];
+        double x2 = (y2 - f[11] * x3) / f[10];
+        double x1 = (y1 - f[6] * x2 - f[7] * x3) / f[5];
+        double x0 = (y0 - f[1] * x1 - f[2] * x2 - f[3] * x3) / f[0];
+        return dst.set(x0, x1, x2, x3);
+    }
+
+    /**
+     * Solves A * x = b with b and x held in the first {@link #size()} elements of arrays.
+     * The two arrays may be the same.
+     *
+     * @param b the constant vector
+     * @param x the destination for the solution
+     * @return the destination array
+     * @throws IllegalArgumentException if b or x is null
+     * @throws IndexOutOfBoundsException if b or x is shorter than {@link #size()}
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public double[] solveInto(double[] b, double[] x) {
+        solve(b, 0, x, 0, 1);
+        return x;
+    }
+
+    /**
+     * Solves A * x = b for a run of right-hand sides stored as packed vectors of
+     * {@link #size()} components, writing the solutions in the same layout.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param b     the packed right-hand sides
+     * @param bOff  the index of the first component of the first right-hand side
+     * @param x     the packed destination for the solutions
+     * @param xOff  the index of the first component of the first solution
+     * @param count the number of systems to solve
+     * @throws IllegalArgumentException if b or x is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public void solve(double[] b, int bOff, double[] x, int xOff, int count) {
+        Matrix4x4.checkPacked(b, bOff, count, n);
+        Matrix4x4.checkPacked(x, xOff, count, n);
+        requireRegular();
+        double[] f = lu;
+        int p0 = perm[0], p1 = perm[1], p2 = perm[2];
+        if (n == 3) {
+            for (int i = 0; i < count; i++) {
+                int s = bOff + 3 * i;
+                int d = xOff + 3 * i;
+                double y0 = b[s + p0];
+                double y1 = b[s + p1] - f[3] * y0;
+                double y2 = b[s + p2] - f[6] * y0 - f[7] * y1;
+                double x2 = y2 / f[8];
+                double x1 = (y1 - f[5] * x2) / f[4];
+                x[d] = (y0 - f[1] * x1 - f[2] * x2) / f[0];
+                x[d + 1] = x1;
+                x[d + 2] = x2;
+            }
+        } else {
+            int p3 = perm[3];
+            for (int i = 0; i < count; i++) {
+                int s = bOff + 4 * i;
+                int d = xOff + 4 * i;
+                double y0 = b[s + p0];
+                double y1 = b[s + p1] - f[4] * y0;
+                double y2 = b[s + p2] - f[8] * y0 - f[9] * y1;
+                double y3 = b[s + p3] - f[12] * y0 - f[13] * y1 - f[14] * y2;
+                double x3 = y3 / f[15];
+                double x2 = (y2 - f[11] * x3) / f[10];
+                double x1 = (y1 - f[6] * x2 - f[7] * x3) / f[5];
+                x[d] = (y0 - f[1] * x1 - f[2] * x2 - f[3] * x3) / f[0];
+                x[d + 1] = x1;
+                x[d + 2] = x2;
+                x[d + 3] = x3;
+            }
+        }
+    }
+
+    /**
+     * Calculates the inverse of a factored 3x3 matrix by solving for each column of the identity.
+     *
+     * @return a new Matrix3x3 representing the inverse
+     * @throws IllegalStateException if the factored matrix is not 3x3
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public Matrix3x3 inverseMatrix3x3() {
+        requireSize(3);
+        double[] columns = identityColumns();
+        solve(columns, 0, columns, 0, 3);
+        return Matrix3x3.fromColumnMajorArray(columns, 0);
+    }
+
+    /**
+     * Calculates the inverse of a factored 4x4 matrix by solving for each column of the identity.
+     *
+     * @return a new Matrix4x4 representing the inverse
+     * @throws IllegalStateException if the factored matrix is not 4x4
+     * @throws ArithmeticException if the factored matrix is singular
+     */
+    public Matrix4x4 inverseMatrix4x4() {
+        requireSize(4);
+        double[] columns = identityColumns();
+        solve(columns, 0, columns, 0, 4);
+        return Matrix4x4.fromColumnMajorArray(columns, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "LUDecomposition(" + n + "x" + n + (singular ? ", singular" : "") + ")";
+    }
+
+    private double[] identityColumns() {
+        double[] columns = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            columns[i * n + i] = 1.0;
+        }
+        return columns;
+    }
+
+    private static double pick(int index, double b0, double b1, double b2, double b3) {
+        switch (index) {
+            case 0: return b0;
+            case 1: return b1;
+            case 2: return b2;
+            default: return b3;
+        }
+    }
+
+    private void requireSize(int size) {
+        if (n != size) {
+            throw new IllegalStateException("Factored matrix is " + n + "x" + n + ", not "
+                + size + "x" + size);
+        }
+    }
+
+    private void requireRegular() {
+        if (singular) {
+            throw new ArithmeticException("System has no unique solution (matrix is singular)");
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3f;
+
+/**
+ * Immutable single-precision counterpart of {@link Matrix3x3}.
+ * All operations return new instances without modifying the original matrix.
+ * <p>
+ * Element-wise operations and the batch transform work in float arithmetic. The determinant,
+ * inverse and {@link #solveSystem} are evaluated in double precision and rounded once.
+ */
+public final class Matrix3f {
+    final float m00, m01, m02;
+    final float m10, m11, m12;
+    final float m20, m21, m22;
+
+    /**
+     * Constructs a new Matrix3f from a 2D array.
+     * The array should be row-major order (array of rows).
+     *
+     * @param data a 3x3 array of matrix elements
+     * @throws IllegalArgumentException if data is null or has incorrect dimensions
+     */
+    public Matrix3f(float[][] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Matrix data cannot be null");
+        }
+        if (data.length != 3) {
+            throw new IllegalArgumentException("Matrix must have 3 rows");
+        }
+        for (int i = 0; i < 3; i++) {
+            if (data[i] == null || data[i].length != 3) {
+                throw new IllegalArgumentException("Matrix must have 3 columns in each row");
+            }
+        }
+        this.m00 = data[0][0]; this.m01 = data[0][1]; this.m02 = data[0][2];
+        this.m10 = data[1][0]; this.m11 = data[1][1]; this.m12 = data[1][2];
+        this.m20 = data[2][0]; this.m21 = data[2][1]; this.m22 = data[2][2];
+    }
+
+    /**
+     * Constructs a new Matrix3f from its nine elements, given in row-major order.
+     * The parameter {@code mRC} is the element in row {@code R} and column {@code C}.
+     */
+    public Matrix3f(float m00, float m01, float m02,
+                    float m10, float m11, float m12,
+                    float m20, float m21, float m22) {
+        this.m00 = m00; this.m01 = m01; this.m02 = m02;
+        this.m10 = m10; this.m11 = m11; this.m12 = m12;
+        this.m20 = m20; this.m21 = m21; this.m22 = m22;
+    }
+
+    /**
+     * Narrows a double-precision matrix to single precision. Each element is rounded to the
+     * nearest float.
+     *
+     * @param m the matrix to narrow
+     * @return a new Matrix3f
+     * @throws IllegalArgumentException if m is null
+     */
+    public static Matrix3f narrow(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix3f(
+            (float) m.m00, (float) m.m01, (float) m.m02,
+            (float) m.m10, (float) m.m11, (float) m.m12,
+            (float) m.m20, (float) m.m21, (float) m.m22);
+    }
+
+    /**
+     * Widens this matrix to double precision. The conversion is exact.
+     *
+     * @return a new Matrix3x3 with the same elements
+     */
+    public Matrix3x3 toMatrix3x3() {
+        return new Matrix3x3(
+            m00, m01, m02,
+            m10, m11, m12,
+            m20, m21, m22);
+    }
+
+    /**
+     * Creates a Matrix3f from nine consecutive elements of a flat array in row-major order.
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix3f
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public static Matrix3f fromArray(float[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix3f(
+            src[offset],     src[offset + 1], src[offset + 2],
+            src[offset + 3], src[offset + 4], src[offset + 5],
+            src[offset + 6], src[offset + 7], src[offset + 8]);
+    }
+
+    /**
+     * Creates a Matrix3f from nine consecutive elements of a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix3f
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public static Matrix3f fromColumnMajorArray(float[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix3f(
+            src[offset],     src[offset + 3], src[offset + 6],
+            src[offset + 1], src[offset + 4], src[offset + 7],
+            src[offset + 2], src[offset + 5], src[offset + 8]);
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in row-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public float[] toArray(float[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;     dst[offset + 1] = m01; dst[offset + 2] = m02;
+        dst[offset + 3] = m10; dst[offset + 4] = m11; dst[offset + 5] = m12;
+        dst[offset + 6] = m20; dst[offset + 7] = m21; dst[offset + 8] = m22;
+        return dst;
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public float[] toColumnMajorArray(float[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;     dst[offset + 1] = m10; dst[offset + 2] = m20;
+        dst[offset + 3] = m01; dst[offset + 4] = m11; dst[offset + 5] = m21;
+        dst[offset + 6] = m02; dst[offset + 7] = m12; dst[offset + 8] = m22;
+        return dst;
+    }
+
+    private static void checkArray(float[] array, int offset) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || offset > array.length - 9) {
+            throw new IndexOutOfBoundsException("Array must hold 9 elements starting at offset " + offset);
+        }
+    }
+
+    /**
+     * Creates and returns an identity matrix (1s on diagonal, 0s elsewhere).
+     *
+     * @return a new identity Matrix3f
+     */
+    public static Matrix3f identity() {
+        return new Matrix3f(
+            1.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f,
+            0.0f, 0.0f, 1.0f);
+    }
+
+    /**
+     * Creates and returns a zero matrix (all elements are 0).
+     *
+     * @return a new zero Matrix3f
+     */
+    public static Matrix3f zero() {
+        return new Matrix3f(
+            0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f);
+    }
+
+    /**
+     * Gets the element at the specified row and column.
+     *
+     * @param row the row index (0-2)
+     * @param col the column index (0-2)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public float get(int row, int col) {
+        if (row < 0 || row >= 3 || col < 0 || col >= 3) {
+            throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
+        return element(row, col);
+    }
+
+    /**
+     * Returns the element at the specified row and column of the flat field layout.
+     * Callers inside this class pass indices that are already known to be valid.
+     */
+    private float element(int row, int col) {
+        switch (row * 3 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m10;
+            case 4: return m11;
+            case 5: return m12;
+            case 6: return m20;
+            case 7: return m21;
+            case 8: return m22;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
+    }
+
+    /**
+     * Adds another Matrix3f to this matrix and returns a new Matrix3f.
+     *
+     * @param m the matrix to add
+     * @return a new Matrix3f representing the sum
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix3f add(Matrix3f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix3f(
+            m00 + m.m00, m01 + m.m01, m02 + m.m02,
+            m10 + m.m10, m11 + m.m11, m12 + m.m12,
+            m20 + m.m20, m21 + m.m21, m22 + m.m22);
+    }
+
+    /**
+     * Subtracts another Matrix3f from this matrix and returns a new Matrix3f.
+     *
+     * @param m the matrix to subtract
+     * @return a new Matrix3f representing the difference
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix3f subtract(Matrix3f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix3f(
+            m00 - m.m00, m01 - m.m01, m02 - m.m02,
+            m10 - m.m10, m11 - m.m11, m12 - m.m12,
+            m20 - m.m20, m21 - m.m21, m22 - m.m22);
+    }
+
+    /**
+     * Multiplies this matrix by another Matrix3f and returns a new Matrix3f.
+     *
+     * @param m the matrix to multiply by
+     * @return a new Matrix3f representing the product
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix3f multiply(Matrix3f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix3f(
+            m00 * m.m00 + m01 * m.m10 + m02 * m.m20,
+            m00 * m.m01 + m01 * m.m11 + m02 * m.m21,
+            m00 * m.m02 + m01 * m.m12 + m02 * m.m22,
+            m10 * m.m00 + m11 * m.m10 + m12 * m.m20,
+            m10 * m.m01 + m11 * m.m11 + m12 * m.m21,
+            m10 * m.m02 + m11 * m.m12 + m12 * m.m22,
+            m20 * m.m00 + m21 * m.m10 + m22 * m.m20,
+            m20 * m.m01 + m21 * m.m11 + m22 * m.m21,
+            m20 * m.m02 + m21 * m.m12 + m22 * m.m22);
+    }
+
+    /**
+     * Multiplies this matrix by a Vector3f and returns a new Vector3f.
+     *
+     * @param v the vector to multiply
+     * @return a new Vector3f representing the result
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3f multiply(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        float vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        return new Vector3f(
+            m00 * vx + m01 * vy + m02 * vz,
+            m10 * vx + m11 * vy + m12 * vz,
+            m20 * vx + m21 * vy + m22 * vz);
+    }
+
+    /**
+     * Multiplies this matrix by a run of vectors stored as packed (x, y, z) triples.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transform(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+        Matrix4f.checkPacked(src, srcOff, count, 3);
+        Matrix4f.checkPacked(dst, dstOff, count, 3);
+        float a00 = m00, a01 = m01, a02 = m02;
+        float a10 = m10, a11 = m11, a12 = m12;
+        float a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 3 * i;
+            int d = dstOff + 3 * i;
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = a00 * x + a01 * y + a02 * z;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z;
+        }
+    }
+
+    /**
+     * Transposes this matrix and returns a new Matrix3f.
+     *
+     * @return a new Matrix3f representing the transpose
+     */
+    public Matrix3f transpose() {
+        return new Matrix3f(
+            m00, m10, m20,
+            m01, m11, m21,
+            m02, m12, m22);
+    }
+
+    /**
+     * Calculates the determinant of this matrix, evaluated in double precision.
+     *
+     * @return the determinant
+     */
+    public float determinant() {
+        return (float) toMatrix3x3().determinant();
+    }
+
+    /**
+     * Calculates the inverse of this matrix, evaluated in double precision.
+     *
+     * @return a new Matrix3f representing the inverse
+     * @throws ArithmeticException if the matrix is singular (determinant is zero)
+     */
+    public Matrix3f inverse() {
+        return narrow(toMatrix3x3().inverse());
+    }
+
+    /**
+     * Solves the linear system Ax = b, evaluated in double precision.
+     *
+     * @param A the coefficient matrix
+     * @param b the right-hand side vector
+     * @return the solution vector x
+     * @throws IllegalArgumentException if A or b is null
+     * @throws ArithmeticException if the system has no unique solution
+     */
+    public static Vector3f solveSystem(Matrix3f A, Vector3f b) {
+        if (A == null) {
+            throw new IllegalArgumentException("Matrix A cannot be null");
+        }
+        if (b == null) {
+            throw new IllegalArgumentException("Vector b cannot be null");
+        }
+        Vector3 x = Matrix3x3.solveSystem(A.toMatrix3x3(), b.toVector3());
+        return Vector3f.narrow(x);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Matrix3f matrix3f = (Matrix3f) obj;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (Math.abs(element(i, j) - matrix3f.element(i, j)) > 1e-6f) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                result = 31 * result + Float.hashCode(element(i, j));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Matrix3f(\n");
+        for (int i = 0; i < 3; i++) {
+            sb.append("  [");
+            for (int j = 0; j < 3; j++) {
+                sb.append(String.format("%.4f", element(i, j)));
+                if (j < 2) sb.append(", ");
+            }
+            sb.append("]");
+            if (i < 2) sb.append("\n");
+        }
+        sb.append("\n)");
+        return sb.toString();
+    }
+}
@@ -1,13 +1,21 @@
 package com.yourcompany.math.matrix;
 
+import com.yourcompany.math.kernel.PackedKernels;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.MutableVector3;
 import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+
+import java.nio.DoubleBuffer;
 
 /**
  * Immutable class representing a 3x3 matrix.
  * All operations return new instances without modifying the original matrix.
  */
 public final class Matrix3x3 {
-    private final double[][] data;
+    final double m00, m01, m02;
+    final double m10, m11, m12;
+    final double m20, m21, m22;
 
     /**
      * Constructs a new Matrix3x3 from a 2D array.
@@ -28,10 +36,98 @@ public final class Matrix3x3 {
                 throw new IllegalArgumentException("Matrix must have 3 columns in each row");
             }
         }
-        // Create a defensive copy
-        this.data = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            System.arraycopy(data[i], 0, this.data[i], 0, 3);
+        // Copy into the flat field layout
+        this.m00 = data[0][0]; this.m01 = data[0][1]; this.m02 = data[0][2];
+        this.m10 = data[1][0]; this.m11 = data[1][1]; this.m12 = data[1][2];
+        this.m20 = data[2][0]; this.m21 = data[2][1]; this.m22 = data[2][2];
+    }
+
+    /**
+     * Constructs a new Matrix3x3 from its nine elements, given in row-major order.
+     * The parameter {@code mRC} is the element in row {@code R} and column {@code C}.
+     */
+    public Matrix3x3(double m00, double m01, double m02,
+                     double m10, double m11, double m12,
+                     double m20, double m21, double m22) {
+        this.m00 = m00; this.m01 = m01; this.m02 = m02;
+        this.m10 = m10; this.m11 = m11; this.m12 = m12;
+        this.m20 = m20; this.m21 = m21; this.m22 = m22;
+    }
+
+    /**
+     * Creates a Matrix3x3 from nine consecutive elements of a flat array in row-major order.
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix3x3
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public static Matrix3x3 fromArray(double[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix3x3(
+            src[offset],     src[offset + 1], src[offset + 2],
+            src[offset + 3], src[offset + 4], src[offset + 5],
+            src[offset + 6], src[offset + 7], src[offset + 8]);
+    }
+
+    /**
+     * Creates a Matrix3x3 from nine consecutive elements of a flat array in column-major order.
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix3x3
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public static Matrix3x3 fromColumnMajorArray(double[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix3x3(
+            src[offset],     src[offset + 3], src[offset + 6],
+            src[offset + 1], src[offset + 4], src[offset + 7],
+            src[offset + 2], src[offset + 5], src[offset + 8]);
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in row-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public double[] toArray(double[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;     dst[offset + 1] = m01; dst[offset + 2] = m02;
+        dst[offset + 3] = m10; dst[offset + 4] = m11; dst[offset + 5] = m12;
+        dst[offset + 6] = m20; dst[offset + 7] = m21; dst[offset + 8] = m22;
+        return dst;
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in column-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 9 elements are available from offset
+     */
+    public double[] toColumnMajorArray(double[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;     dst[offset + 1] = m10; dst[offset + 2] = m20;
+        dst[offset + 3] = m01; dst[offset + 4] = m11; dst[offset + 5] = m21;
+        dst[offset + 6] = m02; dst[offset + 7] = m12; dst[offset + 8] = m22;
+        return dst;
+    }
+
+    private static void checkArray(double[] array, int offset) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || offset > array.length - 9) {
+            throw new IndexOutOfBoundsException("Array must hold 9 elements starting at offset " + offset);
         }
     }
 
@@ -41,11 +137,10 @@ public final class Matrix3x3 {
      * @return a new identity Matrix3x3
      */
     public static Matrix3x3 identity() {
-        double[][] identity = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            identity[i][i] = 1.0;
-        }
-        return new Matrix3x3(identity);
+        return new Matrix3x3(
+            1.0, 0.0, 0.0,
+            0.0, 1.0, 0.0,
+            0.0, 0.0, 1.0);
     }
 
     /**
@@ -54,7 +149,10 @@ public final class Matrix3x3 {
      * @return a new zero Matrix3x3
      */
     public static Matrix3x3 zero() {
-        return new Matrix3x3(new double[3][3]);
+        return new Matrix3x3(
+            0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0);
     }
 
     /**
@@ -69,7 +167,26 @@ public final class Matrix3x3 {
         if (row < 0 || row >= 3 || col < 0 || col >= 3) {
             throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
         }
-        return data[row][col];
+        return element(row, col);
+    }
+
+    /**
+     * Returns the element at the specified row and column of the flat field layout.
+     * Callers inside this class pass indices that are already known to be valid.
+     */
+    private double element(int row, int col) {
+        switch (row * 3 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m10;
+            case 4: return m11;
+            case 5: return m12;
+            case 6: return m20;
+            case 7: return m21;
+            case 8: return m22;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
     }
 
     /**
@@ -83,13 +200,37 @@ public final class Matrix3x3 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                result[i][j] = this.data[i][j] + m.data[i][j];
-            }
+        return new Matrix3x3(
+            m00 + m.m00, m01 + m.m01, m02 + m.m02,
+            m10 + m.m10, m11 + m.m11, m12 + m.m12,
+            m20 + m.m20, m21 + m.m21, m22 + m.m22);
+    }
+
+    /**
+     * Adds another Matrix3x3 to this matrix and writes the sum into a destination matrix.
+     *
+     * @param m   the matrix to add
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix3x3 add(Matrix3x3 m, MutableMatrix3x3 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
         }
-        return new Matrix3x3(result);
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00 + m.m00;
+        dst.m01 = m01 + m.m01;
+        dst.m02 = m02 + m.m02;
+        dst.m10 = m10 + m.m10;
+        dst.m11 = m11 + m.m11;
+        dst.m12 = m12 + m.m12;
+        dst.m20 = m20 + m.m20;
+        dst.m21 = m21 + m.m21;
+        dst.m22 = m22 + m.m22;
+        return dst;
     }
 
     /**
@@ -103,13 +244,37 @@ public final class Matrix3x3 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                result[i][j] = this.data[i][j] - m.data[i][j];
-            }
+        return new Matrix3x3(
+            m00 - m.m00, m01 - m.m01, m02 - m.m02,
+            m10 - m.m10, m11 - m.m11, m12 - m.m12,
+            m20 - m.m20, m21 - m.m21, m22 - m.m22);
+    }
+
+    /**
+     * Subtracts another Matrix3x3 from this matrix and writes the difference into a destination matrix.
+     *
+     * @param m   the matrix to subtract
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix3x3 subtract(Matrix3x3 m, MutableMatrix3x3 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
         }
-        return new Matrix3x3(result);
+        dst.m00 = m00 - m.m00;
+        dst.m01 = m01 - m.m01;
+        dst.m02 = m02 - m.m02;
+        dst.m10 = m10 - m.m10;
+        dst.m11 = m11 - m.m11;
+        dst.m12 = m12 - m.m12;
+        dst.m20 = m20 - m.m20;
+        dst.m21 = m21 - m.m21;
+        dst.m22 = m22 - m.m22;
+        return dst;
     }
 
     /**
@@ -123,17 +288,43 @@ public final class Matrix3x3 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                double sum = 0.0;
-                for (int k = 0; k < 3; k++) {
-                    sum += this.data[i][k] * m.data[k][j];
-                }
-                result[i][j] = sum;
-            }
+        return new Matrix3x3(
+            m00 * m.m00 + m01 * m.m10 + m02 * m.m20,
+            m00 * m.m01 + m01 * m.m11 + m02 * m.m21,
+            m00 * m.m02 + m01 * m.m12 + m02 * m.m22,
+            m10 * m.m00 + m11 * m.m10 + m12 * m.m20,
+            m10 * m.m01 + m11 * m.m11 + m12 * m.m21,
+            m10 * m.m02 + m11 * m.m12 + m12 * m.m22,
+            m20 * m.m00 + m21 * m.m10 + m22 * m.m20,
+            m20 * m.m01 + m21 * m.m11 + m22 * m.m21,
+            m20 * m.m02 + m21 * m.m12 + m22 * m.m22);
+    }
+
+    /**
+     * Multiplies this matrix by another Matrix3x3 and writes the product into a destination matrix.
+     *
+     * @param m   the matrix to multiply by
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix3x3 multiply(Matrix3x3 m, MutableMatrix3x3 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
         }
-        return new Matrix3x3(result);
+        dst.m00 = m00 * m.m00 + m01 * m.m10 + m02 * m.m20;
+        dst.m01 = m00 * m.m01 + m01 * m.m11 + m02 * m.m21;
+        dst.m02 = m00 * m.m02 + m01 * m.m12 + m02 * m.m22;
+        dst.m10 = m10 * m.m00 + m11 * m.m10 + m12 * m.m20;
+        dst.m11 = m10 * m.m01 + m11 * m.m11 + m12 * m.m21;
+        dst.m12 = m10 * m.m02 + m11 * m.m12 + m12 * m.m22;
+        dst.m20 = m20 * m.m00 + m21 * m.m10 + m22 * m.m20;
+        dst.m21 = m20 * m.m01 + m21 * m.m11 + m22 * m.m21;
+        dst.m22 = m20 * m.m02 + m21 * m.m12 + m22 * m.m22;
+        return dst;
     }
 
     /**
@@ -147,25 +338,170 @@ public final class Matrix3x3 {
         if (v == null) {
             throw new IllegalArgumentException("Vector cannot be null");
         }
-        double x = data[0][0] * v.getX() + data[0][1] * v.getY() + data[0][2] * v.getZ();
-        double y = data[1][0] * v.getX() + data[1][1] * v.getY() + data[1][2] * v.getZ();
-        double z = data[2][0] * v.getX() + data[2][1] * v.getY() + data[2][2] * v.getZ();
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        double x = m00 * vx + m01 * vy + m02 * vz;
+        double y = m10 * vx + m11 * vy + m12 * vz;
+        double z = m20 * vx + m21 * vy + m22 * vz;
         return new Vector3(x, y, z);
     }
 
+    /**
+     * Multiplies this matrix by a Vector3 (column vector) and writes the result into a destination vector.
+     *
+     * @param v   the vector to multiply by
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 multiply(Vector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        return dst.set(
+            m00 * vx + m01 * vy + m02 * vz,
+            m10 * vx + m11 * vy + m12 * vz,
+            m20 * vx + m21 * vy + m22 * vz);
+    }
+
+    /**
+     * Multiplies this matrix by a mutable vector (column vector) and writes the result into a
+     * destination vector, so that the result of one allocation-free call can feed the next.
+     * The destination may be the source vector itself.
+     *
+     * @param v   the vector to multiply by
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 multiply(MutableVector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        return dst.set(
+            m00 * vx + m01 * vy + m02 * vz,
+            m10 * vx + m11 * vy + m12 * vz,
+            m20 * vx + m21 * vy + m22 * vz);
+    }
+
+    /**
+     * Multiplies this matrix by a run of vectors stored as packed (x, y, z) triples.
+     * The matrix coefficients are loaded once per call rather than once per vector.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transform(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        Matrix4x4.checkPacked(src, srcOff, count, 3);
+        Matrix4x4.checkPacked(dst, dstOff, count, 3);
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 3 * i;
+            int d = dstOff + 3 * i;
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = a00 * x + a01 * y + a02 * z;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z;
+        }
+    }
+
+    /**
+     * Multiplies this matrix by a range of vectors held in structure-of-arrays buffers.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count) {
+        Matrix4x4.checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        Matrix4x4.checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        double[] rows = {m00, m01, m02, 0.0, m10, m11, m12, 0.0, m20, m21, m22, 0.0};
+        PackedKernels.transform3(rows, src.xArray(), src.yArray(), src.zArray(), srcIndex,
+            dst.xArray(), dst.yArray(), dst.zArray(), dstIndex, count);
+    }
+
+    /**
+     * Multiplies this matrix by 3D vectors held off-heap.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param src      the source vectors
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination vectors
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(DirectVector3Buffer src, int srcIndex, DirectVector3Buffer dst, int dstIndex, int count) {
+        Matrix4x4.checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        Matrix4x4.checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        DoubleBuffer s = src.asDoubleBuffer();
+        DoubleBuffer d = dst.asDoubleBuffer();
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int si = 3 * (srcIndex + i);
+            int di = 3 * (dstIndex + i);
+            double x = s.get(si), y = s.get(si + 1), z = s.get(si + 2);
+            d.put(di, a00 * x + a01 * y + a02 * z);
+            d.put(di + 1, a10 * x + a11 * y + a12 * z);
+            d.put(di + 2, a20 * x + a21 * y + a22 * z);
+        }
+    }
+
     /**
      * Transposes this matrix and returns a new Matrix3x3.
      *
      * @return a new transposed Matrix3x3
      */
     public Matrix3x3 transpose() {
-        double[][] result = new double[3][3];
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                result[i][j] = this.data[j][i];
-            }
+        return new Matrix3x3(
+            m00, m10, m20,
+            m01, m11, m21,
+            m02, m12, m22);
+    }
+
+    /**
+     * Transposes this matrix into a destination matrix.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableMatrix3x3 transpose(MutableMatrix3x3 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
         }
-        return new Matrix3x3(result);
+        dst.m00 = m00;
+        dst.m01 = m10;
+        dst.m02 = m20;
+        dst.m10 = m01;
+        dst.m11 = m11;
+        dst.m12 = m21;
+        dst.m20 = m02;
+        dst.m21 = m12;
+        dst.m22 = m22;
+        return dst;
     }
 
     /**
@@ -174,9 +510,9 @@ public final class Matrix3x3 {
      * @return the determinant
      */
     public double determinant() {
-        return data[0][0] * (data[1][1] * data[2][2] - data[1][2] * data[2][1])
-             - data[0][1] * (data[1][0] * data[2][2] - data[1][2] * data[2][0])
-             + data[0][2] * (data[1][0] * data[2][1] - data[1][1] * data[2][0]);
+        return m00 * (m11 * m22 - m12 * m21)
+             - m01 * (m10 * m22 - m12 * m20)
+             + m02 * (m10 * m21 - m11 * m20);
     }
 
     /**
@@ -192,21 +528,52 @@ public final class Matrix3x3 {
         }
 
         double invDet = 1.0 / det;
-        double[][] result = new double[3][3];
 
-        result[0][0] = (data[1][1] * data[2][2] - data[1][2] * data[2][1]) * invDet;
-        result[0][1] = (data[0][2] * data[2][1] - data[0][1] * data[2][2]) * invDet;
-        result[0][2] = (data[0][1] * data[1][2] - data[0][2] * data[1][1]) * invDet;
+        return new Matrix3x3(
+            (m11 * m22 - m12 * m21) * invDet,
+            (m02 * m21 - m01 * m22) * invDet,
+            (m01 * m12 - m02 * m11) * invDet,
+
+            (m12 * m20 - m10 * m22) * invDet,
+            (m00 * m22 - m02 * m20) * invDet,
+            (m02 * m10 - m00 * m12) * invDet,
+
+            (m10 * m21 - m11 * m20) * invDet,
+            (m01 * m20 - m00 * m21) * invDet,
+            (m00 * m11 - m01 * m10) * invDet);
+    }
+
+    /**
+     * Calculates the inverse of this matrix and writes it into a destination matrix.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if the matrix is singular (determinant is zero)
+     */
+    public MutableMatrix3x3 inverse(MutableMatrix3x3 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double det = determinant();
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        }
+
+        double invDet = 1.0 / det;
 
-        result[1][0] = (data[1][2] * data[2][0] - data[1][0] * data[2][2]) * invDet;
-        result[1][1] = (data[0][0] * data[2][2] - data[0][2] * data[2][0]) * invDet;
-        result[1][2] = (data[0][2] * data[1][0] - data[0][0] * data[1][2]) * invDet;
+        dst.m00 = (m11 * m22 - m12 * m21) * invDet;
+        dst.m01 = (m02 * m21 - m01 * m22) * invDet;
+        dst.m02 = (m01 * m12 - m02 * m11) * invDet;
 
-        result[2][0] = (data[1][0] * data[2][1] - data[1][1] * data[2][0]) * invDet;
-        result[2][1] = (data[0][1] * data[2][0] - data[0][0] * data[2][1]) * invDet;
-        result[2][2] = (data[0][0] * data[1][1] - data[0][1] * data[1][0]) * invDet;
+        dst.m10 = (m12 * m20 - m10 * m22) * invDet;
+        dst.m11 = (m00 * m22 - m02 * m20) * invDet;
+        dst.m12 = (m02 * m10 - m00 * m12) * invDet;
 
-        return new Matrix3x3(result);
+        dst.m20 = (m10 * m21 - m11 * m20) * invDet;
+        dst.m21 = (m01 * m20 - m00 * m21) * invDet;
+        dst.m22 = (m00 * m11 - m01 * m10) * invDet;
+        return dst;
     }
 
     /**
@@ -230,7 +597,7 @@ public final class Matrix3x3 {
         double[][] augmented = new double[3][4];
         for (int i = 0; i < 3; i++) {
             for (int j = 0; j < 3; j++) {
-                augmented[i][j] = A.data[i][j];
+                augmented[i][j] = A.element(i, j);
             }
         }
         augmented[0][3] = b.getX();
@@ -287,7 +654,7 @@ public final class Matrix3x3 {
         Matrix3x3 matrix3x3 = (Matrix3x3) obj;
         for (int i = 0; i < 3; i++) {
             for (int j = 0; j < 3; j++) {
-                if (Math.abs(data[i][j] - matrix3x3.data[i][j]) > 1e-10) {
+                if (Math.abs(element(i, j) - matrix3x3.element(i, j)) > 1e-10) {
                     return false;
                 }
             }
@@ -300,7 +667,7 @@ public final class Matrix3x3 {
         int result = 0;
         for (int i = 0; i < 3; i++) {
             for (int j = 0; j < 3; j++) {
-                result = 31 * result + Double.hashCode(data[i][j]);
+                result = 31 * result + Double.hashCode(element(i, j));
             }
         }
         return result;
@@ -312,7 +679,7 @@ public final class Matrix3x3 {
         for (int i = 0; i < 3; i++) {
             sb.append("  [");
             for (int j = 0; j < 3; j++) {
-                sb.append(String.format("%.4f", data[i][j]));
+                sb.append(String.format("%.4f", element(i, j)));
                 if (j < 2) sb.append(", ");
             }
             sb.append("]");
@@ -0,0 +1,664 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector4;
+import com.yourcompany.math.vector.Vector4f;
+
+/**
+ * Immutable single-precision counterpart of {@link Matrix4x4}.
+ * All operations return new instances without modifying the original matrix.
+ * <p>
+ * Element-wise operations and the batch transforms work in float arithmetic. The determinant,
+ * inverses and {@link #solveSystem} are evaluated in double precision and rounded once, because
+ * their cancellation-prone sums would otherwise lose most of the float mantissa.
+ */
+public final class Matrix4f {
+    final float m00, m01, m02, m03;
+    final float m10, m11, m12, m13;
+    final float m20, m21, m22, m23;
+    final float m30, m31, m32, m33;
+
+    private static final float AFFINE_TOLERANCE = 1e-6f;
+
+    /**
+     * Constructs a new Matrix4f from a 2D array.
+     * The array should be row-major order (array of rows).
+     *
+     * @param data a 4x4 array of matrix elements
+     * @throws IllegalArgumentException if data is null or has incorrect dimensions
+     */
+    public Matrix4f(float[][] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Matrix data cannot be null");
+        }
+        if (data.length != 4) {
+            throw new IllegalArgumentException("Matrix must have 4 rows");
+        }
+        for (int i = 0; i < 4; i++) {
+            if (data[i] == null || data[i].length != 4) {
+                throw new IllegalArgumentException("Matrix must have 4 columns in each row");
+            }
+        }
+        this.m00 = data[0][0]; this.m01 = data[0][1]; this.m02 = data[0][2]; this.m03 = data[0][3];
+        this.m10 = data[1][0]; this.m11 = data[1][1]; this.m12 = data[1][2]; this.m13 = data[1][3];
+        this.m20 = data[2][0]; this.m21 = data[2][1]; this.m22 = data[2][2]; this.m23 = data[2][3];
+        this.m30 = data[3][0]; this.m31 = data[3][1]; this.m32 = data[3][2]; this.m33 = data[3][3];
+    }
+
+    /**
+     * Constructs a new Matrix4f from its sixteen elements, given in row-major order.
+     * The parameter {@code mRC} is the element in row {@code R} and column {@code C}.
+     */
+    public Matrix4f(float m00, float m01, float m02, float m03,
+                    float m10, float m11, float m12, float m13,
+                    float m20, float m21, float m22, float m23,
+                    float m30, float m31, float m32, float m33) {
+        this.m00 = m00; this.m01 = m01; this.m02 = m02; this.m03 = m03;
+        this.m10 = m10; this.m11 = m11; this.m12 = m12; this.m13 = m13;
+        this.m20 = m20; this.m21 = m21; this.m22 = m22; this.m23 = m23;
+        this.m30 = m30; this.m31 = m31; this.m32 = m32; this.m33 = m33;
+    }
+
+    /**
+     * Narrows a double-precision matrix to single precision. Each element is rounded to the
+     * nearest float.
+     *
+     * @param m the matrix to narrow
+     * @return a new Matrix4f
+     * @throws IllegalArgumentException if m is null
+     */
+    public static Matrix4f narrow(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix4f(
+            (float) m.m00, (float) m.m01, (float) m.m02, (float) m.m03,
+            (float) m.m10, (float) m.m11, (float) m.m12, (float) m.m13,
+            (float) m.m20, (float) m.m21, (float) m.m22, (float) m.m23,
+            (float) m.m30, (float) m.m31, (float) m.m32, (float) m.m33);
+    }
+
+    /**
+     * Widens this matrix to double precision. The conversion is exact.
+     *
+     * @return a new Matrix4x4 with the same elements
+     */
+    public Matrix4x4 toMatrix4x4() {
+        return new Matrix4x4(
+            m00, m01, m02, m03,
+            m10, m11, m12, m13,
+            m20, m21, m22, m23,
+            m30, m31, m32, m33);
+    }
+
+    /**
+     * Creates a Matrix4f from sixteen consecutive elements of a flat array in row-major order.
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix4f
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public static Matrix4f fromArray(float[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix4f(
+            src[offset],      src[offset + 1],  src[offset + 2],  src[offset + 3],
+            src[offset + 4],  src[offset + 5],  src[offset + 6],  src[offset + 7],
+            src[offset + 8],  src[offset + 9],  src[offset + 10], src[offset + 11],
+            src[offset + 12], src[offset + 13], src[offset + 14], src[offset + 15]);
+    }
+
+    /**
+     * Creates a Matrix4f from sixteen consecutive elements of a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix4f
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public static Matrix4f fromColumnMajorArray(float[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix4f(
+            src[offset],     src[offset + 4], src[offset + 8],  src[offset + 12],
+            src[offset + 1], src[offset + 5], src[offset + 9],  src[offset + 13],
+            src[offset + 2], src[offset + 6], src[offset + 10], src[offset + 14],
+            src[offset + 3], src[offset + 7], src[offset + 11], src[offset + 15]);
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in row-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public float[] toArray(float[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;      dst[offset + 1] = m01;  dst[offset + 2] = m02;  dst[offset + 3] = m03;
+        dst[offset + 4] = m10;  dst[offset + 5] = m11;  dst[offset + 6] = m12;  dst[offset + 7] = m13;
+        dst[offset + 8] = m20;  dst[offset + 9] = m21;  dst[offset + 10] = m22; dst[offset + 11] = m23;
+        dst[offset + 12] = m30; dst[offset + 13] = m31; dst[offset + 14] = m32; dst[offset + 15] = m33;
+        return dst;
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public float[] toColumnMajorArray(float[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;      dst[offset + 1] = m10;  dst[offset + 2] = m20;  dst[offset + 3] = m30;
+        dst[offset + 4] = m01;  dst[offset + 5] = m11;  dst[offset + 6] = m21;  dst[offset + 7] = m31;
+        dst[offset + 8] = m02;  dst[offset + 9] = m12;  dst[offset + 10] = m22; dst[offset + 11] = m32;
+        dst[offset + 12] = m03; dst[offset + 13] = m13; dst[offset + 14] = m23; dst[offset + 15] = m33;
+        return dst;
+    }
+
+    private static void checkArray(float[] array, int offset) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || offset > array.length - 16) {
+            throw new IndexOutOfBoundsException("Array must hold 16 elements starting at offset " + offset);
+        }
+    }
+
+    /**
+     * Creates and returns an identity matrix (1s on diagonal, 0s elsewhere).
+     *
+     * @return a new identity Matrix4f
+     */
+    public static Matrix4f identity() {
+        return new Matrix4f(
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 1.0f, 0.0f,
+            0.0f, 0.0f, 0.0f, 1.0f);
+    }
+
+    /**
+     * Creates and returns a zero matrix (all elements are 0).
+     *
+     * @return a new zero Matrix4f
+     */
+    public static Matrix4f zero() {
+        return new Matrix4f(
+            0.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f, 0.0f);
+    }
+
+    /**
+     * Gets the element at the specified row and column.
+     *
+     * @param row the row index (0-3)
+     * @param col the column index (0-3)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public float get(int row, int col) {
+        if (row < 0 || row >= 4 || col < 0 || col >= 4) {
+            throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
+        return element(row, col);
+    }
+
+    /**
+     * Returns the element at the specified row and column of the flat field layout.
+     * Callers inside this class pass indices that are already known to be valid.
+     */
+    private float element(int row, int col) {
+        switch (row * 4 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m03;
+            case 4: return m10;
+            case 5: return m11;
+            case 6: return m12;
+            case 7: return m13;
+            case 8: return m20;
+            case 9: return m21;
+            case 10: return m22;
+            case 11: return m23;
+            case 12: return m30;
+            case 13: return m31;
+            case 14: return m32;
+            case 15: return m33;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
+    }
+
+    /**
+     * Adds another Matrix4f to this matrix and returns a new Matrix4f.
+     *
+     * @param m the matrix to add
+     * @return a new Matrix4f representing the sum
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix4f add(Matrix4f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix4f(
+            m00 + m.m00, m01 + m.m01, m02 + m.m02, m03 + m.m03,
+            m10 + m.m10, m11 + m.m11, m12 + m.m12, m13 + m.m13,
+            m20 + m.m20, m21 + m.m21, m22 + m.m22, m23 + m.m23,
+            m30 + m.m30, m31 + m.m31, m32 + m.m32, m33 + m.m33);
+    }
+
+    /**
+     * Subtracts another Matrix4f from this matrix and returns a new Matrix4f.
+     *
+     * @param m the matrix to subtract
+     * @return a new Matrix4f representing the difference
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix4f subtract(Matrix4f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix4f(
+            m00 - m.m00, m01 - m.m01, m02 - m.m02, m03 - m.m03,
+            m10 - m.m10, m11 - m.m11, m12 - m.m12, m13 - m.m13,
+            m20 - m.m20, m21 - m.m21, m22 - m.m22, m23 - m.m23,
+            m30 - m.m30, m31 - m.m31, m32 - m.m32, m33 - m.m33);
+    }
+
+    /**
+     * Multiplies this matrix by another Matrix4f and returns a new Matrix4f.
+     *
+     * @param m the matrix to multiply by
+     * @return a new Matrix4f representing the product
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix4f multiply(Matrix4f m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix4f(
+            m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30,
+            m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31,
+            m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32,
+            m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33,
+            m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30,
+            m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31,
+            m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32,
+            m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33,
+            m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30,
+            m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31,
+            m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32,
+            m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33,
+            m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30,
+            m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31,
+            m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32,
+            m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33);
+    }
+
+    /**
+     * Multiplies this matrix by a Vector4f and returns a new Vector4f.
+     *
+     * @param v the vector to multiply
+     * @return a new Vector4f representing the result
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4f multiply(Vector4f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        float vx = v.getX(), vy = v.getY(), vz = v.getZ(), vw = v.getW();
+        return new Vector4f(
+            m00 * vx + m01 * vy + m02 * vz + m03 * vw,
+            m10 * vx + m11 * vy + m12 * vz + m13 * vw,
+            m20 * vx + m21 * vy + m22 * vz + m23 * vw,
+            m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+    }
+
+    /**
+     * Transforms packed 3D points (x, y, z triples) by this matrix, treating each as (x, y, z, 1).
+     * Affine matrices take a fast path; otherwise the result is divided by w.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source points
+     * @param srcOff the index of the first source element
+     * @param dst    the packed destination points
+     * @param dstOff the index of the first destination element
+     * @param count  the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformPoints(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 3);
+        checkPacked(dst, dstOff, count, 3);
+        float a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        float a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        float a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        if (isAffine()) {
+            for (int i = 0; i < count; i++) {
+                int s = srcOff + 3 * i;
+                int d = dstOff + 3 * i;
+                float x = src[s], y = src[s + 1], z = src[s + 2];
+                dst[d] = a00 * x + a01 * y + a02 * z + a03;
+                dst[d + 1] = a10 * x + a11 * y + a12 * z + a13;
+                dst[d + 2] = a20 * x + a21 * y + a22 * z + a23;
+            }
+        } else {
+            float a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+            for (int i = 0; i < count; i++) {
+                int s = srcOff + 3 * i;
+                int d = dstOff + 3 * i;
+                float x = src[s], y = src[s + 1], z = src[s + 2];
+                float invW = 1.0f / (a30 * x + a31 * y + a32 * z + a33);
+                dst[d] = (a00 * x + a01 * y + a02 * z + a03) * invW;
+                dst[d + 1] = (a10 * x + a11 * y + a12 * z + a13) * invW;
+                dst[d + 2] = (a20 * x + a21 * y + a22 * z + a23) * invW;
+            }
+        }
+    }
+
+    /**
+     * Transforms packed 3D directions (x, y, z triples) by this matrix, treating each as
+     * (x, y, z, 0), so translation does not apply.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source directions
+     * @param srcOff the index of the first source element
+     * @param dst    the packed destination directions
+     * @param dstOff the index of the first destination element
+     * @param count  the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformDirections(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 3);
+        checkPacked(dst, dstOff, count, 3);
+        float a00 = m00, a01 = m01, a02 = m02;
+        float a10 = m10, a11 = m11, a12 = m12;
+        float a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 3 * i;
+            int d = dstOff + 3 * i;
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = a00 * x + a01 * y + a02 * z;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z;
+        }
+    }
+
+    /**
+     * Multiplies this matrix by packed 4D vectors (x, y, z, w quadruples).
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source vectors
+     * @param srcOff the index of the first source element
+     * @param dst    the packed destination vectors
+     * @param dstOff the index of the first destination element
+     * @param count  the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transform(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 4);
+        checkPacked(dst, dstOff, count, 4);
+        float a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        float a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        float a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        float a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 4 * i;
+            int d = dstOff + 4 * i;
+            float x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = a00 * x + a01 * y + a02 * z + a03 * w;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z + a13 * w;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z + a23 * w;
+            dst[d + 3] = a30 * x + a31 * y + a32 * z + a33 * w;
+        }
+    }
+
+    static void checkPacked(float[] array, int offset, int count, int stride) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (offset < 0 || (long) offset + (long) count * stride > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    /**
+     * Transposes this matrix and returns a new Matrix4f.
+     *
+     * @return a new Matrix4f representing the transpose
+     */
+    public Matrix4f transpose() {
+        return new Matrix4f(
+            m00, m10, m20, m30,
+            m01, m11, m21, m31,
+            m02, m12, m22, m32,
+            m03, m13, m23, m33);
+    }
+
+    /**
+     * Calculates the determinant of this matrix, evaluated in double precision.
+     *
+     * @return the determinant
+     */
+    public float determinant() {
+        return (float) toMatrix4x4().determinant();
+    }
+
+    /**
+     * Calculates the inverse of this matrix, evaluated in double precision.
+     * Matrices that {@link #isAffine()} reports as affine are inverted with
+     * {@link #inverseAffine()}.
+     *
+     * @return a new Matrix4f representing the inverse
+     * @throws ArithmeticException if the matrix is singular (determinant is zero)
+     */
+    public Matrix4f inverse() {
+        if (isAffine()) {
+            return inverseAffine();
+        }
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+
+        // 2x2 sub-determinants of rows 0-1 (s) and rows 2-3 (c), as in Matrix4x4
+        double s0 = a00 * a11 - a10 * a01;
+        double s1 = a00 * a12 - a10 * a02;
+        double s2 = a00 * a13 - a10 * a03;
+        double s3 = a01 * a12 - a11 * a02;
+        double s4 = a01 * a13 - a11 * a03;
+        double s5 = a02 * a13 - a12 * a03;
+
+        double c5 = a22 * a33 - a32 * a23;
+        double c4 = a21 * a33 - a31 * a23;
+        double c3 = a21 * a32 - a31 * a22;
+        double c2 = a20 * a33 - a30 * a23;
+        double c1 = a20 * a32 - a30 * a22;
+        double c0 = a20 * a31 - a30 * a21;
+
+        double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        }
+        double invDet = 1.0 / det;
+
+        return new Matrix4f(
+            (float) (( a11 * c5 - a12 * c4 + a13 * c3) * invDet),
+            (float) ((-a01 * c5 + a02 * c4 - a03 * c3) * invDet),
+            (float) (( a31 * s5 - a32 * s4 + a33 * s3) * invDet),
+            (float) ((-a21 * s5 + a22 * s4 - a23 * s3) * invDet),
+
+            (float) ((-a10 * c5 + a12 * c2 - a13 * c1) * invDet),
+            (float) (( a00 * c5 - a02 * c2 + a03 * c1) * invDet),
+            (float) ((-a30 * s5 + a32 * s2 - a33 * s1) * invDet),
+            (float) (( a20 * s5 - a22 * s2 + a23 * s1) * invDet),
+
+            (float) (( a10 * c4 - a11 * c2 + a13 * c0) * invDet),
+            (float) ((-a00 * c4 + a01 * c2 - a03 * c0) * invDet),
+            (float) (( a30 * s4 - a31 * s2 + a33 * s0) * invDet),
+            (float) ((-a20 * s4 + a21 * s2 - a23 * s0) * invDet),
+
+            (float) ((-a10 * c3 + a11 * c1 - a12 * c0) * invDet),
+            (float) (( a00 * c3 - a01 * c1 + a02 * c0) * invDet),
+            (float) ((-a30 * s3 + a31 * s1 - a32 * s0) * invDet),
+            (float) (( a20 * s3 - a21 * s1 + a22 * s0) * invDet));
+    }
+
+    /**
+     * Checks whether the bottom row of this matrix is (0, 0, 0, 1) within a float-sized
+     * tolerance of 1e-6.
+     *
+     * @return true if the matrix is affine
+     */
+    public boolean isAffine() {
+        return isAffine(AFFINE_TOLERANCE);
+    }
+
+    /**
+     * Checks whether the bottom row of this matrix is (0, 0, 0, 1) within the given tolerance.
+     *
+     * @param tolerance the maximum allowed deviation per element
+     * @return true if the matrix is affine
+     * @throws IllegalArgumentException if tolerance is negative
+     */
+    public boolean isAffine(float tolerance) {
+        if (tolerance < 0.0f) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+        return Math.abs(m30) <= tolerance
+            && Math.abs(m31) <= tolerance
+            && Math.abs(m32) <= tolerance
+            && Math.abs(m33 - 1.0f) <= tolerance;
+    }
+
+    /**
+     * Inverts this matrix assuming it is affine, evaluated in double precision.
+     * The bottom row is not checked.
+     *
+     * @return a new Matrix4f representing the inverse
+     * @throws ArithmeticException if the linear part is singular
+     */
+    public Matrix4f inverseAffine() {
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        double c00 = a11 * a22 - a12 * a21;
+        double c01 = a12 * a20 - a10 * a22;
+        double c02 = a10 * a21 - a11 * a20;
+        double det = a00 * c00 + a01 * c01 + a02 * c02;
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        }
+        double invDet = 1.0 / det;
+
+        double r00 = c00 * invDet;
+        double r01 = (a02 * a21 - a01 * a22) * invDet;
+        double r02 = (a01 * a12 - a02 * a11) * invDet;
+        double r10 = c01 * invDet;
+        double r11 = (a00 * a22 - a02 * a20) * invDet;
+        double r12 = (a02 * a10 - a00 * a12) * invDet;
+        double r20 = c02 * invDet;
+        double r21 = (a01 * a20 - a00 * a21) * invDet;
+        double r22 = (a00 * a11 - a01 * a10) * invDet;
+        double t0 = m03, t1 = m13, t2 = m23;
+
+        return new Matrix4f(
+            (float) r00, (float) r01, (float) r02, (float) -(r00 * t0 + r01 * t1 + r02 * t2),
+            (float) r10, (float) r11, (float) r12, (float) -(r10 * t0 + r11 * t1 + r12 * t2),
+            (float) r20, (float) r21, (float) r22, (float) -(r20 * t0 + r21 * t1 + r22 * t2),
+            0.0f, 0.0f, 0.0f, 1.0f);
+    }
+
+    /**
+     * Inverts this matrix assuming it is a rigid-body transform (rotation plus translation).
+     * The result is not checked; for other matrices it is meaningless.
+     *
+     * @return a new Matrix4f representing the inverse
+     */
+    public Matrix4f inverseRigid() {
+        return new Matrix4f(
+            m00, m10, m20, -(m00 * m03 + m10 * m13 + m20 * m23),
+            m01, m11, m21, -(m01 * m03 + m11 * m13 + m21 * m23),
+            m02, m12, m22, -(m02 * m03 + m12 * m13 + m22 * m23),
+            0.0f, 0.0f, 0.0f, 1.0f);
+    }
+
+    /**
+     * Solves the linear system Ax = b, evaluated in double precision.
+     *
+     * @param A the coefficient matrix
+     * @param b the right-hand side vector
+     * @return the solution vector x
+     * @throws IllegalArgumentException if A or b is null
+     * @throws ArithmeticException if the system has no unique solution
+     */
+    public static Vector4f solveSystem(Matrix4f A, Vector4f b) {
+        if (A == null) {
+            throw new IllegalArgumentException("Matrix A cannot be null");
+        }
+        if (b == null) {
+            throw new IllegalArgumentException("Vector b cannot be null");
+        }
+        Vector4 x = Matrix4x4.solveSystem(A.toMatrix4x4(), b.toVector4());
+        return Vector4f.narrow(x);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Matrix4f matrix4f = (Matrix4f) obj;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (Math.abs(element(i, j) - matrix4f.element(i, j)) > 1e-6f) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                result = 31 * result + Float.hashCode(element(i, j));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Matrix4f(\n");
+        for (int i = 0; i < 4; i++) {
+            sb.append("  [");
+            for (int j = 0; j < 4; j++) {
+                sb.append(String.format("%.4f", element(i, j)));
+                if (j < 3) sb.append(", ");
+            }
+            sb.append("]");
+            if (i < 3) sb.append("\n");
+        }
+        sb.append("\n)");
+        return sb.toString();
+    }
+}
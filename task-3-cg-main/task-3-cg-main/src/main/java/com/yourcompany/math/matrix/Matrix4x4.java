@@ -1,13 +1,51 @@
 package com.yourcompany.math.matrix;
 
+import com.yourcompany.math.kernel.Compensated;
+import com.yourcompany.math.kernel.PackedKernels;
+import com.yourcompany.math.kernel.Precision;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.DirectVector4Buffer;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector3Buffer;
 import com.yourcompany.math.vector.Vector4;
+import com.yourcompany.math.vector.Vector4Buffer;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Immutable class representing a 4x4 matrix.
  * All operations return new instances without modifying the original matrix.
+ * <p>
+ * The determinant, inverse and normal matrix are computed on first request and cached in the
+ * instance, so repeated queries on long-lived matrices such as camera transforms are cheap.
+ * The caches are published through volatile fields; two threads racing on the first request may
+ * both compute the value, which is harmless because the results are identical.
  */
 public final class Matrix4x4 {
-    private final double[][] data;
+    final double m00, m01, m02, m03;
+    final double m10, m11, m12, m13;
+    final double m20, m21, m22, m23;
+    final double m30, m31, m32, m33;
+
+    private static final double AFFINE_TOLERANCE = 1e-10;
+
+    /**
+     * System property that enables the cache hit and miss counters at startup when set to
+     * {@code true}. Counting is off by default because an atomic increment costs more than a
+     * cache hit; it can also be switched with {@link #setCacheStatisticsEnabled(boolean)}.
+     */
+    public static final String CACHE_STATISTICS_PROPERTY = "com.yourcompany.math.matrix.cacheStatistics";
+
+    private static volatile boolean countCache = Boolean.getBoolean(CACHE_STATISTICS_PROPERTY);
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+
+    // Lazily computed derived values; determinantValue is published by the write to determinantCached
+    private double determinantValue;
+    private volatile boolean determinantCached;
+    private volatile Matrix4x4 inverse;
+    private volatile Matrix3x3 normalMatrix;
 
     /**
      * Constructs a new Matrix4x4 from a 2D array.
@@ -28,10 +66,107 @@ public final class Matrix4x4 {
                 throw new IllegalArgumentException("Matrix must have 4 columns in each row");
             }
         }
-        // Create a defensive copy
-        this.data = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            System.arraycopy(data[i], 0, this.data[i], 0, 4);
+        // Copy into the flat field layout
+        this.m00 = data[0][0]; this.m01 = data[0][1]; this.m02 = data[0][2]; this.m03 = data[0][3];
+        this.m10 = data[1][0]; this.m11 = data[1][1]; this.m12 = data[1][2]; this.m13 = data[1][3];
+        this.m20 = data[2][0]; this.m21 = data[2][1]; this.m22 = data[2][2]; this.m23 = data[2][3];
+        this.m30 = data[3][0]; this.m31 = data[3][1]; this.m32 = data[3][2]; this.m33 = data[3][3];
+    }
+
+    /**
+     * Constructs a new Matrix4x4 from its sixteen elements, given in row-major order.
+     * The parameter {@code mRC} is the element in row {@code R} and column {@code C}.
+     */
+    public Matrix4x4(double m00, double m01, double m02, double m03,
+                     double m10, double m11, double m12, double m13,
+                     double m20, double m21, double m22, double m23,
+                     double m30, double m31, double m32, double m33) {
+        this.m00 = m00; this.m01 = m01; this.m02 = m02; this.m03 = m03;
+        this.m10 = m10; this.m11 = m11; this.m12 = m12; this.m13 = m13;
+        this.m20 = m20; this.m21 = m21; this.m22 = m22; this.m23 = m23;
+        this.m30 = m30; this.m31 = m31; this.m32 = m32; this.m33 = m33;
+    }
+
+    /**
+     * Creates a Matrix4x4 from sixteen consecutive elements of a flat array in row-major order.
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix4x4
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public static Matrix4x4 fromArray(double[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix4x4(
+            src[offset],      src[offset + 1],  src[offset + 2],  src[offset + 3],
+            src[offset + 4],  src[offset + 5],  src[offset + 6],  src[offset + 7],
+            src[offset + 8],  src[offset + 9],  src[offset + 10], src[offset + 11],
+            src[offset + 12], src[offset + 13], src[offset + 14], src[offset + 15]);
+    }
+
+    /**
+     * Creates a Matrix4x4 from sixteen consecutive elements of a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new Matrix4x4
+     * @throws IllegalArgumentException if src is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public static Matrix4x4 fromColumnMajorArray(double[] src, int offset) {
+        checkArray(src, offset);
+        return new Matrix4x4(
+            src[offset],     src[offset + 4], src[offset + 8],  src[offset + 12],
+            src[offset + 1], src[offset + 5], src[offset + 9],  src[offset + 13],
+            src[offset + 2], src[offset + 6], src[offset + 10], src[offset + 14],
+            src[offset + 3], src[offset + 7], src[offset + 11], src[offset + 15]);
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in row-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public double[] toArray(double[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;      dst[offset + 1] = m01;  dst[offset + 2] = m02;  dst[offset + 3] = m03;
+        dst[offset + 4] = m10;  dst[offset + 5] = m11;  dst[offset + 6] = m12;  dst[offset + 7] = m13;
+        dst[offset + 8] = m20;  dst[offset + 9] = m21;  dst[offset + 10] = m22; dst[offset + 11] = m23;
+        dst[offset + 12] = m30; dst[offset + 13] = m31; dst[offset + 14] = m32; dst[offset + 15] = m33;
+        return dst;
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in column-major order
+     * (the layout used by OpenGL).
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than 16 elements are available from offset
+     */
+    public double[] toColumnMajorArray(double[] dst, int offset) {
+        checkArray(dst, offset);
+        dst[offset] = m00;      dst[offset + 1] = m10;  dst[offset + 2] = m20;  dst[offset + 3] = m30;
+        dst[offset + 4] = m01;  dst[offset + 5] = m11;  dst[offset + 6] = m21;  dst[offset + 7] = m31;
+        dst[offset + 8] = m02;  dst[offset + 9] = m12;  dst[offset + 10] = m22; dst[offset + 11] = m32;
+        dst[offset + 12] = m03; dst[offset + 13] = m13; dst[offset + 14] = m23; dst[offset + 15] = m33;
+        return dst;
+    }
+
+    private static void checkArray(double[] array, int offset) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || offset > array.length - 16) {
+            throw new IndexOutOfBoundsException("Array must hold 16 elements starting at offset " + offset);
         }
     }
 
@@ -41,11 +176,11 @@ public final class Matrix4x4 {
      * @return a new identity Matrix4x4
      */
     public static Matrix4x4 identity() {
-        double[][] identity = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            identity[i][i] = 1.0;
-        }
-        return new Matrix4x4(identity);
+        return new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0);
     }
 
     /**
@@ -54,7 +189,11 @@ public final class Matrix4x4 {
      * @return a new zero Matrix4x4
      */
     public static Matrix4x4 zero() {
-        return new Matrix4x4(new double[4][4]);
+        return new Matrix4x4(
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0);
     }
 
     /**
@@ -69,7 +208,33 @@ public final class Matrix4x4 {
         if (row < 0 || row >= 4 || col < 0 || col >= 4) {
             throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
         }
-        return data[row][col];
+        return element(row, col);
+    }
+
+    /**
+     * Returns the element at the specified row and column of the flat field layout.
+     * Callers inside this class pass indices that are already known to be valid.
+     */
+    private double element(int row, int col) {
+        switch (row * 4 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m03;
+            case 4: return m10;
+            case 5: return m11;
+            case 6: return m12;
+            case 7: return m13;
+            case 8: return m20;
+            case 9: return m21;
+            case 10: return m22;
+            case 11: return m23;
+            case 12: return m30;
+            case 13: return m31;
+            case 14: return m32;
+            case 15: return m33;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
     }
 
     /**
@@ -83,13 +248,45 @@ public final class Matrix4x4 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                result[i][j] = this.data[i][j] + m.data[i][j];
-            }
+        return new Matrix4x4(
+            m00 + m.m00, m01 + m.m01, m02 + m.m02, m03 + m.m03,
+            m10 + m.m10, m11 + m.m11, m12 + m.m12, m13 + m.m13,
+            m20 + m.m20, m21 + m.m21, m22 + m.m22, m23 + m.m23,
+            m30 + m.m30, m31 + m.m31, m32 + m.m32, m33 + m.m33);
+    }
+
+    /**
+     * Adds another Matrix4x4 to this matrix and writes the sum into a destination matrix.
+     *
+     * @param m   the matrix to add
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix4x4 add(Matrix4x4 m, MutableMatrix4x4 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
         }
-        return new Matrix4x4(result);
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00 + m.m00;
+        dst.m01 = m01 + m.m01;
+        dst.m02 = m02 + m.m02;
+        dst.m03 = m03 + m.m03;
+        dst.m10 = m10 + m.m10;
+        dst.m11 = m11 + m.m11;
+        dst.m12 = m12 + m.m12;
+        dst.m13 = m13 + m.m13;
+        dst.m20 = m20 + m.m20;
+        dst.m21 = m21 + m.m21;
+        dst.m22 = m22 + m.m22;
+        dst.m23 = m23 + m.m23;
+        dst.m30 = m30 + m.m30;
+        dst.m31 = m31 + m.m31;
+        dst.m32 = m32 + m.m32;
+        dst.m33 = m33 + m.m33;
+        return dst;
     }
 
     /**
@@ -103,13 +300,45 @@ public final class Matrix4x4 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                result[i][j] = this.data[i][j] - m.data[i][j];
-            }
+        return new Matrix4x4(
+            m00 - m.m00, m01 - m.m01, m02 - m.m02, m03 - m.m03,
+            m10 - m.m10, m11 - m.m11, m12 - m.m12, m13 - m.m13,
+            m20 - m.m20, m21 - m.m21, m22 - m.m22, m23 - m.m23,
+            m30 - m.m30, m31 - m.m31, m32 - m.m32, m33 - m.m33);
+    }
+
+    /**
+     * Subtracts another Matrix4x4 from this matrix and writes the difference into a destination matrix.
+     *
+     * @param m   the matrix to subtract
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix4x4 subtract(Matrix4x4 m, MutableMatrix4x4 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
         }
-        return new Matrix4x4(result);
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00 - m.m00;
+        dst.m01 = m01 - m.m01;
+        dst.m02 = m02 - m.m02;
+        dst.m03 = m03 - m.m03;
+        dst.m10 = m10 - m.m10;
+        dst.m11 = m11 - m.m11;
+        dst.m12 = m12 - m.m12;
+        dst.m13 = m13 - m.m13;
+        dst.m20 = m20 - m.m20;
+        dst.m21 = m21 - m.m21;
+        dst.m22 = m22 - m.m22;
+        dst.m23 = m23 - m.m23;
+        dst.m30 = m30 - m.m30;
+        dst.m31 = m31 - m.m31;
+        dst.m32 = m32 - m.m32;
+        dst.m33 = m33 - m.m33;
+        return dst;
     }
 
     /**
@@ -123,17 +352,89 @@ public final class Matrix4x4 {
         if (m == null) {
             throw new IllegalArgumentException("Matrix cannot be null");
         }
-        double[][] result = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                double sum = 0.0;
-                for (int k = 0; k < 4; k++) {
-                    sum += this.data[i][k] * m.data[k][j];
-                }
-                result[i][j] = sum;
-            }
+        return new Matrix4x4(
+            m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30,
+            m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31,
+            m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32,
+            m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33,
+            m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30,
+            m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31,
+            m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32,
+            m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33,
+            m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30,
+            m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31,
+            m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32,
+            m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33,
+            m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30,
+            m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31,
+            m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32,
+            m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33);
+    }
+
+    /**
+     * Multiplies this matrix by another Matrix4x4 with {@link Precision#COMPENSATED} accumulation
+     * and returns a new Matrix4x4. Each element is rounded once from a twice-precise dot product,
+     * which keeps long chains of products from drifting.
+     *
+     * @param m the matrix to multiply by
+     * @return a new Matrix4x4 representing the product
+     * @throws IllegalArgumentException if m is null
+     */
+    public Matrix4x4 multiplyCompensated(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new Matrix4x4(
+            Compensated.dot4(m00, m.m00, m01, m.m10, m02, m.m20, m03, m.m30),
+            Compensated.dot4(m00, m.m01, m01, m.m11, m02, m.m21, m03, m.m31),
+            Compensated.dot4(m00, m.m02, m01, m.m12, m02, m.m22, m03, m.m32),
+            Compensated.dot4(m00, m.m03, m01, m.m13, m02, m.m23, m03, m.m33),
+            Compensated.dot4(m10, m.m00, m11, m.m10, m12, m.m20, m13, m.m30),
+            Compensated.dot4(m10, m.m01, m11, m.m11, m12, m.m21, m13, m.m31),
+            Compensated.dot4(m10, m.m02, m11, m.m12, m12, m.m22, m13, m.m32),
+            Compensated.dot4(m10, m.m03, m11, m.m13, m12, m.m23, m13, m.m33),
+            Compensated.dot4(m20, m.m00, m21, m.m10, m22, m.m20, m23, m.m30),
+            Compensated.dot4(m20, m.m01, m21, m.m11, m22, m.m21, m23, m.m31),
+            Compensated.dot4(m20, m.m02, m21, m.m12, m22, m.m22, m23, m.m32),
+            Compensated.dot4(m20, m.m03, m21, m.m13, m22, m.m23, m23, m.m33),
+            Compensated.dot4(m30, m.m00, m31, m.m10, m32, m.m20, m33, m.m30),
+            Compensated.dot4(m30, m.m01, m31, m.m11, m32, m.m21, m33, m.m31),
+            Compensated.dot4(m30, m.m02, m31, m.m12, m32, m.m22, m33, m.m32),
+            Compensated.dot4(m30, m.m03, m31, m.m13, m32, m.m23, m33, m.m33));
+    }
+
+    /**
+     * Multiplies this matrix by another Matrix4x4 and writes the product into a destination matrix.
+     *
+     * @param m   the matrix to multiply by
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if m or dst is null
+     */
+    public MutableMatrix4x4 multiply(Matrix4x4 m, MutableMatrix4x4 dst) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
         }
-        return new Matrix4x4(result);
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30;
+        dst.m01 = m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31;
+        dst.m02 = m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32;
+        dst.m03 = m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33;
+        dst.m10 = m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30;
+        dst.m11 = m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31;
+        dst.m12 = m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32;
+        dst.m13 = m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33;
+        dst.m20 = m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30;
+        dst.m21 = m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31;
+        dst.m22 = m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32;
+        dst.m23 = m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33;
+        dst.m30 = m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30;
+        dst.m31 = m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31;
+        dst.m32 = m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32;
+        dst.m33 = m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33;
+        return dst;
     }
 
     /**
@@ -147,109 +448,750 @@ public final class Matrix4x4 {
         if (v == null) {
             throw new IllegalArgumentException("Vector cannot be null");
         }
-        double x = data[0][0] * v.getX() + data[0][1] * v.getY() + data[0][2] * v.getZ() + data[0][3] * v.getW();
-        double y = data[1][0] * v.getX() + data[1][1] * v.getY() + data[1][2] * v.getZ() + data[1][3] * v.getW();
-        double z = data[2][0] * v.getX() + data[2][1] * v.getY() + data[2][2] * v.getZ() + data[2][3] * v.getW();
-        double w = data[3][0] * v.getX() + data[3][1] * v.getY() + data[3][2] * v.getZ() + data[3][3] * v.getW();
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ(), vw = v.getW();
+        double x = m00 * vx + m01 * vy + m02 * vz + m03 * vw;
+        double y = m10 * vx + m11 * vy + m12 * vz + m13 * vw;
+        double z = m20 * vx + m21 * vy + m22 * vz + m23 * vw;
+        double w = m30 * vx + m31 * vy + m32 * vz + m33 * vw;
         return new Vector4(x, y, z, w);
     }
 
     /**
-     * Transposes this matrix and returns a new Matrix4x4.
+     * Multiplies this matrix by a Vector4 (column vector) and writes the result into a destination vector.
      *
-     * @return a new transposed Matrix4x4
+     * @param v   the vector to multiply by
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
      */
-    public Matrix4x4 transpose() {
-        double[][] result = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                result[i][j] = this.data[j][i];
+    public MutableVector4 multiply(Vector4 v, MutableVector4 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ(), vw = v.getW();
+        return dst.set(
+            m00 * vx + m01 * vy + m02 * vz + m03 * vw,
+            m10 * vx + m11 * vy + m12 * vz + m13 * vw,
+            m20 * vx + m21 * vy + m22 * vz + m23 * vw,
+            m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+    }
+
+    /**
+     * Multiplies this matrix by a mutable vector (column vector) and writes the result into a
+     * destination vector, so that the result of one allocation-free call can feed the next.
+     * The destination may be the source vector itself.
+     *
+     * @param v   the vector to multiply by
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector4 multiply(MutableVector4 v, MutableVector4 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ(), vw = v.getW();
+        return dst.set(
+            m00 * vx + m01 * vy + m02 * vz + m03 * vw,
+            m10 * vx + m11 * vy + m12 * vz + m13 * vw,
+            m20 * vx + m21 * vy + m22 * vz + m23 * vw,
+            m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+    }
+
+    /**
+     * Transforms a run of points stored as packed (x, y, z) triples. Each point is treated as
+     * (x, y, z, 1); when this matrix is not affine the result is divided by its w component.
+     * The matrix coefficients are loaded once per call rather than once per point.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformPoints(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 3);
+        checkPacked(dst, dstOff, count, 3);
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        if (isAffine()) {
+            for (int i = 0; i < count; i++) {
+                int s = srcOff + 3 * i;
+                int d = dstOff + 3 * i;
+                double x = src[s], y = src[s + 1], z = src[s + 2];
+                dst[d] = a00 * x + a01 * y + a02 * z + a03;
+                dst[d + 1] = a10 * x + a11 * y + a12 * z + a13;
+                dst[d + 2] = a20 * x + a21 * y + a22 * z + a23;
+            }
+        } else {
+            double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+            for (int i = 0; i < count; i++) {
+                int s = srcOff + 3 * i;
+                int d = dstOff + 3 * i;
+                double x = src[s], y = src[s + 1], z = src[s + 2];
+                double invW = 1.0 / (a30 * x + a31 * y + a32 * z + a33);
+                dst[d] = (a00 * x + a01 * y + a02 * z + a03) * invW;
+                dst[d + 1] = (a10 * x + a11 * y + a12 * z + a13) * invW;
+                dst[d + 2] = (a20 * x + a21 * y + a22 * z + a23) * invW;
             }
         }
-        return new Matrix4x4(result);
     }
 
     /**
-     * Calculates the determinant of this matrix using Laplace expansion.
+     * Transforms a run of directions stored as packed (x, y, z) triples. Each direction is
+     * treated as (x, y, z, 0), so only the upper-left 3x3 block applies and translation is ignored.
+     * Source and destination may be the same array if the offsets are equal.
      *
-     * @return the determinant
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
      */
-    public double determinant() {
-        // Use cofactor expansion along the first row
-        double det = 0.0;
-        for (int j = 0; j < 4; j++) {
-            det += data[0][j] * cofactor(0, j);
+    public void transformDirections(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 3);
+        checkPacked(dst, dstOff, count, 3);
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 3 * i;
+            int d = dstOff + 3 * i;
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = a00 * x + a01 * y + a02 * z;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z;
         }
-        return det;
     }
 
     /**
-     * Calculates the cofactor of the element at the specified row and column.
+     * Multiplies this matrix by a run of 4D vectors stored as packed (x, y, z, w) quadruples.
+     * Source and destination may be the same array if the offsets are equal.
      *
-     * @param row the row index
-     * @param col the column index
-     * @return the cofactor
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
      */
-    private double cofactor(int row, int col) {
-        return Math.pow(-1, row + col) * minor(row, col);
+    public void transform(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 4);
+        checkPacked(dst, dstOff, count, 4);
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 4 * i;
+            int d = dstOff + 4 * i;
+            double x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = a00 * x + a01 * y + a02 * z + a03 * w;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z + a13 * w;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z + a23 * w;
+            dst[d + 3] = a30 * x + a31 * y + a32 * z + a33 * w;
+        }
     }
 
     /**
-     * Calculates the minor (determinant of 3x3 submatrix) at the specified row and column.
+     * Transforms a range of points held in structure-of-arrays buffers,
+     * with the same semantics as {@link #transformPoints(double[], int, double[], int, int)}.
      *
-     * @param row the row index
-     * @param col the column index
-     * @return the minor
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source point
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination point
+     * @param count    the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
      */
-    private double minor(int row, int col) {
-        double[][] submatrix = new double[3][3];
-        int subRow = 0;
-        for (int i = 0; i < 4; i++) {
-            if (i == row) continue;
-            int subCol = 0;
-            for (int j = 0; j < 4; j++) {
-                if (j == col) continue;
-                submatrix[subRow][subCol] = data[i][j];
-                subCol++;
+    public void transformPoints(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        double[] sx = src.xArray(), sy = src.yArray(), sz = src.zArray();
+        double[] dx = dst.xArray(), dy = dst.yArray(), dz = dst.zArray();
+        if (isAffine()) {
+            double[] rows = {m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23};
+            PackedKernels.transform3(rows, sx, sy, sz, srcIndex, dx, dy, dz, dstIndex, count);
+        } else {
+            double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+            double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+            double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+            double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+            for (int i = 0; i < count; i++) {
+                double x = sx[srcIndex + i], y = sy[srcIndex + i], z = sz[srcIndex + i];
+                double invW = 1.0 / (a30 * x + a31 * y + a32 * z + a33);
+                dx[dstIndex + i] = (a00 * x + a01 * y + a02 * z + a03) * invW;
+                dy[dstIndex + i] = (a10 * x + a11 * y + a12 * z + a13) * invW;
+                dz[dstIndex + i] = (a20 * x + a21 * y + a22 * z + a23) * invW;
+            }
+        }
+    }
+
+    /**
+     * Transforms a range of directions held in structure-of-arrays buffers,
+     * with the same semantics as {@link #transformDirections(double[], int, double[], int, int)}.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source direction
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination direction
+     * @param count    the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformDirections(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        double[] rows = {m00, m01, m02, 0.0, m10, m11, m12, 0.0, m20, m21, m22, 0.0};
+        PackedKernels.transform3(rows, src.xArray(), src.yArray(), src.zArray(), srcIndex,
+            dst.xArray(), dst.yArray(), dst.zArray(), dstIndex, count);
+    }
+
+    /**
+     * Multiplies this matrix by a range of 4D vectors held in structure-of-arrays buffers.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(Vector4Buffer src, int srcIndex, Vector4Buffer dst, int dstIndex, int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        PackedKernels.transform4(toArray(new double[16], 0),
+            src.xArray(), src.yArray(), src.zArray(), src.wArray(), srcIndex,
+            dst.xArray(), dst.yArray(), dst.zArray(), dst.wArray(), dstIndex, count);
+    }
+
+    /**
+     * Transforms 3D points held off-heap by this matrix, treating each as (x, y, z, 1).
+     * Affine matrices take a fast path; otherwise the result is divided by w.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param src      the source points
+     * @param srcIndex the index of the first source point
+     * @param dst      the destination points
+     * @param dstIndex the index of the first destination point
+     * @param count    the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformPoints(DirectVector3Buffer src, int srcIndex, DirectVector3Buffer dst, int dstIndex,
+                                int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        DoubleBuffer s = src.asDoubleBuffer();
+        DoubleBuffer d = dst.asDoubleBuffer();
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        if (isAffine()) {
+            for (int i = 0; i < count; i++) {
+                int si = 3 * (srcIndex + i);
+                int di = 3 * (dstIndex + i);
+                double x = s.get(si), y = s.get(si + 1), z = s.get(si + 2);
+                d.put(di, a00 * x + a01 * y + a02 * z + a03);
+                d.put(di + 1, a10 * x + a11 * y + a12 * z + a13);
+                d.put(di + 2, a20 * x + a21 * y + a22 * z + a23);
+            }
+        } else {
+            double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+            for (int i = 0; i < count; i++) {
+                int si = 3 * (srcIndex + i);
+                int di = 3 * (dstIndex + i);
+                double x = s.get(si), y = s.get(si + 1), z = s.get(si + 2);
+                double invW = 1.0 / (a30 * x + a31 * y + a32 * z + a33);
+                d.put(di, (a00 * x + a01 * y + a02 * z + a03) * invW);
+                d.put(di + 1, (a10 * x + a11 * y + a12 * z + a13) * invW);
+                d.put(di + 2, (a20 * x + a21 * y + a22 * z + a23) * invW);
+            }
+        }
+    }
+
+    /**
+     * Transforms 3D directions held off-heap by this matrix, treating each as (x, y, z, 0),
+     * so translation does not apply.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param src      the source directions
+     * @param srcIndex the index of the first source direction
+     * @param dst      the destination directions
+     * @param dstIndex the index of the first destination direction
+     * @param count    the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformDirections(DirectVector3Buffer src, int srcIndex, DirectVector3Buffer dst, int dstIndex,
+                                    int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        DoubleBuffer s = src.asDoubleBuffer();
+        DoubleBuffer d = dst.asDoubleBuffer();
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        for (int i = 0; i < count; i++) {
+            int si = 3 * (srcIndex + i);
+            int di = 3 * (dstIndex + i);
+            double x = s.get(si), y = s.get(si + 1), z = s.get(si + 2);
+            d.put(di, a00 * x + a01 * y + a02 * z);
+            d.put(di + 1, a10 * x + a11 * y + a12 * z);
+            d.put(di + 2, a20 * x + a21 * y + a22 * z);
+        }
+    }
+
+    /**
+     * Multiplies this matrix by 4D vectors held off-heap.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param src      the source vectors
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination vectors
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(DirectVector4Buffer src, int srcIndex, DirectVector4Buffer dst, int dstIndex, int count) {
+        checkBuffer(src == null ? -1 : src.size(), srcIndex, count);
+        checkBuffer(dst == null ? -1 : dst.size(), dstIndex, count);
+        DoubleBuffer s = src.asDoubleBuffer();
+        DoubleBuffer d = dst.asDoubleBuffer();
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+        for (int i = 0; i < count; i++) {
+            int si = 4 * (srcIndex + i);
+            int di = 4 * (dstIndex + i);
+            double x = s.get(si), y = s.get(si + 1), z = s.get(si + 2), w = s.get(si + 3);
+            d.put(di, a00 * x + a01 * y + a02 * z + a03 * w);
+            d.put(di + 1, a10 * x + a11 * y + a12 * z + a13 * w);
+            d.put(di + 2, a20 * x + a21 * y + a22 * z + a23 * w);
+            d.put(di + 3, a30 * x + a31 * y + a32 * z + a33 * w);
+        }
+    }
+
+    static void checkPacked(double[] array, int offset, int count, int stride) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (offset < 0 || (long) offset + (long) count * stride > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    static void checkBuffer(int size, int index, int count) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (index < 0 || (long) index + count > size) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at index " + index
+                + " does not fit a buffer of size " + size);
+        }
+    }
+
+    /**
+     * Transposes this matrix and returns a new Matrix4x4.
+     *
+     * @return a new transposed Matrix4x4
+     */
+    public Matrix4x4 transpose() {
+        return new Matrix4x4(
+            m00, m10, m20, m30,
+            m01, m11, m21, m31,
+            m02, m12, m22, m32,
+            m03, m13, m23, m33);
+    }
+
+    /**
+     * Transposes this matrix into a destination matrix.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableMatrix4x4 transpose(MutableMatrix4x4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00;
+        dst.m01 = m10;
+        dst.m02 = m20;
+        dst.m03 = m30;
+        dst.m10 = m01;
+        dst.m11 = m11;
+        dst.m12 = m21;
+        dst.m13 = m31;
+        dst.m20 = m02;
+        dst.m21 = m12;
+        dst.m22 = m22;
+        dst.m23 = m32;
+        dst.m30 = m03;
+        dst.m31 = m13;
+        dst.m32 = m23;
+        dst.m33 = m33;
+        return dst;
+    }
+
+    /**
+     * Calculates the determinant of this matrix.
+     * Expands along the first two rows using the six 2x2 sub-determinants of each row pair,
+     * which needs no temporary arrays and far fewer multiplications than cofactor expansion.
+     *
+     * The result is cached in this instance.
+     *
+     * @return the determinant
+     */
+    public double determinant() {
+        if (determinantCached) {
+            if (countCache) {
+                CACHE_HITS.increment();
             }
-            subRow++;
+            return determinantValue;
+        }
+        if (countCache) {
+            CACHE_MISSES.increment();
         }
-        // Calculate 3x3 determinant
-        return submatrix[0][0] * (submatrix[1][1] * submatrix[2][2] - submatrix[1][2] * submatrix[2][1])
-             - submatrix[0][1] * (submatrix[1][0] * submatrix[2][2] - submatrix[1][2] * submatrix[2][0])
-             + submatrix[0][2] * (submatrix[1][0] * submatrix[2][1] - submatrix[1][1] * submatrix[2][0]);
+        double det = computeDeterminant();
+        determinantValue = det;
+        determinantCached = true;
+        return det;
+    }
+
+    private double computeDeterminant() {
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
     }
 
     /**
      * Calculates the inverse of this matrix using the adjugate method.
+     * Affine matrices (see {@link #isAffine()}) are routed to {@link #inverseAffine()}.
+     * The result is cached in this instance; a singular matrix is not cached and throws each time.
      *
-     * @return a new Matrix4x4 representing the inverse
+     * @return a Matrix4x4 representing the inverse
      * @throws ArithmeticException if the matrix is singular (determinant is zero)
      */
     public Matrix4x4 inverse() {
-        double det = determinant();
-        if (Math.abs(det) < 1e-10) {
-            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        Matrix4x4 result = inverse;
+        if (result != null) {
+            if (countCache) {
+                CACHE_HITS.increment();
+            }
+            return result;
+        }
+        if (countCache) {
+            CACHE_MISSES.increment();
         }
+        result = computeInverse(new MutableMatrix4x4()).toMatrix4x4();
+        inverse = result;
+        return result;
+    }
 
-        // Calculate adjugate matrix (transpose of cofactor matrix)
-        double[][] adjugate = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                adjugate[j][i] = cofactor(i, j); // Transpose during assignment
+    /**
+     * Calculates the inverse of this matrix and writes it into a destination matrix.
+     * The adjugate is built from the same 2x2 sub-determinants as {@link #determinant()},
+     * so no temporary arrays are allocated. Affine matrices are routed to
+     * {@link #inverseAffine(MutableMatrix4x4)}. If {@link #inverse()} has already cached the
+     * inverse, it is copied instead of being recomputed.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if the matrix is singular (determinant is zero)
+     */
+    public MutableMatrix4x4 inverse(MutableMatrix4x4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        Matrix4x4 cached = inverse;
+        if (cached != null) {
+            if (countCache) {
+                CACHE_HITS.increment();
             }
+            return dst.set(cached);
         }
+        return computeInverse(dst);
+    }
 
-        // Multiply by 1/determinant
+    private MutableMatrix4x4 computeInverse(MutableMatrix4x4 dst) {
+        if (isAffine()) {
+            return inverseAffine(dst);
+        }
+        // 2x2 sub-determinants of rows 0-1 (s) and rows 2-3 (c)
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+
+        double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        }
         double invDet = 1.0 / det;
-        double[][] result = new double[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                result[i][j] = adjugate[i][j] * invDet;
+
+        dst.m00 = ( m11 * c5 - m12 * c4 + m13 * c3) * invDet;
+        dst.m01 = (-m01 * c5 + m02 * c4 - m03 * c3) * invDet;
+        dst.m02 = ( m31 * s5 - m32 * s4 + m33 * s3) * invDet;
+        dst.m03 = (-m21 * s5 + m22 * s4 - m23 * s3) * invDet;
+
+        dst.m10 = (-m10 * c5 + m12 * c2 - m13 * c1) * invDet;
+        dst.m11 = ( m00 * c5 - m02 * c2 + m03 * c1) * invDet;
+        dst.m12 = (-m30 * s5 + m32 * s2 - m33 * s1) * invDet;
+        dst.m13 = ( m20 * s5 - m22 * s2 + m23 * s1) * invDet;
+
+        dst.m20 = ( m10 * c4 - m11 * c2 + m13 * c0) * invDet;
+        dst.m21 = (-m00 * c4 + m01 * c2 - m03 * c0) * invDet;
+        dst.m22 = ( m30 * s4 - m31 * s2 + m33 * s0) * invDet;
+        dst.m23 = (-m20 * s4 + m21 * s2 - m23 * s0) * invDet;
+
+        dst.m30 = (-m10 * c3 + m11 * c1 - m12 * c0) * invDet;
+        dst.m31 = ( m00 * c3 - m01 * c1 + m02 * c0) * invDet;
+        dst.m32 = (-m30 * s3 + m31 * s1 - m32 * s0) * invDet;
+        dst.m33 = ( m20 * s3 - m21 * s1 + m22 * s0) * invDet;
+        return dst;
+    }
+
+    /**
+     * Returns the normal matrix: the inverse transpose of the upper-left 3x3 block. Surface normals
+     * transformed by it stay perpendicular to surfaces transformed by this matrix, even under
+     * non-uniform scaling. The result is cached in this instance.
+     *
+     * @return a Matrix3x3 representing the normal matrix
+     * @throws ArithmeticException if the upper-left 3x3 block is singular
+     */
+    public Matrix3x3 normalMatrix() {
+        Matrix3x3 result = normalMatrix;
+        if (result != null) {
+            if (countCache) {
+                CACHE_HITS.increment();
             }
+            return result;
+        }
+        if (countCache) {
+            CACHE_MISSES.increment();
+        }
+        // The inverse transpose equals the cofactor matrix divided by the determinant
+        double c00 = m11 * m22 - m12 * m21;
+        double c01 = m12 * m20 - m10 * m22;
+        double c02 = m10 * m21 - m11 * m20;
+        double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Upper-left 3x3 block is singular, cannot compute normal matrix");
+        }
+        double invDet = 1.0 / det;
+        result = new Matrix3x3(
+            c00 * invDet, c01 * invDet, c02 * invDet,
+            (m02 * m21 - m01 * m22) * invDet, (m00 * m22 - m02 * m20) * invDet, (m01 * m20 - m00 * m21) * invDet,
+            (m01 * m12 - m02 * m11) * invDet, (m02 * m10 - m00 * m12) * invDet, (m00 * m11 - m01 * m10) * invDet);
+        normalMatrix = result;
+        return result;
+    }
+
+    /**
+     * Returns how many calls to {@link #determinant()}, {@link #inverse()},
+     * {@link #inverse(MutableMatrix4x4)} and {@link #normalMatrix()} were answered from a cache,
+     * across all instances since the last {@link #resetCacheStatistics()}. Only calls made while
+     * statistics are enabled are counted.
+     *
+     * @return the number of cache hits
+     */
+    public static long cacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns how many calls to {@link #determinant()}, {@link #inverse()} and
+     * {@link #normalMatrix()} had to compute their value, across all instances since the last
+     * {@link #resetCacheStatistics()}. Only calls made while statistics are enabled are counted.
+     *
+     * @return the number of cache misses
+     */
+    public static long cacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
+    /**
+     * Enables or disables the cache hit and miss counters for all instances. The initial state
+     * is given by {@link #CACHE_STATISTICS_PROPERTY}.
+     *
+     * @param enabled whether cache hits and misses are counted
+     */
+    public static void setCacheStatisticsEnabled(boolean enabled) {
+        countCache = enabled;
+    }
+
+    /**
+     * Returns whether the cache hit and miss counters are enabled.
+     *
+     * @return true if cache hits and misses are counted
+     */
+    public static boolean isCacheStatisticsEnabled() {
+        return countCache;
+    }
+
+    /**
+     * Resets the cache hit and miss counters to zero.
+     */
+    public static void resetCacheStatistics() {
+        CACHE_HITS.reset();
+        CACHE_MISSES.reset();
+    }
+
+    /**
+     * Checks whether the bottom row of this matrix is (0, 0, 0, 1) within the default
+     * tolerance of 1e-10, i.e. whether the matrix is an affine transform.
+     *
+     * @return true if the matrix is affine
+     */
+    public boolean isAffine() {
+        return isAffine(AFFINE_TOLERANCE);
+    }
+
+    /**
+     * Checks whether the bottom row of this matrix is (0, 0, 0, 1) within the given tolerance,
+     * i.e. whether the matrix is an affine transform.
+     *
+     * @param tolerance the maximum allowed absolute deviation of each bottom-row element
+     * @return true if the matrix is affine
+     * @throws IllegalArgumentException if tolerance is negative
+     */
+    public boolean isAffine(double tolerance) {
+        if (tolerance < 0.0) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+        return Math.abs(m30) <= tolerance
+            && Math.abs(m31) <= tolerance
+            && Math.abs(m32) <= tolerance
+            && Math.abs(m33 - 1.0) <= tolerance;
+    }
+
+    /**
+     * Calculates the inverse of this matrix assuming it is affine: the upper-left 3x3 block
+     * is inverted and the translation is mapped through that inverse. The bottom row is taken
+     * to be (0, 0, 0, 1) and is not examined.
+     *
+     * @return a new Matrix4x4 representing the inverse
+     * @throws ArithmeticException if the upper-left 3x3 block is singular
+     */
+    public Matrix4x4 inverseAffine() {
+        return inverseAffine(new MutableMatrix4x4()).toMatrix4x4();
+    }
+
+    /**
+     * Calculates the affine inverse of this matrix (see {@link #inverseAffine()}) and writes it
+     * into a destination matrix.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if the upper-left 3x3 block is singular
+     */
+    public MutableMatrix4x4 inverseAffine(MutableMatrix4x4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
         }
+        double c00 = m11 * m22 - m12 * m21;
+        double c01 = m12 * m20 - m10 * m22;
+        double c02 = m10 * m21 - m11 * m20;
+        double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (Math.abs(det) < 1e-10) {
+            throw new ArithmeticException("Matrix is singular (determinant is zero), cannot compute inverse");
+        }
+        double invDet = 1.0 / det;
+
+        double r00 = c00 * invDet;
+        double r01 = (m02 * m21 - m01 * m22) * invDet;
+        double r02 = (m01 * m12 - m02 * m11) * invDet;
+        double r10 = c01 * invDet;
+        double r11 = (m00 * m22 - m02 * m20) * invDet;
+        double r12 = (m02 * m10 - m00 * m12) * invDet;
+        double r20 = c02 * invDet;
+        double r21 = (m01 * m20 - m00 * m21) * invDet;
+        double r22 = (m00 * m11 - m01 * m10) * invDet;
+
+        dst.m00 = r00; dst.m01 = r01; dst.m02 = r02; dst.m03 = -(r00 * m03 + r01 * m13 + r02 * m23);
+        dst.m10 = r10; dst.m11 = r11; dst.m12 = r12; dst.m13 = -(r10 * m03 + r11 * m13 + r12 * m23);
+        dst.m20 = r20; dst.m21 = r21; dst.m22 = r22; dst.m23 = -(r20 * m03 + r21 * m13 + r22 * m23);
+        dst.m30 = 0.0; dst.m31 = 0.0; dst.m32 = 0.0; dst.m33 = 1.0;
+        return dst;
+    }
+
+    /**
+     * Calculates the inverse of this matrix assuming it is a rigid-body transform (rotation plus
+     * translation): the rotation is transposed and the translation is negated and rotated.
+     * Neither orthonormality of the upper-left 3x3 block nor the bottom row is checked;
+     * use {@link #inverseAffine()} when the matrix may contain scale or shear.
+     *
+     * @return a new Matrix4x4 representing the inverse
+     */
+    public Matrix4x4 inverseRigid() {
+        return inverseRigid(new MutableMatrix4x4()).toMatrix4x4();
+    }
 
-        return new Matrix4x4(result);
+    /**
+     * Calculates the rigid-body inverse of this matrix (see {@link #inverseRigid()}) and writes
+     * it into a destination matrix.
+     *
+     * @param dst the destination for the result
+     * @return the destination matrix
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableMatrix4x4 inverseRigid(MutableMatrix4x4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        dst.m00 = m00; dst.m01 = m10; dst.m02 = m20; dst.m03 = -(m00 * m03 + m10 * m13 + m20 * m23);
+        dst.m10 = m01; dst.m11 = m11; dst.m12 = m21; dst.m13 = -(m01 * m03 + m11 * m13 + m21 * m23);
+        dst.m20 = m02; dst.m21 = m12; dst.m22 = m22; dst.m23 = -(m02 * m03 + m12 * m13 + m22 * m23);
+        dst.m30 = 0.0; dst.m31 = 0.0; dst.m32 = 0.0; dst.m33 = 1.0;
+        return dst;
     }
 
     /**
@@ -273,7 +1215,7 @@ public final class Matrix4x4 {
         double[][] augmented = new double[4][5];
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
-                augmented[i][j] = A.data[i][j];
+                augmented[i][j] = A.element(i, j);
             }
         }
         augmented[0][4] = b.getX();
@@ -331,7 +1273,7 @@ public final class Matrix4x4 {
         Matrix4x4 matrix4x4 = (Matrix4x4) obj;
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
-                if (Math.abs(data[i][j] - matrix4x4.data[i][j]) > 1e-10) {
+                if (Math.abs(element(i, j) - matrix4x4.element(i, j)) > 1e-10) {
                     return false;
                 }
             }
@@ -344,7 +1286,7 @@ public final class Matrix4x4 {
         int result = 0;
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
-                result = 31 * result + Double.hashCode(data[i][j]);
+                result = 31 * result + Double.hashCode(element(i, j));
             }
         }
         return result;
@@ -356,7 +1298,7 @@ public final class Matrix4x4 {
         for (int i = 0; i < 4; i++) {
             sb.append("  [");
             for (int j = 0; j < 4; j++) {
-                sb.append(String.format("%.4f", data[i][j]));
+                sb.append(String.format("%.4f", element(i, j)));
                 if (j < 3) sb.append(", ");
             }
             sb.append("]");
@@ -0,0 +1,336 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, lazily evaluated product of {@link Matrix4x4} and {@link Matrix3x3} operands,
+ * optionally applied to a trailing vector.
+ * <p>
+ * Nothing is multiplied while the chain is built. When it is materialized, the cheapest
+ * parenthesization is chosen by dynamic programming over the operands, counting scalar
+ * multiplications with the structure of each operand taken into account: a {@code Matrix3x3} is
+ * embedded as the upper-left block of a 4x4 matrix, affine 4x4 matrices never touch their bottom
+ * row, and general 4x4 matrices cost a full product. A trailing vector takes part in the search,
+ * so {@code (A * B * C) * v} is evaluated as three matrix-vector products.
+ * <p>
+ * Matrix multiplication is associative, but floating-point rounding differs between orders, so
+ * results may differ from a left-to-right evaluation in the last bits.
+ */
+public final class MatrixChain {
+
+    /**
+     * Structure of an operand or partial product, from cheapest to most expensive.
+     */
+    private enum Kind {
+        /** 3x3 block only: translation zero, bottom row (0, 0, 0, 1). */
+        LINEAR,
+        /** Bottom row (0, 0, 0, 1). */
+        AFFINE,
+        /** Any 4x4 matrix. */
+        GENERAL,
+        /** A trailing column vector. */
+        VECTOR
+    }
+
+    private final double[][] operands;
+    private final Kind[] kinds;
+
+    private MatrixChain(double[][] operands, Kind[] kinds) {
+        this.operands = operands;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Starts a chain with a 4x4 matrix.
+     *
+     * @param m the leftmost operand
+     * @return a chain of one operand
+     * @throws IllegalArgumentException if m is null
+     */
+    public static MatrixChain of(Matrix4x4 m) {
+        return new MatrixChain(new double[0][], new Kind[0]).times(m);
+    }
+
+    /**
+     * Starts a chain with a 3x3 matrix.
+     *
+     * @param m the leftmost operand
+     * @return a chain of one operand
+     * @throws IllegalArgumentException if m is null
+     */
+    public static MatrixChain of(Matrix3x3 m) {
+        return new MatrixChain(new double[0][], new Kind[0]).times(m);
+    }
+
+    /**
+     * Returns a chain with a 4x4 matrix appended on the right.
+     *
+     * @param m the operand to append
+     * @return a new chain
+     * @throws IllegalArgumentException if m is null
+     */
+    public MatrixChain times(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return append(m.toArray(new double[16], 0), m.isAffine(0.0) ? Kind.AFFINE : Kind.GENERAL);
+    }
+
+    /**
+     * Returns a chain with a 3x3 matrix appended on the right. The matrix acts as the upper-left
+     * block of a 4x4 matrix with no translation.
+     *
+     * @param m the operand to append
+     * @return a new chain
+     * @throws IllegalArgumentException if m is null
+     */
+    public MatrixChain times(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return append(new double[]{
+            m.m00, m.m01, m.m02, 0.0,
+            m.m10, m.m11, m.m12, 0.0,
+            m.m20, m.m21, m.m22, 0.0,
+            0.0, 0.0, 0.0, 1.0}, Kind.LINEAR);
+    }
+
+    /**
+     * Returns the number of matrix operands.
+     *
+     * @return the length of the chain
+     */
+    public int size() {
+        return operands.length;
+    }
+
+    /**
+     * Evaluates the chain as a 4x4 matrix in the cheapest order.
+     *
+     * @return the product of all operands
+     */
+    public Matrix4x4 toMatrix4x4() {
+        return Matrix4x4.fromArray(evaluate(null), 0);
+    }
+
+    /**
+     * Evaluates a chain of 3x3 operands as a 3x3 matrix in the cheapest order.
+     *
+     * @return the product of all operands
+     * @throws IllegalStateException if the chain contains a 4x4 operand
+     */
+    public Matrix3x3 toMatrix3x3() {
+        requireLinear();
+        double[] r = evaluate(null);
+        return new Matrix3x3(
+            r[0], r[1], r[2],
+            r[4], r[5], r[6],
+            r[8], r[9], r[10]);
+    }
+
+    /**
+     * Applies the chain to a vector, choosing the cheapest order with the vector as the last
+     * operand.
+     *
+     * @param v the vector to multiply by
+     * @return a new Vector4 representing the product
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4 multiply(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double[] r = evaluate(new double[]{v.getX(), v.getY(), v.getZ(), v.getW()});
+        return new Vector4(r[0], r[1], r[2], r[3]);
+    }
+
+    /**
+     * Applies a chain of 3x3 operands to a vector, choosing the cheapest order with the vector
+     * as the last operand.
+     *
+     * @param v the vector to multiply by
+     * @return a new Vector3 representing the product
+     * @throws IllegalArgumentException if v is null
+     * @throws IllegalStateException if the chain contains a 4x4 operand
+     */
+    public Vector3 multiply(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        requireLinear();
+        double[] r = evaluate(new double[]{v.getX(), v.getY(), v.getZ(), 0.0});
+        return new Vector3(r[0], r[1], r[2]);
+    }
+
+    @Override
+    public String toString() {
+        return "MatrixChain[" + plan(false) + "]";
+    }
+
+    /**
+     * Returns the number of scalar multiplications of the cheapest order.
+     */
+    long cost(boolean trailingVector) {
+        return new Plan(trailingVector).cost[0][operandCount(trailingVector) - 1];
+    }
+
+    /**
+     * Returns the cheapest parenthesization, with operands numbered from 0 and the vector as v.
+     */
+    String plan(boolean trailingVector) {
+        Plan plan = new Plan(trailingVector);
+        StringBuilder sb = new StringBuilder();
+        plan.describe(0, operandCount(trailingVector) - 1, sb);
+        return sb.toString();
+    }
+
+    private MatrixChain append(double[] operand, Kind kind) {
+        double[][] newOperands = Arrays.copyOf(operands, operands.length + 1);
+        Kind[] newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        newOperands[operands.length] = operand;
+        newKinds[kinds.length] = kind;
+        return new MatrixChain(newOperands, newKinds);
+    }
+
+    private void requireLinear() {
+        for (Kind kind : kinds) {
+            if (kind != Kind.LINEAR) {
+                throw new IllegalStateException("Chain contains a 4x4 operand");
+            }
+        }
+    }
+
+    private int operandCount(boolean trailingVector) {
+        return operands.length + (trailingVector ? 1 : 0);
+    }
+
+    private double[] evaluate(double[] vector) {
+        Plan plan = new Plan(vector != null);
+        return plan.evaluate(0, operandCount(vector != null) - 1, vector);
+    }
+
+    private Kind kindOf(int index) {
+        return index < kinds.length ? kinds[index] : Kind.VECTOR;
+    }
+
+    private static Kind combine(Kind a, Kind b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * Scalar multiplications of {@link #product}: rows of {@code a} that are not (0, 0, 0, 1),
+     * times the terms each of them needs against {@code b}.
+     */
+    private static long productCost(Kind a, Kind b) {
+        int rows = a == Kind.GENERAL ? 4 : 3;
+        if (b == Kind.VECTOR) {
+            return rows * (a == Kind.LINEAR ? 3 : 4);
+        }
+        int terms = 3 * (b == Kind.LINEAR ? 3 : 4) + (a != Kind.LINEAR && b == Kind.GENERAL ? 4 : 0);
+        return (long) rows * terms;
+    }
+
+    /**
+     * Multiplies two row-major 4x4 matrices, or a matrix and a column vector, skipping the terms
+     * that the structure of the operands makes zero or one.
+     */
+    private static double[] product(double[] a, Kind ka, double[] b, Kind kb) {
+        if (kb == Kind.VECTOR) {
+            double[] r = new double[4];
+            int rows = ka == Kind.GENERAL ? 4 : 3;
+            for (int i = 0; i < rows; i++) {
+                double s = a[4 * i] * b[0] + a[4 * i + 1] * b[1] + a[4 * i + 2] * b[2];
+                if (ka != Kind.LINEAR) {
+                    s += a[4 * i + 3] * b[3];
+                }
+                r[i] = s;
+            }
+            if (rows == 3) {
+                r[3] = b[3];
+            }
+            return r;
+        }
+        double[] r = new double[16];
+        int rows = ka == Kind.GENERAL ? 4 : 3;
+        int cols = kb == Kind.LINEAR ? 3 : 4;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                double s = a[4 * i] * b[j] + a[4 * i + 1] * b[4 + j] + a[4 * i + 2] * b[8 + j];
+                if (ka != Kind.LINEAR) {
+                    if (kb == Kind.GENERAL) {
+                        s += a[4 * i + 3] * b[12 + j];
+                    } else if (j == 3) {
+                        s += a[4 * i + 3];
+                    }
+                }
+                r[4 * i + j] = s;
+            }
+            if (cols == 3) {
+                // b has no translation, so column 3 comes from a alone
+                r[4 * i + 3] = a[4 * i + 3];
+            }
+        }
+        if (rows == 3) {
+            // a's bottom row is (0, 0, 0, 1), so the product's bottom row is b's
+            System.arraycopy(b, 12, r, 12, 4);
+        }
+        return r;
+    }
+
+    /**
+     * The classic matrix-chain dynamic program over the operands, with
+     * {@link #productCost} as the cost of each product.
+     */
+    private final class Plan {
+        final long[][] cost;
+        final int[][] split;
+        final Kind[][] kind;
+
+        Plan(boolean trailingVector) {
+            int n = operandCount(trailingVector);
+            cost = new long[n][n];
+            split = new int[n][n];
+            kind = new Kind[n][n];
+            for (int i = 0; i < n; i++) {
+                kind[i][i] = kindOf(i);
+            }
+            for (int length = 2; length <= n; length++) {
+                for (int i = 0; i + length - 1 < n; i++) {
+                    int j = i + length - 1;
+                    kind[i][j] = combine(kind[i][j - 1], kind[j][j]);
+                    cost[i][j] = Long.MAX_VALUE;
+                    for (int k = i; k < j; k++) {
+                        long c = cost[i][k] + cost[k + 1][j] + productCost(kind[i][k], kind[k + 1][j]);
+                        if (c < cost[i][j]) {
+                            cost[i][j] = c;
+                            split[i][j] = k;
+                        }
+                    }
+                }
+            }
+        }
+
+        double[] evaluate(int i, int j, double[] vector) {
+            if (i == j) {
+                return i < operands.length ? operands[i] : vector;
+            }
+            int k = split[i][j];
+            return product(evaluate(i, k, vector), kind[i][k], evaluate(k + 1, j, vector), kind[k + 1][j]);
+        }
+
+        void describe(int i, int j, StringBuilder sb) {
+            if (i == j) {
+                sb.append(i < operands.length ? "M" + i : "v");
+                return;
+            }
+            sb.append('(');
+            describe(i, split[i][j], sb);
+            sb.append(" * ");
+            describe(split[i][j] + 1, j, sb);
+            sb.append(')');
+        }
+    }
+}
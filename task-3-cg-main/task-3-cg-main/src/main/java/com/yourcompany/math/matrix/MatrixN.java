@@ -0,0 +1,546 @@
+package com.yourcompany.math.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Immutable dense matrix of any size, stored as a flat row-major array.
+ * All operations return new instances without modifying the original matrix.
+ * <p>
+ * {@link #multiply(MatrixN)} is cache-blocked: the inner dimension and the result columns are
+ * processed in blocks of {@value #BLOCK_K} x {@value #BLOCK_J} elements of the right operand,
+ * and within a block each 4x4 tile of the result is accumulated in local variables. Products of
+ * at least {@value #PARALLEL_THRESHOLD} multiply-adds are split by result rows and run on a
+ * {@link ForkJoinPool}. Every element is summed over the inner dimension in ascending order
+ * whatever the blocking and the number of threads, so results are bit-identical to the naive
+ * triple loop.
+ */
+public final class MatrixN {
+
+    /**
+     * Number of multiply-adds from which {@link #multiply(MatrixN)} runs in parallel.
+     */
+    public static final long PARALLEL_THRESHOLD = 1L << 20;
+
+    private static final int BLOCK_K = 128;
+    private static final int BLOCK_J = 128;
+    private static final int ROW_GRAIN = 32;
+    private static final int TRANSPOSE_BLOCK = 32;
+
+    private final int rows;
+    private final int cols;
+    private final double[] data;
+
+    private MatrixN(int rows, int cols, double[] data) {
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    /**
+     * Constructs a new MatrixN from a 2D array.
+     * The array should be row-major order (array of rows).
+     *
+     * @param data a rectangular array of matrix elements
+     * @throws IllegalArgumentException if data is null, empty or not rectangular
+     */
+    public MatrixN(double[][] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Matrix data cannot be null");
+        }
+        if (data.length == 0 || data[0] == null || data[0].length == 0) {
+            throw new IllegalArgumentException("Matrix must have at least one row and one column");
+        }
+        this.rows = data.length;
+        this.cols = data[0].length;
+        this.data = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            if (data[i] == null || data[i].length != cols) {
+                throw new IllegalArgumentException("Matrix must have " + cols + " columns in each row");
+            }
+            System.arraycopy(data[i], 0, this.data, i * cols, cols);
+        }
+    }
+
+    /**
+     * Creates a MatrixN from {@code rows * cols} consecutive elements of a flat array in
+     * row-major order.
+     *
+     * @param rows   the number of rows
+     * @param cols   the number of columns
+     * @param src    the source array
+     * @param offset the index of the first element (row 0, column 0)
+     * @return a new MatrixN
+     * @throws IllegalArgumentException if src is null or a dimension is not positive
+     * @throws IndexOutOfBoundsException if fewer than {@code rows * cols} elements are available
+     *                                   from offset
+     */
+    public static MatrixN fromArray(int rows, int cols, double[] src, int offset) {
+        checkDimensions(rows, cols);
+        checkArray(src, offset, rows * cols);
+        return new MatrixN(rows, cols, Arrays.copyOfRange(src, offset, offset + rows * cols));
+    }
+
+    /**
+     * Creates a 3x3 MatrixN with the elements of a Matrix3x3.
+     *
+     * @param m the matrix to convert
+     * @return a new MatrixN
+     * @throws IllegalArgumentException if m is null
+     */
+    public static MatrixN of(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new MatrixN(3, 3, m.toArray(new double[9], 0));
+    }
+
+    /**
+     * Creates a 4x4 MatrixN with the elements of a Matrix4x4.
+     *
+     * @param m the matrix to convert
+     * @return a new MatrixN
+     * @throws IllegalArgumentException if m is null
+     */
+    public static MatrixN of(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return new MatrixN(4, 4, m.toArray(new double[16], 0));
+    }
+
+    /**
+     * Creates and returns an identity matrix (1s on diagonal, 0s elsewhere).
+     *
+     * @param size the number of rows and columns
+     * @return a new identity MatrixN
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static MatrixN identity(int size) {
+        checkDimensions(size, size);
+        double[] data = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            data[i * size + i] = 1.0;
+        }
+        return new MatrixN(size, size, data);
+    }
+
+    /**
+     * Creates and returns a zero matrix (all elements are 0).
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @return a new zero MatrixN
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public static MatrixN zero(int rows, int cols) {
+        checkDimensions(rows, cols);
+        return new MatrixN(rows, cols, new double[rows * cols]);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return cols;
+    }
+
+    /**
+     * Gets the element at the specified row and column.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public double get(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Element (" + row + ", " + col
+                + ") is outside a " + rows + "x" + cols + " matrix");
+        }
+        return data[row * cols + col];
+    }
+
+    /**
+     * Writes the elements of this matrix into a flat array in row-major order.
+     *
+     * @param dst    the destination array
+     * @param offset the index at which to write row 0, column 0
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null
+     * @throws IndexOutOfBoundsException if fewer than {@code rows * cols} elements are available
+     *                                   from offset
+     */
+    public double[] toArray(double[] dst, int offset) {
+        checkArray(dst, offset, data.length);
+        System.arraycopy(data, 0, dst, offset, data.length);
+        return dst;
+    }
+
+    /**
+     * Converts this matrix to a Matrix3x3.
+     *
+     * @return a new Matrix3x3 with the same elements
+     * @throws IllegalStateException if this matrix is not 3x3
+     */
+    public Matrix3x3 toMatrix3x3() {
+        if (rows != 3 || cols != 3) {
+            throw new IllegalStateException("Matrix is " + rows + "x" + cols + ", not 3x3");
+        }
+        return Matrix3x3.fromArray(data, 0);
+    }
+
+    /**
+     * Converts this matrix to a Matrix4x4.
+     *
+     * @return a new Matrix4x4 with the same elements
+     * @throws IllegalStateException if this matrix is not 4x4
+     */
+    public Matrix4x4 toMatrix4x4() {
+        if (rows != 4 || cols != 4) {
+            throw new IllegalStateException("Matrix is " + rows + "x" + cols + ", not 4x4");
+        }
+        return Matrix4x4.fromArray(data, 0);
+    }
+
+    /**
+     * Adds another MatrixN to this matrix and returns a new MatrixN.
+     *
+     * @param m the matrix to add
+     * @return a new MatrixN representing the sum
+     * @throws IllegalArgumentException if m is null or has different dimensions
+     */
+    public MatrixN add(MatrixN m) {
+        checkSameSize(m);
+        double[] r = new double[data.length];
+        double[] b = m.data;
+        for (int i = 0; i < r.length; i++) {
+            r[i] = data[i] + b[i];
+        }
+        return new MatrixN(rows, cols, r);
+    }
+
+    /**
+     * Subtracts another MatrixN from this matrix and returns a new MatrixN.
+     *
+     * @param m the matrix to subtract
+     * @return a new MatrixN representing the difference
+     * @throws IllegalArgumentException if m is null or has different dimensions
+     */
+    public MatrixN subtract(MatrixN m) {
+        checkSameSize(m);
+        double[] r = new double[data.length];
+        double[] b = m.data;
+        for (int i = 0; i < r.length; i++) {
+            r[i] = data[i] - b[i];
+        }
+        return new MatrixN(rows, cols, r);
+    }
+
+    /**
+     * Transposes this matrix and returns a new MatrixN.
+     * The elements are copied in square tiles so that reads and writes both stay within a few
+     * cache lines.
+     *
+     * @return a new transposed MatrixN
+     */
+    public MatrixN transpose() {
+        double[] r = new double[data.length];
+        for (int i0 = 0; i0 < rows; i0 += TRANSPOSE_BLOCK) {
+            int i1 = Math.min(i0 + TRANSPOSE_BLOCK, rows);
+            for (int j0 = 0; j0 < cols; j0 += TRANSPOSE_BLOCK) {
+                int j1 = Math.min(j0 + TRANSPOSE_BLOCK, cols);
+                for (int i = i0; i < i1; i++) {
+                    for (int j = j0; j < j1; j++) {
+                        r[j * rows + i] = data[i * cols + j];
+                    }
+                }
+            }
+        }
+        return new MatrixN(cols, rows, r);
+    }
+
+    /**
+     * Multiplies this matrix by a column vector.
+     *
+     * @param v the vector, {@code getColumns()} elements
+     * @return a new array of {@code getRows()} elements representing the product
+     * @throws IllegalArgumentException if v is null or its length is not {@code getColumns()}
+     */
+    public double[] multiply(double[] v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (v.length != cols) {
+            throw new IllegalArgumentException("Vector of length " + v.length
+                + " cannot be multiplied by a " + rows + "x" + cols + " matrix");
+        }
+        return multiply(v, 0, new double[rows], 0);
+    }
+
+    /**
+     * Multiplies this matrix by a column vector stored in a flat array and writes the product
+     * into another array. Source and destination must not overlap.
+     *
+     * @param src    the source array
+     * @param srcOff the index of the first vector element
+     * @param dst    the destination array
+     * @param dstOff the index at which to write the first product element
+     * @return the destination array
+     * @throws IllegalArgumentException if an array is null
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public double[] multiply(double[] src, int srcOff, double[] dst, int dstOff) {
+        checkArray(src, srcOff, cols);
+        checkArray(dst, dstOff, rows);
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            double s = 0.0;
+            for (int j = 0; j < cols; j++) {
+                s += data[row + j] * src[srcOff + j];
+            }
+            dst[dstOff + i] = s;
+        }
+        return dst;
+    }
+
+    /**
+     * Multiplies this matrix by another MatrixN and returns a new MatrixN. Large products run on
+     * the common pool.
+     *
+     * @param m the matrix to multiply by
+     * @return a new MatrixN representing the product
+     * @throws IllegalArgumentException if m is null or its row count differs from this matrix's
+     *                                  column count
+     */
+    public MatrixN multiply(MatrixN m) {
+        return multiply(m, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Multiplies this matrix by another MatrixN and returns a new MatrixN. Products of at least
+     * {@link #PARALLEL_THRESHOLD} multiply-adds run on the given pool.
+     *
+     * @param m    the matrix to multiply by
+     * @param pool the pool that executes large products
+     * @return a new MatrixN representing the product
+     * @throws IllegalArgumentException if m or pool is null or the dimensions do not match
+     */
+    public MatrixN multiply(MatrixN m, ForkJoinPool pool) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (m.rows != cols) {
+            throw new IllegalArgumentException("Cannot multiply a " + rows + "x" + cols
+                + " matrix by a " + m.rows + "x" + m.cols + " matrix");
+        }
+        double[] r = new double[rows * m.cols];
+        if ((long) rows * cols * m.cols < PARALLEL_THRESHOLD || rows <= ROW_GRAIN) {
+            multiplyRows(data, m.data, r, cols, m.cols, 0, rows);
+        } else {
+            pool.invoke(new MultiplyTask(data, m.data, r, cols, m.cols, 0, rows));
+        }
+        return new MatrixN(rows, m.cols, r);
+    }
+
+    /**
+     * Computes rows {@code [from, to)} of {@code c = a * b}, where a has n columns and b has p
+     * columns. c must be zero in those rows.
+     */
+    private static void multiplyRows(double[] a, double[] b, double[] c, int n, int p, int from, int to) {
+        for (int k0 = 0; k0 < n; k0 += BLOCK_K) {
+            int k1 = Math.min(k0 + BLOCK_K, n);
+            for (int j0 = 0; j0 < p; j0 += BLOCK_J) {
+                int j1 = Math.min(j0 + BLOCK_J, p);
+                int i = from;
+                for (; i + 4 <= to; i += 4) {
+                    int j = j0;
+                    for (; j + 4 <= j1; j += 4) {
+                        tile4x4(a, b, c, n, p, i, j, k0, k1);
+                    }
+                    for (; j < j1; j++) {
+                        tile4x1(a, b, c, n, p, i, j, k0, k1);
+                    }
+                }
+                for (; i < to; i++) {
+                    int ci = i * p;
+                    for (int k = k0; k < k1; k++) {
+                        double aik = a[i * n + k];
+                        int bk = k * p;
+                        for (int j = j0; j < j1; j++) {
+                            c[ci + j] += aik * b[bk + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates the terms {@code [k0, k1)} into the 4x4 tile of c at row i, column j, keeping
+     * the 16 partial sums in registers.
+     */
+    private static void tile4x4(double[] a, double[] b, double[] c, int n, int p,
+                                int i, int j, int k0, int k1) {
+        int c0 = i * p + j, c1 = c0 + p, c2 = c1 + p, c3 = c2 + p;
+        double c00 = c[c0], c01 = c[c0 + 1], c02 = c[c0 + 2], c03 = c[c0 + 3];
+        double c10 = c[c1], c11 = c[c1 + 1], c12 = c[c1 + 2], c13 = c[c1 + 3];
+        double c20 = c[c2], c21 = c[c2 + 1], c22 = c[c2 + 2], c23 = c[c2 + 3];
+        double c30 = c[c3], c31 = c[c3 + 1], c32 = c[c3 + 2], c33 = c[c3 + 3];
+        int a0 = i * n, a1 = a0 + n, a2 = a1 + n, a3 = a2 + n;
+        for (int k = k0; k < k1; k++) {
+            int bk = k * p + j;
+            double b0 = b[bk], b1 = b[bk + 1], b2 = b[bk + 2], b3 = b[bk + 3];
+            double x = a[a0 + k];
+            c00 += x * b0; c01 += x * b1; c02 += x * b2; c03 += x * b3;
+            x = a[a1 + k];
+            c10 += x * b0; c11 += x * b1; c12 += x * b2; c13 += x * b3;
+            x = a[a2 + k];
+            c20 += x * b0; c21 += x * b1; c22 += x * b2; c23 += x * b3;
+            x = a[a3 + k];
+            c30 += x * b0; c31 += x * b1; c32 += x * b2; c33 += x * b3;
+        }
+        c[c0] = c00; c[c0 + 1] = c01; c[c0 + 2] = c02; c[c0 + 3] = c03;
+        c[c1] = c10; c[c1 + 1] = c11; c[c1 + 2] = c12; c[c1 + 3] = c13;
+        c[c2] = c20; c[c2 + 1] = c21; c[c2 + 2] = c22; c[c2 + 3] = c23;
+        c[c3] = c30; c[c3 + 1] = c31; c[c3 + 2] = c32; c[c3 + 3] = c33;
+    }
+
+    /**
+     * Accumulates the terms {@code [k0, k1)} into the 4x1 tile of c at row i, column j.
+     */
+    private static void tile4x1(double[] a, double[] b, double[] c, int n, int p,
+                                int i, int j, int k0, int k1) {
+        int c0 = i * p + j;
+        double s0 = c[c0], s1 = c[c0 + p], s2 = c[c0 + 2 * p], s3 = c[c0 + 3 * p];
+        int a0 = i * n, a1 = a0 + n, a2 = a1 + n, a3 = a2 + n;
+        for (int k = k0; k < k1; k++) {
+            double bk = b[k * p + j];
+            s0 += a[a0 + k] * bk;
+            s1 += a[a1 + k] * bk;
+            s2 += a[a2 + k] * bk;
+            s3 += a[a3 + k] * bk;
+        }
+        c[c0] = s0;
+        c[c0 + p] = s1;
+        c[c0 + 2 * p] = s2;
+        c[c0 + 3 * p] = s3;
+    }
+
+    private void checkSameSize(MatrixN m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        if (m.rows != rows || m.cols != cols) {
+            throw new IllegalArgumentException("Matrix dimensions differ: " + rows + "x" + cols
+                + " and " + m.rows + "x" + m.cols);
+        }
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive");
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix of " + rows + "x" + cols + " elements is too large");
+        }
+    }
+
+    private static void checkArray(double[] array, int offset, int length) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Array must hold " + length + " elements starting at offset " + offset);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MatrixN matrix = (MatrixN) obj;
+        if (rows != matrix.rows || cols != matrix.cols) {
+            return false;
+        }
+        for (int i = 0; i < data.length; i++) {
+            if (Math.abs(data[i] - matrix.data[i]) > 1e-10) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + cols) + Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MatrixN(\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append("  [");
+            for (int j = 0; j < cols; j++) {
+                sb.append(String.format("%.4f", data[i * cols + j]));
+                if (j < cols - 1) sb.append(", ");
+            }
+            sb.append("]");
+            if (i < rows - 1) sb.append("\n");
+        }
+        sb.append("\n)");
+        return sb.toString();
+    }
+
+    /**
+     * Computes a range of result rows, splitting it in halves until a piece holds at most
+     * {@value #ROW_GRAIN} rows.
+     */
+    private static final class MultiplyTask extends RecursiveAction {
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final int n;
+        private final int p;
+        private final int from;
+        private final int to;
+
+        MultiplyTask(double[] a, double[] b, double[] c, int n, int p, int from, int to) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.n = n;
+            this.p = p;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROW_GRAIN) {
+                multiplyRows(a, b, c, n, p, from, to);
+                return;
+            }
+            // Halves are rounded to a multiple of 4 rows so that only the last piece has a
+            // partial row tile
+            int mid = from + (((to - from) >>> 1) & ~3);
+            invokeAll(new MultiplyTask(a, b, c, n, p, from, mid),
+                new MultiplyTask(a, b, c, n, p, mid, to));
+        }
+    }
+}
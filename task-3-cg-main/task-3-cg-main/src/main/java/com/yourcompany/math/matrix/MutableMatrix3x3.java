@@ -0,0 +1,235 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector3;
+
+/**
+ * Mutable companion of {@link Matrix3x3}.
+ * Used as the destination of the allocation-free operation overloads on Matrix3x3 and for
+ * in-place accumulation of transforms in hot loops. Instances are not thread-safe.
+ */
+public final class MutableMatrix3x3 {
+    double m00, m01, m02;
+    double m10, m11, m12;
+    double m20, m21, m22;
+
+    /**
+     * Constructs a new MutableMatrix3x3 initialized to the identity matrix.
+     */
+    public MutableMatrix3x3() {
+        setIdentity();
+    }
+
+    /**
+     * Constructs a new MutableMatrix3x3 with the same elements as the given immutable matrix.
+     *
+     * @param m the matrix to copy
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix3x3(Matrix3x3 m) {
+        set(m);
+    }
+
+    /**
+     * Gets the element at the specified row and column.
+     *
+     * @param row the row index (0-2)
+     * @param col the column index (0-2)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public double get(int row, int col) {
+        checkIndices(row, col);
+        switch (row * 3 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m10;
+            case 4: return m11;
+            case 5: return m12;
+            case 6: return m20;
+            case 7: return m21;
+            case 8: return m22;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
+    }
+
+    /**
+     * Sets the element at the specified row and column.
+     *
+     * @param row   the row index (0-2)
+     * @param col   the column index (0-2)
+     * @param value the new value
+     * @return this matrix
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public MutableMatrix3x3 set(int row, int col, double value) {
+        checkIndices(row, col);
+        switch (row * 3 + col) {
+            case 0: m00 = value; break;
+            case 1: m01 = value; break;
+            case 2: m02 = value; break;
+            case 3: m10 = value; break;
+            case 4: m11 = value; break;
+            case 5: m12 = value; break;
+            case 6: m20 = value; break;
+            case 7: m21 = value; break;
+            case 8: m22 = value; break;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
+        return this;
+    }
+
+    private static void checkIndices(int row, int col) {
+        if (row < 0 || row >= 3 || col < 0 || col >= 3) {
+            throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 2");
+        }
+    }
+
+    /**
+     * Copies the elements of an immutable matrix into this matrix.
+     *
+     * @param m the matrix to copy
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix3x3 set(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        m00 = m.m00; m01 = m.m01; m02 = m.m02;
+        m10 = m.m10; m11 = m.m11; m12 = m.m12;
+        m20 = m.m20; m21 = m.m21; m22 = m.m22;
+        return this;
+    }
+
+    /**
+     * Copies the elements of another mutable matrix into this matrix.
+     *
+     * @param m the matrix to copy
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix3x3 set(MutableMatrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        m00 = m.m00; m01 = m.m01; m02 = m.m02;
+        m10 = m.m10; m11 = m.m11; m12 = m.m12;
+        m20 = m.m20; m21 = m.m21; m22 = m.m22;
+        return this;
+    }
+
+    /**
+     * Resets this matrix to the identity matrix.
+     *
+     * @return this matrix
+     */
+    public MutableMatrix3x3 setIdentity() {
+        m00 = 1.0; m01 = 0.0; m02 = 0.0;
+        m10 = 0.0; m11 = 1.0; m12 = 0.0;
+        m20 = 0.0; m21 = 0.0; m22 = 1.0;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by an immutable matrix in place ({@code this = this * m}).
+     *
+     * @param m the matrix to multiply by
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix3x3 multiply(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        m00 = a00 * m.m00 + a01 * m.m10 + a02 * m.m20;
+        m01 = a00 * m.m01 + a01 * m.m11 + a02 * m.m21;
+        m02 = a00 * m.m02 + a01 * m.m12 + a02 * m.m22;
+        m10 = a10 * m.m00 + a11 * m.m10 + a12 * m.m20;
+        m11 = a10 * m.m01 + a11 * m.m11 + a12 * m.m21;
+        m12 = a10 * m.m02 + a11 * m.m12 + a12 * m.m22;
+        m20 = a20 * m.m00 + a21 * m.m10 + a22 * m.m20;
+        m21 = a20 * m.m01 + a21 * m.m11 + a22 * m.m21;
+        m22 = a20 * m.m02 + a21 * m.m12 + a22 * m.m22;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by another mutable matrix in place ({@code this = this * m}).
+     * The argument may be this matrix itself.
+     *
+     * @param m the matrix to multiply by
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix3x3 multiply(MutableMatrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double a00 = m00, a01 = m01, a02 = m02;
+        double a10 = m10, a11 = m11, a12 = m12;
+        double a20 = m20, a21 = m21, a22 = m22;
+        double b00 = m.m00, b01 = m.m01, b02 = m.m02;
+        double b10 = m.m10, b11 = m.m11, b12 = m.m12;
+        double b20 = m.m20, b21 = m.m21, b22 = m.m22;
+        m00 = a00 * b00 + a01 * b10 + a02 * b20;
+        m01 = a00 * b01 + a01 * b11 + a02 * b21;
+        m02 = a00 * b02 + a01 * b12 + a02 * b22;
+        m10 = a10 * b00 + a11 * b10 + a12 * b20;
+        m11 = a10 * b01 + a11 * b11 + a12 * b21;
+        m12 = a10 * b02 + a11 * b12 + a12 * b22;
+        m20 = a20 * b00 + a21 * b10 + a22 * b20;
+        m21 = a20 * b01 + a21 * b11 + a22 * b21;
+        m22 = a20 * b02 + a21 * b12 + a22 * b22;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector and stores the result back into that vector.
+     *
+     * @param v the vector to transform in place
+     * @return the transformed vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 transform(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        return v.set(
+            m00 * vx + m01 * vy + m02 * vz,
+            m10 * vx + m11 * vy + m12 * vz,
+            m20 * vx + m21 * vy + m22 * vz);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current elements.
+     *
+     * @return a new Matrix3x3 with the same elements
+     */
+    public Matrix3x3 toMatrix3x3() {
+        return new Matrix3x3(
+            m00, m01, m02,
+            m10, m11, m12,
+            m20, m21, m22);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MutableMatrix3x3(\n");
+        for (int i = 0; i < 3; i++) {
+            sb.append("  [");
+            for (int j = 0; j < 3; j++) {
+                sb.append(String.format("%.4f", get(i, j)));
+                if (j < 2) sb.append(", ");
+            }
+            sb.append("]");
+            if (i < 2) sb.append("\n");
+        }
+        sb.append("\n)");
+        return sb.toString();
+    }
+}
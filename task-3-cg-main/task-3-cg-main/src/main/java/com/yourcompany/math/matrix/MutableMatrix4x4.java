@@ -0,0 +1,272 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector4;
+
+/**
+ * Mutable companion of {@link Matrix4x4}.
+ * Used as the destination of the allocation-free operation overloads on Matrix4x4 and for
+ * in-place accumulation of transforms in hot loops. Instances are not thread-safe.
+ */
+public final class MutableMatrix4x4 {
+    double m00, m01, m02, m03;
+    double m10, m11, m12, m13;
+    double m20, m21, m22, m23;
+    double m30, m31, m32, m33;
+
+    /**
+     * Constructs a new MutableMatrix4x4 initialized to the identity matrix.
+     */
+    public MutableMatrix4x4() {
+        setIdentity();
+    }
+
+    /**
+     * Constructs a new MutableMatrix4x4 with the same elements as the given immutable matrix.
+     *
+     * @param m the matrix to copy
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix4x4(Matrix4x4 m) {
+        set(m);
+    }
+
+    /**
+     * Gets the element at the specified row and column.
+     *
+     * @param row the row index (0-3)
+     * @param col the column index (0-3)
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public double get(int row, int col) {
+        checkIndices(row, col);
+        switch (row * 4 + col) {
+            case 0: return m00;
+            case 1: return m01;
+            case 2: return m02;
+            case 3: return m03;
+            case 4: return m10;
+            case 5: return m11;
+            case 6: return m12;
+            case 7: return m13;
+            case 8: return m20;
+            case 9: return m21;
+            case 10: return m22;
+            case 11: return m23;
+            case 12: return m30;
+            case 13: return m31;
+            case 14: return m32;
+            case 15: return m33;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
+    }
+
+    /**
+     * Sets the element at the specified row and column.
+     *
+     * @param row   the row index (0-3)
+     * @param col   the column index (0-3)
+     * @param value the new value
+     * @return this matrix
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public MutableMatrix4x4 set(int row, int col, double value) {
+        checkIndices(row, col);
+        switch (row * 4 + col) {
+            case 0: m00 = value; break;
+            case 1: m01 = value; break;
+            case 2: m02 = value; break;
+            case 3: m03 = value; break;
+            case 4: m10 = value; break;
+            case 5: m11 = value; break;
+            case 6: m12 = value; break;
+            case 7: m13 = value; break;
+            case 8: m20 = value; break;
+            case 9: m21 = value; break;
+            case 10: m22 = value; break;
+            case 11: m23 = value; break;
+            case 12: m30 = value; break;
+            case 13: m31 = value; break;
+            case 14: m32 = value; break;
+            case 15: m33 = value; break;
+            default: throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
+        return this;
+    }
+
+    private static void checkIndices(int row, int col) {
+        if (row < 0 || row >= 4 || col < 0 || col >= 4) {
+            throw new IndexOutOfBoundsException("Row and column indices must be between 0 and 3");
+        }
+    }
+
+    /**
+     * Copies the elements of an immutable matrix into this matrix.
+     *
+     * @param m the matrix to copy
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix4x4 set(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        m00 = m.m00; m01 = m.m01; m02 = m.m02; m03 = m.m03;
+        m10 = m.m10; m11 = m.m11; m12 = m.m12; m13 = m.m13;
+        m20 = m.m20; m21 = m.m21; m22 = m.m22; m23 = m.m23;
+        m30 = m.m30; m31 = m.m31; m32 = m.m32; m33 = m.m33;
+        return this;
+    }
+
+    /**
+     * Copies the elements of another mutable matrix into this matrix.
+     *
+     * @param m the matrix to copy
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix4x4 set(MutableMatrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        m00 = m.m00; m01 = m.m01; m02 = m.m02; m03 = m.m03;
+        m10 = m.m10; m11 = m.m11; m12 = m.m12; m13 = m.m13;
+        m20 = m.m20; m21 = m.m21; m22 = m.m22; m23 = m.m23;
+        m30 = m.m30; m31 = m.m31; m32 = m.m32; m33 = m.m33;
+        return this;
+    }
+
+    /**
+     * Resets this matrix to the identity matrix.
+     *
+     * @return this matrix
+     */
+    public MutableMatrix4x4 setIdentity() {
+        m00 = 1.0; m01 = 0.0; m02 = 0.0; m03 = 0.0;
+        m10 = 0.0; m11 = 1.0; m12 = 0.0; m13 = 0.0;
+        m20 = 0.0; m21 = 0.0; m22 = 1.0; m23 = 0.0;
+        m30 = 0.0; m31 = 0.0; m32 = 0.0; m33 = 1.0;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by an immutable matrix in place ({@code this = this * m}).
+     *
+     * @param m the matrix to multiply by
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix4x4 multiply(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+        m00 = a00 * m.m00 + a01 * m.m10 + a02 * m.m20 + a03 * m.m30;
+        m01 = a00 * m.m01 + a01 * m.m11 + a02 * m.m21 + a03 * m.m31;
+        m02 = a00 * m.m02 + a01 * m.m12 + a02 * m.m22 + a03 * m.m32;
+        m03 = a00 * m.m03 + a01 * m.m13 + a02 * m.m23 + a03 * m.m33;
+        m10 = a10 * m.m00 + a11 * m.m10 + a12 * m.m20 + a13 * m.m30;
+        m11 = a10 * m.m01 + a11 * m.m11 + a12 * m.m21 + a13 * m.m31;
+        m12 = a10 * m.m02 + a11 * m.m12 + a12 * m.m22 + a13 * m.m32;
+        m13 = a10 * m.m03 + a11 * m.m13 + a12 * m.m23 + a13 * m.m33;
+        m20 = a20 * m.m00 + a21 * m.m10 + a22 * m.m20 + a23 * m.m30;
+        m21 = a20 * m.m01 + a21 * m.m11 + a22 * m.m21 + a23 * m.m31;
+        m22 = a20 * m.m02 + a21 * m.m12 + a22 * m.m22 + a23 * m.m32;
+        m23 = a20 * m.m03 + a21 * m.m13 + a22 * m.m23 + a23 * m.m33;
+        m30 = a30 * m.m00 + a31 * m.m10 + a32 * m.m20 + a33 * m.m30;
+        m31 = a30 * m.m01 + a31 * m.m11 + a32 * m.m21 + a33 * m.m31;
+        m32 = a30 * m.m02 + a31 * m.m12 + a32 * m.m22 + a33 * m.m32;
+        m33 = a30 * m.m03 + a31 * m.m13 + a32 * m.m23 + a33 * m.m33;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by another mutable matrix in place ({@code this = this * m}).
+     * The argument may be this matrix itself.
+     *
+     * @param m the matrix to multiply by
+     * @return this matrix
+     * @throws IllegalArgumentException if m is null
+     */
+    public MutableMatrix4x4 multiply(MutableMatrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+        double a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+        double a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+        double a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+        double b00 = m.m00, b01 = m.m01, b02 = m.m02, b03 = m.m03;
+        double b10 = m.m10, b11 = m.m11, b12 = m.m12, b13 = m.m13;
+        double b20 = m.m20, b21 = m.m21, b22 = m.m22, b23 = m.m23;
+        double b30 = m.m30, b31 = m.m31, b32 = m.m32, b33 = m.m33;
+        m00 = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+        m01 = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+        m02 = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+        m03 = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+        m10 = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+        m11 = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+        m12 = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+        m13 = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+        m20 = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+        m21 = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+        m22 = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+        m23 = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+        m30 = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+        m31 = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+        m32 = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+        m33 = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector and stores the result back into that vector.
+     *
+     * @param v the vector to transform in place
+     * @return the transformed vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 transform(MutableVector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ(), vw = v.getW();
+        return v.set(
+            m00 * vx + m01 * vy + m02 * vz + m03 * vw,
+            m10 * vx + m11 * vy + m12 * vz + m13 * vw,
+            m20 * vx + m21 * vy + m22 * vz + m23 * vw,
+            m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current elements.
+     *
+     * @return a new Matrix4x4 with the same elements
+     */
+    public Matrix4x4 toMatrix4x4() {
+        return new Matrix4x4(
+            m00, m01, m02, m03,
+            m10, m11, m12, m13,
+            m20, m21, m22, m23,
+            m30, m31, m32, m33);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MutableMatrix4x4(\n");
+        for (int i = 0; i < 4; i++) {
+            sb.append("  [");
+            for (int j = 0; j < 4; j++) {
+                sb.append(String.format("%.4f", get(i, j)));
+                if (j < 3) sb.append(", ");
+            }
+            sb.append("]");
+            if (i < 3) sb.append("\n");
+        }
+        sb.append("\n)");
+        return sb.toString();
+    }
+}
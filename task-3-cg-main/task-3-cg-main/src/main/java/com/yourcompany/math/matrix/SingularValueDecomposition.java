@@ -0,0 +1,268 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+
+import static com.yourcompany.math.matrix.SymmetricEigenDecomposition.A;
+import static com.yourcompany.math.matrix.SymmetricEigenDecomposition.V;
+import static com.yourcompany.math.matrix.SymmetricEigenDecomposition.checkPacked;
+
+/**
+ * Singular value decomposition {@code M = U * diag(sigma) * V^T} of a {@link Matrix3x3}, and the
+ * polar decomposition {@code M = R * S} derived from it.
+ * <p>
+ * V is computed as the eigenvectors of {@code M^T * M} by {@link SymmetricEigenDecomposition}.
+ * U and the singular values then come from a Givens QR factorization of {@code M * V} rather
+ * than from dividing by the singular values, so rank-deficient matrices are handled without
+ * special cases. Singular values are non-negative and sorted in descending order; U and V are
+ * orthogonal.
+ * <p>
+ * The rotation R of the polar decomposition is the proper rotation closest to M. No rotation
+ * can absorb the reflection of a matrix with a negative determinant, so it is left in the
+ * symmetric factor S, which then has one negative eigenvalue; this is the usual convention for
+ * extracting the rotation of a deformation.
+ * <p>
+ * The static batch methods work on packed arrays of row-major 3x3 matrices and allocate one
+ * small scratch array per call, not per matrix.
+ */
+public final class SingularValueDecomposition {
+
+    // Scratch layout: M^T * M and V as used by the eigen kernel, then B = M * V (reduced to R) and U
+    private static final int B = SymmetricEigenDecomposition.SCRATCH;
+    private static final int U = B + 9;
+    private static final int SCRATCH = U + 9;
+
+    private final double[] u;
+    private final double[] sigma;
+    private final double[] v;
+    private final double[] rotation;
+
+    private SingularValueDecomposition(double[] u, double[] sigma, double[] v, double[] rotation) {
+        this.u = u;
+        this.sigma = sigma;
+        this.v = v;
+        this.rotation = rotation;
+    }
+
+    /**
+     * Decomposes a matrix.
+     *
+     * @param m the matrix to decompose
+     * @return the decomposition
+     * @throws IllegalArgumentException if m is null
+     */
+    public static SingularValueDecomposition of(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double[] w = new double[SCRATCH];
+        double[] u = new double[9];
+        double[] sigma = new double[3];
+        double[] v = new double[9];
+        double[] rotation = new double[9];
+        decompose(m.toArray(new double[9], 0), 0, w);
+        polarRotation(w, rotation, 0);
+        store(w, u, 0, sigma, 0, v, 0);
+        return new SingularValueDecomposition(u, sigma, v, rotation);
+    }
+
+    /**
+     * Returns the left singular vectors as the columns of U.
+     *
+     * @return a new Matrix3x3 U
+     */
+    public Matrix3x3 getU() {
+        return Matrix3x3.fromArray(u, 0);
+    }
+
+    /**
+     * Returns the right singular vectors as the columns of V.
+     *
+     * @return a new Matrix3x3 V
+     */
+    public Matrix3x3 getV() {
+        return Matrix3x3.fromArray(v, 0);
+    }
+
+    /**
+     * Returns the singular values in descending order.
+     *
+     * @return a new Vector3 of the singular values
+     */
+    public Vector3 getSingularValues() {
+        return new Vector3(sigma[0], sigma[1], sigma[2]);
+    }
+
+    /**
+     * Returns the rotation R of the polar decomposition {@code M = R * S}.
+     *
+     * @return a new Matrix3x3 R with determinant 1
+     */
+    public Matrix3x3 getRotation() {
+        return Matrix3x3.fromArray(rotation, 0);
+    }
+
+    /**
+     * Returns the symmetric factor {@code S = R^T * M} of the polar decomposition.
+     *
+     * @return a new symmetric Matrix3x3 S
+     */
+    public Matrix3x3 getStretch() {
+        // S = V * diag(sigma) * V^T, with the sign of the determinant on the last singular value
+        double s2 = determinantSign() * sigma[2];
+        double[] r = new double[9];
+        for (int i = 0; i < 3; i++) {
+            for (int j = i; j < 3; j++) {
+                double sum = v[3 * i] * sigma[0] * v[3 * j]
+                    + v[3 * i + 1] * sigma[1] * v[3 * j + 1]
+                    + v[3 * i + 2] * s2 * v[3 * j + 2];
+                r[3 * i + j] = sum;
+                r[3 * j + i] = sum;
+            }
+        }
+        return Matrix3x3.fromArray(r, 0);
+    }
+
+    /**
+     * Decomposes {@code count} matrices stored consecutively, 9 elements each in row-major order.
+     *
+     * @param src      the source matrices
+     * @param srcOff   the index of the first element of the first matrix
+     * @param u        the destination for U, 9 per matrix in row-major order
+     * @param uOff     the index at which to write the first U
+     * @param sigma    the destination for the singular values, 3 per matrix in descending order
+     * @param sigmaOff the index at which to write the first singular value
+     * @param v        the destination for V, 9 per matrix in row-major order
+     * @param vOff     the index at which to write the first V
+     * @param count    the number of matrices
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void decompose(double[] src, int srcOff, double[] u, int uOff, double[] sigma, int sigmaOff,
+                                 double[] v, int vOff, int count) {
+        checkPacked(src, srcOff, count, 9);
+        checkPacked(u, uOff, count, 9);
+        checkPacked(sigma, sigmaOff, count, 3);
+        checkPacked(v, vOff, count, 9);
+        double[] w = new double[SCRATCH];
+        for (int i = 0; i < count; i++) {
+            decompose(src, srcOff + 9 * i, w);
+            store(w, u, uOff + 9 * i, sigma, sigmaOff + 3 * i, v, vOff + 9 * i);
+        }
+    }
+
+    /**
+     * Computes the rotations of the polar decompositions of {@code count} matrices stored
+     * consecutively, 9 elements each in row-major order.
+     *
+     * @param src    the source matrices
+     * @param srcOff the index of the first element of the first matrix
+     * @param dst    the destination for the rotations, 9 per matrix in row-major order
+     * @param dstOff the index at which to write the first rotation
+     * @param count  the number of matrices
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void rotations(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 9);
+        checkPacked(dst, dstOff, count, 9);
+        double[] w = new double[SCRATCH];
+        for (int i = 0; i < count; i++) {
+            decompose(src, srcOff + 9 * i, w);
+            polarRotation(w, dst, dstOff + 9 * i);
+        }
+    }
+
+    /**
+     * Computes V, R and U into the scratch array for the matrix at {@code src[off..off+8]}. U and
+     * V are rotations, so the last diagonal element of R carries the sign of the determinant.
+     */
+    private static void decompose(double[] src, int off, double[] w) {
+        // Upper triangle of M^T * M
+        for (int i = 0; i < 3; i++) {
+            for (int j = i; j < 3; j++) {
+                w[A + 3 * i + j] = src[off + i] * src[off + j]
+                    + src[off + 3 + i] * src[off + 3 + j]
+                    + src[off + 6 + i] * src[off + 6 + j];
+            }
+        }
+        SymmetricEigenDecomposition.decompose(w);
+
+        // B = M * V, whose columns are orthogonal with norms in descending order
+        for (int i = 0; i < 3; i++) {
+            double m0 = src[off + 3 * i], m1 = src[off + 3 * i + 1], m2 = src[off + 3 * i + 2];
+            for (int j = 0; j < 3; j++) {
+                w[B + 3 * i + j] = m0 * w[V + j] + m1 * w[V + 3 + j] + m2 * w[V + 6 + j];
+            }
+        }
+        for (int k = 0; k < 9; k++) {
+            w[U + k] = (k & 3) == 0 ? 1.0 : 0.0;
+        }
+        givens(w, 0, 1);
+        givens(w, 0, 2);
+        givens(w, 1, 2);
+    }
+
+    /**
+     * Applies the Givens rotation that zeroes B[q][p] against B[p][p], leaving B[p][p]
+     * non-negative, and accumulates its transpose into U.
+     */
+    private static void givens(double[] w, int p, int q) {
+        double a = w[B + 4 * p], b = w[B + 3 * q + p];
+        double r = Math.sqrt(a * a + b * b);
+        if (r == 0.0) {
+            return;
+        }
+        double c = a / r, s = b / r;
+        for (int j = 0; j < 3; j++) {
+            double bp = w[B + 3 * p + j], bq = w[B + 3 * q + j];
+            w[B + 3 * p + j] = c * bp + s * bq;
+            w[B + 3 * q + j] = -s * bp + c * bq;
+        }
+        for (int k = 0; k < 3; k++) {
+            double up = w[U + 3 * k + p], uq = w[U + 3 * k + q];
+            w[U + 3 * k + p] = c * up + s * uq;
+            w[U + 3 * k + q] = -s * up + c * uq;
+        }
+    }
+
+    /**
+     * Writes {@code R = U * V^T} from the scratch array, using the rotation form of U.
+     */
+    private static void polarRotation(double[] w, double[] dst, int off) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                dst[off + 3 * i + j] = w[U + 3 * i] * w[V + 3 * j]
+                    + w[U + 3 * i + 1] * w[V + 3 * j + 1]
+                    + w[U + 3 * i + 2] * w[V + 3 * j + 2];
+            }
+        }
+    }
+
+    /**
+     * Writes U, the non-negative singular values and V from the scratch array. A negative last
+     * singular value is made positive by negating the last column of U.
+     */
+    private static void store(double[] w, double[] u, int uOff, double[] sigma, int sigmaOff, double[] v, int vOff) {
+        double s2 = w[B + 8];
+        sigma[sigmaOff] = w[B];
+        sigma[sigmaOff + 1] = w[B + 4];
+        sigma[sigmaOff + 2] = Math.abs(s2);
+        System.arraycopy(w, U, u, uOff, 9);
+        if (s2 < 0.0) {
+            u[uOff + 2] = -u[uOff + 2];
+            u[uOff + 5] = -u[uOff + 5];
+            u[uOff + 8] = -u[uOff + 8];
+        }
+        System.arraycopy(w, V, v, vOff, 9);
+    }
+
+    /**
+     * Returns -1 if U is a reflection, that is if M has a negative determinant, and 1 otherwise.
+     */
+    private double determinantSign() {
+        double det = u[0] * (u[4] * u[8] - u[5] * u[7])
+                   - u[1] * (u[3] * u[8] - u[5] * u[6])
+                   + u[2] * (u[3] * u[7] - u[4] * u[6]);
+        return det < 0.0 ? -1.0 : 1.0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.yourcompany.math.matrix;
+
+/**
+ * Outcome of an iterative solve by {@link SparseSolver}.
+ * Immutable; the solution itself is written into the caller's array.
+ */
+public final class SolverResult {
+    private final int iterations;
+    private final double residualNorm;
+    private final boolean converged;
+
+    SolverResult(int iterations, double residualNorm, boolean converged) {
+        this.iterations = iterations;
+        this.residualNorm = residualNorm;
+        this.converged = converged;
+    }
+
+    /**
+     * Returns the number of iterations performed.
+     *
+     * @return the number of iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the Euclidean norm of the residual {@code b - A * x} of the returned solution.
+     * Conjugate Gradient reports its recursively updated residual, which may differ from the
+     * explicitly computed one in the last digits.
+     *
+     * @return the residual norm
+     */
+    public double getResidualNorm() {
+        return residualNorm;
+    }
+
+    /**
+     * Checks whether the residual reached the requested tolerance.
+     *
+     * @return true if the solve converged
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return "SolverResult(iterations=" + iterations + ", residual=" + residualNorm
+            + ", converged=" + converged + ")";
+    }
+}
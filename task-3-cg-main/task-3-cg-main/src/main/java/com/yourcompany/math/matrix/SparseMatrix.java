@@ -0,0 +1,441 @@
+package com.yourcompany.math.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Immutable sparse matrix in compressed sparse row (CSR) form.
+ * <p>
+ * Row {@code i} holds the entries {@code [rowStart[i], rowStart[i + 1])} of two parallel arrays
+ * of column indices and values, with columns in ascending order and no duplicates. Matrices are
+ * assembled from (row, column, value) triplets, either with a {@link Builder} or from packed
+ * arrays with {@link #fromTriplets}; duplicate triplets are summed, as when the element
+ * contributions of a mesh are accumulated.
+ * <p>
+ * The matrix-vector product can run on a {@link ForkJoinPool}. Rows are split into ranges of
+ * about {@value #GRAIN_NON_ZEROS} stored entries each; every row is computed by one task in
+ * column order, so results do not depend on the number of threads. {@link SparseSolver} uses the
+ * product for its iterative solvers.
+ */
+public final class SparseMatrix {
+
+    /**
+     * Approximate number of stored entries processed by one task of a parallel product.
+     */
+    static final int GRAIN_NON_ZEROS = 1 << 14;
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowStart;
+    private final int[] columns;
+    private final double[] values;
+
+    private SparseMatrix(int rows, int cols, int[] rowStart, int[] columns, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Creates a builder for a matrix of the given size.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @return a new, empty builder
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public static Builder builder(int rows, int cols) {
+        checkDimensions(rows, cols);
+        return new Builder(rows, cols);
+    }
+
+    /**
+     * Creates a matrix from {@code count} triplets stored in three parallel arrays. Duplicate
+     * triplets are summed; entries that sum to zero are kept.
+     *
+     * @param rows       the number of rows
+     * @param cols       the number of columns
+     * @param rowIndices the row of each triplet
+     * @param colIndices the column of each triplet
+     * @param values     the value of each triplet
+     * @param count      the number of triplets
+     * @return a new SparseMatrix
+     * @throws IllegalArgumentException if an array is null, a dimension is not positive or count
+     *                                  is negative
+     * @throws IndexOutOfBoundsException if an array holds fewer than count elements or a triplet
+     *                                   lies outside the matrix
+     */
+    public static SparseMatrix fromTriplets(int rows, int cols, int[] rowIndices, int[] colIndices,
+                                            double[] values, int count) {
+        checkDimensions(rows, cols);
+        if (rowIndices == null || colIndices == null || values == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (rowIndices.length < count || colIndices.length < count || values.length < count) {
+            throw new IndexOutOfBoundsException("Arrays do not hold " + count + " triplets");
+        }
+        for (int t = 0; t < count; t++) {
+            int r = rowIndices[t], c = colIndices[t];
+            if (r < 0 || r >= rows || c < 0 || c >= cols) {
+                throw new IndexOutOfBoundsException("Triplet (" + r + ", " + c
+                    + ") is outside a " + rows + "x" + cols + " matrix");
+            }
+        }
+
+        // Two stable counting sorts, by column and then by row, leave every row sorted by column
+        int[] byColumn = new int[count];
+        int[] start = new int[cols + 1];
+        for (int t = 0; t < count; t++) {
+            start[colIndices[t] + 1]++;
+        }
+        for (int c = 0; c < cols; c++) {
+            start[c + 1] += start[c];
+        }
+        for (int t = 0; t < count; t++) {
+            byColumn[start[colIndices[t]]++] = t;
+        }
+        int[] rowStart = new int[rows + 1];
+        for (int t = 0; t < count; t++) {
+            rowStart[rowIndices[t] + 1]++;
+        }
+        for (int r = 0; r < rows; r++) {
+            rowStart[r + 1] += rowStart[r];
+        }
+        int[] order = new int[count];
+        int[] next = Arrays.copyOf(rowStart, rows);
+        for (int t : byColumn) {
+            order[next[rowIndices[t]]++] = t;
+        }
+
+        // Merge duplicates in place, rewriting the row starts as rows are compacted
+        int[] columns = new int[count];
+        double[] merged = new double[count];
+        int n = 0;
+        for (int r = 0; r < rows; r++) {
+            int from = rowStart[r], to = rowStart[r + 1];
+            rowStart[r] = n;
+            for (int k = from; k < to; k++) {
+                int t = order[k];
+                if (n > rowStart[r] && columns[n - 1] == colIndices[t]) {
+                    merged[n - 1] += values[t];
+                } else {
+                    columns[n] = colIndices[t];
+                    merged[n] = values[t];
+                    n++;
+                }
+            }
+        }
+        rowStart[rows] = n;
+        return new SparseMatrix(rows, cols, rowStart,
+            n == count ? columns : Arrays.copyOf(columns, n),
+            n == count ? merged : Arrays.copyOf(merged, n));
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of stored entries.
+     *
+     * @return the number of stored entries
+     */
+    public int nonZeros() {
+        return values.length;
+    }
+
+    /**
+     * Gets the element at the specified row and column, zero if it is not stored.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if row or col is out of bounds
+     */
+    public double get(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Element (" + row + ", " + col
+                + ") is outside a " + rows + "x" + cols + " matrix");
+        }
+        int k = Arrays.binarySearch(columns, rowStart[row], rowStart[row + 1], col);
+        return k >= 0 ? values[k] : 0.0;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector.
+     *
+     * @param x the vector, {@code getColumns()} elements
+     * @return a new array of {@code getRows()} elements representing the product
+     * @throws IllegalArgumentException if x is null or its length is not {@code getColumns()}
+     */
+    public double[] multiply(double[] x) {
+        checkVector(x, cols);
+        double[] y = new double[rows];
+        multiplyRows(x, y, 0, rows);
+        return y;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector and writes the product into a destination
+     * array. The arrays must not be the same.
+     *
+     * @param x the vector, {@code getColumns()} elements
+     * @param y the destination, {@code getRows()} elements
+     * @return the destination array
+     * @throws IllegalArgumentException if an array is null, has the wrong length or x and y are
+     *                                  the same array
+     */
+    public double[] multiply(double[] x, double[] y) {
+        checkProduct(x, y);
+        multiplyRows(x, y, 0, rows);
+        return y;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector on a fork-join pool and writes the product into
+     * a destination array. Matrices with at most {@value #GRAIN_NON_ZEROS} stored entries are
+     * multiplied on the calling thread.
+     *
+     * @param x    the vector, {@code getColumns()} elements
+     * @param y    the destination, {@code getRows()} elements
+     * @param pool the pool that executes the product
+     * @return the destination array
+     * @throws IllegalArgumentException if an argument is null, an array has the wrong length or
+     *                                  x and y are the same array
+     */
+    public double[] multiply(double[] x, double[] y, ForkJoinPool pool) {
+        checkProduct(x, y);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        product(x, y).invoke(pool);
+        return y;
+    }
+
+    /**
+     * Returns a reusable task tree computing {@code y = this * x} for fixed arrays, so that
+     * repeated products allocate nothing.
+     */
+    Product product(double[] x, double[] y) {
+        return new Product(new ProductTask(this, x, y, 0, rows));
+    }
+
+    /**
+     * Returns the reciprocal of each diagonal element, or throws if a diagonal element is not
+     * stored or zero.
+     */
+    double[] inverseDiagonal() {
+        if (rows != cols) {
+            throw new IllegalArgumentException("Matrix must be square, not " + rows + "x" + cols);
+        }
+        double[] inverse = new double[rows];
+        for (int r = 0; r < rows; r++) {
+            double d = get(r, r);
+            if (d == 0.0) {
+                throw new ArithmeticException("Diagonal element " + r + " is zero");
+            }
+            inverse[r] = 1.0 / d;
+        }
+        return inverse;
+    }
+
+    /**
+     * Returns the dot product of row {@code row} with x.
+     */
+    double rowDot(int row, double[] x) {
+        double s = 0.0;
+        for (int k = rowStart[row], end = rowStart[row + 1]; k < end; k++) {
+            s += values[k] * x[columns[k]];
+        }
+        return s;
+    }
+
+    private void multiplyRows(double[] x, double[] y, int from, int to) {
+        for (int r = from; r < to; r++) {
+            y[r] = rowDot(r, x);
+        }
+    }
+
+    private void checkProduct(double[] x, double[] y) {
+        checkVector(x, cols);
+        checkVector(y, rows);
+        if (x == y) {
+            throw new IllegalArgumentException("Source and destination must be different arrays");
+        }
+    }
+
+    static void checkVector(double[] v, int length) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (v.length != length) {
+            throw new IllegalArgumentException("Vector has length " + v.length + ", expected " + length);
+        }
+    }
+
+    private static void checkDimensions(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SparseMatrix[" + rows + "x" + cols + ", " + values.length + " entries]";
+    }
+
+    /**
+     * Accumulates triplets for a {@link SparseMatrix}. Triplets are stored in growing packed
+     * arrays, so adding one allocates only when the arrays are full.
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int cols;
+        private int[] rowIndices = new int[16];
+        private int[] colIndices = new int[16];
+        private double[] values = new double[16];
+        private int count;
+
+        private Builder(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        /**
+         * Adds a value to an element. Values added to the same element are summed.
+         *
+         * @param row   the row index
+         * @param col   the column index
+         * @param value the value to add
+         * @return this builder
+         * @throws IndexOutOfBoundsException if row or col is out of bounds
+         */
+        public Builder add(int row, int col, double value) {
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                throw new IndexOutOfBoundsException("Element (" + row + ", " + col
+                    + ") is outside a " + rows + "x" + cols + " matrix");
+            }
+            if (count == values.length) {
+                int capacity = count * 2;
+                rowIndices = Arrays.copyOf(rowIndices, capacity);
+                colIndices = Arrays.copyOf(colIndices, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            rowIndices[count] = row;
+            colIndices[count] = col;
+            values[count] = value;
+            count++;
+            return this;
+        }
+
+        /**
+         * Returns the number of triplets added so far.
+         *
+         * @return the number of triplets
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Creates a matrix from the triplets added so far. The builder can still be used
+         * afterwards.
+         *
+         * @return a new SparseMatrix
+         */
+        public SparseMatrix build() {
+            return fromTriplets(rows, cols, rowIndices, colIndices, values, count);
+        }
+    }
+
+    /**
+     * A product {@code y = A * x} with fixed arrays that can be run any number of times.
+     */
+    static final class Product {
+        private final ProductTask root;
+
+        Product(ProductTask root) {
+            this.root = root;
+        }
+
+        /**
+         * Runs the product on a pool, or on the calling thread if pool is null.
+         */
+        void invoke(ForkJoinPool pool) {
+            if (pool == null || root.left == null) {
+                root.a.multiplyRows(root.x, root.y, root.from, root.to);
+                return;
+            }
+            root.reinitialize();
+            pool.invoke(root);
+        }
+    }
+
+    /**
+     * Computes the rows {@code [from, to)} of a product. The tree is split once, by stored
+     * entries, when it is created; running it again only resets the completion state of its
+     * nodes.
+     */
+    private static final class ProductTask extends RecursiveAction {
+        final SparseMatrix a;
+        final double[] x;
+        final double[] y;
+        final int from;
+        final int to;
+        final ProductTask left;
+        final ProductTask right;
+
+        ProductTask(SparseMatrix a, double[] x, double[] y, int from, int to) {
+            this.a = a;
+            this.x = x;
+            this.y = y;
+            this.from = from;
+            this.to = to;
+            int[] rowStart = a.rowStart;
+            int entries = rowStart[to] - rowStart[from];
+            if (entries > GRAIN_NON_ZEROS && to - from > 1) {
+                // Split where half of the entries of the range have been passed
+                int half = rowStart[from] + entries / 2;
+                int mid = Arrays.binarySearch(rowStart, from, to + 1, half);
+                mid = mid >= 0 ? mid : -mid - 1;
+                mid = Math.max(from + 1, Math.min(to - 1, mid));
+                left = new ProductTask(a, x, y, from, mid);
+                right = new ProductTask(a, x, y, mid, to);
+            } else {
+                left = null;
+                right = null;
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (left == null) {
+                a.multiplyRows(x, y, from, to);
+                return;
+            }
+            left.reinitialize();
+            right.reinitialize();
+            invokeAll(left, right);
+        }
+    }
+}
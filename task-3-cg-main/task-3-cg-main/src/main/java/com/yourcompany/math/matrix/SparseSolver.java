@@ -0,0 +1,243 @@
+package com.yourcompany.math.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Iterative solvers for sparse systems {@code A * x = b}.
+ * <p>
+ * Every solver starts from the values in {@code x}, iterates until the residual norm
+ * {@code |b - A * x|} is at most {@code tolerance * |b|} or the iteration cap is reached, and
+ * leaves its last iterate in {@code x}. Work vectors are allocated once per solve; the iterations
+ * themselves allocate nothing, including the fork-join products of Conjugate Gradient, whose task
+ * tree is built once and reset between iterations. Not converging within the cap is reported by
+ * the returned {@link SolverResult} rather than by an exception.
+ * <p>
+ * Gauss-Seidel does not measure the residual of every iterate, since that would take a second
+ * pass over the matrix per sweep. It stops on the residuals of the rows as computed during the
+ * sweep, each against the partly updated x, and confirms convergence with the true residual
+ * only once their norm reaches the threshold. It may therefore run a sweep past the first
+ * iterate within the tolerance, but the reported residual is always that of the returned x.
+ */
+public final class SparseSolver {
+
+    private SparseSolver() {
+    }
+
+    /**
+     * Solves a symmetric positive definite system by Conjugate Gradient on the calling thread.
+     *
+     * @param a             the symmetric positive definite coefficient matrix
+     * @param b             the right-hand side
+     * @param x             the initial guess, overwritten with the solution
+     * @param tolerance     the residual norm to reach, relative to the norm of b
+     * @param maxIterations the largest number of iterations
+     * @return the outcome of the solve
+     * @throws IllegalArgumentException if an argument is null, a is not square, a vector has the
+     *                                  wrong length, tolerance is negative or maxIterations is
+     *                                  negative
+     */
+    public static SolverResult conjugateGradient(SparseMatrix a, double[] b, double[] x,
+                                                 double tolerance, int maxIterations) {
+        return conjugateGradient(a, b, x, tolerance, maxIterations, null);
+    }
+
+    /**
+     * Solves a symmetric positive definite system by Conjugate Gradient, computing the
+     * matrix-vector products on a fork-join pool.
+     * <p>
+     * The iteration stops early, without converging, if a search direction shows that the
+     * matrix is not positive definite.
+     *
+     * @param a             the symmetric positive definite coefficient matrix
+     * @param b             the right-hand side
+     * @param x             the initial guess, overwritten with the solution
+     * @param tolerance     the residual norm to reach, relative to the norm of b
+     * @param maxIterations the largest number of iterations
+     * @param pool          the pool that executes the products, or null for the calling thread
+     * @return the outcome of the solve
+     * @throws IllegalArgumentException if an argument other than pool is null, a is not square,
+     *                                  a vector has the wrong length, tolerance is negative or
+     *                                  maxIterations is negative
+     */
+    public static SolverResult conjugateGradient(SparseMatrix a, double[] b, double[] x,
+                                                 double tolerance, int maxIterations, ForkJoinPool pool) {
+        int n = checkSystem(a, b, x, tolerance, maxIterations);
+        double threshold = tolerance * Math.sqrt(dot(b, b));
+        double[] r = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        SparseMatrix.Product ap = a.product(p, q);
+
+        // r = b - A * x, p = r
+        System.arraycopy(x, 0, p, 0, n);
+        ap.invoke(pool);
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - q[i];
+            p[i] = r[i];
+        }
+        double rr = dot(r, r);
+        int iterations = 0;
+        while (true) {
+            double norm = Math.sqrt(rr);
+            if (norm <= threshold) {
+                return new SolverResult(iterations, norm, true);
+            }
+            if (iterations == maxIterations) {
+                return new SolverResult(iterations, norm, false);
+            }
+            ap.invoke(pool);
+            double pq = dot(p, q);
+            if (!(pq > 0.0)) {
+                return new SolverResult(iterations, norm, false);
+            }
+            double alpha = rr / pq;
+            double rrNext = 0.0;
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                double ri = r[i] - alpha * q[i];
+                r[i] = ri;
+                rrNext += ri * ri;
+            }
+            double beta = rrNext / rr;
+            for (int i = 0; i < n; i++) {
+                p[i] = r[i] + beta * p[i];
+            }
+            rr = rrNext;
+            iterations++;
+        }
+    }
+
+    /**
+     * Solves a system by Jacobi iteration. Converges for strictly diagonally dominant matrices,
+     * among others.
+     *
+     * @param a             the coefficient matrix
+     * @param b             the right-hand side
+     * @param x             the initial guess, overwritten with the solution
+     * @param tolerance     the residual norm to reach, relative to the norm of b
+     * @param maxIterations the largest number of iterations
+     * @return the outcome of the solve
+     * @throws IllegalArgumentException if an argument is null, a is not square, a vector has the
+     *                                  wrong length, tolerance is negative or maxIterations is
+     *                                  negative
+     * @throws ArithmeticException if a diagonal element of a is zero
+     */
+    public static SolverResult jacobi(SparseMatrix a, double[] b, double[] x,
+                                      double tolerance, int maxIterations) {
+        int n = checkSystem(a, b, x, tolerance, maxIterations);
+        double threshold = tolerance * Math.sqrt(dot(b, b));
+        double[] inverseDiagonal = a.inverseDiagonal();
+        double[] current = x;
+        double[] next = new double[n];
+        int iterations = 0;
+        try {
+            while (true) {
+                // One sweep yields both the residual of the current iterate and the next one
+                double rr = 0.0;
+                for (int i = 0; i < n; i++) {
+                    double ri = b[i] - a.rowDot(i, current);
+                    rr += ri * ri;
+                    next[i] = current[i] + ri * inverseDiagonal[i];
+                }
+                double norm = Math.sqrt(rr);
+                if (norm <= threshold) {
+                    return new SolverResult(iterations, norm, true);
+                }
+                if (iterations == maxIterations) {
+                    return new SolverResult(iterations, norm, false);
+                }
+                double[] t = current;
+                current = next;
+                next = t;
+                iterations++;
+            }
+        } finally {
+            if (current != x) {
+                System.arraycopy(current, 0, x, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Solves a system by Gauss-Seidel iteration, updating x in place row by row. Converges for
+     * symmetric positive definite and for strictly diagonally dominant matrices.
+     *
+     * @param a             the coefficient matrix
+     * @param b             the right-hand side
+     * @param x             the initial guess, overwritten with the solution
+     * @param tolerance     the residual norm to reach, relative to the norm of b
+     * @param maxIterations the largest number of iterations
+     * @return the outcome of the solve
+     * @throws IllegalArgumentException if an argument is null, a is not square, a vector has the
+     *                                  wrong length, tolerance is negative or maxIterations is
+     *                                  negative
+     * @throws ArithmeticException if a diagonal element of a is zero
+     */
+    public static SolverResult gaussSeidel(SparseMatrix a, double[] b, double[] x,
+                                           double tolerance, int maxIterations) {
+        int n = checkSystem(a, b, x, tolerance, maxIterations);
+        double threshold = tolerance * Math.sqrt(dot(b, b));
+        double[] inverseDiagonal = a.inverseDiagonal();
+        double norm = residualNorm(a, b, x);
+        int iterations = 0;
+        while (true) {
+            if (norm <= threshold) {
+                return new SolverResult(iterations, norm, true);
+            }
+            if (iterations == maxIterations) {
+                return new SolverResult(iterations, norm, false);
+            }
+            // The residual of each row against the partly updated x drives its update; the norm
+            // of those residuals stands in for the true one until it reaches the threshold
+            double rr = 0.0;
+            for (int i = 0; i < n; i++) {
+                double ri = b[i] - a.rowDot(i, x);
+                rr += ri * ri;
+                x[i] += ri * inverseDiagonal[i];
+            }
+            iterations++;
+            if (Math.sqrt(rr) <= threshold || iterations == maxIterations) {
+                norm = residualNorm(a, b, x);
+            }
+        }
+    }
+
+    private static double residualNorm(SparseMatrix a, double[] b, double[] x) {
+        double rr = 0.0;
+        for (int i = 0; i < b.length; i++) {
+            double ri = b[i] - a.rowDot(i, x);
+            rr += ri * ri;
+        }
+        return Math.sqrt(rr);
+    }
+
+    private static double dot(double[] u, double[] v) {
+        double s = 0.0;
+        for (int i = 0; i < u.length; i++) {
+            s += u[i] * v[i];
+        }
+        return s;
+    }
+
+    private static int checkSystem(SparseMatrix a, double[] b, double[] x, double tolerance, int maxIterations) {
+        if (a == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        int n = a.getRows();
+        if (a.getColumns() != n) {
+            throw new IllegalArgumentException("Matrix must be square, not " + n + "x" + a.getColumns());
+        }
+        SparseMatrix.checkVector(b, n);
+        SparseMatrix.checkVector(x, n);
+        if (b == x) {
+            throw new IllegalArgumentException("Right-hand side and solution must be different arrays");
+        }
+        if (!(tolerance >= 0.0)) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Iteration count cannot be negative");
+        }
+        return n;
+    }
+}
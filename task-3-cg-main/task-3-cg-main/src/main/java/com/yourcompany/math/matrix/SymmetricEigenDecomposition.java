@@ -0,0 +1,257 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+
+/**
+ * Eigen-decomposition {@code A = V * diag(values) * V^T} of a symmetric {@link Matrix3x3}, for
+ * principal component analysis of point neighborhoods and similar per-point work.
+ * <p>
+ * The decomposition uses cyclic Jacobi rotations, which converge quadratically and give
+ * orthonormal eigenvectors even for repeated eigenvalues. Only the upper triangle of the matrix
+ * is read. Eigenvalues are sorted in descending order, and the eigenvectors are the columns of
+ * {@code V} in the same order; {@code V} is always a proper rotation. The eigenvector of the
+ * smallest eigenvalue of a neighborhood's covariance matrix is its estimated normal.
+ * <p>
+ * The static batch methods work on packed arrays of row-major 3x3 matrices and allocate one
+ * small scratch array per call, not per matrix.
+ */
+public final class SymmetricEigenDecomposition {
+
+    private static final int MAX_SWEEPS = 32;
+    // Jacobi stops when the squared off-diagonal norm drops below this fraction of the diagonal's
+    private static final double CONVERGENCE = 1e-30;
+
+    // Layout of the scratch array used by the kernel
+    static final int A = 0;
+    static final int V = 9;
+    static final int SCRATCH = 18;
+
+    private final double[] values;
+    private final double[] vectors;
+
+    private SymmetricEigenDecomposition(double[] values, double[] vectors) {
+        this.values = values;
+        this.vectors = vectors;
+    }
+
+    /**
+     * Decomposes a symmetric matrix. Only the upper triangle is read.
+     *
+     * @param m the symmetric matrix to decompose
+     * @return the decomposition
+     * @throws IllegalArgumentException if m is null
+     */
+    public static SymmetricEigenDecomposition of(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        double[] w = new double[SCRATCH];
+        m.toArray(w, A);
+        decompose(w);
+        double[] values = {w[A], w[A + 4], w[A + 8]};
+        double[] vectors = new double[9];
+        System.arraycopy(w, V, vectors, 0, 9);
+        return new SymmetricEigenDecomposition(values, vectors);
+    }
+
+    /**
+     * Returns the eigenvalues in descending order.
+     *
+     * @return a new Vector3 of the eigenvalues
+     */
+    public Vector3 getEigenvalues() {
+        return new Vector3(values[0], values[1], values[2]);
+    }
+
+    /**
+     * Returns the eigenvalue at the specified position in descending order.
+     *
+     * @param index the index of the eigenvalue (0-2)
+     * @return the eigenvalue
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public double getEigenvalue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the unit eigenvector of the eigenvalue at the specified position.
+     *
+     * @param index the index of the eigenvalue (0-2)
+     * @return a new Vector3 of the eigenvector
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public Vector3 getEigenvector(int index) {
+        checkIndex(index);
+        return new Vector3(vectors[index], vectors[3 + index], vectors[6 + index]);
+    }
+
+    /**
+     * Returns the matrix whose columns are the eigenvectors, in the order of the eigenvalues.
+     *
+     * @return a new Matrix3x3 V
+     */
+    public Matrix3x3 getEigenvectors() {
+        return Matrix3x3.fromArray(vectors, 0);
+    }
+
+    /**
+     * Decomposes {@code count} symmetric matrices stored consecutively, 9 elements each in
+     * row-major order. Only the upper triangle of each matrix is read.
+     *
+     * @param src        the source matrices
+     * @param srcOff     the index of the first element of the first matrix
+     * @param values     the destination for the eigenvalues, 3 per matrix in descending order
+     * @param valuesOff  the index at which to write the first eigenvalue
+     * @param vectors    the destination for the eigenvector matrices, 9 per matrix in row-major
+     *                   order with the eigenvectors as columns
+     * @param vectorsOff the index at which to write the first eigenvector matrix
+     * @param count      the number of matrices
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void decompose(double[] src, int srcOff, double[] values, int valuesOff,
+                                 double[] vectors, int vectorsOff, int count) {
+        checkPacked(src, srcOff, count, 9);
+        checkPacked(values, valuesOff, count, 3);
+        checkPacked(vectors, vectorsOff, count, 9);
+        double[] w = new double[SCRATCH];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(src, srcOff + 9 * i, w, A, 9);
+            decompose(w);
+            int vi = valuesOff + 3 * i;
+            values[vi] = w[A];
+            values[vi + 1] = w[A + 4];
+            values[vi + 2] = w[A + 8];
+            System.arraycopy(w, V, vectors, vectorsOff + 9 * i, 9);
+        }
+    }
+
+    /**
+     * Computes the unit eigenvector of the smallest eigenvalue of {@code count} symmetric
+     * matrices stored consecutively, 9 elements each in row-major order. Applied to the
+     * covariance matrices of point neighborhoods, these are the estimated surface normals.
+     *
+     * @param src    the source matrices
+     * @param srcOff the index of the first element of the first matrix
+     * @param dst    the destination for the eigenvectors, 3 per matrix
+     * @param dstOff the index at which to write the first eigenvector
+     * @param count  the number of matrices
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public static void smallestEigenvectors(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count, 9);
+        checkPacked(dst, dstOff, count, 3);
+        double[] w = new double[SCRATCH];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(src, srcOff + 9 * i, w, A, 9);
+            decompose(w);
+            int di = dstOff + 3 * i;
+            dst[di] = w[V + 2];
+            dst[di + 1] = w[V + 5];
+            dst[di + 2] = w[V + 8];
+        }
+    }
+
+    /**
+     * Diagonalizes the symmetric matrix at {@code w[A..A+8]} in place, reading its upper
+     * triangle, and writes the rotation V at {@code w[V..V+8]}. On return the diagonal of A holds
+     * the eigenvalues in descending order and V the matching eigenvectors as columns.
+     */
+    static void decompose(double[] w) {
+        w[A + 3] = w[A + 1];
+        w[A + 6] = w[A + 2];
+        w[A + 7] = w[A + 5];
+        for (int k = 0; k < 9; k++) {
+            w[V + k] = (k & 3) == 0 ? 1.0 : 0.0;
+        }
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double a01 = w[A + 1], a02 = w[A + 2], a12 = w[A + 5];
+            double off = a01 * a01 + a02 * a02 + a12 * a12;
+            double a00 = w[A], a11 = w[A + 4], a22 = w[A + 8];
+            double diagonal = a00 * a00 + a11 * a11 + a22 * a22;
+            // Also stops on NaN input
+            if (!(off > CONVERGENCE * diagonal)) {
+                break;
+            }
+            rotate(w, 0, 1, 2);
+            rotate(w, 0, 2, 1);
+            rotate(w, 1, 2, 0);
+        }
+        // Selection sort on three elements; each swap negates one column to keep det(V) = 1
+        for (int i = 0; i < 2; i++) {
+            int max = i;
+            for (int j = i + 1; j < 3; j++) {
+                if (w[A + 4 * j] > w[A + 4 * max]) {
+                    max = j;
+                }
+            }
+            if (max != i) {
+                double t = w[A + 4 * i];
+                w[A + 4 * i] = w[A + 4 * max];
+                w[A + 4 * max] = t;
+                for (int k = 0; k < 3; k++) {
+                    t = w[V + 3 * k + i];
+                    w[V + 3 * k + i] = w[V + 3 * k + max];
+                    w[V + 3 * k + max] = -t;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the Jacobi rotation that zeroes element (p, q) of A, with r the remaining index.
+     */
+    private static void rotate(double[] w, int p, int q, int r) {
+        double apq = w[A + 3 * p + q];
+        if (apq == 0.0) {
+            return;
+        }
+        double app = w[A + 4 * p], aqq = w[A + 4 * q];
+        double theta = (aqq - app) / (2.0 * apq);
+        // For a huge theta the square overflows and t becomes 0: apq is negligible anyway
+        double t = 1.0 / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+        if (theta < 0.0) {
+            t = -t;
+        }
+        double c = 1.0 / Math.sqrt(t * t + 1.0);
+        double s = t * c;
+        w[A + 4 * p] = app - t * apq;
+        w[A + 4 * q] = aqq + t * apq;
+        w[A + 3 * p + q] = 0.0;
+        w[A + 3 * q + p] = 0.0;
+        double arp = w[A + 3 * r + p], arq = w[A + 3 * r + q];
+        double rp = c * arp - s * arq;
+        double rq = s * arp + c * arq;
+        w[A + 3 * r + p] = rp;
+        w[A + 3 * p + r] = rp;
+        w[A + 3 * r + q] = rq;
+        w[A + 3 * q + r] = rq;
+        for (int k = 0; k < 3; k++) {
+            double vkp = w[V + 3 * k + p], vkq = w[V + 3 * k + q];
+            w[V + 3 * k + p] = c * vkp - s * vkq;
+            w[V + 3 * k + q] = s * vkp + c * vkq;
+        }
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Index must be between 0 and 2");
+        }
+    }
+
+    static void checkPacked(double[] array, int offset, int count, int stride) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (offset < 0 || (long) offset + (long) stride * count > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " elements of " + stride
+                + " values at offset " + offset + " does not fit an array of length " + array.length);
+        }
+    }
+}
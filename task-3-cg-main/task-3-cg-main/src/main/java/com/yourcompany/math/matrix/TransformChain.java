@@ -0,0 +1,327 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3Buffer;
+import com.yourcompany.math.vector.Vector4;
+import com.yourcompany.math.vector.Vector4Buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A lazily fused sequence of {@link Matrix4x4} transforms, such as model, view and projection.
+ * <p>
+ * Stages are recorded in the order they apply to a vector; the first stage added is applied first.
+ * Before the first transform the stages are pre-multiplied once into a single matrix
+ * ({@code last * ... * first}), so each vector costs one matrix product however long the chain is.
+ * The fused matrix is cached and reused until a stage is added, replaced or removed.
+ * <p>
+ * When every stage is affine the fusion multiplies only the upper 3x4 blocks and the fused matrix
+ * has an exact (0, 0, 0, 1) bottom row; batch transforms then skip the fourth row as well.
+ * <p>
+ * This class is not thread-safe. The matrix returned by {@link #fused()} is immutable and may be
+ * shared freely.
+ */
+public final class TransformChain {
+    private final List<Matrix4x4> stages = new ArrayList<>();
+    private Matrix4x4 fused;
+    private boolean affine;
+
+    /**
+     * Creates an empty chain, equivalent to the identity transform.
+     */
+    public TransformChain() {
+    }
+
+    /**
+     * Creates a chain of the given stages, in the order they apply.
+     *
+     * @param stages the stages, first applied first
+     * @throws IllegalArgumentException if stages or any stage is null
+     */
+    public TransformChain(Matrix4x4... stages) {
+        if (stages == null) {
+            throw new IllegalArgumentException("Stages cannot be null");
+        }
+        for (Matrix4x4 stage : stages) {
+            then(stage);
+        }
+    }
+
+    /**
+     * Appends a stage applied after all current stages.
+     *
+     * @param m the stage to append
+     * @return this chain
+     * @throws IllegalArgumentException if m is null
+     */
+    public TransformChain then(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        stages.add(m);
+        fused = null;
+        return this;
+    }
+
+    /**
+     * Replaces a stage.
+     *
+     * @param index the index of the stage, 0 being applied first
+     * @param m     the new stage
+     * @return this chain
+     * @throws IllegalArgumentException if m is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public TransformChain set(int index, Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        checkIndex(index);
+        if (stages.get(index) != m) {
+            stages.set(index, m);
+            fused = null;
+        }
+        return this;
+    }
+
+    /**
+     * Removes a stage.
+     *
+     * @param index the index of the stage, 0 being applied first
+     * @return this chain
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public TransformChain remove(int index) {
+        checkIndex(index);
+        stages.remove(index);
+        fused = null;
+        return this;
+    }
+
+    /**
+     * Removes all stages, leaving the identity transform.
+     *
+     * @return this chain
+     */
+    public TransformChain clear() {
+        stages.clear();
+        fused = null;
+        return this;
+    }
+
+    /**
+     * Returns the number of stages.
+     *
+     * @return the number of stages
+     */
+    public int size() {
+        return stages.size();
+    }
+
+    /**
+     * Returns a stage.
+     *
+     * @param index the index of the stage, 0 being applied first
+     * @return the stage
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Matrix4x4 get(int index) {
+        checkIndex(index);
+        return stages.get(index);
+    }
+
+    /**
+     * Returns the product of all stages, {@code last * ... * first}, computing it only if a stage
+     * changed since the previous call.
+     *
+     * @return the fused matrix, or the identity if the chain is empty
+     */
+    public Matrix4x4 fused() {
+        if (fused == null) {
+            fuse();
+        }
+        return fused;
+    }
+
+    /**
+     * Checks whether every stage is affine, in which case the fused matrix is affine with an exact
+     * (0, 0, 0, 1) bottom row and the 3x4 fast paths are used.
+     *
+     * @return true if the chain is affine
+     */
+    public boolean isAffine() {
+        if (fused == null) {
+            fuse();
+        }
+        return affine;
+    }
+
+    /**
+     * Applies the chain to a vector.
+     *
+     * @param v the vector to transform
+     * @return a new Vector4 equal to {@code fused().multiply(v)}
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4 multiply(Vector4 v) {
+        return fused().multiply(v);
+    }
+
+    /**
+     * Applies the chain to a run of points stored as packed (x, y, z) triples, with the semantics
+     * of {@link Matrix4x4#transformPoints(double[], int, double[], int, int)}.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformPoints(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        fused().transformPoints(src, srcOff, dst, dstOff, count);
+    }
+
+    /**
+     * Applies the chain to a run of directions stored as packed (x, y, z) triples, with the
+     * semantics of {@link Matrix4x4#transformDirections(double[], int, double[], int, int)}.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformDirections(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        fused().transformDirections(src, srcOff, dst, dstOff, count);
+    }
+
+    /**
+     * Applies the chain to a run of vectors stored as packed (x, y, z, w) quadruples, with the
+     * semantics of {@link Matrix4x4#transform(double[], int, double[], int, int)}. For an affine
+     * chain the w component is copied instead of being recomputed.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transform(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        Matrix4x4 m = fused();
+        if (!affine) {
+            m.transform(src, srcOff, dst, dstOff, count);
+            return;
+        }
+        Matrix4x4.checkPacked(src, srcOff, count, 4);
+        Matrix4x4.checkPacked(dst, dstOff, count, 4);
+        double a00 = m.m00, a01 = m.m01, a02 = m.m02, a03 = m.m03;
+        double a10 = m.m10, a11 = m.m11, a12 = m.m12, a13 = m.m13;
+        double a20 = m.m20, a21 = m.m21, a22 = m.m22, a23 = m.m23;
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 4 * i;
+            int d = dstOff + 4 * i;
+            double x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = a00 * x + a01 * y + a02 * z + a03 * w;
+            dst[d + 1] = a10 * x + a11 * y + a12 * z + a13 * w;
+            dst[d + 2] = a20 * x + a21 * y + a22 * z + a23 * w;
+            dst[d + 3] = w;
+        }
+    }
+
+    /**
+     * Applies the chain to a range of points held in structure-of-arrays buffers, with the
+     * semantics of {@link Matrix4x4#transformPoints(Vector3Buffer, int, Vector3Buffer, int, int)}.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source point
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination point
+     * @param count    the number of points to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformPoints(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count) {
+        fused().transformPoints(src, srcIndex, dst, dstIndex, count);
+    }
+
+    /**
+     * Applies the chain to a range of directions held in structure-of-arrays buffers, with the
+     * semantics of {@link Matrix4x4#transformDirections(Vector3Buffer, int, Vector3Buffer, int, int)}.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source direction
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination direction
+     * @param count    the number of directions to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformDirections(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count) {
+        fused().transformDirections(src, srcIndex, dst, dstIndex, count);
+    }
+
+    /**
+     * Applies the chain to a range of vectors held in structure-of-arrays buffers, with the
+     * semantics of {@link Matrix4x4#transform(Vector4Buffer, int, Vector4Buffer, int, int)}.
+     *
+     * @param src      the source buffer
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination buffer
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(Vector4Buffer src, int srcIndex, Vector4Buffer dst, int dstIndex, int count) {
+        fused().transform(src, srcIndex, dst, dstIndex, count);
+    }
+
+    @Override
+    public String toString() {
+        return "TransformChain(" + stages.size() + " stages)";
+    }
+
+    private void fuse() {
+        Matrix4x4 product = Matrix4x4.identity();
+        boolean allAffine = true;
+        for (Matrix4x4 stage : stages) {
+            allAffine &= stage.isAffine();
+            product = allAffine ? multiplyAffine(stage, product) : stage.multiply(product);
+        }
+        fused = product;
+        affine = allAffine;
+    }
+
+    /**
+     * Multiplies two affine matrices using only their upper 3x4 blocks; the bottom row of the
+     * product is exactly (0, 0, 0, 1).
+     */
+    private static Matrix4x4 multiplyAffine(Matrix4x4 a, Matrix4x4 b) {
+        return new Matrix4x4(
+            a.m00 * b.m00 + a.m01 * b.m10 + a.m02 * b.m20,
+            a.m00 * b.m01 + a.m01 * b.m11 + a.m02 * b.m21,
+            a.m00 * b.m02 + a.m01 * b.m12 + a.m02 * b.m22,
+            a.m00 * b.m03 + a.m01 * b.m13 + a.m02 * b.m23 + a.m03,
+            a.m10 * b.m00 + a.m11 * b.m10 + a.m12 * b.m20,
+            a.m10 * b.m01 + a.m11 * b.m11 + a.m12 * b.m21,
+            a.m10 * b.m02 + a.m11 * b.m12 + a.m12 * b.m22,
+            a.m10 * b.m03 + a.m11 * b.m13 + a.m12 * b.m23 + a.m13,
+            a.m20 * b.m00 + a.m21 * b.m10 + a.m22 * b.m20,
+            a.m20 * b.m01 + a.m21 * b.m11 + a.m22 * b.m21,
+            a.m20 * b.m02 + a.m21 * b.m12 + a.m22 * b.m22,
+            a.m20 * b.m03 + a.m21 * b.m13 + a.m22 * b.m23 + a.m23,
+            0.0, 0.0, 0.0, 1.0);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= stages.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for chain of " + stages.size() + " stages");
+        }
+    }
+}
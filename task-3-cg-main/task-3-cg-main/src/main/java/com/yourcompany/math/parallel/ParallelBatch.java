@@ -0,0 +1,589 @@
+package com.yourcompany.math.parallel;
+
+import com.yourcompany.math.geometry.BoundingBox;
+import com.yourcompany.math.kernel.Compensated;
+import com.yourcompany.math.kernel.Normalization;
+import com.yourcompany.math.kernel.PackedKernels;
+import com.yourcompany.math.kernel.Precision;
+import com.yourcompany.math.matrix.BatchSolver;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import com.yourcompany.math.vector.Vector4Buffer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join versions of the batch transforms, of bulk normalization, of the {@link BatchSolver}
+ * small-system solvers and of common reductions over large point sets.
+ * <p>
+ * A range is split in halves until a piece holds at most {@link #getGrainSize()} vectors. Each
+ * piece is processed by the sequential kernels of {@link Matrix4x4}, and partial results are
+ * combined in the fixed order of that split tree. Since the tree depends only on the range length
+ * and the grain size, floating-point reductions give bit-identical results for any pool and any
+ * number of threads. Ranges no longer than one grain run on the calling thread.
+ * <p>
+ * With {@link Precision#COMPENSATED}, the sums of {@link #centroid} and
+ * {@link #sumOfSquaredLengths} carry a Neumaier error term through every leaf and every combine
+ * step, and squared lengths are accumulated with {@link Math#fma}.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class ParallelBatch {
+
+    /**
+     * Default number of vectors processed by one leaf task.
+     */
+    public static final int DEFAULT_GRAIN_SIZE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int grainSize;
+    private final Precision precision;
+
+    /**
+     * Constructs a batch executor that runs on the given pool with standard precision.
+     *
+     * @param pool      the pool that executes the tasks
+     * @param grainSize the largest number of vectors processed by one task
+     * @throws IllegalArgumentException if pool is null or grainSize is not positive
+     */
+    public ParallelBatch(ForkJoinPool pool, int grainSize) {
+        this(pool, grainSize, Precision.STANDARD);
+    }
+
+    /**
+     * Constructs a batch executor that runs on the given pool.
+     *
+     * @param pool      the pool that executes the tasks
+     * @param grainSize the largest number of vectors processed by one task
+     * @param precision the accumulation mode of the reductions
+     * @throws IllegalArgumentException if pool or precision is null or grainSize is not positive
+     */
+    public ParallelBatch(ForkJoinPool pool, int grainSize, Precision precision) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (grainSize < 1) {
+            throw new IllegalArgumentException("Grain size must be positive");
+        }
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        this.pool = pool;
+        this.grainSize = grainSize;
+        this.precision = precision;
+    }
+
+    /**
+     * Creates a batch executor on the common pool with the default grain size.
+     *
+     * @return a new ParallelBatch
+     */
+    public static ParallelBatch commonPool() {
+        return new ParallelBatch(ForkJoinPool.commonPool(), DEFAULT_GRAIN_SIZE);
+    }
+
+    /**
+     * Returns the pool that executes the tasks.
+     *
+     * @return the pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the largest number of vectors processed by one task.
+     *
+     * @return the grain size
+     */
+    public int getGrainSize() {
+        return grainSize;
+    }
+
+    /**
+     * Returns the accumulation mode of the reductions.
+     *
+     * @return the precision
+     */
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Parallel version of {@link Matrix4x4#transformPoints(Vector3Buffer, int, Vector3Buffer, int, int)}.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param m        the transform
+     * @param src      the source points
+     * @param srcIndex the index of the first source point
+     * @param dst      the destination points
+     * @param dstIndex the index of the first destination point
+     * @param count    the number of points to transform
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformPoints(Matrix4x4 m, Vector3Buffer src, int srcIndex,
+                                Vector3Buffer dst, int dstIndex, int count) {
+        checkMatrix(m);
+        checkRange(src == null ? -1 : src.size(), srcIndex, count);
+        checkRange(dst == null ? -1 : dst.size(), dstIndex, count);
+        forEach(count, (from, length) -> m.transformPoints(src, srcIndex + from, dst, dstIndex + from, length));
+    }
+
+    /**
+     * Parallel version of
+     * {@link Matrix4x4#transformDirections(Vector3Buffer, int, Vector3Buffer, int, int)}.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param m        the transform
+     * @param src      the source directions
+     * @param srcIndex the index of the first source direction
+     * @param dst      the destination directions
+     * @param dstIndex the index of the first destination direction
+     * @param count    the number of directions to transform
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transformDirections(Matrix4x4 m, Vector3Buffer src, int srcIndex,
+                                    Vector3Buffer dst, int dstIndex, int count) {
+        checkMatrix(m);
+        checkRange(src == null ? -1 : src.size(), srcIndex, count);
+        checkRange(dst == null ? -1 : dst.size(), dstIndex, count);
+        forEach(count, (from, length) ->
+            m.transformDirections(src, srcIndex + from, dst, dstIndex + from, length));
+    }
+
+    /**
+     * Parallel version of {@link Matrix4x4#transform(Vector4Buffer, int, Vector4Buffer, int, int)}.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param m        the transform
+     * @param src      the source vectors
+     * @param srcIndex the index of the first source vector
+     * @param dst      the destination vectors
+     * @param dstIndex the index of the first destination vector
+     * @param count    the number of vectors to transform
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void transform(Matrix4x4 m, Vector4Buffer src, int srcIndex,
+                          Vector4Buffer dst, int dstIndex, int count) {
+        checkMatrix(m);
+        checkRange(src == null ? -1 : src.size(), srcIndex, count);
+        checkRange(dst == null ? -1 : dst.size(), dstIndex, count);
+        forEach(count, (from, length) -> m.transform(src, srcIndex + from, dst, dstIndex + from, length));
+    }
+
+    /**
+     * Parallel version of {@link Matrix4x4#transformPoints(double[], int, double[], int, int)}
+     * for packed (x, y, z) triples.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param m      the transform
+     * @param src    the packed source points
+     * @param srcOff the index of the first source element
+     * @param dst    the packed destination points
+     * @param dstOff the index of the first destination element
+     * @param count  the number of points to transform
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformPoints(Matrix4x4 m, double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkMatrix(m);
+        checkPacked(src, srcOff, count);
+        checkPacked(dst, dstOff, count);
+        forEach(count, (from, length) ->
+            m.transformPoints(src, srcOff + 3 * from, dst, dstOff + 3 * from, length));
+    }
+
+    /**
+     * Parallel version of {@link Matrix4x4#transformDirections(double[], int, double[], int, int)}
+     * for packed (x, y, z) triples.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param m      the transform
+     * @param src    the packed source directions
+     * @param srcOff the index of the first source element
+     * @param dst    the packed destination directions
+     * @param dstOff the index of the first destination element
+     * @param count  the number of directions to transform
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void transformDirections(Matrix4x4 m, double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkMatrix(m);
+        checkPacked(src, srcOff, count);
+        checkPacked(dst, dstOff, count);
+        forEach(count, (from, length) ->
+            m.transformDirections(src, srcOff + 3 * from, dst, dstOff + 3 * from, length));
+    }
+
+    /**
+     * Parallel version of {@link Vector3Buffer#normalize(Vector3Buffer, Normalization, Vector3)}
+     * over a range. Zero vectors are replaced by the fallback, so no task can fail.
+     * Source and destination may be the same buffer if the indices are equal.
+     *
+     * @param src           the source vectors
+     * @param srcIndex      the index of the first source vector
+     * @param dst           the destination vectors
+     * @param dstIndex      the index of the first destination vector
+     * @param count         the number of vectors to normalize
+     * @param normalization the accuracy of the reciprocal length
+     * @param fallback      the vector written for zero vectors
+     * @throws IllegalArgumentException if an argument is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its buffer
+     */
+    public void normalize(Vector3Buffer src, int srcIndex, Vector3Buffer dst, int dstIndex, int count,
+                          Normalization normalization, Vector3 fallback) {
+        checkRange(src == null ? -1 : src.size(), srcIndex, count);
+        checkRange(dst == null ? -1 : dst.size(), dstIndex, count);
+        if (normalization == null) {
+            throw new IllegalArgumentException("Normalization cannot be null");
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("Fallback cannot be null");
+        }
+        double[] sx = src.xArray(), sy = src.yArray(), sz = src.zArray();
+        double[] dx = dst.xArray(), dy = dst.yArray(), dz = dst.zArray();
+        double fx = fallback.getX(), fy = fallback.getY(), fz = fallback.getZ();
+        forEach(count, (from, length) -> PackedKernels.normalize3(sx, sy, sz, srcIndex + from,
+            dx, dy, dz, dstIndex + from, length, normalization, fx, fy, fz));
+    }
+
+    /**
+     * Parallel version of {@link BatchSolver#solve3(double[], double[], double[], byte[], int)}.
+     * Singular systems are reported through the status array; the grain size counts systems.
+     *
+     * @param a      the coefficients, {@code 9 * count} elements
+     * @param b      the right-hand sides, {@code 3 * count} elements
+     * @param x      the destination for the solutions, {@code 3 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the batch
+     * @return the number of singular systems
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch
+     */
+    public int solve3(double[] a, double[] b, double[] x, byte[] status, int count) {
+        // Solving an empty range validates the arrays before any task is forked
+        BatchSolver.solve3(a, b, x, status, count, 0, 0);
+        return count(count, (from, length) -> BatchSolver.solve3(a, b, x, status, count, from, length));
+    }
+
+    /**
+     * Parallel version of {@link BatchSolver#solve4(double[], double[], double[], byte[], int)}.
+     * Singular systems are reported through the status array; the grain size counts systems.
+     *
+     * @param a      the coefficients, {@code 16 * count} elements
+     * @param b      the right-hand sides, {@code 4 * count} elements
+     * @param x      the destination for the solutions, {@code 4 * count} elements
+     * @param status the destination for the status of each system, {@code count} elements
+     * @param count  the number of systems in the batch
+     * @return the number of singular systems
+     * @throws IllegalArgumentException if an array is null or count is negative
+     * @throws IndexOutOfBoundsException if an array is too short for the batch
+     */
+    public int solve4(double[] a, double[] b, double[] x, byte[] status, int count) {
+        BatchSolver.solve4(a, b, x, status, count, 0, 0);
+        return count(count, (from, length) -> BatchSolver.solve4(a, b, x, status, count, from, length));
+    }
+
+    /**
+     * Computes the axis-aligned bounding box of all points in a buffer.
+     *
+     * @param points the points
+     * @return the smallest box containing every point
+     * @throws IllegalArgumentException if points is null
+     * @throws ArithmeticException if the buffer is empty
+     */
+    public BoundingBox boundingBox(Vector3Buffer points) {
+        checkNotEmpty(points);
+        double[] x = points.xArray(), y = points.yArray(), z = points.zArray();
+        double[] r = reduce(points.size(), (from, length) -> {
+            double minX = x[from], minY = y[from], minZ = z[from];
+            double maxX = minX, maxY = minY, maxZ = minZ;
+            for (int i = from + 1, end = from + length; i < end; i++) {
+                minX = Math.min(minX, x[i]);
+                minY = Math.min(minY, y[i]);
+                minZ = Math.min(minZ, z[i]);
+                maxX = Math.max(maxX, x[i]);
+                maxY = Math.max(maxY, y[i]);
+                maxZ = Math.max(maxZ, z[i]);
+            }
+            return new double[]{minX, minY, minZ, maxX, maxY, maxZ};
+        }, (a, b) -> new double[]{
+            Math.min(a[0], b[0]), Math.min(a[1], b[1]), Math.min(a[2], b[2]),
+            Math.max(a[3], b[3]), Math.max(a[4], b[4]), Math.max(a[5], b[5])});
+        return new BoundingBox(new Vector3(r[0], r[1], r[2]), new Vector3(r[3], r[4], r[5]));
+    }
+
+    /**
+     * Computes the centroid (arithmetic mean) of all points in a buffer.
+     *
+     * @param points the points
+     * @return the centroid
+     * @throws IllegalArgumentException if points is null
+     * @throws ArithmeticException if the buffer is empty
+     */
+    public Vector3 centroid(Vector3Buffer points) {
+        checkNotEmpty(points);
+        double[] x = points.xArray(), y = points.yArray(), z = points.zArray();
+        double n = points.size();
+        if (precision == Precision.COMPENSATED) {
+            double[] sum = reduce(points.size(), (from, length) -> {
+                double sx = 0.0, sy = 0.0, sz = 0.0, ex = 0.0, ey = 0.0, ez = 0.0;
+                for (int i = from, end = from + length; i < end; i++) {
+                    double t = sx + x[i];
+                    ex += Compensated.sumError(sx, x[i], t);
+                    sx = t;
+                    t = sy + y[i];
+                    ey += Compensated.sumError(sy, y[i], t);
+                    sy = t;
+                    t = sz + z[i];
+                    ez += Compensated.sumError(sz, z[i], t);
+                    sz = t;
+                }
+                return new double[]{sx, sy, sz, ex, ey, ez};
+            }, ParallelBatch::combineCompensated);
+            return new Vector3((sum[0] + sum[3]) / n, (sum[1] + sum[4]) / n, (sum[2] + sum[5]) / n);
+        }
+        double[] sum = reduce(points.size(), (from, length) -> {
+            double sx = 0.0, sy = 0.0, sz = 0.0;
+            for (int i = from, end = from + length; i < end; i++) {
+                sx += x[i];
+                sy += y[i];
+                sz += z[i];
+            }
+            return new double[]{sx, sy, sz};
+        }, (a, b) -> new double[]{a[0] + b[0], a[1] + b[1], a[2] + b[2]});
+        return new Vector3(sum[0] / n, sum[1] / n, sum[2] / n);
+    }
+
+    /**
+     * Computes the sum of the squared lengths of all vectors in a buffer.
+     *
+     * @param vectors the vectors
+     * @return the sum of {@code x*x + y*y + z*z} over the buffer, or 0 if it is empty
+     * @throws IllegalArgumentException if vectors is null
+     */
+    public double sumOfSquaredLengths(Vector3Buffer vectors) {
+        if (vectors == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (vectors.size() == 0) {
+            return 0.0;
+        }
+        double[] x = vectors.xArray(), y = vectors.yArray(), z = vectors.zArray();
+        if (precision == Precision.COMPENSATED) {
+            double[] sum = reduce(vectors.size(), (from, length) -> {
+                double s = 0.0, e = 0.0;
+                for (int i = from, end = from + length; i < end; i++) {
+                    double v = Math.fma(x[i], x[i], Math.fma(y[i], y[i], z[i] * z[i]));
+                    double t = s + v;
+                    e += Compensated.sumError(s, v, t);
+                    s = t;
+                }
+                return new double[]{s, e};
+            }, ParallelBatch::combineCompensated);
+            return sum[0] + sum[1];
+        }
+        double[] sum = reduce(vectors.size(), (from, length) -> {
+            double s = 0.0;
+            for (int i = from, end = from + length; i < end; i++) {
+                s += x[i] * x[i] + y[i] * y[i] + z[i] * z[i];
+            }
+            return new double[]{s};
+        }, (a, b) -> new double[]{a[0] + b[0]});
+        return sum[0];
+    }
+
+    private void forEach(int count, RangeAction action) {
+        if (count <= grainSize) {
+            if (count > 0) {
+                action.run(0, count);
+            }
+            return;
+        }
+        pool.invoke(new ForEachTask(action, 0, count, grainSize));
+    }
+
+    private double[] reduce(int count, RangeReducer reducer, Combiner combiner) {
+        if (count <= grainSize) {
+            return reducer.reduce(0, count);
+        }
+        return pool.invoke(new ReduceTask(reducer, combiner, 0, count, grainSize));
+    }
+
+    private int count(int count, RangeCounter counter) {
+        if (count <= grainSize) {
+            return counter.count(0, count);
+        }
+        return pool.invoke(new CountTask(counter, 0, count, grainSize));
+    }
+
+    /**
+     * Combines partial compensated sums laid out as {@code [s0..sn-1, e0..en-1]}: the sums are
+     * added and the rounding error of each addition joins the error terms.
+     */
+    private static double[] combineCompensated(double[] a, double[] b) {
+        int n = a.length / 2;
+        double[] r = new double[a.length];
+        for (int i = 0; i < n; i++) {
+            double t = a[i] + b[i];
+            r[i] = t;
+            r[n + i] = a[n + i] + b[n + i] + Compensated.sumError(a[i], b[i], t);
+        }
+        return r;
+    }
+
+    private static void checkMatrix(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+    }
+
+    private static void checkNotEmpty(Vector3Buffer points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (points.size() == 0) {
+            throw new ArithmeticException("Buffer is empty");
+        }
+    }
+
+    private static void checkRange(int size, int index, int count) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (index < 0 || (long) index + count > size) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at index " + index
+                + " does not fit a buffer of size " + size);
+        }
+    }
+
+    private static void checkPacked(double[] array, int offset, int count) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (offset < 0 || (long) offset + 3L * count > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    /**
+     * Processes the vectors {@code [from, from + length)} of a batch.
+     */
+    private interface RangeAction {
+        void run(int from, int length);
+    }
+
+    /**
+     * Reduces the vectors {@code [from, from + length)} of a batch to a partial result.
+     */
+    private interface RangeReducer {
+        double[] reduce(int from, int length);
+    }
+
+    /**
+     * Combines the partial results of two adjacent ranges, left first.
+     */
+    private interface Combiner {
+        double[] combine(double[] left, double[] right);
+    }
+
+    /**
+     * Counts the vectors or systems {@code [from, from + length)} of a batch that meet a condition.
+     */
+    private interface RangeCounter {
+        int count(int from, int length);
+    }
+
+    private static final class ForEachTask extends RecursiveAction {
+        private final RangeAction action;
+        private final int from;
+        private final int length;
+        private final int grainSize;
+
+        ForEachTask(RangeAction action, int from, int length, int grainSize) {
+            this.action = action;
+            this.from = from;
+            this.length = length;
+            this.grainSize = grainSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= grainSize) {
+                action.run(from, length);
+                return;
+            }
+            int half = length >>> 1;
+            invokeAll(new ForEachTask(action, from, half, grainSize),
+                new ForEachTask(action, from + half, length - half, grainSize));
+        }
+    }
+
+    private static final class ReduceTask extends RecursiveTask<double[]> {
+        private final RangeReducer reducer;
+        private final Combiner combiner;
+        private final int from;
+        private final int length;
+        private final int grainSize;
+
+        ReduceTask(RangeReducer reducer, Combiner combiner, int from, int length, int grainSize) {
+            this.reducer = reducer;
+            this.combiner = combiner;
+            this.from = from;
+            this.length = length;
+            this.grainSize = grainSize;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (length <= grainSize) {
+                return reducer.reduce(from, length);
+            }
+            int half = length >>> 1;
+            ReduceTask left = new ReduceTask(reducer, combiner, from, half, grainSize);
+            ReduceTask right = new ReduceTask(reducer, combiner, from + half, length - half, grainSize);
+            left.fork();
+            double[] r = right.compute();
+            return combiner.combine(left.join(), r);
+        }
+    }
+
+    private static final class CountTask extends RecursiveTask<Integer> {
+        private final RangeCounter counter;
+        private final int from;
+        private final int length;
+        private final int grainSize;
+
+        CountTask(RangeCounter counter, int from, int length, int grainSize) {
+            this.counter = counter;
+            this.from = from;
+            this.length = length;
+            this.grainSize = grainSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (length <= grainSize) {
+                return counter.count(from, length);
+            }
+            int half = length >>> 1;
+            CountTask left = new CountTask(counter, from, half, grainSize);
+            left.fork();
+            int right = new CountTask(counter, from + half, length - half, grainSize).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.yourcompany.math.rotation;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.Vector3;
+
+/**
+ * Immutable class representing a quaternion {@code w + xi + yj + zk}.
+ * All operations return new instances without modifying the original quaternion.
+ * <p>
+ * Unit quaternions represent 3D rotations. Composing them costs 16 multiplications instead of the
+ * 27 of a 3x3 matrix product, and drift is removed by a single {@link #normalize()} instead of
+ * re-orthogonalizing a matrix. The rotation methods assume a unit quaternion; {@code q} and
+ * {@code -q} represent the same rotation but are not {@link #equals equal}.
+ */
+public final class Quaternion {
+    private final double x;
+    private final double y;
+    private final double z;
+    private final double w;
+
+    /**
+     * Constructs a new Quaternion from its vector part (x, y, z) and scalar part w.
+     *
+     * @param x the i component
+     * @param y the j component
+     * @param z the k component
+     * @param w the scalar component
+     */
+    public Quaternion(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Creates the identity quaternion (0, 0, 0, 1), the rotation by zero angle.
+     *
+     * @return the identity quaternion
+     */
+    public static Quaternion identity() {
+        return new Quaternion(0.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * Creates the unit quaternion rotating by an angle around an axis, counter-clockwise when the
+     * axis points towards the viewer.
+     *
+     * @param axis  the rotation axis; it does not need to be normalized
+     * @param angle the rotation angle in radians
+     * @return a new unit Quaternion
+     * @throws IllegalArgumentException if axis is null
+     * @throws ArithmeticException if axis is the zero vector
+     */
+    public static Quaternion fromAxisAngle(Vector3 axis, double angle) {
+        if (axis == null) {
+            throw new IllegalArgumentException("Axis cannot be null");
+        }
+        Vector3 unit = axis.normalize();
+        double s = Math.sin(0.5 * angle);
+        return new Quaternion(unit.getX() * s, unit.getY() * s, unit.getZ() * s, Math.cos(0.5 * angle));
+    }
+
+    /**
+     * Creates the unit quaternion of a rotation matrix. The matrix is assumed to be orthonormal
+     * with determinant 1; the result is normalized so that small drift in the matrix is tolerated.
+     *
+     * @param m the rotation matrix
+     * @return a new unit Quaternion
+     * @throws IllegalArgumentException if m is null
+     */
+    public static Quaternion fromMatrix(Matrix3x3 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return fromRotation(
+            m.get(0, 0), m.get(0, 1), m.get(0, 2),
+            m.get(1, 0), m.get(1, 1), m.get(1, 2),
+            m.get(2, 0), m.get(2, 1), m.get(2, 2));
+    }
+
+    /**
+     * Creates the unit quaternion of the rotation in the upper-left 3x3 block of a matrix, with
+     * the same assumptions as {@link #fromMatrix(Matrix3x3)}. Translation and the bottom row are
+     * ignored.
+     *
+     * @param m the transform
+     * @return a new unit Quaternion
+     * @throws IllegalArgumentException if m is null
+     */
+    public static Quaternion fromMatrix(Matrix4x4 m) {
+        if (m == null) {
+            throw new IllegalArgumentException("Matrix cannot be null");
+        }
+        return fromRotation(
+            m.get(0, 0), m.get(0, 1), m.get(0, 2),
+            m.get(1, 0), m.get(1, 1), m.get(1, 2),
+            m.get(2, 0), m.get(2, 1), m.get(2, 2));
+    }
+
+    private static Quaternion fromRotation(double m00, double m01, double m02,
+                                           double m10, double m11, double m12,
+                                           double m20, double m21, double m22) {
+        // Shepperd's method: branch on the largest diagonal term to avoid dividing by a small number
+        double trace = m00 + m11 + m22;
+        Quaternion q;
+        if (trace > 0.0) {
+            double s = 2.0 * Math.sqrt(trace + 1.0);
+            q = new Quaternion((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, 0.25 * s);
+        } else if (m00 > m11 && m00 > m22) {
+            double s = 2.0 * Math.sqrt(1.0 + m00 - m11 - m22);
+            q = new Quaternion(0.25 * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        } else if (m11 > m22) {
+            double s = 2.0 * Math.sqrt(1.0 + m11 - m00 - m22);
+            q = new Quaternion((m01 + m10) / s, 0.25 * s, (m12 + m21) / s, (m02 - m20) / s);
+        } else {
+            double s = 2.0 * Math.sqrt(1.0 + m22 - m00 - m11);
+            q = new Quaternion((m02 + m20) / s, (m12 + m21) / s, 0.25 * s, (m10 - m01) / s);
+        }
+        return q.normalize();
+    }
+
+    /**
+     * Gets the i component.
+     *
+     * @return the x component
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the j component.
+     *
+     * @return the y component
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the k component.
+     *
+     * @return the z component
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the scalar component.
+     *
+     * @return the w component
+     */
+    public double getW() {
+        return w;
+    }
+
+    /**
+     * Multiplies this quaternion by another (Hamilton product). As rotations, the result applies
+     * {@code q} first and then this quaternion.
+     *
+     * @param q the quaternion to multiply by
+     * @return a new Quaternion representing the product
+     * @throws IllegalArgumentException if q is null
+     */
+    public Quaternion multiply(Quaternion q) {
+        if (q == null) {
+            throw new IllegalArgumentException("Quaternion cannot be null");
+        }
+        return new Quaternion(
+            w * q.x + x * q.w + y * q.z - z * q.y,
+            w * q.y - x * q.z + y * q.w + z * q.x,
+            w * q.z + x * q.y - y * q.x + z * q.w,
+            w * q.w - x * q.x - y * q.y - z * q.z);
+    }
+
+    /**
+     * Returns the conjugate (-x, -y, -z, w). For a unit quaternion this is the inverse rotation.
+     *
+     * @return a new Quaternion representing the conjugate
+     */
+    public Quaternion conjugate() {
+        return new Quaternion(-x, -y, -z, w);
+    }
+
+    /**
+     * Calculates the multiplicative inverse, the conjugate divided by the squared length.
+     *
+     * @return a new Quaternion representing the inverse
+     * @throws ArithmeticException if this is the zero quaternion
+     */
+    public Quaternion inverse() {
+        double lenSq = lengthSquared();
+        if (lenSq == 0.0) {
+            throw new ArithmeticException("Cannot invert zero quaternion");
+        }
+        return new Quaternion(-x / lenSq, -y / lenSq, -z / lenSq, w / lenSq);
+    }
+
+    /**
+     * Calculates the dot product of this quaternion and another, treated as 4D vectors.
+     *
+     * @param q the other quaternion
+     * @return the dot product
+     * @throws IllegalArgumentException if q is null
+     */
+    public double dot(Quaternion q) {
+        if (q == null) {
+            throw new IllegalArgumentException("Quaternion cannot be null");
+        }
+        return x * q.x + y * q.y + z * q.z + w * q.w;
+    }
+
+    /**
+     * Calculates the squared length (norm).
+     *
+     * @return the squared length
+     */
+    public double lengthSquared() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /**
+     * Calculates the length (norm).
+     *
+     * @return the length
+     */
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    /**
+     * Returns this quaternion scaled to unit length.
+     *
+     * @return a new unit Quaternion
+     * @throws ArithmeticException if this is the zero quaternion
+     */
+    public Quaternion normalize() {
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero quaternion");
+        }
+        return new Quaternion(x / len, y / len, z / len, w / len);
+    }
+
+    /**
+     * Interpolates linearly between this unit quaternion and another and normalizes the result.
+     * The shorter arc is taken. Cheaper than {@link #slerp} and close to it for small angles, but
+     * the angular speed is not constant.
+     *
+     * @param q the target quaternion
+     * @param t the interpolation parameter, 0 giving this quaternion and 1 giving q
+     * @return a new unit Quaternion
+     * @throws IllegalArgumentException if q is null
+     * @throws ArithmeticException if the interpolated quaternion is zero
+     */
+    public Quaternion nlerp(Quaternion q, double t) {
+        double sign = dot(q) < 0.0 ? -1.0 : 1.0;
+        double u = 1.0 - t;
+        double v = sign * t;
+        return new Quaternion(u * x + v * q.x, u * y + v * q.y, u * z + v * q.z, u * w + v * q.w).normalize();
+    }
+
+    /**
+     * Interpolates along the great arc between this unit quaternion and another, at constant
+     * angular speed. The shorter arc is taken; nearly identical inputs fall back to {@link #nlerp}.
+     *
+     * @param q the target quaternion
+     * @param t the interpolation parameter, 0 giving this quaternion and 1 giving q
+     * @return a new unit Quaternion
+     * @throws IllegalArgumentException if q is null
+     */
+    public Quaternion slerp(Quaternion q, double t) {
+        double cos = dot(q);
+        double sign = 1.0;
+        if (cos < 0.0) {
+            cos = -cos;
+            sign = -1.0;
+        }
+        if (cos > 0.9995) {
+            return nlerp(q, t);
+        }
+        double theta = Math.acos(cos);
+        double sin = Math.sin(theta);
+        double u = Math.sin((1.0 - t) * theta) / sin;
+        double v = sign * Math.sin(t * theta) / sin;
+        return new Quaternion(u * x + v * q.x, u * y + v * q.y, u * z + v * q.z, u * w + v * q.w);
+    }
+
+    /**
+     * Converts this unit quaternion to a rotation matrix.
+     *
+     * @return a new Matrix3x3 representing the rotation
+     */
+    public Matrix3x3 toMatrix3x3() {
+        double xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, yz = y * z;
+        double wx = w * x, wy = w * y, wz = w * z;
+        return new Matrix3x3(
+            1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy),
+            2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx),
+            2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy));
+    }
+
+    /**
+     * Converts this unit quaternion to an affine rotation matrix with no translation.
+     *
+     * @return a new Matrix4x4 representing the rotation
+     */
+    public Matrix4x4 toMatrix4x4() {
+        double xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, yz = y * z;
+        double wx = w * x, wy = w * y, wz = w * z;
+        return new Matrix4x4(
+            1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy), 0.0,
+            2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx), 0.0,
+            2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy), 0.0,
+            0.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion without building a matrix, using
+     * {@code v + 2w(u x v) + 2u x (u x v)} where u is the vector part.
+     *
+     * @param v the vector to rotate
+     * @return a new Vector3 representing the rotated vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3 rotate(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        double tx = 2.0 * (y * vz - z * vy);
+        double ty = 2.0 * (z * vx - x * vz);
+        double tz = 2.0 * (x * vy - y * vx);
+        return new Vector3(
+            vx + w * tx + (y * tz - z * ty),
+            vy + w * ty + (z * tx - x * tz),
+            vz + w * tz + (x * ty - y * tx));
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion and writes the result into a destination vector.
+     *
+     * @param v   the vector to rotate
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 rotate(Vector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        double tx = 2.0 * (y * vz - z * vy);
+        double ty = 2.0 * (z * vx - x * vz);
+        double tz = 2.0 * (x * vy - y * vx);
+        return dst.set(
+            vx + w * tx + (y * tz - z * ty),
+            vy + w * ty + (z * tx - x * tz),
+            vz + w * tz + (x * ty - y * tx));
+    }
+
+    /**
+     * Rotates a run of vectors stored as packed (x, y, z) triples by this unit quaternion.
+     * The rotation matrix is expanded once per call, so each vector costs 9 multiplications
+     * instead of the 15 of {@link #rotate(Vector3)}.
+     * Source and destination may be the same array if the offsets are equal.
+     *
+     * @param src    the packed source coordinates
+     * @param srcOff the index of the first source coordinate
+     * @param dst    the packed destination coordinates
+     * @param dstOff the index of the first destination coordinate
+     * @param count  the number of vectors to rotate
+     * @throws IllegalArgumentException if src or dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its array
+     */
+    public void rotate(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+        checkPacked(src, srcOff, count);
+        checkPacked(dst, dstOff, count);
+        double xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, yz = y * z;
+        double wx = w * x, wy = w * y, wz = w * z;
+        double a00 = 1.0 - 2.0 * (yy + zz), a01 = 2.0 * (xy - wz), a02 = 2.0 * (xz + wy);
+        double a10 = 2.0 * (xy + wz), a11 = 1.0 - 2.0 * (xx + zz), a12 = 2.0 * (yz - wx);
+        double a20 = 2.0 * (xz - wy), a21 = 2.0 * (yz + wx), a22 = 1.0 - 2.0 * (xx + yy);
+        for (int i = 0; i < count; i++) {
+            int s = srcOff + 3 * i;
+            int d = dstOff + 3 * i;
+            double vx = src[s], vy = src[s + 1], vz = src[s + 2];
+            dst[d] = a00 * vx + a01 * vy + a02 * vz;
+            dst[d + 1] = a10 * vx + a11 * vy + a12 * vz;
+            dst[d + 2] = a20 * vx + a21 * vy + a22 * vz;
+        }
+    }
+
+    private static void checkPacked(double[] array, int offset, int count) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (offset < 0 || (long) offset + 3L * count > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Quaternion quaternion = (Quaternion) obj;
+        return Double.compare(quaternion.x, x) == 0
+            && Double.compare(quaternion.y, y) == 0
+            && Double.compare(quaternion.z, z) == 0
+            && Double.compare(quaternion.w, w) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(x) * 31 + Double.hashCode(y) * 17
+            + Double.hashCode(z) * 11 + Double.hashCode(w);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Quaternion(%.4f, %.4f, %.4f, %.4f)", x, y, z, w);
+    }
+}
@@ -0,0 +1,239 @@
+package com.yourcompany.math.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Fixed-size off-heap container for Vector2 data. The vectors are stored as packed (x, y)
+ * doubles in a direct {@link ByteBuffer}, the interleaved layout expected by graphics and
+ * native APIs, so large meshes add nothing to the Java heap and can be passed to native code
+ * through {@link #asByteBuffer()} without copying. On JDKs with the foreign memory API the same
+ * storage can be viewed as a {@code MemorySegment} with {@code MemorySegment.ofBuffer}.
+ * <p>
+ * A direct buffer is limited to 2 GB, that is at most 134,217,727 vectors. Indexed access converts
+ * to and from {@link Vector2}. Instances are not thread-safe.
+ */
+public final class DirectVector2Buffer {
+
+    /**
+     * Number of bytes used by one vector.
+     */
+    public static final int BYTES = 16;
+
+    private static final int MAX_SIZE = Integer.MAX_VALUE / BYTES;
+
+    private final int size;
+    private final ByteBuffer bytes;
+    private final DoubleBuffer doubles;
+
+    /**
+     * Constructs a new buffer holding {@code size} zero vectors in newly allocated direct memory
+     * with the platform's native byte order.
+     *
+     * @param size the number of vectors
+     * @throws IllegalArgumentException if size is negative or too large for a direct buffer
+     */
+    public DirectVector2Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size cannot be negative");
+        }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Buffer size cannot exceed " + MAX_SIZE + " vectors");
+        }
+        this.size = size;
+        this.bytes = ByteBuffer.allocateDirect(size * BYTES).order(ByteOrder.nativeOrder());
+        this.doubles = bytes.asDoubleBuffer();
+    }
+
+    private DirectVector2Buffer(ByteBuffer bytes) {
+        this.size = bytes.remaining() / BYTES;
+        this.bytes = bytes;
+        this.doubles = bytes.asDoubleBuffer();
+    }
+
+    /**
+     * Creates a buffer over the remaining bytes of an existing direct buffer without copying
+     * them. The byte order of the given buffer is kept, so data written by another platform or
+     * read from a file can be used as is. Its position and limit are not changed.
+     *
+     * @param buffer the direct buffer holding packed vectors
+     * @return a new DirectVector2Buffer sharing the storage
+     * @throws IllegalArgumentException if buffer is null, not direct, or its remaining size is
+     *                                  not a multiple of {@link #BYTES}
+     */
+    public static DirectVector2Buffer wrap(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (!buffer.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        if (buffer.remaining() % BYTES != 0) {
+            throw new IllegalArgumentException("Buffer size must be a multiple of " + BYTES + " bytes");
+        }
+        return new DirectVector2Buffer(buffer.slice().order(buffer.order()));
+    }
+
+    /**
+     * Creates a buffer holding copies of the given vectors.
+     *
+     * @param vectors the vectors to copy
+     * @return a new buffer of the same length
+     * @throws IllegalArgumentException if the array or any element is null
+     */
+    public static DirectVector2Buffer of(Vector2... vectors) {
+        if (vectors == null) {
+            throw new IllegalArgumentException("Vector array cannot be null");
+        }
+        DirectVector2Buffer buffer = new DirectVector2Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the number of vectors in this buffer.
+     *
+     * @return the buffer size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a view of the storage as bytes, positioned at the first vector and with this
+     * buffer's byte order. The view shares the storage, so it can be handed to native code.
+     *
+     * @return a new byte view of the storage
+     */
+    public ByteBuffer asByteBuffer() {
+        return bytes.duplicate().order(bytes.order());
+    }
+
+    /**
+     * Returns a view of the storage as doubles; the component {@code c} of vector {@code i} is
+     * at index {@code 2 * i + c}. The view shares the storage and is used by bulk kernels.
+     *
+     * @return a new double view of the storage
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        return doubles.duplicate();
+    }
+
+    /**
+     * Returns the vector at the specified index as an immutable Vector2.
+     *
+     * @param index the vector index
+     * @return a new Vector2 with the stored components
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public Vector2 get(int index) {
+        checkIndex(index);
+        int base = 2 * index;
+        return new Vector2(doubles.get(base + 0), doubles.get(base + 1));
+    }
+
+    /**
+     * Stores the components of a vector at the specified index.
+     *
+     * @param index the vector index
+     * @param v     the vector to store
+     * @throws IllegalArgumentException if v is null
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        checkIndex(index);
+        int base = 2 * index;
+        doubles.put(base + 0, v.getX());
+        doubles.put(base + 1, v.getY());
+    }
+
+    /**
+     * Stores the given components at the specified index.
+     *
+     * @param index the vector index
+     * @param x     the x component
+     * @param y     the y component
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, double x, double y) {
+        checkIndex(index);
+        int base = 2 * index;
+        doubles.put(base + 0, x);
+        doubles.put(base + 1, y);
+    }
+
+    /**
+     * Copies vectors from this buffer into a packed array of (x, y) components.
+     *
+     * @param index  the index of the first vector to copy
+     * @param dst    the destination array
+     * @param dstOff the index of the first destination element
+     * @param count  the number of vectors to copy
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its container
+     */
+    public double[] get(int index, double[] dst, int dstOff, int count) {
+        checkRange(index, count);
+        checkPacked(dst, dstOff, count);
+        DoubleBuffer view = doubles.duplicate();
+        view.position(2 * index);
+        view.get(dst, dstOff, 2 * count);
+        return dst;
+    }
+
+    /**
+     * Copies vectors from a packed array of (x, y) components into this buffer.
+     *
+     * @param index  the index of the first vector to overwrite
+     * @param src    the source array
+     * @param srcOff the index of the first source element
+     * @param count  the number of vectors to copy
+     * @throws IllegalArgumentException if src is null or count is negative
+     * @throws IndexOutOfBoundsException if a range does not fit its container
+     */
+    public void put(int index, double[] src, int srcOff, int count) {
+        checkRange(index, count);
+        checkPacked(src, srcOff, count);
+        DoubleBuffer view = doubles.duplicate();
+        view.position(2 * index);
+        view.put(src, srcOff, 2 * count);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for buffer size " + size);
+        }
+    }
+
+    private void checkRange(int index, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (index < 0 || (long) index + count > size) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at index " + index
+                + " does not fit a buffer of size " + size);
+        }
+    }
+
+    private static void checkPacked(double[] array, int offset, int count) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (offset < 0 || (long) offset + (long) count * 2 > array.length) {
+            throw new IndexOutOfBoundsException("Range of " + count + " vectors at offset " + offset
+                + " does not fit an array of length " + array.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirectVector2Buffer(size=" + size + ")";
+    }
+}
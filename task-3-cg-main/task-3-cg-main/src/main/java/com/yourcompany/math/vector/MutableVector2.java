@@ -0,0 +1,274 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Mutable companion of {@link Vector2} with x and y components.
+ * Used as the destination of the allocation-free operation overloads so that hot loops
+ * can reuse a single instance instead of allocating a new Vector2 per call. The in-place
+ * operations return this vector, so a chain of operations can run on one instance.
+ * Instances are not thread-safe.
+ */
+public final class MutableVector2 {
+    private double x;
+    private double y;
+
+    /**
+     * Constructs a new MutableVector2 with all components set to zero.
+     */
+    public MutableVector2() {
+    }
+
+    /**
+     * Constructs a new MutableVector2 with the specified components.
+     *
+     * @param x the x component
+     * @param y the y component
+     */
+    public MutableVector2(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Constructs a new MutableVector2 with the same components as the given immutable vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Sets the x component of this vector.
+     *
+     * @param x the new x component
+     * @return this vector
+     */
+    public MutableVector2 setX(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Sets the y component of this vector.
+     *
+     * @param y the new y component
+     * @return this vector
+     */
+    public MutableVector2 setY(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets all components of this vector.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @return this vector
+     */
+    public MutableVector2 set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Copies the components of an immutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 set(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+        return this;
+    }
+
+    /**
+     * Copies the components of another mutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 set(MutableVector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+        return this;
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector.
+     *
+     * @return the length of the vector
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 add(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.getX(), y + v.getY());
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 add(MutableVector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.x, y + v.y);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 subtract(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.getX(), y - v.getY());
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector2 subtract(MutableVector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.x, y - v.y);
+    }
+
+    /**
+     * Multiplies this vector by a scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public MutableVector2 multiply(double scalar) {
+        return set(x * scalar, y * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar in place.
+     *
+     * @param scalar the scalar to divide by
+     * @return this vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector2 divide(double scalar) {
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return set(x / scalar, y / scalar);
+    }
+
+    /**
+     * Normalizes this vector in place to have a length of 1.
+     *
+     * @return this vector
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector2 normalize() {
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return set(x / len, y / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.getX() + y * v.getY();
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(MutableVector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.x + y * v.y;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current components.
+     *
+     * @return a new Vector2 with the same components
+     */
+    public Vector2 toVector2() {
+        return new Vector2(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MutableVector2(%.4f, %.4f)", x, y);
+    }
+}
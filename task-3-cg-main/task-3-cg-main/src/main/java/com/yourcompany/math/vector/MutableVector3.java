@@ -0,0 +1,334 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Mutable companion of {@link Vector3} with x, y, and z components.
+ * Used as the destination of the allocation-free operation overloads so that hot loops
+ * can reuse a single instance instead of allocating a new Vector3 per call. The in-place
+ * operations return this vector, so a chain of operations can run on one instance.
+ * Instances are not thread-safe.
+ */
+public final class MutableVector3 {
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * Constructs a new MutableVector3 with all components set to zero.
+     */
+    public MutableVector3() {
+    }
+
+    /**
+     * Constructs a new MutableVector3 with the specified components.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     */
+    public MutableVector3(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Constructs a new MutableVector3 with the same components as the given immutable vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+        this.z = v.getZ();
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Sets the x component of this vector.
+     *
+     * @param x the new x component
+     * @return this vector
+     */
+    public MutableVector3 setX(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Sets the y component of this vector.
+     *
+     * @param y the new y component
+     * @return this vector
+     */
+    public MutableVector3 setY(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Returns the z component of this vector.
+     *
+     * @return the z component
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Sets the z component of this vector.
+     *
+     * @param z the new z component
+     * @return this vector
+     */
+    public MutableVector3 setZ(double z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets all components of this vector.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     * @return this vector
+     */
+    public MutableVector3 set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the components of an immutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 set(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+        this.z = v.getZ();
+        return this;
+    }
+
+    /**
+     * Copies the components of another mutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 set(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+        this.z = v.z;
+        return this;
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector.
+     *
+     * @return the length of the vector
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 add(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.getX(), y + v.getY(), z + v.getZ());
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 add(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.x, y + v.y, z + v.z);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 subtract(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.getX(), y - v.getY(), z - v.getZ());
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 subtract(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.x, y - v.y, z - v.z);
+    }
+
+    /**
+     * Multiplies this vector by a scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public MutableVector3 multiply(double scalar) {
+        return set(x * scalar, y * scalar, z * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar in place.
+     *
+     * @param scalar the scalar to divide by
+     * @return this vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector3 divide(double scalar) {
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return set(x / scalar, y / scalar, z / scalar);
+    }
+
+    /**
+     * Normalizes this vector in place to have a length of 1.
+     *
+     * @return this vector
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector3 normalize() {
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return set(x / len, y / len, z / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.getX() + y * v.getY() + z * v.getZ();
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector. The argument may be
+     * this vector itself.
+     *
+     * @param v the other vector
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 crossProduct(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double vx = v.getX(), vy = v.getY(), vz = v.getZ();
+        return set(y * vz - z * vy, z * vx - x * vz, x * vy - y * vx);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector. The argument may be
+     * this vector itself.
+     *
+     * @param v the other vector
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector3 crossProduct(MutableVector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        double vx = v.x, vy = v.y, vz = v.z;
+        return set(y * vz - z * vy, z * vx - x * vz, x * vy - y * vx);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current components.
+     *
+     * @return a new Vector3 with the same components
+     */
+    public Vector3 toVector3() {
+        return new Vector3(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MutableVector3(%.4f, %.4f, %.4f)", x, y, z);
+    }
+}
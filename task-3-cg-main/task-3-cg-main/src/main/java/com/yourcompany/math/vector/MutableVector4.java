@@ -0,0 +1,330 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Mutable companion of {@link Vector4} with x, y, z, and w components.
+ * Used as the destination of the allocation-free operation overloads so that hot loops
+ * can reuse a single instance instead of allocating a new Vector4 per call. The in-place
+ * operations return this vector, so a chain of operations can run on one instance.
+ * Instances are not thread-safe.
+ */
+public final class MutableVector4 {
+    private double x;
+    private double y;
+    private double z;
+    private double w;
+
+    /**
+     * Constructs a new MutableVector4 with all components set to zero.
+     */
+    public MutableVector4() {
+    }
+
+    /**
+     * Constructs a new MutableVector4 with the specified components.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     * @param w the w component
+     */
+    public MutableVector4(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Constructs a new MutableVector4 with the same components as the given immutable vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+        this.z = v.getZ();
+        this.w = v.getW();
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Sets the x component of this vector.
+     *
+     * @param x the new x component
+     * @return this vector
+     */
+    public MutableVector4 setX(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Sets the y component of this vector.
+     *
+     * @param y the new y component
+     * @return this vector
+     */
+    public MutableVector4 setY(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Returns the z component of this vector.
+     *
+     * @return the z component
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Sets the z component of this vector.
+     *
+     * @param z the new z component
+     * @return this vector
+     */
+    public MutableVector4 setZ(double z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Returns the w component of this vector.
+     *
+     * @return the w component
+     */
+    public double getW() {
+        return w;
+    }
+
+    /**
+     * Sets the w component of this vector.
+     *
+     * @param w the new w component
+     * @return this vector
+     */
+    public MutableVector4 setW(double w) {
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Sets all components of this vector.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     * @param w the w component
+     * @return this vector
+     */
+    public MutableVector4 set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Copies the components of an immutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 set(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.getX();
+        this.y = v.getY();
+        this.z = v.getZ();
+        this.w = v.getW();
+        return this;
+    }
+
+    /**
+     * Copies the components of another mutable vector into this vector.
+     *
+     * @param v the vector to copy
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 set(MutableVector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+        this.z = v.z;
+        this.w = v.w;
+        return this;
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector.
+     *
+     * @return the length of the vector
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 add(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.getX(), y + v.getY(), z + v.getZ(), w + v.getW());
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param v the vector to add
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 add(MutableVector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x + v.x, y + v.y, z + v.z, w + v.w);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 subtract(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.getX(), y - v.getY(), z - v.getZ(), w - v.getW());
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param v the vector to subtract
+     * @return this vector
+     * @throws IllegalArgumentException if v is null
+     */
+    public MutableVector4 subtract(MutableVector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return set(x - v.x, y - v.y, z - v.z, w - v.w);
+    }
+
+    /**
+     * Multiplies this vector by a scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public MutableVector4 multiply(double scalar) {
+        return set(x * scalar, y * scalar, z * scalar, w * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar in place.
+     *
+     * @param scalar the scalar to divide by
+     * @return this vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector4 divide(double scalar) {
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return set(x / scalar, y / scalar, z / scalar, w / scalar);
+    }
+
+    /**
+     * Normalizes this vector in place to have a length of 1.
+     *
+     * @return this vector
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector4 normalize() {
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return set(x / len, y / len, z / len, w / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.getX() + y * v.getY() + z * v.getZ() + w * v.getW();
+    }
+
+    /**
+     * Calculates the dot product of this vector with another vector.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public double dotProduct(MutableVector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return x * v.x + y * v.y + z * v.z + w * v.w;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current components.
+     *
+     * @return a new Vector4 with the same components
+     */
+    public Vector4 toVector4() {
+        return new Vector4(x, y, z, w);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MutableVector4(%.4f, %.4f, %.4f, %.4f)", x, y, z, w);
+    }
+}
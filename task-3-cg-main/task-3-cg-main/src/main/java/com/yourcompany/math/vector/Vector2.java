@@ -1,5 +1,8 @@
 package com.yourcompany.math.vector;
 
+import com.yourcompany.math.kernel.Compensated;
+import com.yourcompany.math.kernel.Precision;
+
 /**
  * Immutable class representing a 2D vector with x and y components.
  * All operations return new instances without modifying the original vector.
@@ -65,6 +68,24 @@ public final class Vector2 {
         return new Vector2(this.x + v.x, this.y + v.y);
     }
 
+    /**
+     * Adds another Vector2 to this vector and writes the sum into a destination vector.
+     *
+     * @param v   the vector to add
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector2 add(Vector2 v, MutableVector2 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x + v.x, this.y + v.y);
+    }
+
     /**
      * Subtracts another Vector2 from this vector and returns a new Vector2.
      *
@@ -79,6 +100,24 @@ public final class Vector2 {
         return new Vector2(this.x - v.x, this.y - v.y);
     }
 
+    /**
+     * Subtracts another Vector2 from this vector and writes the difference into a destination vector.
+     *
+     * @param v   the vector to subtract
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector2 subtract(Vector2 v, MutableVector2 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x - v.x, this.y - v.y);
+    }
+
     /**
      * Multiplies this vector by a scalar and returns a new Vector2.
      *
@@ -89,6 +128,21 @@ public final class Vector2 {
         return new Vector2(this.x * scalar, this.y * scalar);
     }
 
+    /**
+     * Multiplies this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableVector2 multiply(double scalar, MutableVector2 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x * scalar, this.y * scalar);
+    }
+
     /**
      * Divides this vector by a scalar and returns a new Vector2.
      *
@@ -103,6 +157,25 @@ public final class Vector2 {
         return new Vector2(this.x / scalar, this.y / scalar);
     }
 
+    /**
+     * Divides this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to divide by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector2 divide(double scalar, MutableVector2 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return dst.set(this.x / scalar, this.y / scalar);
+    }
+
     /**
      * Calculates the length (magnitude) of this vector.
      *
@@ -112,6 +185,20 @@ public final class Vector2 {
         return Math.sqrt(x * x + y * y);
     }
 
+    /**
+     * Calculates the length of this vector in the given precision.
+     *
+     * @param precision the accumulation mode of the squared length
+     * @return the length of the vector
+     * @throws IllegalArgumentException if precision is null
+     */
+    public double length(Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        return precision == Precision.COMPENSATED ? Math.sqrt(Compensated.dot2(x, x, y, y)) : length();
+    }
+
     /**
      * Normalizes this vector to have a length of 1 and returns a new Vector2.
      *
@@ -126,6 +213,25 @@ public final class Vector2 {
         return new Vector2(this.x / len, this.y / len);
     }
 
+    /**
+     * Normalizes this vector to have a length of 1 and writes the result into a destination vector.
+     *
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector2 normalize(MutableVector2 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return dst.set(this.x / len, this.y / len);
+    }
+
     /**
      * Calculates the dot product of this vector with another Vector2.
      *
@@ -140,6 +246,27 @@ public final class Vector2 {
         return this.x * v.x + this.y * v.y;
     }
 
+    /**
+     * Calculates the dot product of this vector with another Vector2 in the given precision.
+     *
+     * @param v         the other vector
+     * @param precision the accumulation mode
+     * @return the dot product
+     * @throws IllegalArgumentException if v or precision is null
+     */
+    public double dotProduct(Vector2 v, Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        if (precision == Precision.STANDARD) {
+            return dotProduct(v);
+        }
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return Compensated.dot2(this.x, v.x, this.y, v.y);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
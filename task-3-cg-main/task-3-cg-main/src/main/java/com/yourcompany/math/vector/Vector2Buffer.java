@@ -0,0 +1,258 @@
+package com.yourcompany.math.vector;
+
+import com.yourcompany.math.kernel.PackedKernels;
+
+/**
+ * Fixed-size structure-of-arrays container for Vector2 data: the x and y components of all
+ * vectors are kept in separate primitive arrays, so large meshes and point clouds need no
+ * per-vector objects. Bulk kernels operate on whole buffers and write into a destination buffer,
+ * which may be the source itself; element-wise kernels run through {@link PackedKernels}, so they
+ * use SIMD instructions where available. Indexed access converts to and from {@link Vector2}.
+ * Instances are not thread-safe.
+ */
+public final class Vector2Buffer {
+    private final int size;
+    private final double[] x;
+    private final double[] y;
+
+    /**
+     * Constructs a new buffer holding {@code size} zero vectors.
+     *
+     * @param size the number of vectors
+     * @throws IllegalArgumentException if size is negative
+     */
+    public Vector2Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size cannot be negative");
+        }
+        this.size = size;
+        this.x = new double[size];
+        this.y = new double[size];
+    }
+
+    /**
+     * Constructs a buffer that wraps existing component arrays without copying them.
+     *
+     * @param x the x component array
+     * @param y the y component array
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public Vector2Buffer(double[] x, double[] y) {
+        if (x == null || y == null) {
+            throw new IllegalArgumentException("Component arrays cannot be null");
+        }
+        if (y.length != x.length) {
+            throw new IllegalArgumentException("Component arrays must have the same length");
+        }
+        this.size = x.length;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Creates a buffer holding copies of the given vectors.
+     *
+     * @param vectors the vectors to copy
+     * @return a new buffer of the same length
+     * @throws IllegalArgumentException if the array or any element is null
+     */
+    public static Vector2Buffer of(Vector2... vectors) {
+        if (vectors == null) {
+            throw new IllegalArgumentException("Vector array cannot be null");
+        }
+        Vector2Buffer buffer = new Vector2Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the number of vectors in this buffer.
+     *
+     * @return the buffer size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of x components. Writes to the array are visible through
+     * this buffer; it is exposed so that bulk kernels elsewhere can work on it directly.
+     *
+     * @return the x component array
+     */
+    public double[] xArray() {
+        return x;
+    }
+
+    /**
+     * Returns the backing array of y components. Writes to the array are visible through
+     * this buffer; it is exposed so that bulk kernels elsewhere can work on it directly.
+     *
+     * @return the y component array
+     */
+    public double[] yArray() {
+        return y;
+    }
+
+    /**
+     * Returns the vector at the specified index as an immutable Vector2.
+     *
+     * @param index the vector index
+     * @return a new Vector2 with the stored components
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public Vector2 get(int index) {
+        checkIndex(index);
+        return new Vector2(x[index], y[index]);
+    }
+
+    /**
+     * Stores the components of a vector at the specified index.
+     *
+     * @param index the vector index
+     * @param v     the vector to store
+     * @throws IllegalArgumentException if v is null
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        checkIndex(index);
+        this.x[index] = v.getX();
+        this.y[index] = v.getY();
+    }
+
+    /**
+     * Stores the given components at the specified index.
+     *
+     * @param index the vector index
+     * @param x     the x component
+     * @param y     the y component
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, double x, double y) {
+        checkIndex(index);
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    /**
+     * Adds the vector at the same index in another buffer to each vector.
+     *
+     * @param other the vectors to add
+     * @param dst   the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if other or dst is null or the sizes differ
+     */
+    public Vector2Buffer add(Vector2Buffer other, Vector2Buffer dst) {
+        checkSameSize(other);
+        checkSameSize(dst);
+        PackedKernels.add(x, 0, other.x, 0, dst.x, 0, size);
+        PackedKernels.add(y, 0, other.y, 0, dst.y, 0, size);
+        return dst;
+    }
+
+    /**
+     * Multiplies each vector by a scalar.
+     *
+     * @param factor the scalar to multiply by
+     * @param dst    the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if dst is null or the sizes differ
+     */
+    public Vector2Buffer scale(double factor, Vector2Buffer dst) {
+        checkSameSize(dst);
+        PackedKernels.scale(x, 0, factor, dst.x, 0, size);
+        PackedKernels.scale(y, 0, factor, dst.y, 0, size);
+        return dst;
+    }
+
+    /**
+     * Computes the dot product of each vector with the vector at the same index in another buffer.
+     *
+     * @param other the right-hand operands
+     * @param dst   the array receiving one dot product per vector
+     * @return the destination array
+     * @throws IllegalArgumentException if other or dst is null or the sizes differ
+     */
+    public double[] dot(Vector2Buffer other, double[] dst) {
+        checkSameSize(other);
+        checkLength(dst);
+        for (int i = 0; i < size; i++) {
+            dst[i] = x[i] * other.x[i] + y[i] * other.y[i];
+        }
+        return dst;
+    }
+
+    /**
+     * Computes the length of each vector.
+     *
+     * @param dst the array receiving one length per vector
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null or its length differs from the buffer size
+     */
+    public double[] length(double[] dst) {
+        checkLength(dst);
+        for (int i = 0; i < size; i++) {
+            dst[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Normalizes each vector to have a length of 1.
+     * If a zero vector is encountered, the vectors before it have already been written.
+     *
+     * @param dst the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if dst is null or the sizes differ
+     * @throws ArithmeticException if any vector is a zero vector
+     */
+    public Vector2Buffer normalize(Vector2Buffer dst) {
+        checkSameSize(dst);
+        for (int i = 0; i < size; i++) {
+            double vx = x[i];
+            double vy = y[i];
+            double len = Math.sqrt(vx * vx + vy * vy);
+            if (len == 0.0) {
+                throw new ArithmeticException("Cannot normalize zero vector at index " + i);
+            }
+            double inv = 1.0 / len;
+            dst.x[i] = vx * inv;
+            dst.y[i] = vy * inv;
+        }
+        return dst;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for buffer size " + size);
+        }
+    }
+
+    private void checkSameSize(Vector2Buffer other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (other.size != size) {
+            throw new IllegalArgumentException("Buffers must have the same size");
+        }
+    }
+
+    private void checkLength(double[] dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        if (dst.length != size) {
+            throw new IllegalArgumentException("Destination length must equal the buffer size");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Vector2Buffer(size=" + size + ")";
+    }
+}
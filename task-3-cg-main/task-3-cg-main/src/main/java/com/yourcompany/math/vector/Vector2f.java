@@ -0,0 +1,187 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Immutable single-precision counterpart of {@link Vector2}, with x and y components.
+ * Use it where float precision is enough and memory bandwidth matters, such as vertex data.
+ * All operations return new instances without modifying the original vector.
+ */
+public final class Vector2f {
+    private final float x;
+    private final float y;
+
+    /**
+     * Constructs a new Vector2f with the specified x and y components.
+     *
+     * @param x the x component
+     * @param y the y component
+     */
+    public Vector2f(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Copy constructor. Creates a new Vector2f with the same components as the given vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector2f(Vector2f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+    }
+
+    /**
+     * Narrows a double-precision vector to single precision. Each component is rounded to the
+     * nearest float, so precision is lost and very large values become infinite.
+     *
+     * @param v the vector to narrow
+     * @return a new Vector2f
+     * @throws IllegalArgumentException if v is null
+     */
+    public static Vector2f narrow(Vector2 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector2f((float) v.getX(), (float) v.getY());
+    }
+
+    /**
+     * Widens this vector to double precision. The conversion is exact.
+     *
+     * @return a new Vector2 with the same components
+     */
+    public Vector2 toVector2() {
+        return new Vector2(x, y);
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Adds another Vector2f to this vector and returns a new Vector2f.
+     *
+     * @param v the vector to add
+     * @return a new Vector2f representing the sum
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector2f add(Vector2f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector2f(this.x + v.x, this.y + v.y);
+    }
+
+    /**
+     * Subtracts another Vector2f from this vector and returns a new Vector2f.
+     *
+     * @param v the vector to subtract
+     * @return a new Vector2f representing the difference
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector2f subtract(Vector2f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector2f(this.x - v.x, this.y - v.y);
+    }
+
+    /**
+     * Multiplies this vector by a scalar and returns a new Vector2f.
+     *
+     * @param scalar the scalar to multiply by
+     * @return a new Vector2f representing the scaled vector
+     */
+    public Vector2f multiply(float scalar) {
+        return new Vector2f(this.x * scalar, this.y * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar and returns a new Vector2f.
+     *
+     * @param scalar the scalar to divide by
+     * @return a new Vector2f representing the scaled vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public Vector2f divide(float scalar) {
+        if (scalar == 0.0f) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return new Vector2f(this.x / scalar, this.y / scalar);
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector. The sum of squares is accumulated in
+     * double precision, so it cannot overflow for large float components.
+     *
+     * @return the length of the vector
+     */
+    public float length() {
+        return (float) Math.sqrt((double) x * x + (double) y * y);
+    }
+
+    /**
+     * Normalizes this vector to have a length of 1 and returns a new Vector2f.
+     *
+     * @return a new normalized Vector2f
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public Vector2f normalize() {
+        float len = length();
+        if (len == 0.0f) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return new Vector2f(this.x / len, this.y / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another Vector2f.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public float dotProduct(Vector2f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return this.x * v.x + this.y * v.y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector2f vector2f = (Vector2f) obj;
+        return Float.compare(vector2f.x, x) == 0
+            && Float.compare(vector2f.y, y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Float.hashCode(x) * 31 + Float.hashCode(y);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector2f(%.4f, %.4f)", x, y);
+    }
+}
@@ -1,5 +1,8 @@
 package com.yourcompany.math.vector;
 
+import com.yourcompany.math.kernel.Compensated;
+import com.yourcompany.math.kernel.Precision;
+
 /**
  * Immutable class representing a 3D vector with x, y, and z components.
  * All operations return new instances without modifying the original vector.
@@ -78,6 +81,24 @@ public final class Vector3 {
         return new Vector3(this.x + v.x, this.y + v.y, this.z + v.z);
     }
 
+    /**
+     * Adds another Vector3 to this vector and writes the sum into a destination vector.
+     *
+     * @param v   the vector to add
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 add(Vector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x + v.x, this.y + v.y, this.z + v.z);
+    }
+
     /**
      * Subtracts another Vector3 from this vector and returns a new Vector3.
      *
@@ -92,6 +113,24 @@ public final class Vector3 {
         return new Vector3(this.x - v.x, this.y - v.y, this.z - v.z);
     }
 
+    /**
+     * Subtracts another Vector3 from this vector and writes the difference into a destination vector.
+     *
+     * @param v   the vector to subtract
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 subtract(Vector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x - v.x, this.y - v.y, this.z - v.z);
+    }
+
     /**
      * Multiplies this vector by a scalar and returns a new Vector3.
      *
@@ -102,6 +141,21 @@ public final class Vector3 {
         return new Vector3(this.x * scalar, this.y * scalar, this.z * scalar);
     }
 
+    /**
+     * Multiplies this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableVector3 multiply(double scalar, MutableVector3 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
     /**
      * Divides this vector by a scalar and returns a new Vector3.
      *
@@ -116,6 +170,25 @@ public final class Vector3 {
         return new Vector3(this.x / scalar, this.y / scalar, this.z / scalar);
     }
 
+    /**
+     * Divides this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to divide by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector3 divide(double scalar, MutableVector3 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return dst.set(this.x / scalar, this.y / scalar, this.z / scalar);
+    }
+
     /**
      * Calculates the length (magnitude) of this vector.
      *
@@ -125,6 +198,20 @@ public final class Vector3 {
         return Math.sqrt(x * x + y * y + z * z);
     }
 
+    /**
+     * Calculates the length of this vector in the given precision.
+     *
+     * @param precision the accumulation mode of the squared length
+     * @return the length of the vector
+     * @throws IllegalArgumentException if precision is null
+     */
+    public double length(Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        return precision == Precision.COMPENSATED ? Math.sqrt(Compensated.dot3(x, x, y, y, z, z)) : length();
+    }
+
     /**
      * Normalizes this vector to have a length of 1 and returns a new Vector3.
      *
@@ -139,6 +226,25 @@ public final class Vector3 {
         return new Vector3(this.x / len, this.y / len, this.z / len);
     }
 
+    /**
+     * Normalizes this vector to have a length of 1 and writes the result into a destination vector.
+     *
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector3 normalize(MutableVector3 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return dst.set(this.x / len, this.y / len, this.z / len);
+    }
+
     /**
      * Calculates the dot product of this vector with another Vector3.
      *
@@ -153,6 +259,27 @@ public final class Vector3 {
         return this.x * v.x + this.y * v.y + this.z * v.z;
     }
 
+    /**
+     * Calculates the dot product of this vector with another Vector3 in the given precision.
+     *
+     * @param v         the other vector
+     * @param precision the accumulation mode
+     * @return the dot product
+     * @throws IllegalArgumentException if v or precision is null
+     */
+    public double dotProduct(Vector3 v, Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        if (precision == Precision.STANDARD) {
+            return dotProduct(v);
+        }
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return Compensated.dot3(this.x, v.x, this.y, v.y, this.z, v.z);
+    }
+
     /**
      * Calculates the cross product of this vector with another Vector3.
      * The cross product returns a vector perpendicular to both input vectors.
@@ -172,6 +299,29 @@ public final class Vector3 {
         );
     }
 
+    /**
+     * Calculates the cross product of this vector with another Vector3 and writes it into
+     * a destination vector.
+     *
+     * @param v   the other vector
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector3 crossProduct(Vector3 v, MutableVector3 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(
+            this.y * v.z - this.z * v.y,
+            this.z * v.x - this.x * v.z,
+            this.x * v.y - this.y * v.x
+        );
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,327 @@
+package com.yourcompany.math.vector;
+
+import com.yourcompany.math.kernel.Normalization;
+import com.yourcompany.math.kernel.PackedKernels;
+
+/**
+ * Fixed-size structure-of-arrays container for Vector3 data: the x, y and z components of all
+ * vectors are kept in separate primitive arrays, so large meshes and point clouds need no
+ * per-vector objects. Bulk kernels operate on whole buffers and write into a destination buffer,
+ * which may be the source itself; element-wise kernels run through {@link PackedKernels}, so they
+ * use SIMD instructions where available. Indexed access converts to and from {@link Vector3}.
+ * Instances are not thread-safe.
+ */
+public final class Vector3Buffer {
+    private final int size;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    /**
+     * Constructs a new buffer holding {@code size} zero vectors.
+     *
+     * @param size the number of vectors
+     * @throws IllegalArgumentException if size is negative
+     */
+    public Vector3Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size cannot be negative");
+        }
+        this.size = size;
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    /**
+     * Constructs a buffer that wraps existing component arrays without copying them.
+     *
+     * @param x the x component array
+     * @param y the y component array
+     * @param z the z component array
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public Vector3Buffer(double[] x, double[] y, double[] z) {
+        if (x == null || y == null || z == null) {
+            throw new IllegalArgumentException("Component arrays cannot be null");
+        }
+        if (y.length != x.length || z.length != x.length) {
+            throw new IllegalArgumentException("Component arrays must have the same length");
+        }
+        this.size = x.length;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a buffer holding copies of the given vectors.
+     *
+     * @param vectors the vectors to copy
+     * @return a new buffer of the same length
+     * @throws IllegalArgumentException if the array or any element is null
+     */
+    public static Vector3Buffer of(Vector3... vectors) {
+        if (vectors == null) {
+            throw new IllegalArgumentException("Vector array cannot be null");
+        }
+        Vector3Buffer buffer = new Vector3Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the number of vectors in this buffer.
+     *
+     * @return the buffer size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of x components. Writes to the array are visible through
+     * this buffer; it is exposed so that bulk kernels elsewhere can work on it directly.
+     *
+     * @return the x component array
+     */
+    public double[] xArray() {
+        return x;
+    }
+
+    /**
+     * Returns the backing array of y components. Writes to the array are visible through
+     * this buffer; it is exposed so that bulk kernels elsewhere can work on it directly.
+     *
+     * @return the y component array
+     */
+    public double[] yArray() {
+        return y;
+    }
+
+    /**
+     * Returns the backing array of z components. Writes to the array are visible through
+     * this buffer; it is exposed so that bulk kernels elsewhere can work on it directly.
+     *
+     * @return the z component array
+     */
+    public double[] zArray() {
+        return z;
+    }
+
+    /**
+     * Returns the vector at the specified index as an immutable Vector3.
+     *
+     * @param index the vector index
+     * @return a new Vector3 with the stored components
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public Vector3 get(int index) {
+        checkIndex(index);
+        return new Vector3(x[index], y[index], z[index]);
+    }
+
+    /**
+     * Stores the components of a vector at the specified index.
+     *
+     * @param index the vector index
+     * @param v     the vector to store
+     * @throws IllegalArgumentException if v is null
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        checkIndex(index);
+        this.x[index] = v.getX();
+        this.y[index] = v.getY();
+        this.z[index] = v.getZ();
+    }
+
+    /**
+     * Stores the given components at the specified index.
+     *
+     * @param index the vector index
+     * @param x     the x component
+     * @param y     the y component
+     * @param z     the z component
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(int index, double x, double y, double z) {
+        checkIndex(index);
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /**
+     * Adds the vector at the same index in another buffer to each vector.
+     *
+     * @param other the vectors to add
+     * @param dst   the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if other or dst is null or the sizes differ
+     */
+    public Vector3Buffer add(Vector3Buffer other, Vector3Buffer dst) {
+        checkSameSize(other);
+        checkSameSize(dst);
+        PackedKernels.add(x, 0, other.x, 0, dst.x, 0, size);
+        PackedKernels.add(y, 0, other.y, 0, dst.y, 0, size);
+        PackedKernels.add(z, 0, other.z, 0, dst.z, 0, size);
+        return dst;
+    }
+
+    /**
+     * Multiplies each vector by a scalar.
+     *
+     * @param factor the scalar to multiply by
+     * @param dst    the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if dst is null or the sizes differ
+     */
+    public Vector3Buffer scale(double factor, Vector3Buffer dst) {
+        checkSameSize(dst);
+        PackedKernels.scale(x, 0, factor, dst.x, 0, size);
+        PackedKernels.scale(y, 0, factor, dst.y, 0, size);
+        PackedKernels.scale(z, 0, factor, dst.z, 0, size);
+        return dst;
+    }
+
+    /**
+     * Computes the dot product of each vector with the vector at the same index in another buffer.
+     *
+     * @param other the right-hand operands
+     * @param dst   the array receiving one dot product per vector
+     * @return the destination array
+     * @throws IllegalArgumentException if other or dst is null or the sizes differ
+     */
+    public double[] dot(Vector3Buffer other, double[] dst) {
+        checkSameSize(other);
+        checkLength(dst);
+        for (int i = 0; i < size; i++) {
+            dst[i] = x[i] * other.x[i] + y[i] * other.y[i] + z[i] * other.z[i];
+        }
+        return dst;
+    }
+
+    /**
+     * Computes the cross product of each vector with the vector at the same index in another
+     * buffer. The destination may be this buffer or {@code other}.
+     *
+     * @param other the right-hand operands
+     * @param dst   the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if other or dst is null or the sizes differ
+     */
+    public Vector3Buffer cross(Vector3Buffer other, Vector3Buffer dst) {
+        checkSameSize(other);
+        checkSameSize(dst);
+        for (int i = 0; i < size; i++) {
+            double ax = x[i], ay = y[i], az = z[i];
+            double bx = other.x[i], by = other.y[i], bz = other.z[i];
+            dst.x[i] = ay * bz - az * by;
+            dst.y[i] = az * bx - ax * bz;
+            dst.z[i] = ax * by - ay * bx;
+        }
+        return dst;
+    }
+
+    /**
+     * Computes the length of each vector.
+     *
+     * @param dst the array receiving one length per vector
+     * @return the destination array
+     * @throws IllegalArgumentException if dst is null or its length differs from the buffer size
+     */
+    public double[] length(double[] dst) {
+        checkLength(dst);
+        for (int i = 0; i < size; i++) {
+            dst[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Normalizes each vector to have a length of 1.
+     * If a zero vector is encountered, the vectors before it have already been written.
+     *
+     * @param dst the destination buffer
+     * @return the destination buffer
+     * @throws IllegalArgumentException if dst is null or the sizes differ
+     * @throws ArithmeticException if any vector is a zero vector
+     */
+    public Vector3Buffer normalize(Vector3Buffer dst) {
+        checkSameSize(dst);
+        PackedKernels.normalize3(x, y, z, 0, dst.x, dst.y, dst.z, 0, size);
+        return dst;
+    }
+
+    /**
+     * Computes the length of each vector with the given accuracy.
+     *
+     * @param dst           the array receiving one length per vector
+     * @param normalization the accuracy of the square root
+     * @return the destination array
+     * @throws IllegalArgumentException if an argument is null or the length of dst differs from
+     *                                  the buffer size
+     */
+    public double[] length(double[] dst, Normalization normalization) {
+        checkLength(dst);
+        PackedKernels.length3(x, y, z, 0, dst, 0, size, normalization);
+        return dst;
+    }
+
+    /**
+     * Normalizes each vector with the given accuracy, replacing zero vectors by a fallback
+     * instead of throwing. See
+     * {@link PackedKernels#normalize3(double[], double[], double[], int, double[], double[], double[], int, int, Normalization, double, double, double)}.
+     *
+     * @param dst           the destination buffer
+     * @param normalization the accuracy of the reciprocal length
+     * @param fallback      the vector written for zero vectors, such as the zero vector itself
+     *                      or a unit axis
+     * @return the destination buffer
+     * @throws IllegalArgumentException if an argument is null or the sizes differ
+     */
+    public Vector3Buffer normalize(Vector3Buffer dst, Normalization normalization, Vector3 fallback) {
+        checkSameSize(dst);
+        if (fallback == null) {
+            throw new IllegalArgumentException("Fallback cannot be null");
+        }
+        PackedKernels.normalize3(x, y, z, 0, dst.x, dst.y, dst.z, 0, size,
+            normalization, fallback.getX(), fallback.getY(), fallback.getZ());
+        return dst;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for buffer size " + size);
+        }
+    }
+
+    private void checkSameSize(Vector3Buffer other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (other.size != size) {
+            throw new IllegalArgumentException("Buffers must have the same size");
+        }
+    }
+
+    private void checkLength(double[] dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        if (dst.length != size) {
+            throw new IllegalArgumentException("Destination length must equal the buffer size");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Vector3Buffer(size=" + size + ")";
+    }
+}
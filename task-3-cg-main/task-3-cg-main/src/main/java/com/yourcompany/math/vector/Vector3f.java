@@ -0,0 +1,220 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Immutable single-precision counterpart of {@link Vector3}, with x, y, and z components.
+ * Use it where float precision is enough and memory bandwidth matters, such as vertex data.
+ * All operations return new instances without modifying the original vector.
+ */
+public final class Vector3f {
+    private final float x;
+    private final float y;
+    private final float z;
+
+    /**
+     * Constructs a new Vector3f with the specified x, y, and z components.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     */
+    public Vector3f(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Copy constructor. Creates a new Vector3f with the same components as the given vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3f(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+        this.z = v.z;
+    }
+
+    /**
+     * Narrows a double-precision vector to single precision. Each component is rounded to the
+     * nearest float, so precision is lost and very large values become infinite.
+     *
+     * @param v the vector to narrow
+     * @return a new Vector3f
+     * @throws IllegalArgumentException if v is null
+     */
+    public static Vector3f narrow(Vector3 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector3f((float) v.getX(), (float) v.getY(), (float) v.getZ());
+    }
+
+    /**
+     * Widens this vector to double precision. The conversion is exact.
+     *
+     * @return a new Vector3 with the same components
+     */
+    public Vector3 toVector3() {
+        return new Vector3(x, y, z);
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Returns the z component of this vector.
+     *
+     * @return the z component
+     */
+    public float getZ() {
+        return z;
+    }
+
+    /**
+     * Adds another Vector3f to this vector and returns a new Vector3f.
+     *
+     * @param v the vector to add
+     * @return a new Vector3f representing the sum
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3f add(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector3f(this.x + v.x, this.y + v.y, this.z + v.z);
+    }
+
+    /**
+     * Subtracts another Vector3f from this vector and returns a new Vector3f.
+     *
+     * @param v the vector to subtract
+     * @return a new Vector3f representing the difference
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3f subtract(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector3f(this.x - v.x, this.y - v.y, this.z - v.z);
+    }
+
+    /**
+     * Multiplies this vector by a scalar and returns a new Vector3f.
+     *
+     * @param scalar the scalar to multiply by
+     * @return a new Vector3f representing the scaled vector
+     */
+    public Vector3f multiply(float scalar) {
+        return new Vector3f(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar and returns a new Vector3f.
+     *
+     * @param scalar the scalar to divide by
+     * @return a new Vector3f representing the scaled vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public Vector3f divide(float scalar) {
+        if (scalar == 0.0f) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return new Vector3f(this.x / scalar, this.y / scalar, this.z / scalar);
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector. The sum of squares is accumulated in
+     * double precision, so it cannot overflow for large float components.
+     *
+     * @return the length of the vector
+     */
+    public float length() {
+        return (float) Math.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    /**
+     * Normalizes this vector to have a length of 1 and returns a new Vector3f.
+     *
+     * @return a new normalized Vector3f
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public Vector3f normalize() {
+        float len = length();
+        if (len == 0.0f) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return new Vector3f(this.x / len, this.y / len, this.z / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another Vector3f.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public float dotProduct(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return this.x * v.x + this.y * v.y + this.z * v.z;
+    }
+
+    /**
+     * Calculates the cross product of this vector with another Vector3f.
+     * The cross product returns a vector perpendicular to both input vectors.
+     *
+     * @param v the other vector
+     * @return a new Vector3f representing the cross product
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector3f crossProduct(Vector3f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector3f(
+            this.y * v.z - this.z * v.y,
+            this.z * v.x - this.x * v.z,
+            this.x * v.y - this.y * v.x
+        );
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector3f vector3f = (Vector3f) obj;
+        return Float.compare(vector3f.x, x) == 0
+            && Float.compare(vector3f.y, y) == 0
+            && Float.compare(vector3f.z, z) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Float.hashCode(x) * 31 + Float.hashCode(y) * 17 + Float.hashCode(z);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector3f(%.4f, %.4f, %.4f)", x, y, z);
+    }
+}
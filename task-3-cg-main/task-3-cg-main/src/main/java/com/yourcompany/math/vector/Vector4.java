@@ -1,5 +1,8 @@
 package com.yourcompany.math.vector;
 
+import com.yourcompany.math.kernel.Compensated;
+import com.yourcompany.math.kernel.Precision;
+
 /**
  * Immutable class representing a 4D vector with x, y, z, and w components.
  * All operations return new instances without modifying the original vector.
@@ -91,6 +94,24 @@ public final class Vector4 {
         return new Vector4(this.x + v.x, this.y + v.y, this.z + v.z, this.w + v.w);
     }
 
+    /**
+     * Adds another Vector4 to this vector and writes the sum into a destination vector.
+     *
+     * @param v   the vector to add
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector4 add(Vector4 v, MutableVector4 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x + v.x, this.y + v.y, this.z + v.z, this.w + v.w);
+    }
+
     /**
      * Subtracts another Vector4 from this vector and returns a new Vector4.
      *
@@ -105,6 +126,24 @@ public final class Vector4 {
         return new Vector4(this.x - v.x, this.y - v.y, this.z - v.z, this.w - v.w);
     }
 
+    /**
+     * Subtracts another Vector4 from this vector and writes the difference into a destination vector.
+     *
+     * @param v   the vector to subtract
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if v or dst is null
+     */
+    public MutableVector4 subtract(Vector4 v, MutableVector4 dst) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x - v.x, this.y - v.y, this.z - v.z, this.w - v.w);
+    }
+
     /**
      * Multiplies this vector by a scalar and returns a new Vector4.
      *
@@ -115,6 +154,21 @@ public final class Vector4 {
         return new Vector4(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
     }
 
+    /**
+     * Multiplies this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     */
+    public MutableVector4 multiply(double scalar, MutableVector4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return dst.set(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
+    }
+
     /**
      * Divides this vector by a scalar and returns a new Vector4.
      *
@@ -129,6 +183,25 @@ public final class Vector4 {
         return new Vector4(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
     }
 
+    /**
+     * Divides this vector by a scalar and writes the result into a destination vector.
+     *
+     * @param scalar the scalar to divide by
+     * @param dst    the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if scalar is zero
+     */
+    public MutableVector4 divide(double scalar, MutableVector4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        if (scalar == 0.0) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return dst.set(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
+    }
+
     /**
      * Calculates the length (magnitude) of this vector.
      *
@@ -138,6 +211,20 @@ public final class Vector4 {
         return Math.sqrt(x * x + y * y + z * z + w * w);
     }
 
+    /**
+     * Calculates the length of this vector in the given precision.
+     *
+     * @param precision the accumulation mode of the squared length
+     * @return the length of the vector
+     * @throws IllegalArgumentException if precision is null
+     */
+    public double length(Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        return precision == Precision.COMPENSATED ? Math.sqrt(Compensated.dot4(x, x, y, y, z, z, w, w)) : length();
+    }
+
     /**
      * Normalizes this vector to have a length of 1 and returns a new Vector4.
      *
@@ -152,6 +239,25 @@ public final class Vector4 {
         return new Vector4(this.x / len, this.y / len, this.z / len, this.w / len);
     }
 
+    /**
+     * Normalizes this vector to have a length of 1 and writes the result into a destination vector.
+     *
+     * @param dst the destination for the result
+     * @return the destination vector
+     * @throws IllegalArgumentException if dst is null
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public MutableVector4 normalize(MutableVector4 dst) {
+        if (dst == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        double len = length();
+        if (len == 0.0) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return dst.set(this.x / len, this.y / len, this.z / len, this.w / len);
+    }
+
     /**
      * Calculates the dot product of this vector with another Vector4.
      *
@@ -166,6 +272,27 @@ public final class Vector4 {
         return this.x * v.x + this.y * v.y + this.z * v.z + this.w * v.w;
     }
 
+    /**
+     * Calculates the dot product of this vector with another Vector4 in the given precision.
+     *
+     * @param v         the other vector
+     * @param precision the accumulation mode
+     * @return the dot product
+     * @throws IllegalArgumentException if v or precision is null
+     */
+    public double dotProduct(Vector4 v, Precision precision) {
+        if (precision == null) {
+            throw new IllegalArgumentException("Precision cannot be null");
+        }
+        if (precision == Precision.STANDARD) {
+            return dotProduct(v);
+        }
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return Compensated.dot4(this.x, v.x, this.y, v.y, this.z, v.z, this.w, v.w);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,215 @@
+package com.yourcompany.math.vector;
+
+/**
+ * Immutable single-precision counterpart of {@link Vector4}, with x, y, z, and w components.
+ * Use it where float precision is enough and memory bandwidth matters, such as vertex data.
+ * All operations return new instances without modifying the original vector.
+ */
+public final class Vector4f {
+    private final float x;
+    private final float y;
+    private final float z;
+    private final float w;
+
+    /**
+     * Constructs a new Vector4f with the specified x, y, z, and w components.
+     *
+     * @param x the x component
+     * @param y the y component
+     * @param z the z component
+     * @param w the w component
+     */
+    public Vector4f(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Copy constructor. Creates a new Vector4f with the same components as the given vector.
+     *
+     * @param v the vector to copy
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4f(Vector4f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        this.x = v.x;
+        this.y = v.y;
+        this.z = v.z;
+        this.w = v.w;
+    }
+
+    /**
+     * Narrows a double-precision vector to single precision. Each component is rounded to the
+     * nearest float, so precision is lost and very large values become infinite.
+     *
+     * @param v the vector to narrow
+     * @return a new Vector4f
+     * @throws IllegalArgumentException if v is null
+     */
+    public static Vector4f narrow(Vector4 v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector4f((float) v.getX(), (float) v.getY(), (float) v.getZ(), (float) v.getW());
+    }
+
+    /**
+     * Widens this vector to double precision. The conversion is exact.
+     *
+     * @return a new Vector4 with the same components
+     */
+    public Vector4 toVector4() {
+        return new Vector4(x, y, z, w);
+    }
+
+    /**
+     * Returns the x component of this vector.
+     *
+     * @return the x component
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y component of this vector.
+     *
+     * @return the y component
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Returns the z component of this vector.
+     *
+     * @return the z component
+     */
+    public float getZ() {
+        return z;
+    }
+
+    /**
+     * Returns the w component of this vector.
+     *
+     * @return the w component
+     */
+    public float getW() {
+        return w;
+    }
+
+    /**
+     * Adds another Vector4f to this vector and returns a new Vector4f.
+     *
+     * @param v the vector to add
+     * @return a new Vector4f representing the sum
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4f add(Vector4f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector4f(this.x + v.x, this.y + v.y, this.z + v.z, this.w + v.w);
+    }
+
+    /**
+     * Subtracts another Vector4f from this vector and returns a new Vector4f.
+     *
+     * @param v the vector to subtract
+     * @return a new Vector4f representing the difference
+     * @throws IllegalArgumentException if v is null
+     */
+    public Vector4f subtract(Vector4f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return new Vector4f(this.x - v.x, this.y - v.y, this.z - v.z, this.w - v.w);
+    }
+
+    /**
+     * Multiplies this vector by a scalar and returns a new Vector4f.
+     *
+     * @param scalar the scalar to multiply by
+     * @return a new Vector4f representing the scaled vector
+     */
+    public Vector4f multiply(float scalar) {
+        return new Vector4f(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
+    }
+
+    /**
+     * Divides this vector by a scalar and returns a new Vector4f.
+     *
+     * @param scalar the scalar to divide by
+     * @return a new Vector4f representing the scaled vector
+     * @throws ArithmeticException if scalar is zero
+     */
+    public Vector4f divide(float scalar) {
+        if (scalar == 0.0f) {
+            throw new ArithmeticException("Cannot divide by zero");
+        }
+        return new Vector4f(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
+    }
+
+    /**
+     * Calculates the length (magnitude) of this vector. The sum of squares is accumulated in
+     * double precision, so it cannot overflow for large float components.
+     *
+     * @return the length of the vector
+     */
+    public float length() {
+        return (float) Math.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    /**
+     * Normalizes this vector to have a length of 1 and returns a new Vector4f.
+     *
+     * @return a new normalized Vector4f
+     * @throws ArithmeticException if this vector is a zero vector
+     */
+    public Vector4f normalize() {
+        float len = length();
+        if (len == 0.0f) {
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        return new Vector4f(this.x / len, this.y / len, this.z / len, this.w / len);
+    }
+
+    /**
+     * Calculates the dot product of this vector with another Vector4f.
+     *
+     * @param v the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if v is null
+     */
+    public float dotProduct(Vector4f v) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return this.x * v.x + this.y * v.y + this.z * v.z + this.w * v.w;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector4f vector4f = (Vector4f) obj;
+        return Float.compare(vector4f.x, x) == 0
+            && Float.compare(vector4f.y, y) == 0
+            && Float.compare(vector4f.z, z) == 0
+            && Float.compare(vector4f.w, w) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Float.hashCode(x) * 31 + Float.hashCode(y) * 17 + Float.hashCode(z) * 11 + Float.hashCode(w);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector4f(%.4f, %.4f, %.4f, %.4f)", x, y, z, w);
+    }
+}
@@ -0,0 +1,28 @@
+package com.yourcompany.math.kernel;
+
+/**
+ * Chooses the kernel implementation at class-initialization time.
+ * This is the Java 17+ version from the multi-release layer: it selects the Vector API kernels
+ * when the {@code jdk.incubator.vector} module has been resolved (for example with
+ * {@code --add-modules jdk.incubator.vector}) and the {@value PackedKernels#FORCE_SCALAR_PROPERTY}
+ * system property is not set to {@code true}; otherwise it falls back to the scalar kernels.
+ */
+final class KernelSelector {
+
+    private KernelSelector() {
+    }
+
+    static Kernels select() {
+        if (Boolean.getBoolean(PackedKernels.FORCE_SCALAR_PROPERTY)) {
+            return new ScalarKernels();
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarKernels();
+        }
+        try {
+            return new VectorKernels();
+        } catch (LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+}
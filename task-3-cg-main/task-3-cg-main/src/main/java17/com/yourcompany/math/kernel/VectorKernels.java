@@ -0,0 +1,177 @@
+package com.yourcompany.math.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the bulk kernels built on the {@code jdk.incubator.vector} API.
+ * Each loop processes {@link #SPECIES} lanes at a time and finishes the remainder with the
+ * same arithmetic as {@link ScalarKernels}, so element-wise results match the scalar path.
+ */
+final class VectorKernels implements Kernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final ScalarKernels tail = new ScalarKernels();
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+
+    @Override
+    public void add(double[] a, int aOff, double[] b, int bOff, double[] dst, int dstOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, aOff + i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bOff + i);
+            va.add(vb).intoArray(dst, dstOff + i);
+        }
+        tail.add(a, aOff + i, b, bOff + i, dst, dstOff + i, length - i);
+    }
+
+    @Override
+    public void scale(double[] a, int aOff, double factor, double[] dst, int dstOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, aOff + i).mul(factor).intoArray(dst, dstOff + i);
+        }
+        tail.scale(a, aOff + i, factor, dst, dstOff + i, length - i);
+    }
+
+    @Override
+    public double dot(double[] a, int aOff, double[] b, int bOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, aOff + i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bOff + i);
+            acc = va.fma(vb, acc);
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + tail.dot(a, aOff + i, b, bOff + i, length - i);
+    }
+
+    @Override
+    public void transform4(double[] m,
+                           double[] sx, double[] sy, double[] sz, double[] sw, int srcOff,
+                           double[] dx, double[] dy, double[] dz, double[] dw, int dstOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, sx, srcOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, sy, srcOff + i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, sz, srcOff + i);
+            DoubleVector w = DoubleVector.fromArray(SPECIES, sw, srcOff + i);
+            row(m, 0, x, y, z).add(w.mul(m[3])).intoArray(dx, dstOff + i);
+            row(m, 4, x, y, z).add(w.mul(m[7])).intoArray(dy, dstOff + i);
+            row(m, 8, x, y, z).add(w.mul(m[11])).intoArray(dz, dstOff + i);
+            row(m, 12, x, y, z).add(w.mul(m[15])).intoArray(dw, dstOff + i);
+        }
+        tail.transform4(m, sx, sy, sz, sw, srcOff + i, dx, dy, dz, dw, dstOff + i, length - i);
+    }
+
+    @Override
+    public void transform3(double[] m,
+                           double[] sx, double[] sy, double[] sz, int srcOff,
+                           double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, sx, srcOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, sy, srcOff + i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, sz, srcOff + i);
+            row(m, 0, x, y, z).add(m[3]).intoArray(dx, dstOff + i);
+            row(m, 4, x, y, z).add(m[7]).intoArray(dy, dstOff + i);
+            row(m, 8, x, y, z).add(m[11]).intoArray(dz, dstOff + i);
+        }
+        tail.transform3(m, sx, sy, sz, srcOff + i, dx, dy, dz, dstOff + i, length - i);
+    }
+
+    @Override
+    public int normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                          double[] dx, double[] dy, double[] dz, int dstOff, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, sx, srcOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, sy, srcOff + i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, sz, srcOff + i);
+            DoubleVector len = x.mul(x).add(y.mul(y)).add(z.mul(z)).lanewise(VectorOperators.SQRT);
+            VectorMask<Double> zero = len.compare(VectorOperators.EQ, 0.0);
+            if (zero.anyTrue()) {
+                // Let the scalar loop write the vectors before the zero one and report its position
+                int found = tail.normalize3(sx, sy, sz, srcOff + i, dx, dy, dz, dstOff + i, SPECIES.length());
+                return i + found;
+            }
+            DoubleVector inv = DoubleVector.broadcast(SPECIES, 1.0).div(len);
+            x.mul(inv).intoArray(dx, dstOff + i);
+            y.mul(inv).intoArray(dy, dstOff + i);
+            z.mul(inv).intoArray(dz, dstOff + i);
+        }
+        int found = tail.normalize3(sx, sy, sz, srcOff + i, dx, dy, dz, dstOff + i, length - i);
+        return found < 0 ? -1 : i + found;
+    }
+
+    @Override
+    public void normalize3(double[] sx, double[] sy, double[] sz, int srcOff,
+                           double[] dx, double[] dy, double[] dz, int dstOff, int length,
+                           Normalization normalization, double fx, double fy, double fz) {
+        boolean approximate = normalization == Normalization.APPROXIMATE;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, sx, srcOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, sy, srcOff + i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, sz, srcOff + i);
+            DoubleVector s = x.mul(x).add(y.mul(y)).add(z.mul(z));
+            DoubleVector inv = approximate
+                ? inverseSqrt(s)
+                : DoubleVector.broadcast(SPECIES, 1.0).div(s.lanewise(VectorOperators.SQRT));
+            VectorMask<Double> zero = s.compare(VectorOperators.EQ, 0.0);
+            x.mul(inv).blend(fx, zero).intoArray(dx, dstOff + i);
+            y.mul(inv).blend(fy, zero).intoArray(dy, dstOff + i);
+            z.mul(inv).blend(fz, zero).intoArray(dz, dstOff + i);
+        }
+        tail.normalize3(sx, sy, sz, srcOff + i, dx, dy, dz, dstOff + i, length - i, normalization, fx, fy, fz);
+    }
+
+    @Override
+    public void length3(double[] sx, double[] sy, double[] sz, int srcOff,
+                        double[] dst, int dstOff, int length, Normalization normalization) {
+        boolean approximate = normalization == Normalization.APPROXIMATE;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, sx, srcOff + i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, sy, srcOff + i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, sz, srcOff + i);
+            DoubleVector s = x.mul(x).add(y.mul(y)).add(z.mul(z));
+            (approximate ? s.mul(inverseSqrt(s)) : s.lanewise(VectorOperators.SQRT)).intoArray(dst, dstOff + i);
+        }
+        tail.length3(sx, sy, sz, srcOff + i, dst, dstOff + i, length - i, normalization);
+    }
+
+    /**
+     * Lane-wise {@link ScalarKernels#inverseSqrt}, with the same operations in the same order.
+     */
+    private static DoubleVector inverseSqrt(DoubleVector s) {
+        VectorMask<Double> subnormal = s.lt(Double.MIN_NORMAL);
+        DoubleVector t = s.blend(s.mul(ScalarKernels.SUBNORMAL_SCALE), subnormal);
+        DoubleVector y = t.viewAsIntegralLanes().lanewise(VectorOperators.ASHR, 1).neg()
+            .add(ScalarKernels.RSQRT_MAGIC).viewAsFloatingLanes();
+        y = y.mul(DoubleVector.broadcast(SPECIES, 1.5).sub(t.mul(0.5).mul(y).mul(y)));
+        return y.blend(y.mul(ScalarKernels.SUBNORMAL_RESULT_SCALE), subnormal);
+    }
+
+    /**
+     * Computes m[r] * x + m[r + 1] * y + m[r + 2] * z with the row coefficients broadcast to all lanes.
+     */
+    private static DoubleVector row(double[] m, int r, DoubleVector x, DoubleVector y, DoubleVector z) {
+        return x.mul(m[r]).add(y.mul(m[r + 1])).add(z.mul(m[r + 2]));
+    }
+}
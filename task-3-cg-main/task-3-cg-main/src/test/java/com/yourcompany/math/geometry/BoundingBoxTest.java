@@ -0,0 +1,45 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.vector.Vector3;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the BoundingBox class.
+ */
+public class BoundingBoxTest {
+
+    private static final BoundingBox BOX = new BoundingBox(new Vector3(-1.0, 0.0, 2.0), new Vector3(3.0, 4.0, 6.0));
+
+    @Test
+    @DisplayName("Center and extent")
+    void testCenterExtent() {
+        assertEquals(new Vector3(1.0, 2.0, 4.0), BOX.center());
+        assertEquals(new Vector3(4.0, 4.0, 4.0), BOX.extent());
+    }
+
+    @Test
+    @DisplayName("Containment includes the boundary")
+    void testContains() {
+        assertTrue(BOX.contains(new Vector3(3.0, 0.0, 4.0)));
+        assertFalse(BOX.contains(new Vector3(3.5, 0.0, 4.0)));
+        assertThrows(IllegalArgumentException.class, () -> BOX.contains(null));
+    }
+
+    @Test
+    @DisplayName("Invalid corners throw exceptions")
+    void testInvalidCorners() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundingBox(null, new Vector3(0, 0, 0)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BoundingBox(new Vector3(1.0, 0.0, 0.0), new Vector3(0.0, 1.0, 1.0)));
+    }
+
+    @Test
+    @DisplayName("Equals and hashCode")
+    void testEquals() {
+        BoundingBox copy = new BoundingBox(new Vector3(-1.0, 0.0, 2.0), new Vector3(3.0, 4.0, 6.0));
+        assertEquals(BOX, copy);
+        assertEquals(BOX.hashCode(), copy.hashCode());
+    }
+}
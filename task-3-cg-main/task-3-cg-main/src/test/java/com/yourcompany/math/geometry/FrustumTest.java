@@ -0,0 +1,186 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the Frustum class.
+ */
+public class FrustumTest {
+
+    private static final double EPSILON = 1e-12;
+    private static final double NEAR = 1.0;
+    private static final double FAR = 100.0;
+
+    /** OpenGL perspective projection with a 90 degree field of view, looking down -z. */
+    private static final Matrix4x4 PERSPECTIVE = new Matrix4x4(
+        1.0, 0.0, 0.0, 0.0,
+        0.0, 1.0, 0.0, 0.0,
+        0.0, 0.0, (FAR + NEAR) / (NEAR - FAR), 2.0 * FAR * NEAR / (NEAR - FAR),
+        0.0, 0.0, -1.0, 0.0);
+
+    /** Camera at (0, 0, 10) looking down -z. */
+    private static final Matrix4x4 VIEW = new Matrix4x4(
+        1.0, 0.0, 0.0, 0.0,
+        0.0, 1.0, 0.0, 0.0,
+        0.0, 0.0, 1.0, -10.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    private static void assertPlane(double a, double b, double c, double d, Vector4 plane) {
+        assertEquals(a, plane.getX(), EPSILON);
+        assertEquals(b, plane.getY(), EPSILON);
+        assertEquals(c, plane.getZ(), EPSILON);
+        assertEquals(d, plane.getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Planes are extracted and normalized")
+    void testPlanes() {
+        Frustum frustum = Frustum.of(PERSPECTIVE);
+        double s = Math.sqrt(0.5);
+        assertPlane(s, 0.0, -s, 0.0, frustum.getPlane(Frustum.LEFT));
+        assertPlane(-s, 0.0, -s, 0.0, frustum.getPlane(Frustum.RIGHT));
+        assertPlane(0.0, s, -s, 0.0, frustum.getPlane(Frustum.BOTTOM));
+        assertPlane(0.0, -s, -s, 0.0, frustum.getPlane(Frustum.TOP));
+        assertPlane(0.0, 0.0, -1.0, -NEAR, frustum.getPlane(Frustum.NEAR));
+        assertPlane(0.0, 0.0, 1.0, FAR, frustum.getPlane(Frustum.FAR));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.getPlane(6));
+        assertThrows(IllegalArgumentException.class, () -> Frustum.of(null));
+    }
+
+    @Test
+    @DisplayName("Points, boxes and spheres against a view-projection frustum")
+    void testSingleObjects() {
+        Frustum frustum = Frustum.of(PERSPECTIVE.multiply(VIEW));
+        assertTrue(frustum.contains(new Vector3(0.0, 0.0, 0.0)));
+        assertTrue(frustum.contains(new Vector3(4.0, -4.0, 5.0)));
+        assertFalse(frustum.contains(new Vector3(0.0, 0.0, 9.5)));
+        assertFalse(frustum.contains(new Vector3(0.0, 0.0, -91.0)));
+        assertFalse(frustum.contains(new Vector3(11.0, 0.0, 0.0)));
+
+        assertTrue(frustum.intersects(new BoundingBox(new Vector3(9.0, -1.0, -1.0), new Vector3(12.0, 1.0, 1.0))));
+        assertFalse(frustum.intersects(new BoundingBox(new Vector3(12.0, -1.0, -1.0), new Vector3(13.0, 1.0, 1.0))));
+        assertTrue(frustum.intersects(new Vector3(11.0, 0.0, 0.0), 1.0));
+        assertFalse(frustum.intersects(new Vector3(12.0, 0.0, 0.0), 1.0));
+        assertFalse(frustum.intersects(new Vector3(0.0, 0.0, 12.0), 1.0));
+        assertThrows(IllegalArgumentException.class, () -> frustum.intersects(new Vector3(0.0, 0.0, 0.0), -1.0));
+        assertThrows(IllegalArgumentException.class, () -> frustum.intersects(null));
+    }
+
+    @Test
+    @DisplayName("Zero-to-one depth and infinite far planes")
+    void testProjectionConventions() {
+        Matrix4x4 zeroToOne = new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, FAR / (NEAR - FAR), FAR * NEAR / (NEAR - FAR),
+            0.0, 0.0, -1.0, 0.0);
+        Frustum frustum = Frustum.of(zeroToOne, true);
+        assertPlane(0.0, 0.0, -1.0, -NEAR, frustum.getPlane(Frustum.NEAR));
+        assertPlane(0.0, 0.0, 1.0, FAR, frustum.getPlane(Frustum.FAR));
+        assertTrue(frustum.contains(new Vector3(0.0, 0.0, -2.0)));
+        assertFalse(frustum.contains(new Vector3(0.0, 0.0, -0.5)));
+
+        Matrix4x4 infinite = new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, -1.0, -2.0 * NEAR,
+            0.0, 0.0, -1.0, 0.0);
+        Frustum unbounded = Frustum.of(infinite);
+        assertTrue(unbounded.contains(new Vector3(0.0, 0.0, -1e9)));
+        assertFalse(unbounded.contains(new Vector3(0.0, 0.0, -0.5)));
+    }
+
+    @Test
+    @DisplayName("Batch culls match the single-object tests for every output form")
+    void testBatch() {
+        Frustum frustum = Frustum.of(PERSPECTIVE.multiply(VIEW));
+        Random random = new Random(9);
+        int count = 50_001;
+        double[] minX = new double[count], minY = new double[count], minZ = new double[count];
+        double[] maxX = new double[count], maxY = new double[count], maxZ = new double[count];
+        double[] radius = new double[count];
+        for (int i = 0; i < count; i++) {
+            minX[i] = random.nextDouble() * 300 - 150;
+            minY[i] = random.nextDouble() * 300 - 150;
+            minZ[i] = random.nextDouble() * 300 - 200;
+            radius[i] = random.nextDouble() * 5;
+            maxX[i] = minX[i] + radius[i];
+            maxY[i] = minY[i] + 2 * radius[i];
+            maxZ[i] = minZ[i] + 3 * radius[i];
+        }
+        long[] boxBits = new long[(count + 63) / 64];
+        long[] sphereBits = new long[(count + 63) / 64];
+        int[] boxIndices = new int[count];
+        int[] sphereIndices = new int[count];
+        int boxes = frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, count, boxBits);
+        int spheres = frustum.cullSpheres(minX, minY, minZ, radius, count, sphereBits);
+        assertEquals(boxes, frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, count, boxIndices));
+        assertEquals(spheres, frustum.cullSpheres(minX, minY, minZ, radius, count, sphereIndices));
+        assertTrue(boxes > 0 && boxes < count);
+
+        int nb = 0, ns = 0;
+        for (int i = 0; i < count; i++) {
+            boolean box = frustum.intersects(new BoundingBox(
+                new Vector3(minX[i], minY[i], minZ[i]), new Vector3(maxX[i], maxY[i], maxZ[i])));
+            boolean sphere = frustum.intersects(new Vector3(minX[i], minY[i], minZ[i]), radius[i]);
+            assertEquals(box, (boxBits[i >>> 6] & (1L << i)) != 0, "box " + i);
+            assertEquals(sphere, (sphereBits[i >>> 6] & (1L << i)) != 0, "sphere " + i);
+            if (box) {
+                assertEquals(i, boxIndices[nb++]);
+            }
+            if (sphere) {
+                assertEquals(i, sphereIndices[ns++]);
+            }
+        }
+        assertEquals(boxes, nb);
+        assertEquals(spheres, ns);
+        assertEquals(0L, boxBits[boxBits.length - 1] >>> (count & 63));
+
+        int[] compacted = new int[count];
+        assertEquals(boxes, Frustum.toIndices(boxBits, count, compacted));
+        for (int k = 0; k < boxes; k++) {
+            assertEquals(boxIndices[k], compacted[k]);
+        }
+
+        for (int threads : new int[]{1, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long[] parallel = new long[boxBits.length + 1];
+                parallel[boxBits.length] = -1L;
+                assertEquals(boxes, frustum.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, count, parallel, pool));
+                assertArrayEquals(boxBits, Arrays.copyOf(parallel, boxBits.length));
+                assertEquals(-1L, parallel[boxBits.length]);
+                assertEquals(spheres, frustum.cullSpheres(minX, minY, minZ, radius, count, parallel, pool));
+                assertArrayEquals(sphereBits, Arrays.copyOf(parallel, sphereBits.length));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid batch arguments throw exceptions")
+    void testInvalidArguments() {
+        Frustum frustum = Frustum.of(PERSPECTIVE);
+        double[] a = new double[10];
+        assertEquals(0, frustum.cullBoxes(a, a, a, a, a, a, 0, new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> frustum.cullBoxes(a, a, null, a, a, a, 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> frustum.cullSpheres(a, a, a, a, -1, new int[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.cullBoxes(a, a, a, a, a, a, 11, new int[11]));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.cullSpheres(a, a, a, a, 10, new int[9]));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.cullSpheres(a, a, a, a, 65, new long[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> frustum.cullSpheres(a, a, a, a, 10, new long[1], null));
+        assertThrows(IndexOutOfBoundsException.class, () -> Frustum.toIndices(new long[1], 65, new int[65]));
+    }
+}
@@ -0,0 +1,130 @@
+package com.yourcompany.math.geometry;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the VertexIndex class.
+ */
+public class VertexIndexTest {
+
+    @Test
+    @DisplayName("Exact welding merges equal positions only")
+    void testExact() {
+        VertexIndex index = new VertexIndex(0.0);
+        assertEquals(0, index.add(1.0, 2.0, 3.0));
+        assertEquals(1, index.add(1.0, 2.0, 3.0000001));
+        assertEquals(0, index.add(new Vector3(1.0, 2.0, 3.0)));
+        assertEquals(2, index.add(0.0, 0.0, 0.0));
+        assertEquals(2, index.add(-0.0, 0.0, -0.0));
+        assertEquals(3, index.add(Double.NaN, 0.0, 0.0));
+        assertEquals(4, index.add(Double.NaN, 0.0, 0.0));
+        assertEquals(5, index.size());
+        assertEquals(1, index.find(1.0, 2.0, 3.0000001));
+        assertEquals(-1, index.find(5.0, 5.0, 5.0));
+        assertEquals(new Vector3(1.0, 2.0, 3.0000001), index.get(1));
+    }
+
+    @Test
+    @DisplayName("Tolerance welds across cell boundaries to the earliest vertex")
+    void testTolerance() {
+        VertexIndex index = new VertexIndex(0.01);
+        // Cells have an edge of 0.04 and are centered on multiples of it, so these two
+        // straddle the boundary at x = 0.02
+        assertEquals(0, index.add(0.0199, 0.5, 0.5));
+        assertEquals(0, index.add(0.0201, 0.5, 0.5));
+        assertEquals(0, index.add(0.0199 + 0.005, 0.5 + 0.005, 0.5 + 0.005));
+        // Within 0.01 on every axis but not in Euclidean distance
+        assertEquals(1, index.add(0.0199 + 0.008, 0.5 + 0.008, 0.5));
+        // Within the tolerance of both; the earlier one wins
+        assertEquals(0, index.add(0.0199 + 0.004, 0.5 + 0.004, 0.5));
+        assertEquals(2, index.add(-0.0001, 0.5, 0.5));
+        assertEquals(3, index.size());
+        assertEquals(0.01, index.getTolerance());
+        // Huge and infinite coordinates saturate the cell range without looping forever
+        assertEquals(3, index.add(1e300, Double.POSITIVE_INFINITY, 0.0));
+        assertEquals(4, index.add(1e300, Double.POSITIVE_INFINITY, 0.0));
+    }
+
+    @Test
+    @DisplayName("Welding random jittered vertices matches brute force")
+    void testAgainstBruteForce() {
+        Random random = new Random(3);
+        double tolerance = 0.05;
+        int n = 3000;
+        Vector3Buffer vertices = new Vector3Buffer(n);
+        for (int i = 0; i < n; i++) {
+            vertices.set(i, random.nextInt(10) * 0.1 + random.nextGaussian() * 0.02,
+                random.nextInt(10) * 0.1 + random.nextGaussian() * 0.02, random.nextDouble() * 0.2);
+        }
+        VertexIndex index = new VertexIndex(tolerance);
+        int[] remap = index.addAll(vertices);
+        Vector3Buffer unique = index.toBuffer();
+        assertEquals(index.size(), unique.size());
+
+        int count = 0;
+        Vector3[] kept = new Vector3[n];
+        for (int i = 0; i < n; i++) {
+            Vector3 v = vertices.get(i);
+            int expected = -1;
+            for (int k = 0; k < count && expected < 0; k++) {
+                if (kept[k].subtract(v).length() <= tolerance) {
+                    expected = k;
+                }
+            }
+            if (expected < 0) {
+                expected = count;
+                kept[count++] = v;
+            }
+            assertEquals(expected, remap[i], "vertex " + i);
+        }
+        assertEquals(count, index.size());
+        for (int k = 0; k < count; k++) {
+            assertEquals(kept[k], unique.get(k));
+        }
+    }
+
+    @Test
+    @DisplayName("A duplicated grid grows the table and remaps index buffers")
+    void testGridAndRemap() {
+        int side = 40;
+        int cells = side * side * side;
+        Vector3Buffer vertices = new Vector3Buffer(2 * cells);
+        for (int i = 0; i < cells; i++) {
+            double gx = i % side, gy = (i / side) % side, gz = i / (side * side);
+            vertices.set(i, gx, gy, gz);
+            vertices.set(cells + i, gx + 1e-9, gy, gz - 1e-9);
+        }
+        VertexIndex index = new VertexIndex(1e-6);
+        int[] remap = index.addAll(vertices);
+        assertEquals(cells, index.size());
+        for (int i = 0; i < cells; i++) {
+            assertEquals(i, remap[i]);
+            assertEquals(i, remap[cells + i]);
+        }
+
+        int[] triangles = {cells, cells + 1, 2, 5, cells + 5, 7};
+        assertArrayEquals(new int[]{0, 1, 2, 5, 5, 7}, VertexIndex.remapIndices(triangles, remap));
+        assertThrows(IndexOutOfBoundsException.class, () -> VertexIndex.remapIndices(new int[]{2 * cells}, remap));
+        assertThrows(IllegalArgumentException.class, () -> VertexIndex.remapIndices(null, remap));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments throw exceptions")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new VertexIndex(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new VertexIndex(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new VertexIndex(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> new VertexIndex(0.0, -1));
+        VertexIndex index = new VertexIndex(0.0, 100);
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> index.addAll(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(0));
+    }
+}
@@ -0,0 +1,187 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the packed array file format, its reader and writer, and the streaming
+ * transforms between mapped files.
+ */
+public class PackedArrayFileTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Matrix4x4 AFFINE = new Matrix4x4(
+        0.0, -1.0, 0.0, 5.0,
+        1.0, 0.0, 0.0, -2.0,
+        0.0, 0.0, 2.0, 1.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    @TempDir
+    Path dir;
+
+    private Path writePoints(String name, int count) throws IOException {
+        Path path = dir.resolve(name);
+        try (PackedArrayWriter writer = PackedArrayWriter.create(path,
+                new PackedArrayHeader(ElementType.DOUBLE, 3, count))) {
+            DirectVector3Buffer view = writer.mapVector3(0, count);
+            for (int i = 0; i < count; i++) {
+                view.set(i, i, 2.0 * i, -i);
+            }
+            writer.force();
+        }
+        return path;
+    }
+
+    @Test
+    @DisplayName("Header layout is little-endian and versioned")
+    void testHeaderLayout() throws IOException {
+        Path path = writePoints("points.lapa", 2);
+        byte[] bytes = Files.readAllBytes(path);
+        assertEquals(PackedArrayHeader.BYTES + 2 * 3 * Double.BYTES, bytes.length);
+        ByteBuffer b = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals('L', b.get(0));
+        assertEquals('A', b.get(3));
+        assertEquals(PackedArrayHeader.VERSION, b.getShort(4));
+        assertEquals(ElementType.DOUBLE.code(), b.get(6));
+        assertEquals(3, b.get(7));
+        assertEquals(2L, b.getLong(8));
+        assertEquals(1.0, b.getDouble(PackedArrayHeader.BYTES + 3 * Double.BYTES), 0.0);
+    }
+
+    @Test
+    @DisplayName("Reader maps the data written by the writer")
+    void testRoundTrip() throws IOException {
+        Path path = writePoints("points.lapa", 5);
+        try (PackedArrayReader reader = PackedArrayReader.open(path)) {
+            assertEquals(new PackedArrayHeader(ElementType.DOUBLE, 3, 5), reader.getHeader());
+            assertEquals(new Vector3(4.0, 8.0, -4.0), reader.mapVector3(0, 5).get(4));
+            DirectVector3Buffer tail = reader.mapVector3(3, 2);
+            assertEquals(new Vector3(3.0, 6.0, -3.0), tail.get(0));
+            DoubleBuffer doubles = reader.mapDoubles(1, 1);
+            assertEquals(2.0, doubles.get(1), 0.0);
+            assertThrows(IllegalStateException.class, () -> reader.mapFloats(0, 1));
+            assertThrows(IllegalStateException.class, () -> reader.mapVector4(0, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.mapVector3(4, 2));
+        }
+    }
+
+    @Test
+    @DisplayName("Matrices are stored as 16-component elements")
+    void testMatrices() throws IOException {
+        Path path = dir.resolve("matrices.lapa");
+        try (PackedArrayWriter writer = PackedArrayWriter.create(path,
+                new PackedArrayHeader(ElementType.DOUBLE, 16, 2))) {
+            DoubleBuffer view = writer.mapDoubles(0, 2);
+            view.put(Matrix4x4.identity().toArray(new double[16], 0));
+            view.put(AFFINE.toArray(new double[16], 0));
+        }
+        try (PackedArrayReader reader = PackedArrayReader.open(path)) {
+            double[] element = new double[16];
+            reader.mapDoubles(1, 1).get(element);
+            assertEquals(AFFINE, Matrix4x4.fromArray(element, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid files are rejected")
+    void testInvalidFiles() throws IOException {
+        Path garbage = dir.resolve("garbage.bin");
+        Files.write(garbage, new byte[64]);
+        assertThrows(IOException.class, () -> PackedArrayReader.open(garbage));
+
+        Path shortFile = dir.resolve("short.bin");
+        Files.write(shortFile, new byte[]{'L', 'A'});
+        assertThrows(IOException.class, () -> PackedArrayReader.open(shortFile));
+
+        Path truncated = writePoints("truncated.lapa", 4);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> PackedArrayReader.open(truncated));
+
+        assertThrows(IllegalArgumentException.class, () -> new PackedArrayHeader(ElementType.FLOAT, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PackedArrayHeader(null, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PackedArrayHeader(ElementType.DOUBLE, 3, -1));
+        assertThrows(IllegalArgumentException.class, () -> PackedArrayReader.open(null));
+    }
+
+    @Test
+    @DisplayName("Streaming point transform over several chunks")
+    void testTransformPointsChunked() throws IOException {
+        Path src = writePoints("in.lapa", 11);
+        Path dst = dir.resolve("out.lapa");
+        try (PackedArrayReader in = PackedArrayReader.open(src);
+             PackedArrayWriter out = PackedArrayWriter.create(dst, in.getHeader())) {
+            MappedTransforms.transformPoints(AFFINE, in, out, 4);
+        }
+        try (PackedArrayReader result = PackedArrayReader.open(dst)) {
+            DirectVector3Buffer view = result.mapVector3(0, 11);
+            for (int i = 0; i < 11; i++) {
+                Vector4 expected = AFFINE.multiply(new Vector4(i, 2.0 * i, -i, 1.0));
+                assertEquals(new Vector3(expected.getX(), expected.getY(), expected.getZ()), view.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming transforms of float files")
+    void testTransformFloat() throws IOException {
+        Path src = dir.resolve("in32.lapa");
+        try (PackedArrayWriter writer = PackedArrayWriter.create(src,
+                new PackedArrayHeader(ElementType.FLOAT, 3, 3))) {
+            writer.mapFloats(0, 3).put(new float[]{1, 0, 0, 0, 1, 0, 0, 0, 1});
+        }
+        Path dst = dir.resolve("out32.lapa");
+        Matrix3x3 rotation = new Matrix3x3(
+            0.0, -1.0, 0.0,
+            1.0, 0.0, 0.0,
+            0.0, 0.0, 1.0);
+        try (PackedArrayReader in = PackedArrayReader.open(src);
+             PackedArrayWriter out = PackedArrayWriter.create(dst, in.getHeader())) {
+            MappedTransforms.transform(rotation, in, out, 2);
+        }
+        try (PackedArrayReader result = PackedArrayReader.open(dst)) {
+            FloatBuffer floats = result.mapFloats(0, 3);
+            float[] values = new float[9];
+            floats.get(values);
+            assertArrayEquals(new float[]{0, 1, 0, -1, 0, 0, 0, 0, 1}, values, 1e-6f);
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming transforms validate the files")
+    void testTransformInvalid() throws IOException {
+        Path src = writePoints("in.lapa", 3);
+        try (PackedArrayReader in = PackedArrayReader.open(src);
+             PackedArrayWriter shorter = PackedArrayWriter.create(dir.resolve("short.lapa"),
+                 new PackedArrayHeader(ElementType.DOUBLE, 3, 2))) {
+            assertThrows(IllegalArgumentException.class,
+                () -> MappedTransforms.transformPoints(AFFINE, in, shorter, 4));
+            assertThrows(IllegalArgumentException.class,
+                () -> MappedTransforms.transform(AFFINE, in, shorter, 4));
+            assertThrows(IllegalArgumentException.class,
+                () -> MappedTransforms.transformPoints(AFFINE, in, null, 4));
+        }
+        try (PackedArrayReader in = PackedArrayReader.open(src);
+             PackedArrayWriter out = PackedArrayWriter.create(dir.resolve("out.lapa"), in.getHeader())) {
+            assertThrows(IllegalArgumentException.class,
+                () -> MappedTransforms.transformPoints(AFFINE, in, out, 0));
+            MappedTransforms.transformDirections(AFFINE, in, out, MappedTransforms.DEFAULT_CHUNK_ELEMENTS);
+            assertEquals(new Vector3(-2.0, 1.0, -2.0), out.mapVector3(1, 1).get(0));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.yourcompany.math.io;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the streaming transform pipeline and its point sources and sinks.
+ */
+public class TransformPipelineTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Matrix4x4 AFFINE = new Matrix4x4(
+        0.0, -1.0, 0.0, 5.0,
+        1.0, 0.0, 0.0, -2.0,
+        0.0, 0.0, 2.0, 1.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    @TempDir
+    Path dir;
+
+    private static List<Vector3> points(int count) {
+        List<Vector3> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new Vector3(i, 2.0 * i, -i));
+        }
+        return points;
+    }
+
+    private static Vector3 transformPoint(Matrix4x4 m, Vector3 p) {
+        Vector4 r = m.multiply(new Vector4(p.getX(), p.getY(), p.getZ(), 1.0));
+        return new Vector3(r.getX(), r.getY(), r.getZ());
+    }
+
+    private static void assertVectorEquals(Vector3 expected, Vector3 actual, double delta) {
+        assertEquals(expected.getX(), actual.getX(), delta);
+        assertEquals(expected.getY(), actual.getY(), delta);
+        assertEquals(expected.getZ(), actual.getZ(), delta);
+    }
+
+    private Path writeFile(String name, ElementType type, List<Vector3> points) throws IOException {
+        Path path = dir.resolve(name);
+        try (PointSink sink = PointSinks.create(path, type)) {
+            new TransformPipeline().run(PointSources.of(points.iterator()), sink);
+        }
+        return path;
+    }
+
+    @Test
+    @DisplayName("Iterator source through every stage kind")
+    void testStagesInOrder() throws IOException {
+        Matrix3x3 scale = new Matrix3x3(
+            2.0, 0.0, 0.0,
+            0.0, 2.0, 0.0,
+            0.0, 0.0, 2.0);
+        TransformPipeline pipeline = new TransformPipeline(3)
+            .transformPoints(AFFINE)
+            .filter((x, y, z) -> x > 0.0)
+            .transform(scale)
+            .transformDirections(new Matrix4x4(
+                1.0, 0.0, 0.0, 100.0,
+                0.0, 1.0, 0.0, 100.0,
+                0.0, 0.0, 1.0, 100.0,
+                0.0, 0.0, 0.0, 1.0))
+            .normalize();
+        List<Vector3> out = new ArrayList<>();
+        long written = pipeline.run(PointSources.of(points(10).iterator()), PointSinks.to(out::add));
+
+        List<Vector3> expected = new ArrayList<>();
+        for (Vector3 p : points(10)) {
+            Vector3 q = transformPoint(AFFINE, p);
+            if (q.getX() > 0.0) {
+                expected.add(q.multiply(2.0).normalize());
+            }
+        }
+        assertEquals(expected.size(), written);
+        assertEquals(expected.size(), out.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertVectorEquals(expected.get(i), out.get(i), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("File to file over chunks that do not divide the count")
+    void testFileToFile() throws IOException {
+        Path src = writeFile("in.lapa", ElementType.DOUBLE, points(11));
+        Path dst = dir.resolve("out.lapa");
+        try (PointSource source = PointSources.open(src);
+             PointSink sink = PointSinks.create(dst, ElementType.DOUBLE)) {
+            assertEquals(11, new TransformPipeline(4).transformPoints(AFFINE).run(source, sink));
+        }
+        try (PackedArrayReader reader = PackedArrayReader.open(dst)) {
+            assertEquals(new PackedArrayHeader(ElementType.DOUBLE, 3, 11), reader.getHeader());
+            for (int i = 0; i < 11; i++) {
+                assertVectorEquals(transformPoint(AFFINE, points(11).get(i)),
+                    reader.mapVector3(i, 1).get(0), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Filtering shrinks the output file")
+    void testFilterShrinksFile() throws IOException {
+        Path src = writeFile("in32.lapa", ElementType.FLOAT, points(9));
+        Path dst = dir.resolve("out32.lapa");
+        try (PointSource source = PointSources.open(src);
+             PointSink sink = PointSinks.create(dst, ElementType.FLOAT)) {
+            new TransformPipeline(2).filter((x, y, z) -> ((int) x) % 3 == 0).run(source, sink);
+        }
+        List<Vector3> out = new ArrayList<>();
+        try (PointSource source = PointSources.open(dst)) {
+            new TransformPipeline().run(source, PointSinks.to(out::add));
+        }
+        assertEquals(Arrays.asList(new Vector3(0, 0, 0), new Vector3(3, 6, -3), new Vector3(6, 12, -6)), out);
+    }
+
+    @Test
+    @DisplayName("Mapped range source into a mapped sink")
+    void testMappedRegions() throws IOException {
+        Path src = writeFile("in.lapa", ElementType.DOUBLE, points(8));
+        Path dst = dir.resolve("out.lapa");
+        try (PackedArrayReader reader = PackedArrayReader.open(src);
+             PackedArrayWriter writer = PackedArrayWriter.create(dst,
+                 new PackedArrayHeader(ElementType.FLOAT, 3, 6))) {
+            long written = new TransformPipeline(2).transformDirections(AFFINE)
+                .run(PointSources.of(reader, 3, 5), PointSinks.into(writer, 1));
+            assertEquals(5, written);
+            assertEquals(0.0f, writer.mapFloats(0, 1).get(0));
+            float[] last = new float[3];
+            writer.mapFloats(5, 1).get(last);
+            assertArrayEquals(new float[]{-14.0f, 7.0f, -14.0f}, last);
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> PointSinks.into(writer, 6).write(new double[3], 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> PointSources.of(reader, 4, 5));
+        }
+    }
+
+    @Test
+    @DisplayName("Errors from stages and sources propagate")
+    void testErrors() throws IOException {
+        List<Vector3> input = Arrays.asList(new Vector3(1, 0, 0), new Vector3(0, 0, 0));
+        assertThrows(ArithmeticException.class, () -> new TransformPipeline(1).normalize()
+            .run(PointSources.of(input.iterator()), PointSinks.to(v -> { })));
+
+        PointSource failing = new PointSource() {
+            private int calls;
+
+            @Override
+            public int read(double[] dst, int maxPoints) throws IOException {
+                if (++calls > 2) {
+                    throw new IOException("disk error");
+                }
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        IOException e = assertThrows(IOException.class,
+            () -> new TransformPipeline(1).run(failing, PointSinks.to(v -> { })));
+        assertEquals("disk error", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments and files are rejected")
+    void testInvalidArguments() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new TransformPipeline(0));
+        assertThrows(IllegalArgumentException.class, () -> new TransformPipeline().transformPoints(null));
+        assertThrows(IllegalArgumentException.class, () -> new TransformPipeline().transform((Matrix3x3) null));
+        assertThrows(IllegalArgumentException.class, () -> new TransformPipeline().filter(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new TransformPipeline().run(null, PointSinks.to(v -> { })));
+        assertThrows(IllegalArgumentException.class, () -> PointSources.open(null));
+        assertThrows(IllegalArgumentException.class, () -> PointSinks.create(dir.resolve("x"), null));
+
+        Path planar = dir.resolve("planar.lapa");
+        try (PackedArrayWriter writer = PackedArrayWriter.create(planar,
+                new PackedArrayHeader(ElementType.DOUBLE, 2, 4))) {
+            assertThrows(IllegalArgumentException.class, () -> PointSinks.into(writer, 0));
+        }
+        assertThrows(IOException.class, () -> PointSources.open(planar));
+    }
+}
@@ -0,0 +1,145 @@
+package com.yourcompany.math.kernel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the vectorized kernels. It runs under failsafe against the packaged
+ * multi-release jar with {@code jdk.incubator.vector} added, and compares every kernel with a
+ * plain reference loop on lengths that leave a scalar tail.
+ */
+public class PackedKernelsIT {
+
+    private static final double EPSILON = 1e-10;
+    private static final int[] LENGTHS = {0, 1, 3, 7, 8, 17, 64, 1001};
+
+    @Test
+    @DisplayName("Vector API kernels are selected from the multi-release jar")
+    void testVectorized() {
+        assertTrue(PackedKernels.isVectorized(), "active kernels: " + PackedKernels.implementation());
+    }
+
+    @Test
+    @DisplayName("Element-wise kernels match the reference loops exactly")
+    void testElementWise() {
+        Random random = new Random(1);
+        for (int n : LENGTHS) {
+            double[] a = random(random, n + 2);
+            double[] b = random(random, n + 1);
+            double[] sum = new double[n + 3];
+            double[] scaled = new double[n];
+            PackedKernels.add(a, 2, b, 1, sum, 3, n);
+            PackedKernels.scale(a, 1, -1.75, scaled, 0, n);
+            for (int i = 0; i < n; i++) {
+                assertEquals(a[2 + i] + b[1 + i], sum[3 + i], 0.0);
+                assertEquals(a[1 + i] * -1.75, scaled[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dot product matches the reference loop")
+    void testDot() {
+        Random random = new Random(2);
+        for (int n : LENGTHS) {
+            double[] a = random(random, n + 1);
+            double[] b = random(random, n);
+            double expected = 0.0;
+            for (int i = 0; i < n; i++) {
+                expected += a[1 + i] * b[i];
+            }
+            assertEquals(expected, PackedKernels.dot(a, 1, b, 0, n), EPSILON * (n + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Transforms match the reference loops exactly")
+    void testTransforms() {
+        Random random = new Random(3);
+        double[] m = random(random, 16);
+        for (int n : LENGTHS) {
+            double[] x = random(random, n), y = random(random, n), z = random(random, n), w = random(random, n);
+            double[] dx = new double[n + 1], dy = new double[n + 1], dz = new double[n + 1], dw = new double[n + 1];
+            PackedKernels.transform4(m, x, y, z, w, 0, dx, dy, dz, dw, 1, n);
+            for (int i = 0; i < n; i++) {
+                assertEquals(m[0] * x[i] + m[1] * y[i] + m[2] * z[i] + m[3] * w[i], dx[1 + i], 0.0);
+                assertEquals(m[4] * x[i] + m[5] * y[i] + m[6] * z[i] + m[7] * w[i], dy[1 + i], 0.0);
+                assertEquals(m[8] * x[i] + m[9] * y[i] + m[10] * z[i] + m[11] * w[i], dz[1 + i], 0.0);
+                assertEquals(m[12] * x[i] + m[13] * y[i] + m[14] * z[i] + m[15] * w[i], dw[1 + i], 0.0);
+            }
+            PackedKernels.transform3(m, x, y, z, 0, dx, dy, dz, 0, n);
+            for (int i = 0; i < n; i++) {
+                assertEquals(m[0] * x[i] + m[1] * y[i] + m[2] * z[i] + m[3], dx[i], 0.0);
+                assertEquals(m[4] * x[i] + m[5] * y[i] + m[6] * z[i] + m[7], dy[i], 0.0);
+                assertEquals(m[8] * x[i] + m[9] * y[i] + m[10] * z[i] + m[11], dz[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Normalize matches the reference loop and reports zero vectors")
+    void testNormalize() {
+        Random random = new Random(4);
+        for (int n : LENGTHS) {
+            double[] x = random(random, n), y = random(random, n), z = random(random, n);
+            double[] dx = new double[n], dy = new double[n], dz = new double[n];
+            PackedKernels.normalize3(x, y, z, 0, dx, dy, dz, 0, n);
+            for (int i = 0; i < n; i++) {
+                double inv = 1.0 / Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+                assertEquals(x[i] * inv, dx[i], EPSILON);
+                assertEquals(y[i] * inv, dy[i], EPSILON);
+                assertEquals(z[i] * inv, dz[i], EPSILON);
+            }
+        }
+        double[] x = random(random, 37), y = random(random, 37), z = random(random, 37);
+        x[29] = 0.0;
+        y[29] = 0.0;
+        z[29] = 0.0;
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+            () -> PackedKernels.normalize3(x, y, z, 0, new double[37], new double[37], new double[37], 0, 37));
+        assertTrue(e.getMessage().endsWith("index 29"));
+    }
+
+    @Test
+    @DisplayName("Normalize with a fallback and lengths match the scalar kernels exactly")
+    void testNormalizeFallback() {
+        Random random = new Random(5);
+        ScalarKernels scalar = new ScalarKernels();
+        for (Normalization normalization : Normalization.values()) {
+            for (int n : LENGTHS) {
+                double[] x = random(random, n), y = random(random, n), z = random(random, n);
+                for (int i = 0; i < n; i += 3) {
+                    x[i] = 0.0;
+                    y[i] = 0.0;
+                    z[i] = 0.0;
+                }
+                // Vectors with subnormal squared lengths take the rescaled inverse square root
+                for (int i = 1; i < n; i += 3) {
+                    x[i] *= 1e-156;
+                    y[i] *= 1e-156;
+                    z[i] *= 1e-156;
+                }
+                double[] dx = new double[n], dy = new double[n], dz = new double[n];
+                double[] ex = new double[n], ey = new double[n], ez = new double[n];
+                PackedKernels.normalize3(x, y, z, 0, dx, dy, dz, 0, n, normalization, 1.0, 0.0, 0.0);
+                scalar.normalize3(x, y, z, 0, ex, ey, ez, 0, n, normalization, 1.0, 0.0, 0.0);
+                assertArrayEquals(ex, dx, 0.0);
+                assertArrayEquals(ey, dy, 0.0);
+                assertArrayEquals(ez, dz, 0.0);
+                PackedKernels.length3(x, y, z, 0, dx, 0, n, normalization);
+                scalar.length3(x, y, z, 0, ex, 0, n, normalization);
+                assertArrayEquals(ex, dx, 0.0);
+            }
+        }
+    }
+
+    private static double[] random(Random random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextDouble() * 20.0 - 10.0;
+        }
+        return values;
+    }
+}
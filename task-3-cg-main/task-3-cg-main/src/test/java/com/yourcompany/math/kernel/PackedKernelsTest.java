@@ -0,0 +1,201 @@
+package com.yourcompany.math.kernel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the PackedKernels facade. Unit tests run against the class directory, so they
+ * exercise the scalar kernels; PackedKernelsIT covers the vectorized layer of the packaged jar.
+ */
+public class PackedKernelsTest {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    @DisplayName("Scalar kernels are used outside the multi-release jar")
+    void testImplementation() {
+        assertEquals("scalar", PackedKernels.implementation());
+        assertFalse(PackedKernels.isVectorized());
+    }
+
+    @Test
+    @DisplayName("Add respects offsets and length")
+    void testAdd() {
+        double[] a = {1.0, 2.0, 3.0, 4.0};
+        double[] b = {10.0, 20.0, 30.0};
+        double[] dst = new double[5];
+        PackedKernels.add(a, 1, b, 0, dst, 2, 3);
+        assertArrayEquals(new double[]{0.0, 0.0, 12.0, 23.0, 34.0}, dst, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Scale can work in place")
+    void testScaleInPlace() {
+        double[] a = {1.0, -2.0, 3.0};
+        PackedKernels.scale(a, 0, 2.0, a, 0, a.length);
+        assertArrayEquals(new double[]{2.0, -4.0, 6.0}, a, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Dot product of ranges")
+    void testDot() {
+        double[] a = {1.0, 2.0, 3.0, 4.0};
+        double[] b = {5.0, 6.0, 7.0};
+        assertEquals(2.0 * 5.0 + 3.0 * 6.0 + 4.0 * 7.0, PackedKernels.dot(a, 1, b, 0, 3), EPSILON);
+        assertEquals(0.0, PackedKernels.dot(a, 0, b, 0, 0), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Transform4 multiplies a row-major matrix by each vector")
+    void testTransform4() {
+        double[] m = {
+            1.0, 2.0, 0.0, 1.0,
+            0.0, 1.0, 0.0, 2.0,
+            0.0, 0.0, 2.0, 3.0,
+            0.0, 0.0, 0.0, 1.0
+        };
+        double[] x = {1.0, 4.0}, y = {2.0, 5.0}, z = {3.0, 6.0}, w = {1.0, 0.0};
+        double[] dx = new double[2], dy = new double[2], dz = new double[2], dw = new double[2];
+        PackedKernels.transform4(m, x, y, z, w, 0, dx, dy, dz, dw, 0, 2);
+        assertArrayEquals(new double[]{6.0, 14.0}, dx, EPSILON);
+        assertArrayEquals(new double[]{4.0, 5.0}, dy, EPSILON);
+        assertArrayEquals(new double[]{9.0, 12.0}, dz, EPSILON);
+        assertArrayEquals(new double[]{1.0, 0.0}, dw, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Transform3 applies the linear part and translation")
+    void testTransform3() {
+        double[] m = {
+            0.0, -1.0, 0.0, 1.0,
+            1.0, 0.0, 0.0, 2.0,
+            0.0, 0.0, 1.0, 3.0
+        };
+        double[] x = {1.0, 0.0}, y = {0.0, 1.0}, z = {0.0, 1.0};
+        double[] dx = new double[3], dy = new double[3], dz = new double[3];
+        PackedKernels.transform3(m, x, y, z, 0, dx, dy, dz, 1, 2);
+        assertArrayEquals(new double[]{0.0, 1.0, 0.0}, dx, EPSILON);
+        assertArrayEquals(new double[]{0.0, 3.0, 2.0}, dy, EPSILON);
+        assertArrayEquals(new double[]{0.0, 3.0, 4.0}, dz, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Normalize3 produces unit vectors")
+    void testNormalize3() {
+        double[] x = {3.0, 0.0}, y = {4.0, 0.0}, z = {0.0, 2.0};
+        PackedKernels.normalize3(x, y, z, 0, x, y, z, 0, 2);
+        assertArrayEquals(new double[]{0.6, 0.0}, x, EPSILON);
+        assertArrayEquals(new double[]{0.8, 0.0}, y, EPSILON);
+        assertArrayEquals(new double[]{0.0, 1.0}, z, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Normalize3 reports the index of a zero vector")
+    void testNormalize3Zero() {
+        double[] x = {1.0, 1.0, 0.0}, y = {0.0, 0.0, 0.0}, z = {0.0, 0.0, 0.0};
+        double[] d = new double[3];
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+            () -> PackedKernels.normalize3(x, y, z, 1, d, d.clone(), d.clone(), 0, 2));
+        assertTrue(e.getMessage().endsWith("index 2"));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments throw exceptions")
+    void testInvalidArguments() {
+        double[] a = new double[4];
+        assertThrows(IllegalArgumentException.class, () -> PackedKernels.add(null, 0, a, 0, a, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedKernels.scale(a, 0, 1.0, a, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PackedKernels.scale(a, 2, 1.0, a, 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PackedKernels.dot(a, -1, a, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> PackedKernels.transform3(new double[11], a, a, a, 0, a, a, a, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> PackedKernels.transform4(new double[12], a, a, a, a, 0, a, a, a, a, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Compensated dot product and sum survive cancellation")
+    void testCompensated() {
+        double[] a = {0.0, 1e16, 1.0, -1e16};
+        double[] ones = {1.0, 1.0, 1.0};
+        assertEquals(0.0, PackedKernels.dot(a, 1, ones, 0, 3, Precision.STANDARD));
+        assertEquals(1.0, PackedKernels.dot(a, 1, ones, 0, 3, Precision.COMPENSATED));
+        assertEquals(1.0, PackedKernels.compensatedSum(a, 1, 3));
+
+        // The rounding error of each product is recovered as well
+        double e = 1.0 + 0x1p-30;
+        double[] x = {e, -1.0};
+        double[] y = {e, 1.0 + 0x1p-29};
+        assertEquals(0x1p-60, PackedKernels.dot(x, 0, y, 0, 2, Precision.COMPENSATED));
+        assertEquals(0.0, PackedKernels.dot(x, 0, y, 0, 2, Precision.STANDARD));
+        assertThrows(IllegalArgumentException.class, () -> PackedKernels.dot(a, 0, a, 0, 1, null));
+    }
+
+    @Test
+    @DisplayName("Normalize3 with a fallback replaces zero vectors")
+    void testNormalize3Fallback() {
+        double[] x = {3.0, 0.0, 1e-200, 2.0}, y = {4.0, 0.0, 0.0, -7.0}, z = {0.0, 0.0, 0.0, 5.0};
+        double[] dx = new double[4], dy = new double[4], dz = new double[4];
+        PackedKernels.normalize3(x, y, z, 0, dx, dy, dz, 0, 4, Normalization.EXACT, 0.0, 0.0, 1.0);
+        assertArrayEquals(new double[]{0.6, 0.0, 0.0, 2.0 / Math.sqrt(78.0)}, dx, EPSILON);
+        assertArrayEquals(new double[]{0.8, 0.0, 0.0, -7.0 / Math.sqrt(78.0)}, dy, EPSILON);
+        // The squared length of the third vector underflows, so it counts as zero
+        assertArrayEquals(new double[]{0.0, 1.0, 1.0, 5.0 / Math.sqrt(78.0)}, dz, EPSILON);
+
+        double[] ex = new double[1], ey = new double[1], ez = new double[1];
+        PackedKernels.normalize3(x, y, z, 3, ex, ey, ez, 0, 1);
+        assertEquals(ex[0], dx[3], 0.0);
+        assertEquals(ez[0], dz[3], 0.0);
+
+        PackedKernels.normalize3(x, y, z, 0, dx, dy, dz, 0, 4, Normalization.APPROXIMATE, 0.0, 0.0, 0.0);
+        assertArrayEquals(new double[]{0.0, 0.0}, new double[]{dz[1], dz[2]}, 0.0);
+        assertEquals(0.6, dx[0], 0.6 * Normalization.APPROXIMATE_ERROR);
+        assertEquals(0.8, dy[0], 0.8 * Normalization.APPROXIMATE_ERROR);
+        assertEquals(1.0, Math.sqrt(dx[3] * dx[3] + dy[3] * dy[3] + dz[3] * dz[3]), Normalization.APPROXIMATE_ERROR);
+        assertThrows(IllegalArgumentException.class,
+            () -> PackedKernels.normalize3(x, y, z, 0, dx, dy, dz, 0, 4, null, 0.0, 0.0, 0.0));
+    }
+
+    @Test
+    @DisplayName("Approximate lengths stay within the documented error")
+    void testApproximateLength() {
+        int n = 10_000;
+        double[] x = new double[n], y = new double[n], z = new double[n];
+        Random random = new Random(7);
+        for (int i = 0; i < n; i++) {
+            double scale = Math.scalb(1.0, random.nextInt(200) - 100);
+            x[i] = (random.nextDouble() - 0.5) * scale;
+            y[i] = (random.nextDouble() - 0.5) * scale;
+            z[i] = (random.nextDouble() - 0.5) * scale;
+        }
+        double[] exact = new double[n], approximate = new double[n];
+        PackedKernels.length3(x, y, z, 0, exact, 0, n, Normalization.EXACT);
+        PackedKernels.length3(x, y, z, 0, approximate, 0, n, Normalization.APPROXIMATE);
+        for (int i = 0; i < n; i++) {
+            assertEquals(Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]), exact[i], 0.0);
+            assertEquals(exact[i], approximate[i], exact[i] * Normalization.APPROXIMATE_ERROR);
+        }
+        double[] zero = {0.0};
+        PackedKernels.length3(zero, zero, zero, 0, zero.clone(), 0, 1, Normalization.APPROXIMATE);
+
+        // Lengths below about 1.5e-154 have subnormal squares, which the bit trick alone gets wrong
+        double[] tx = {1e-155, 1e-160, 6e-155, 3e-162};
+        double[] ty = {2e-155, 0.0, -2e-155, 4e-162};
+        double[] tz = {-2e-155, 0.0, 3e-155, 0.0};
+        double[] tinyExact = new double[4], tinyApproximate = new double[4];
+        PackedKernels.length3(tx, ty, tz, 0, tinyExact, 0, 4, Normalization.EXACT);
+        PackedKernels.length3(tx, ty, tz, 0, tinyApproximate, 0, 4, Normalization.APPROXIMATE);
+        assertEquals(3e-155, tinyExact[0], 3e-155 * EPSILON);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(tinyExact[i], tinyApproximate[i], tinyExact[i] * Normalization.APPROXIMATE_ERROR);
+        }
+        double[] ux = new double[4], uy = new double[4], uz = new double[4];
+        PackedKernels.normalize3(tx, ty, tz, 0, ux, uy, uz, 0, 1, Normalization.APPROXIMATE, 0.0, 0.0, 0.0);
+        assertEquals(1.0 / 3.0, ux[0], Normalization.APPROXIMATE_ERROR / 3.0);
+        assertEquals(1.0, Math.sqrt(ux[0] * ux[0] + uy[0] * uy[0] + uz[0] * uz[0]), Normalization.APPROXIMATE_ERROR);
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> PackedKernels.length3(x, y, z, 1, exact, 0, n, Normalization.EXACT));
+    }
+}
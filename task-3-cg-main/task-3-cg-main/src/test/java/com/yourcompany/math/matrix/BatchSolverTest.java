@@ -0,0 +1,157 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the BatchSolver class.
+ */
+public class BatchSolverTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static void store(double[] a, int count, int i, Matrix3x3 m) {
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                a[(r * 3 + c) * count + i] = m.get(r, c);
+            }
+        }
+    }
+
+    private static void store(double[] a, int count, int i, Matrix4x4 m) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                a[(r * 4 + c) * count + i] = m.get(r, c);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("3x3 batch matches solveSystem, with a singular system in the middle")
+    void testSolve3() {
+        int count = 50;
+        Random random = new Random(3);
+        double[] a = new double[9 * count];
+        double[] b = new double[3 * count];
+        Matrix3x3[] matrices = new Matrix3x3[count];
+        Vector3[] rhs = new Vector3[count];
+        for (int i = 0; i < count; i++) {
+            matrices[i] = new Matrix3x3(
+                random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5,
+                random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5,
+                random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+            if (i == 17) {
+                matrices[i] = new Matrix3x3(
+                    1.0, 2.0, 3.0,
+                    2.0, 4.0, 6.0,
+                    1.0, 0.0, 1.0);
+            }
+            store(a, count, i, matrices[i]);
+            rhs[i] = new Vector3(random.nextDouble(), random.nextDouble(), random.nextDouble());
+            b[i] = rhs[i].getX();
+            b[count + i] = rhs[i].getY();
+            b[2 * count + i] = rhs[i].getZ();
+        }
+        double[] x = new double[3 * count];
+        byte[] status = new byte[count];
+        assertEquals(1, BatchSolver.solve3(a, b, x, status, count));
+        for (int i = 0; i < count; i++) {
+            if (i == 17) {
+                assertEquals(BatchSolver.SINGULAR, status[i]);
+                assertTrue(Double.isNaN(x[i]));
+                assertThrows(ArithmeticException.class, () -> Matrix3x3.solveSystem(matrices[17], rhs[17]));
+                continue;
+            }
+            assertEquals(BatchSolver.SOLVED, status[i]);
+            Vector3 expected = Matrix3x3.solveSystem(matrices[i], rhs[i]);
+            assertEquals(expected.getX(), x[i], EPSILON);
+            assertEquals(expected.getY(), x[count + i], EPSILON);
+            assertEquals(expected.getZ(), x[2 * count + i], EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("4x4 batch matches solveSystem")
+    void testSolve4() {
+        int count = 20;
+        Random random = new Random(4);
+        double[] a = new double[16 * count];
+        double[] b = new double[4 * count];
+        Matrix4x4[] matrices = new Matrix4x4[count];
+        for (int i = 0; i < count; i++) {
+            double[] e = new double[16];
+            for (int k = 0; k < 16; k++) {
+                e[k] = random.nextDouble() - 0.5;
+            }
+            e[0] = 0.0; // forces a row exchange
+            matrices[i] = Matrix4x4.fromArray(e, 0);
+            store(a, count, i, matrices[i]);
+            for (int k = 0; k < 4; k++) {
+                b[k * count + i] = k + i;
+            }
+        }
+        double[] x = new double[4 * count];
+        byte[] status = new byte[count];
+        assertEquals(0, BatchSolver.solve4(a, b, x, status, count));
+        for (int i = 0; i < count; i++) {
+            Vector4 expected = Matrix4x4.solveSystem(matrices[i], new Vector4(i, 1 + i, 2 + i, 3 + i));
+            assertEquals(expected.getX(), x[i], EPSILON);
+            assertEquals(expected.getW(), x[3 * count + i], EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Range solves touch only their systems")
+    void testRange() {
+        int count = 4;
+        double[] a = new double[9 * count];
+        double[] b = new double[3 * count];
+        for (int i = 0; i < count; i++) {
+            store(a, count, i, Matrix3x3.identity());
+            b[i] = i + 1;
+        }
+        double[] x = new double[3 * count];
+        byte[] status = new byte[count];
+        java.util.Arrays.fill(status, (byte) 9);
+        assertEquals(0, BatchSolver.solve3(a, b, x, status, count, 1, 2));
+        assertArrayEquals(new byte[]{9, BatchSolver.SOLVED, BatchSolver.SOLVED, 9}, status);
+        assertEquals(0.0, x[0], 0.0);
+        assertEquals(2.0, x[1], 0.0);
+        assertEquals(3.0, x[2], 0.0);
+        assertEquals(0.0, x[3], 0.0);
+    }
+
+    @Test
+    @DisplayName("Zero and NaN matrices are reported as singular")
+    void testDegenerate() {
+        double[] a = new double[16 * 2];
+        a[1] = Double.NaN;
+        double[] x = new double[8];
+        byte[] status = new byte[2];
+        assertEquals(2, BatchSolver.solve4(a, new double[8], x, status, 2));
+        assertArrayEquals(new byte[]{BatchSolver.SINGULAR, BatchSolver.SINGULAR}, status);
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchSolver.solve3(null, new double[3], new double[3], new byte[1], 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchSolver.solve3(new double[9], new double[3], new double[3], new byte[1], -1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> BatchSolver.solve3(new double[8], new double[3], new double[3], new byte[1], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> BatchSolver.solve4(new double[16], new double[4], new double[3], new byte[1], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> BatchSolver.solve3(new double[9], new double[3], new double[3], new byte[0], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> BatchSolver.solve3(new double[9], new double[3], new double[3], new byte[1], 1, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchSolver.solve3(new double[9], new double[3], new double[3], new byte[1], 1, 0, -1));
+    }
+}
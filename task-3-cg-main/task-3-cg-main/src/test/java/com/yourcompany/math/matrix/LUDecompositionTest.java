@@ -0,0 +1,127 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the LUDecomposition class.
+ */
+public class LUDecompositionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    // Needs row exchanges: the leading element is zero
+    private static final Matrix3x3 A3 = new Matrix3x3(
+        0.0, 2.0, 1.0,
+        1.0, -1.0, 3.0,
+        4.0, 1.0, -2.0);
+
+    private static final Matrix4x4 A4 = new Matrix4x4(
+        0.0, 1.0, 2.0, 3.0,
+        2.0, 0.0, 1.0, -1.0,
+        1.0, 3.0, 0.0, 2.0,
+        4.0, 1.0, 1.0, 0.0);
+
+    @Test
+    @DisplayName("3x3 solve matches solveSystem")
+    void testSolve3() {
+        LUDecomposition lu = LUDecomposition.of(A3);
+        assertEquals(3, lu.size());
+        assertFalse(lu.isSingular());
+        Vector3 b = new Vector3(1.0, 2.0, 3.0);
+        Vector3 expected = Matrix3x3.solveSystem(A3, b);
+        Vector3 x = lu.solve(b);
+        assertEquals(expected.getX(), x.getX(), EPSILON);
+        assertEquals(expected.getY(), x.getY(), EPSILON);
+        assertEquals(expected.getZ(), x.getZ(), EPSILON);
+        Vector3 check = A3.multiply(x);
+        assertEquals(b.getZ(), check.getZ(), EPSILON);
+
+        MutableVector3 dst = new MutableVector3();
+        assertSame(dst, lu.solve(b, dst));
+        assertEquals(x, dst.toVector3());
+    }
+
+    @Test
+    @DisplayName("4x4 solve matches solveSystem")
+    void testSolve4() {
+        LUDecomposition lu = LUDecomposition.of(A4);
+        Vector4 b = new Vector4(1.0, -2.0, 0.5, 3.0);
+        Vector4 expected = Matrix4x4.solveSystem(A4, b);
+        Vector4 x = lu.solve(b);
+        assertEquals(expected.getX(), x.getX(), EPSILON);
+        assertEquals(expected.getY(), x.getY(), EPSILON);
+        assertEquals(expected.getZ(), x.getZ(), EPSILON);
+        assertEquals(expected.getW(), x.getW(), EPSILON);
+        MutableVector4 dst = new MutableVector4();
+        assertEquals(x, lu.solve(b, dst).toVector4());
+    }
+
+    @Test
+    @DisplayName("Array and batch solves agree with single solves")
+    void testArrayAndBatchSolve() {
+        LUDecomposition lu = LUDecomposition.of(A4);
+        double[] b = {1.0, -2.0, 0.5, 3.0};
+        double[] x = lu.solveInto(b, new double[4]);
+        Vector4 single = lu.solve(new Vector4(1.0, -2.0, 0.5, 3.0));
+        assertArrayEquals(new double[]{single.getX(), single.getY(), single.getZ(), single.getW()}, x, EPSILON);
+        lu.solveInto(b, b);
+        assertArrayEquals(x, b, EPSILON);
+
+        LUDecomposition lu3 = LUDecomposition.of(A3);
+        double[] rhs = {7.0, 1.0, 2.0, 3.0, -1.0, 0.0, 4.0};
+        double[] out = new double[8];
+        lu3.solve(rhs, 1, out, 2, 2);
+        Vector3 second = lu3.solve(new Vector3(-1.0, 0.0, 4.0));
+        assertEquals(second.getX(), out[5], EPSILON);
+        assertEquals(second.getZ(), out[7], EPSILON);
+        assertEquals(0.0, out[1], 0.0);
+    }
+
+    @Test
+    @DisplayName("Determinant and inverse from the factors")
+    void testDeterminantAndInverse() {
+        LUDecomposition lu3 = LUDecomposition.of(A3);
+        assertEquals(A3.determinant(), lu3.determinant(), EPSILON);
+        assertEquals(A3.inverse(), lu3.inverseMatrix3x3());
+        assertThrows(IllegalStateException.class, lu3::inverseMatrix4x4);
+
+        LUDecomposition lu4 = LUDecomposition.of(A4);
+        assertEquals(A4.determinant(), lu4.determinant(), EPSILON);
+        assertEquals(A4.inverse(), lu4.inverseMatrix4x4());
+        assertThrows(IllegalStateException.class, lu4::inverseMatrix3x3);
+    }
+
+    @Test
+    @DisplayName("Singular matrices factor but cannot be solved")
+    void testSingular() {
+        Matrix3x3 singular = new Matrix3x3(
+            1.0, 2.0, 3.0,
+            2.0, 4.0, 6.0,
+            1.0, 0.0, 1.0);
+        LUDecomposition lu = LUDecomposition.of(singular);
+        assertTrue(lu.isSingular());
+        assertEquals(0.0, lu.determinant(), EPSILON);
+        assertThrows(ArithmeticException.class, () -> lu.solve(new Vector3(1.0, 2.0, 3.0)));
+        assertThrows(ArithmeticException.class, lu::inverseMatrix3x3);
+        assertEquals(0.0, LUDecomposition.of(Matrix4x4.zero()).determinant(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        LUDecomposition lu = LUDecomposition.of(A3);
+        assertThrows(IllegalArgumentException.class, () -> LUDecomposition.of((Matrix3x3) null));
+        assertThrows(IllegalArgumentException.class, () -> LUDecomposition.of((Matrix4x4) null));
+        assertThrows(IllegalArgumentException.class, () -> lu.solve((Vector3) null));
+        assertThrows(IllegalStateException.class, () -> lu.solve(new Vector4(1, 2, 3, 4)));
+        assertThrows(IllegalArgumentException.class, () -> lu.solveInto(null, new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> lu.solveInto(new double[2], new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> lu.solve(new double[6], 1, new double[6], 0, 2));
+    }
+}
@@ -0,0 +1,85 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3f;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the single-precision Matrix3f class.
+ */
+public class Matrix3fTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static final Matrix3f A = new Matrix3f(
+        2.0f, 1.0f, 0.0f,
+        1.0f, 3.0f, 1.0f,
+        0.0f, 1.0f, 4.0f);
+
+    private static final Matrix3f ROTATION = new Matrix3f(
+        0.0f, -1.0f, 0.0f,
+        1.0f, 0.0f, 0.0f,
+        0.0f, 0.0f, 1.0f);
+
+    @Test
+    @DisplayName("Arithmetic matches the double-precision matrix")
+    void testArithmetic() {
+        Matrix3x3 a = A.toMatrix3x3();
+        Matrix3x3 r = ROTATION.toMatrix3x3();
+        assertEquals(Matrix3f.narrow(a.add(r)), A.add(ROTATION));
+        assertEquals(Matrix3f.narrow(a.subtract(r)), A.subtract(ROTATION));
+        assertEquals(Matrix3f.narrow(a.multiply(r)), A.multiply(ROTATION));
+        assertEquals(Matrix3f.narrow(r.transpose()), ROTATION.transpose());
+        assertEquals(A, Matrix3f.identity().multiply(A));
+    }
+
+    @Test
+    @DisplayName("Matrix-vector multiplication")
+    void testMultiplyVector() {
+        assertEquals(new Vector3f(0.0f, 1.0f, 0.0f), ROTATION.multiply(new Vector3f(1.0f, 0.0f, 0.0f)));
+    }
+
+    @Test
+    @DisplayName("Determinant, inverse and linear systems")
+    void testDeterminantInverse() {
+        assertEquals(18.0f, A.determinant(), EPSILON);
+        assertEquals(Matrix3f.identity(), A.multiply(A.inverse()));
+        assertThrows(ArithmeticException.class, () -> Matrix3f.zero().inverse());
+
+        Vector3f b = new Vector3f(3.0f, 5.0f, 5.0f);
+        Vector3f x = Matrix3f.solveSystem(A, b);
+        assertEquals(1.0f, x.getX(), EPSILON);
+        assertEquals(1.0f, x.getY(), EPSILON);
+        assertEquals(1.0f, x.getZ(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Flat arrays and conversions round-trip")
+    void testArraysAndConversions() {
+        assertEquals(A, Matrix3f.fromArray(A.toArray(new float[10], 1), 1));
+        assertEquals(A, Matrix3f.fromColumnMajorArray(A.toColumnMajorArray(new float[9], 0), 0));
+        assertEquals(A, Matrix3f.narrow(A.toMatrix3x3()));
+        assertThrows(IndexOutOfBoundsException.class, () -> A.toArray(new float[8], 0));
+        assertThrows(IllegalArgumentException.class, () -> Matrix3f.narrow(null));
+    }
+
+    @Test
+    @DisplayName("Packed batch transform")
+    void testBatchTransform() {
+        float[] data = {1.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f};
+        ROTATION.transform(data, 0, data, 0, 2);
+        assertArrayEquals(new float[]{0.0f, 1.0f, 0.0f, -1.0f, 0.0f, 0.0f}, data, EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> ROTATION.transform(data, 0, data, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ROTATION.transform(data, 1, data, 0, 2));
+    }
+
+    @Test
+    @DisplayName("Invalid construction and indexing throw exceptions")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3f(null));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3f(new float[3][2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> A.get(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> A.multiply((Vector3f) null));
+    }
+}
@@ -1,6 +1,8 @@
 package com.yourcompany.math.matrix;
 
+import com.yourcompany.math.vector.DirectVector3Buffer;
 import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
@@ -199,6 +201,35 @@ public class Matrix3x3Test {
         assertThrows(IllegalArgumentException.class, () -> m.multiply((Vector3) null));
     }
 
+    @Test
+    @DisplayName("Batch transform of packed vectors and buffers")
+    void testTransformBatch() {
+        Matrix3x3 m = new Matrix3x3(new double[][]{
+            {1.0, 2.0, 3.0},
+            {0.0, 1.0, 4.0},
+            {5.0, 6.0, 0.0}
+        });
+        Vector3 a = new Vector3(1.0, 2.0, 3.0);
+        Vector3 b = new Vector3(-1.0, 0.5, 2.0);
+        double[] packed = {a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ()};
+        m.transform(packed, 0, packed, 0, 2);
+        assertEquals(m.multiply(a), new Vector3(packed[0], packed[1], packed[2]));
+        assertEquals(m.multiply(b), new Vector3(packed[3], packed[4], packed[5]));
+
+        Vector3Buffer buffer = Vector3Buffer.of(a, b);
+        Vector3Buffer out = new Vector3Buffer(2);
+        m.transform(buffer, 0, out, 0, 2);
+        assertEquals(m.multiply(b), out.get(1));
+
+        DirectVector3Buffer direct = DirectVector3Buffer.of(a, b);
+        m.transform(direct, 0, direct, 0, 2);
+        assertEquals(m.multiply(a), direct.get(0));
+        assertEquals(m.multiply(b), direct.get(1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transform(new double[3], 0, new double[3], 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> m.transform((double[]) null, 0, new double[3], 0, 1));
+    }
+
     @Test
     @DisplayName("Transpose matrix")
     void testTranspose() {
@@ -388,5 +419,54 @@ public class Matrix3x3Test {
         data[0][0] = 999.0; // Modify original array
         assertEquals(1.0, m.get(0, 0), EPSILON); // Matrix should be unchanged
     }
+
+    @Test
+    @DisplayName("Element constructor matches 2D array constructor")
+    void testElementConstructor() {
+        Matrix3x3 fromArray = Matrix3x3.fromArray(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0}, 0);
+        Matrix3x3 fromElements = new Matrix3x3(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+        assertEquals(fromArray, fromElements);
+        assertEquals(9.0, fromElements.get(2, 2), EPSILON);
+        assertEquals(2.0, fromElements.get(0, 1), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Row-major toArray and fromArray round trip with offset")
+    void testRowMajorArrayRoundTrip() {
+        double[] src = new double[9 + 2];
+        for (int i = 0; i < 9; i++) {
+            src[i + 2] = i + 1;
+        }
+        Matrix3x3 m = Matrix3x3.fromArray(src, 2);
+        assertEquals(4.0, m.get(1, 0), EPSILON);
+        double[] dst = m.toArray(new double[9 + 3], 3);
+        for (int i = 0; i < 9; i++) {
+            assertEquals(src[i + 2], dst[i + 3], EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Column-major accessors transpose the flat layout")
+    void testColumnMajorArray() {
+        double[] src = new double[9];
+        for (int i = 0; i < 9; i++) {
+            src[i] = i + 1;
+        }
+        Matrix3x3 rowMajor = Matrix3x3.fromArray(src, 0);
+        Matrix3x3 columnMajor = Matrix3x3.fromColumnMajorArray(src, 0);
+        assertEquals(rowMajor.transpose(), columnMajor);
+        double[] dst = rowMajor.toColumnMajorArray(new double[9], 0);
+        assertEquals(rowMajor, Matrix3x3.fromColumnMajorArray(dst, 0));
+    }
+
+    @Test
+    @DisplayName("Flat array accessors reject null and short arrays")
+    void testArrayAccessorsInvalid() {
+        Matrix3x3 m = Matrix3x3.identity();
+        assertThrows(IllegalArgumentException.class, () -> Matrix3x3.fromArray(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.toArray(null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix3x3.fromArray(new double[9], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.toColumnMajorArray(new double[9], -1));
+    }
 }
 
@@ -0,0 +1,150 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector4f;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the single-precision Matrix4f class.
+ */
+public class Matrix4fTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static final Matrix4f AFFINE = new Matrix4f(
+        0.0f, -1.0f, 0.0f, 1.0f,
+        1.0f, 0.0f, 0.0f, 2.0f,
+        0.0f, 0.0f, 2.0f, 3.0f,
+        0.0f, 0.0f, 0.0f, 1.0f);
+
+    private static final Matrix4f GENERAL = new Matrix4f(
+        2.0f, 1.0f, 0.0f, 1.0f,
+        1.0f, 3.0f, 1.0f, 0.0f,
+        0.0f, 1.0f, 4.0f, 1.0f,
+        1.0f, 0.0f, 1.0f, 5.0f);
+
+    @Test
+    @DisplayName("Arithmetic matches the double-precision matrix")
+    void testArithmetic() {
+        Matrix4x4 a = AFFINE.toMatrix4x4();
+        Matrix4x4 b = GENERAL.toMatrix4x4();
+        assertEquals(Matrix4f.narrow(a.add(b)), AFFINE.add(GENERAL));
+        assertEquals(Matrix4f.narrow(a.subtract(b)), AFFINE.subtract(GENERAL));
+        assertEquals(Matrix4f.narrow(a.multiply(b)), AFFINE.multiply(GENERAL));
+        assertEquals(Matrix4f.narrow(b.transpose()), GENERAL.transpose());
+        assertEquals(GENERAL, Matrix4f.identity().multiply(GENERAL));
+    }
+
+    @Test
+    @DisplayName("Matrix-vector multiplication")
+    void testMultiplyVector() {
+        Vector4f result = AFFINE.multiply(new Vector4f(1.0f, 0.0f, 1.0f, 1.0f));
+        assertEquals(new Vector4f(1.0f, 3.0f, 5.0f, 1.0f), result);
+    }
+
+    @Test
+    @DisplayName("Determinant, inverse and linear systems")
+    void testDeterminantInverse() {
+        assertEquals((float) GENERAL.toMatrix4x4().determinant(), GENERAL.determinant(), EPSILON);
+        assertEquals(Matrix4f.identity(), GENERAL.multiply(GENERAL.inverse()));
+        assertEquals(Matrix4f.identity(), AFFINE.multiply(AFFINE.inverseAffine()));
+        assertEquals(Matrix4f.identity(), AFFINE.multiply(AFFINE.inverse()));
+        assertThrows(ArithmeticException.class, () -> Matrix4f.zero().inverse());
+
+        // A bottom row rounded in float is affine for Matrix4f, though not within 1e-10
+        Matrix4f rounded = new Matrix4f(
+            2.0f, 0.0f, 0.0f, 1.0f,
+            0.0f, 4.0f, 0.0f, 2.0f,
+            0.0f, 0.0f, 0.5f, 3.0f,
+            1e-7f, 0.0f, 0.0f, 1.0000001f);
+        assertTrue(rounded.isAffine());
+        assertFalse(rounded.toMatrix4x4().isAffine());
+        assertEquals(rounded.inverseAffine(), rounded.inverse());
+        assertEquals(0.0f, rounded.inverse().get(3, 0));
+        assertEquals(Matrix4f.narrow(GENERAL.toMatrix4x4().inverse()), GENERAL.inverse());
+
+        Vector4f b = new Vector4f(4.0f, 5.0f, 6.0f, 7.0f);
+        Vector4f x = Matrix4f.solveSystem(GENERAL, b);
+        Vector4f check = GENERAL.multiply(x);
+        assertEquals(b.getX(), check.getX(), EPSILON);
+        assertEquals(b.getW(), check.getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Rigid inverse of a rotation plus translation")
+    void testInverseRigid() {
+        Matrix4f rigid = new Matrix4f(
+            0.0f, -1.0f, 0.0f, 1.0f,
+            1.0f, 0.0f, 0.0f, 2.0f,
+            0.0f, 0.0f, 1.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f);
+        assertEquals(rigid.inverse(), rigid.inverseRigid());
+        assertTrue(rigid.isAffine());
+        assertFalse(GENERAL.isAffine());
+        assertThrows(IllegalArgumentException.class, () -> rigid.isAffine(-1.0f));
+    }
+
+    @Test
+    @DisplayName("Flat arrays round-trip in both layouts")
+    void testArrays() {
+        float[] rowMajor = GENERAL.toArray(new float[17], 1);
+        assertEquals(GENERAL, Matrix4f.fromArray(rowMajor, 1));
+        float[] columnMajor = GENERAL.toColumnMajorArray(new float[16], 0);
+        assertEquals(GENERAL.get(0, 3), columnMajor[12]);
+        assertEquals(GENERAL, Matrix4f.fromColumnMajorArray(columnMajor, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix4f.fromArray(new float[15], 0));
+        assertThrows(IllegalArgumentException.class, () -> GENERAL.toArray(null, 0));
+    }
+
+    @Test
+    @DisplayName("Widening is exact and narrowing round-trips")
+    void testConversions() {
+        Matrix4x4 wide = GENERAL.toMatrix4x4();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertEquals(GENERAL.get(i, j), wide.get(i, j), 0.0);
+            }
+        }
+        assertEquals(GENERAL, Matrix4f.narrow(wide));
+        assertThrows(IllegalArgumentException.class, () -> Matrix4f.narrow(null));
+    }
+
+    @Test
+    @DisplayName("Packed batch transforms")
+    void testBatchTransforms() {
+        float[] points = {1.0f, 0.0f, 1.0f, 0.0f, 1.0f, 0.0f};
+        float[] out = new float[6];
+        AFFINE.transformPoints(points, 0, out, 0, 2);
+        assertArrayEquals(new float[]{1.0f, 3.0f, 5.0f, 0.0f, 2.0f, 3.0f}, out, EPSILON);
+        AFFINE.transformDirections(points, 0, out, 0, 2);
+        assertArrayEquals(new float[]{0.0f, 1.0f, 2.0f, -1.0f, 0.0f, 0.0f}, out, EPSILON);
+
+        Matrix4f perspective = new Matrix4f(
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 1.0f, 0.0f,
+            0.0f, 0.0f, 1.0f, 0.0f);
+        perspective.transformPoints(new float[]{2.0f, 4.0f, 2.0f}, 0, out, 0, 1);
+        assertArrayEquals(new float[]{1.0f, 2.0f, 1.0f}, new float[]{out[0], out[1], out[2]}, EPSILON);
+
+        float[] vectors = {1.0f, 2.0f, 3.0f, 4.0f};
+        GENERAL.transform(vectors, 0, vectors, 0, 1);
+        Vector4f expected = GENERAL.multiply(new Vector4f(1.0f, 2.0f, 3.0f, 4.0f));
+        assertArrayEquals(new float[]{expected.getX(), expected.getY(), expected.getZ(), expected.getW()},
+            vectors, EPSILON);
+
+        assertThrows(IllegalArgumentException.class, () -> AFFINE.transformPoints(null, 0, out, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> AFFINE.transformPoints(points, 3, out, 0, 2));
+    }
+
+    @Test
+    @DisplayName("Invalid construction and indexing throw exceptions")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4f(null));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4f(new float[3][4]));
+        assertThrows(IndexOutOfBoundsException.class, () -> GENERAL.get(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> GENERAL.multiply((Matrix4f) null));
+        assertThrows(IllegalArgumentException.class, () -> Matrix4f.solveSystem(null, new Vector4f(0, 0, 0, 0)));
+    }
+}
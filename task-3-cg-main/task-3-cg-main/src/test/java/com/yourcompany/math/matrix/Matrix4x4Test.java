@@ -1,6 +1,11 @@
 package com.yourcompany.math.matrix;
 
+import com.yourcompany.math.vector.DirectVector3Buffer;
+import com.yourcompany.math.vector.DirectVector4Buffer;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
 import com.yourcompany.math.vector.Vector4;
+import com.yourcompany.math.vector.Vector4Buffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
@@ -191,6 +196,142 @@ public class Matrix4x4Test {
         assertThrows(IllegalArgumentException.class, () -> m.multiply((Vector4) null));
     }
 
+    @Test
+    @DisplayName("Batch transform of packed points matches per-vector multiply")
+    void testTransformPoints() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {0.0, -1.0, 0.0, 5.0},
+            {1.0, 0.0, 0.0, -2.0},
+            {0.0, 0.0, 2.0, 1.0},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        double[] src = {9.0, 1.0, 2.0, 3.0, -4.0, 0.5, 6.0};
+        double[] dst = new double[8];
+        m.transformPoints(src, 1, dst, 2, 2);
+        Vector4 first = m.multiply(new Vector4(1.0, 2.0, 3.0, 1.0));
+        Vector4 second = m.multiply(new Vector4(-4.0, 0.5, 6.0, 1.0));
+        assertEquals(first.getX(), dst[2], EPSILON);
+        assertEquals(first.getZ(), dst[4], EPSILON);
+        assertEquals(second.getY(), dst[6], EPSILON);
+        assertEquals(0.0, dst[1], EPSILON);
+    }
+
+    @Test
+    @DisplayName("Batch transform of packed points applies perspective divide")
+    void testTransformPointsProjective() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {1.0, 0.0, 0.0, 0.0},
+            {0.0, 1.0, 0.0, 0.0},
+            {0.0, 0.0, 1.0, 0.0},
+            {0.0, 0.0, 1.0, 0.0}
+        });
+        double[] points = {2.0, 4.0, 2.0};
+        m.transformPoints(points, 0, points, 0, 1);
+        assertArrayEquals(new double[]{1.0, 2.0, 1.0}, points, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Batch transform of packed directions ignores translation")
+    void testTransformDirections() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {2.0, 0.0, 0.0, 5.0},
+            {0.0, 3.0, 0.0, 6.0},
+            {0.0, 0.0, 4.0, 7.0},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        double[] dst = new double[3];
+        m.transformDirections(new double[]{1.0, 1.0, 1.0}, 0, dst, 0, 1);
+        assertArrayEquals(new double[]{2.0, 3.0, 4.0}, dst, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Batch transform of packed 4D vectors and buffers")
+    void testTransformPackedAndBuffers() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {1.0, 2.0, 3.0, 4.0},
+            {5.0, 6.0, 7.0, 8.0},
+            {9.0, 10.0, 11.0, 12.0},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        Vector4 v = new Vector4(1.0, -1.0, 2.0, 1.0);
+        double[] dst = new double[4];
+        m.transform(new double[]{1.0, -1.0, 2.0, 1.0}, 0, dst, 0, 1);
+        Vector4 expected = m.multiply(v);
+        assertEquals(expected, new Vector4(dst[0], dst[1], dst[2], dst[3]));
+
+        Vector4Buffer buffer4 = Vector4Buffer.of(v, v);
+        m.transform(buffer4, 1, buffer4, 0, 1);
+        assertEquals(expected, buffer4.get(0));
+        assertEquals(v, buffer4.get(1));
+
+        Vector3Buffer points = Vector3Buffer.of(new Vector3(1.0, -1.0, 2.0));
+        Vector3Buffer out = new Vector3Buffer(1);
+        m.transformPoints(points, 0, out, 0, 1);
+        assertEquals(new Vector3(expected.getX(), expected.getY(), expected.getZ()), out.get(0));
+        m.transformDirections(points, 0, out, 0, 1);
+        assertEquals(expected.getX() - 4.0, out.get(0).getX(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Batch transform of off-heap buffers matches the on-heap kernels")
+    void testTransformDirectBuffers() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {0.0, -1.0, 0.0, 5.0},
+            {1.0, 0.0, 0.0, -2.0},
+            {0.0, 0.0, 2.0, 1.0},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        Vector3 a = new Vector3(1.0, 2.0, 3.0);
+        Vector3 b = new Vector3(-4.0, 0.5, 6.0);
+        Vector3Buffer heap = Vector3Buffer.of(a, b);
+        Vector3Buffer expected = new Vector3Buffer(2);
+        DirectVector3Buffer direct = DirectVector3Buffer.of(a, b);
+
+        m.transformPoints(heap, 0, expected, 0, 2);
+        m.transformPoints(direct, 0, direct, 0, 2);
+        assertEquals(expected.get(0), direct.get(0));
+        assertEquals(expected.get(1), direct.get(1));
+
+        DirectVector3Buffer out = new DirectVector3Buffer(2);
+        m.transformDirections(DirectVector3Buffer.of(a), 0, out, 1, 1);
+        m.transformDirections(heap, 0, expected, 0, 1);
+        assertEquals(expected.get(0), out.get(1));
+
+        Matrix4x4 projective = new Matrix4x4(new double[][]{
+            {1.0, 0.0, 0.0, 0.0},
+            {0.0, 1.0, 0.0, 0.0},
+            {0.0, 0.0, 1.0, 0.0},
+            {0.0, 0.0, 1.0, 0.0}
+        });
+        DirectVector3Buffer point = DirectVector3Buffer.of(new Vector3(2.0, 4.0, 2.0));
+        projective.transformPoints(point, 0, point, 0, 1);
+        assertEquals(new Vector3(1.0, 2.0, 1.0), point.get(0));
+
+        Vector4 v = new Vector4(1.0, -1.0, 2.0, 1.0);
+        DirectVector4Buffer vectors = DirectVector4Buffer.of(v, v);
+        m.transform(vectors, 0, vectors, 1, 1);
+        assertEquals(m.multiply(v), vectors.get(1));
+
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformPoints(direct, 1, out, 0, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> m.transform((DirectVector4Buffer) null, 0, vectors, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Batch transform validates ranges")
+    void testTransformPointsInvalid() {
+        Matrix4x4 m = Matrix4x4.identity();
+        assertThrows(IllegalArgumentException.class, () -> m.transformPoints(null, 0, new double[3], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> m.transformPoints(new double[3], 0, new double[3], 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transformPoints(new double[6], 1, new double[6], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.transform(new double[4], 0, new double[4], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformPoints(new Vector3Buffer(2), 1, new Vector3Buffer(2), 0, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> m.transformDirections(null, 0, new Vector3Buffer(2), 0, 1));
+    }
+
     @Test
     @DisplayName("Transpose matrix")
     void testTranspose() {
@@ -272,6 +413,34 @@ public class Matrix4x4Test {
         assertEquals(Matrix4x4.identity(), product);
     }
 
+    @Test
+    @DisplayName("Calculate determinant of general matrix")
+    void testDeterminantGeneral() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {3.0, 2.0, 0.0, 1.0},
+            {4.0, 0.0, 1.0, 2.0},
+            {3.0, 0.0, 2.0, 1.0},
+            {9.0, 2.0, 3.0, 1.0}
+        });
+        assertEquals(24.0, m.determinant(), EPSILON);
+        assertEquals(m.determinant(), m.transpose().determinant(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Inverse of general matrix")
+    void testInverseGeneral() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {3.0, 2.0, 0.0, 1.0},
+            {4.0, 0.0, 1.0, 2.0},
+            {3.0, 0.0, 2.0, 1.0},
+            {9.0, 2.0, 3.0, 1.0}
+        });
+        Matrix4x4 inverse = m.inverse();
+        assertEquals(Matrix4x4.identity(), m.multiply(inverse));
+        assertEquals(Matrix4x4.identity(), inverse.multiply(m));
+        assertEquals(1.0 / 24.0, inverse.determinant(), EPSILON);
+    }
+
     @Test
     @DisplayName("Inverse of singular matrix throws exception")
     void testInverseSingular() {
@@ -284,6 +453,65 @@ public class Matrix4x4Test {
         assertThrows(ArithmeticException.class, () -> m.inverse());
     }
 
+    @Test
+    @DisplayName("Affine check with tolerance")
+    void testIsAffine() {
+        assertTrue(Matrix4x4.identity().isAffine());
+        Matrix4x4 nearlyAffine = new Matrix4x4(new double[][]{
+            {1.0, 0.0, 0.0, 5.0},
+            {0.0, 1.0, 0.0, 6.0},
+            {0.0, 0.0, 1.0, 7.0},
+            {1e-6, 0.0, 0.0, 1.0}
+        });
+        assertFalse(nearlyAffine.isAffine());
+        assertTrue(nearlyAffine.isAffine(1e-5));
+        assertThrows(IllegalArgumentException.class, () -> nearlyAffine.isAffine(-1.0));
+    }
+
+    @Test
+    @DisplayName("Affine inverse matches general inverse")
+    void testInverseAffine() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {2.0, 0.5, 0.0, 3.0},
+            {0.0, 3.0, 1.0, -2.0},
+            {1.0, 0.0, 4.0, 1.5},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        Matrix4x4 inverse = m.inverseAffine();
+        assertEquals(Matrix4x4.identity(), m.multiply(inverse));
+        assertEquals(m.inverse(), inverse);
+    }
+
+    @Test
+    @DisplayName("Affine inverse of singular linear part throws exception")
+    void testInverseAffineSingular() {
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {1.0, 2.0, 3.0, 1.0},
+            {2.0, 4.0, 6.0, 1.0},
+            {0.0, 1.0, 0.0, 1.0},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        assertThrows(ArithmeticException.class, () -> m.inverseAffine());
+        assertThrows(ArithmeticException.class, () -> m.inverse());
+    }
+
+    @Test
+    @DisplayName("Rigid inverse of rotation plus translation")
+    void testInverseRigid() {
+        double c = Math.cos(0.7);
+        double s = Math.sin(0.7);
+        Matrix4x4 m = new Matrix4x4(new double[][]{
+            {c, -s, 0.0, 4.0},
+            {s, c, 0.0, -1.0},
+            {0.0, 0.0, 1.0, 2.5},
+            {0.0, 0.0, 0.0, 1.0}
+        });
+        Matrix4x4 inverse = m.inverseRigid();
+        assertEquals(Matrix4x4.identity(), m.multiply(inverse));
+        assertEquals(m.inverse(), inverse);
+        assertEquals(inverse, m.inverseRigid(new MutableMatrix4x4()).toMatrix4x4());
+    }
+
     @Test
     @DisplayName("Solve system of linear equations")
     void testSolveSystem() {
@@ -390,5 +618,179 @@ public class Matrix4x4Test {
         data[0][0] = 999.0; // Modify original array
         assertEquals(1.0, m.get(0, 0), EPSILON); // Matrix should be unchanged
     }
-}
 
+    @Test
+    @DisplayName("Element constructor matches 2D array constructor")
+    void testElementConstructor() {
+        Matrix4x4 fromArray = Matrix4x4.fromArray(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0, 16.0}, 0);
+        Matrix4x4 fromElements = new Matrix4x4(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0, 11.0, 12.0, 13.0, 14.0, 15.0, 16.0);
+        assertEquals(fromArray, fromElements);
+        assertEquals(16.0, fromElements.get(3, 3), EPSILON);
+        assertEquals(2.0, fromElements.get(0, 1), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Row-major toArray and fromArray round trip with offset")
+    void testRowMajorArrayRoundTrip() {
+        double[] src = new double[16 + 2];
+        for (int i = 0; i < 16; i++) {
+            src[i + 2] = i + 1;
+        }
+        Matrix4x4 m = Matrix4x4.fromArray(src, 2);
+        assertEquals(5.0, m.get(1, 0), EPSILON);
+        double[] dst = m.toArray(new double[16 + 3], 3);
+        for (int i = 0; i < 16; i++) {
+            assertEquals(src[i + 2], dst[i + 3], EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("Column-major accessors transpose the flat layout")
+    void testColumnMajorArray() {
+        double[] src = new double[16];
+        for (int i = 0; i < 16; i++) {
+            src[i] = i + 1;
+        }
+        Matrix4x4 rowMajor = Matrix4x4.fromArray(src, 0);
+        Matrix4x4 columnMajor = Matrix4x4.fromColumnMajorArray(src, 0);
+        assertEquals(rowMajor.transpose(), columnMajor);
+        double[] dst = rowMajor.toColumnMajorArray(new double[16], 0);
+        assertEquals(rowMajor, Matrix4x4.fromColumnMajorArray(dst, 0));
+    }
+
+    @Test
+    @DisplayName("Flat array accessors reject null and short arrays")
+    void testArrayAccessorsInvalid() {
+        Matrix4x4 m = Matrix4x4.identity();
+        assertThrows(IllegalArgumentException.class, () -> Matrix4x4.fromArray(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> m.toArray(null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Matrix4x4.fromArray(new double[16], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.toColumnMajorArray(new double[16], -1));
+    }
+
+    @Test
+    @DisplayName("Determinant, inverse and normal matrix are cached per instance")
+    void testDerivedValueCaching() {
+        Matrix4x4 m = new Matrix4x4(
+            2.0, 0.0, 0.0, 1.0,
+            0.0, 4.0, 0.0, 2.0,
+            0.0, 0.0, 0.5, 3.0,
+            0.0, 0.0, 0.0, 1.0);
+        boolean enabled = Matrix4x4.isCacheStatisticsEnabled();
+        Matrix4x4.setCacheStatisticsEnabled(true);
+        try {
+            Matrix4x4.resetCacheStatistics();
+            assertEquals(4.0, m.determinant(), EPSILON);
+            assertEquals(4.0, m.determinant(), EPSILON);
+            Matrix4x4 inverse = m.inverse();
+            assertSame(inverse, m.inverse());
+            assertEquals(Matrix4x4.identity(), m.multiply(inverse));
+            MutableMatrix4x4 dst = m.inverse(new MutableMatrix4x4());
+            assertEquals(inverse, dst.toMatrix4x4());
+            Matrix3x3 normal = m.normalMatrix();
+            assertSame(normal, m.normalMatrix());
+            assertEquals(3, Matrix4x4.cacheMisses());
+            assertEquals(4, Matrix4x4.cacheHits());
+
+            Matrix4x4.setCacheStatisticsEnabled(false);
+            Matrix4x4.resetCacheStatistics();
+            m.determinant();
+            m.transpose().inverse();
+            assertEquals(0, Matrix4x4.cacheHits());
+            assertEquals(0, Matrix4x4.cacheMisses());
+        } finally {
+            Matrix4x4.setCacheStatisticsEnabled(enabled);
+            Matrix4x4.resetCacheStatistics();
+        }
+    }
+
+    @Test
+    @DisplayName("Normal matrix is the inverse transpose of the 3x3 block")
+    void testNormalMatrix() {
+        Matrix4x4 m = new Matrix4x4(
+            1.0, 2.0, 0.0, 5.0,
+            0.0, 3.0, 1.0, -1.0,
+            2.0, 0.0, 4.0, 2.0,
+            0.3, 0.0, 0.0, 1.0);
+        Matrix3x3 block = new Matrix3x3(
+            1.0, 2.0, 0.0,
+            0.0, 3.0, 1.0,
+            2.0, 0.0, 4.0);
+        assertEquals(block.inverse().transpose(), m.normalMatrix());
+
+        // Scaling x by 2 must shrink the x component of normals
+        Matrix4x4 scale = new Matrix4x4(
+            2.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0);
+        assertEquals(new Vector3(0.5, 1.0, 0.0), scale.normalMatrix().multiply(new Vector3(1.0, 1.0, 0.0)));
+    }
+
+    @Test
+    @DisplayName("Singular matrices are not cached and keep throwing")
+    void testSingularNotCached() {
+        Matrix4x4 singular = new Matrix4x4(
+            1.0, 2.0, 3.0, 4.0,
+            2.0, 4.0, 6.0, 8.0,
+            0.0, 1.0, 0.0, 0.0,
+            1.0, 0.0, 0.0, 1.0);
+        assertThrows(ArithmeticException.class, singular::inverse);
+        assertThrows(ArithmeticException.class, singular::inverse);
+        assertThrows(ArithmeticException.class, () -> Matrix4x4.zero().normalMatrix());
+    }
+
+    @Test
+    @DisplayName("Cached values are consistent across threads")
+    void testCachingConcurrent() throws InterruptedException {
+        Matrix4x4 m = new Matrix4x4(
+            1.0, 2.0, 0.0, 5.0,
+            0.0, 3.0, 1.0, -1.0,
+            2.0, 0.0, 4.0, 2.0,
+            0.3, 0.0, 0.0, 1.0);
+        Matrix4x4 expected = new Matrix4x4(
+            1.0, 2.0, 0.0, 5.0,
+            0.0, 3.0, 1.0, -1.0,
+            2.0, 0.0, 4.0, 2.0,
+            0.3, 0.0, 0.0, 1.0).inverse();
+        Matrix4x4[] seen = new Matrix4x4[4];
+        Thread[] threads = new Thread[seen.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> seen[index] = m.inverse());
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Matrix4x4 inverse : seen) {
+            assertEquals(expected, inverse);
+        }
+        assertSame(m.inverse(), m.inverse());
+    }
+
+    @Test
+    @DisplayName("Compensated multiply survives cancellation")
+    void testMultiplyCompensated() {
+        Matrix4x4 a = new Matrix4x4(
+            1e16, 1.0, -1e16, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0);
+        Matrix4x4 ones = new Matrix4x4(
+            1.0, 0.0, 0.0, 0.0,
+            1.0, 1.0, 0.0, 0.0,
+            1.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0);
+        assertEquals(0.0, a.multiply(ones).get(0, 0));
+        assertEquals(1.0, a.multiplyCompensated(ones).get(0, 0));
+
+        Matrix4x4 m = new Matrix4x4(
+            1.0, 2.0, 3.0, 4.0,
+            5.0, 6.0, 7.0, 8.0,
+            2.0, 0.0, 1.0, 3.0,
+            0.5, 0.25, 0.0, 2.0);
+        assertEquals(m.multiply(m), m.multiplyCompensated(m));
+        assertThrows(IllegalArgumentException.class, () -> m.multiplyCompensated(null));
+    }
+}
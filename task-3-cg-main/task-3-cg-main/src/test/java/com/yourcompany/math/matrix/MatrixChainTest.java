@@ -0,0 +1,155 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the MatrixChain class.
+ */
+public class MatrixChainTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static final Matrix4x4 AFFINE = new Matrix4x4(
+        0.0, -1.0, 0.0, 5.0,
+        1.0, 0.0, 0.0, -2.0,
+        0.0, 0.0, 2.0, 1.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    private static final Matrix4x4 PROJECTION = new Matrix4x4(
+        1.5, 0.0, 0.0, 0.0,
+        0.0, 2.0, 0.0, 0.0,
+        0.0, 0.0, -1.2, -2.2,
+        0.0, 0.0, -1.0, 0.0);
+
+    private static final Matrix4x4 GENERAL = new Matrix4x4(
+        1.0, 2.0, 3.0, 4.0,
+        5.0, 6.0, 7.0, 8.0,
+        2.0, 0.0, 1.0, 3.0,
+        0.5, 0.25, 0.0, 2.0);
+
+    private static final Matrix3x3 ROTATION = new Matrix3x3(
+        0.8, -0.6, 0.0,
+        0.6, 0.8, 0.0,
+        0.0, 0.0, 1.0);
+
+    private static final Matrix3x3 SHEAR = new Matrix3x3(
+        1.0, 0.5, 0.0,
+        0.0, 1.0, 0.25,
+        0.0, 0.0, 1.0);
+
+    private static Matrix4x4 embed(Matrix3x3 m) {
+        return new Matrix4x4(
+            m.get(0, 0), m.get(0, 1), m.get(0, 2), 0.0,
+            m.get(1, 0), m.get(1, 1), m.get(1, 2), 0.0,
+            m.get(2, 0), m.get(2, 1), m.get(2, 2), 0.0,
+            0.0, 0.0, 0.0, 1.0);
+    }
+
+    private static void assertMatrixEquals(Matrix4x4 expected, Matrix4x4 actual) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                assertEquals(expected.get(r, c), actual.get(r, c), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Mixed chain matches left-to-right multiplication")
+    void testMixedChain() {
+        MatrixChain chain = MatrixChain.of(PROJECTION).times(ROTATION).times(AFFINE)
+            .times(GENERAL).times(SHEAR).times(AFFINE);
+        assertEquals(6, chain.size());
+        Matrix4x4 expected = PROJECTION.multiply(embed(ROTATION)).multiply(AFFINE)
+            .multiply(GENERAL).multiply(embed(SHEAR)).multiply(AFFINE);
+        assertMatrixEquals(expected, chain.toMatrix4x4());
+
+        Vector4 v = new Vector4(1.0, -2.0, 0.5, 1.0);
+        Vector4 ev = expected.multiply(v);
+        Vector4 av = chain.multiply(v);
+        assertEquals(ev.getX(), av.getX(), EPSILON);
+        assertEquals(ev.getY(), av.getY(), EPSILON);
+        assertEquals(ev.getZ(), av.getZ(), EPSILON);
+        assertEquals(ev.getW(), av.getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Each structure combination multiplies correctly")
+    void testAllPairs() {
+        Object[] operands = {ROTATION, AFFINE, GENERAL};
+        for (Object a : operands) {
+            for (Object b : operands) {
+                MatrixChain chain = a instanceof Matrix3x3 ? MatrixChain.of((Matrix3x3) a) : MatrixChain.of((Matrix4x4) a);
+                chain = b instanceof Matrix3x3 ? chain.times((Matrix3x3) b) : chain.times((Matrix4x4) b);
+                Matrix4x4 ma = a instanceof Matrix3x3 ? embed((Matrix3x3) a) : (Matrix4x4) a;
+                Matrix4x4 mb = b instanceof Matrix3x3 ? embed((Matrix3x3) b) : (Matrix4x4) b;
+                assertMatrixEquals(ma.multiply(mb), chain.toMatrix4x4());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Trailing vector is folded in right to left")
+    void testTrailingVector() {
+        MatrixChain chain = MatrixChain.of(GENERAL).times(PROJECTION).times(GENERAL);
+        assertEquals("(M0 * (M1 * (M2 * v)))", chain.plan(true));
+        assertEquals(3 * 16, chain.cost(true));
+        assertEquals(2 * 64, chain.cost(false));
+    }
+
+    @Test
+    @DisplayName("Cheap operands are combined before expensive ones")
+    void testStructureAwareOrder() {
+        MatrixChain chain = MatrixChain.of(GENERAL).times(ROTATION).times(SHEAR).times(ROTATION);
+        // Left to right costs three 4x3 products (108); grouping the 3x3 blocks first costs 27 + 27 + 36
+        assertEquals(90, chain.cost(false));
+        assertTrue(chain.plan(false).startsWith("(M0 * "));
+
+        MatrixChain affine = MatrixChain.of(AFFINE).times(AFFINE).times(AFFINE);
+        assertEquals(72, affine.cost(false));
+        assertEquals(3 * 12, affine.cost(true));
+        Matrix4x4 fused = affine.toMatrix4x4();
+        assertTrue(fused.isAffine(0.0));
+        assertMatrixEquals(AFFINE.multiply(AFFINE).multiply(AFFINE), fused);
+    }
+
+    @Test
+    @DisplayName("Pure 3x3 chains evaluate to 3x3 results")
+    void testLinearChain() {
+        MatrixChain chain = MatrixChain.of(ROTATION).times(SHEAR).times(ROTATION);
+        assertEquals(ROTATION.multiply(SHEAR).multiply(ROTATION), chain.toMatrix3x3());
+        Vector3 v = new Vector3(1.0, 2.0, 3.0);
+        Vector3 expected = ROTATION.multiply(SHEAR).multiply(ROTATION).multiply(v);
+        Vector3 actual = chain.multiply(v);
+        assertEquals(expected.getX(), actual.getX(), EPSILON);
+        assertEquals(expected.getY(), actual.getY(), EPSILON);
+        assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+        assertEquals(3 * 9, chain.cost(true));
+    }
+
+    @Test
+    @DisplayName("Chains are immutable")
+    void testImmutable() {
+        MatrixChain base = MatrixChain.of(AFFINE);
+        MatrixChain longer = base.times(PROJECTION);
+        assertEquals(1, base.size());
+        assertEquals(2, longer.size());
+        assertEquals(AFFINE, base.toMatrix4x4());
+        assertEquals("MatrixChain[(M0 * M1)]", longer.toString());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of((Matrix4x4) null));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of((Matrix3x3) null));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of(AFFINE).times((Matrix3x3) null));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of(AFFINE).multiply((Vector4) null));
+        assertThrows(IllegalStateException.class, () -> MatrixChain.of(ROTATION).times(AFFINE).toMatrix3x3());
+        assertThrows(IllegalStateException.class,
+            () -> MatrixChain.of(ROTATION).times(AFFINE).multiply(new Vector3(1, 0, 0)));
+    }
+}
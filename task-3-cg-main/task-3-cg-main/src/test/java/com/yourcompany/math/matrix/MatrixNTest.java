@@ -0,0 +1,142 @@
+package com.yourcompany.math.matrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the MatrixN class.
+ */
+public class MatrixNTest {
+
+    private static MatrixN random(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        double[] data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble() - 0.5;
+        }
+        return MatrixN.fromArray(rows, cols, data, 0);
+    }
+
+    private static double[] naiveProduct(MatrixN a, MatrixN b) {
+        int n = a.getColumns(), p = b.getColumns();
+        double[] r = new double[a.getRows() * p];
+        for (int i = 0; i < a.getRows(); i++) {
+            for (int j = 0; j < p; j++) {
+                double s = 0.0;
+                for (int k = 0; k < n; k++) {
+                    s += a.get(i, k) * b.get(k, j);
+                }
+                r[i * p + j] = s;
+            }
+        }
+        return r;
+    }
+
+    @Test
+    @DisplayName("Construction, accessors and flat array round trip")
+    void testConstruction() {
+        MatrixN m = new MatrixN(new double[][]{{1, 2, 3}, {4, 5, 6}});
+        assertEquals(2, m.getRows());
+        assertEquals(3, m.getColumns());
+        assertEquals(6.0, m.get(1, 2));
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4, 5, 6}, m.toArray(new double[7], 1));
+        assertEquals(m, MatrixN.fromArray(2, 3, new double[]{9, 1, 2, 3, 4, 5, 6}, 1));
+        assertEquals(1.0, MatrixN.identity(5).get(3, 3));
+        assertEquals(0.0, MatrixN.identity(5).get(3, 2));
+        assertEquals(0.0, MatrixN.zero(2, 7).get(1, 6));
+
+        assertThrows(IllegalArgumentException.class, () -> new MatrixN(new double[][]{{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixN(new double[0][]));
+        assertThrows(IllegalArgumentException.class, () -> MatrixN.zero(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> MatrixN.fromArray(2, 3, new double[5], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.get(2, 0));
+    }
+
+    @Test
+    @DisplayName("Conversion to and from Matrix3x3 and Matrix4x4")
+    void testConversion() {
+        Matrix3x3 m3 = new Matrix3x3(1, 2, 3, 4, 5, 6, 7, 8, 10);
+        Matrix4x4 m4 = new Matrix4x4(
+            1, 2, 3, 4,
+            5, 6, 7, 8,
+            2, 0, 1, 3,
+            0.5, 0.25, 0, 2);
+        assertEquals(m3, MatrixN.of(m3).toMatrix3x3());
+        assertEquals(m4, MatrixN.of(m4).toMatrix4x4());
+        assertEquals(m4.get(3, 1), MatrixN.of(m4).get(3, 1));
+        assertEquals(m4.multiply(m4), MatrixN.of(m4).multiply(MatrixN.of(m4)).toMatrix4x4());
+        assertThrows(IllegalStateException.class, () -> MatrixN.of(m3).toMatrix4x4());
+        assertThrows(IllegalStateException.class, () -> MatrixN.zero(3, 4).toMatrix3x3());
+    }
+
+    @Test
+    @DisplayName("Add, subtract and transpose")
+    void testElementwise() {
+        MatrixN a = random(37, 53, 1);
+        MatrixN b = random(37, 53, 2);
+        MatrixN sum = a.add(b);
+        MatrixN difference = a.subtract(b);
+        MatrixN t = a.transpose();
+        assertEquals(53, t.getRows());
+        assertEquals(37, t.getColumns());
+        for (int i = 0; i < 37; i++) {
+            for (int j = 0; j < 53; j++) {
+                assertEquals(a.get(i, j) + b.get(i, j), sum.get(i, j));
+                assertEquals(a.get(i, j) - b.get(i, j), difference.get(i, j));
+                assertEquals(a.get(i, j), t.get(j, i));
+            }
+        }
+        assertEquals(a, t.transpose());
+        assertThrows(IllegalArgumentException.class, () -> a.add(t));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(null));
+    }
+
+    @Test
+    @DisplayName("Matrix-vector product")
+    void testMultiplyVector() {
+        MatrixN m = new MatrixN(new double[][]{{1, 2, 3}, {4, 5, 6}});
+        assertArrayEquals(new double[]{14, 32}, m.multiply(new double[]{1, 2, 3}));
+        double[] dst = new double[4];
+        m.multiply(new double[]{0, 1, 2, 3}, 1, dst, 2);
+        assertArrayEquals(new double[]{0, 0, 14, 32}, dst);
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(new double[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.multiply(new double[3], 1, dst, 0));
+    }
+
+    @Test
+    @DisplayName("Blocked product matches the naive triple loop exactly")
+    void testMultiply() {
+        // Shapes cover partial row tiles, partial column tiles and more than one block
+        int[][] shapes = {{1, 1, 1}, {3, 5, 2}, {4, 4, 4}, {7, 130, 9}, {66, 129, 259}};
+        for (int[] shape : shapes) {
+            MatrixN a = random(shape[0], shape[1], shape[0]);
+            MatrixN b = random(shape[1], shape[2], shape[2]);
+            double[] actual = a.multiply(b).toArray(new double[shape[0] * shape[2]], 0);
+            assertArrayEquals(naiveProduct(a, b), actual, 0.0);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random(3, 4, 0).multiply(random(3, 4, 0)));
+        assertThrows(IllegalArgumentException.class, () -> random(3, 3, 0).multiply((MatrixN) null));
+    }
+
+    @Test
+    @DisplayName("Parallel product is bit-identical for any number of threads")
+    void testParallelMultiply() {
+        MatrixN a = random(203, 150, 3);
+        MatrixN b = random(150, 171, 4);
+        double[] expected = naiveProduct(a, b);
+        for (int threads : new int[]{1, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double[] actual = a.multiply(b, pool).toArray(new double[expected.length], 0);
+                assertArrayEquals(expected, actual, 0.0);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.Vector3;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MutableMatrix3x3 and the destination overloads of Matrix3x3.
+ */
+public class MutableMatrix3x3Test {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Matrix3x3 A = new Matrix3x3(new double[][]{
+        {2.0, 1.0, 1.0},
+        {1.0, 3.0, 2.0},
+        {1.0, 0.0, 0.0}
+    });
+
+    private static final Matrix3x3 B = new Matrix3x3(new double[][]{
+        {1.0, 2.0, 3.0},
+        {4.0, 5.0, 6.0},
+        {7.0, 8.0, 9.0}
+    });
+
+    @Test
+    @DisplayName("Default constructor creates identity matrix")
+    void testDefaultConstructor() {
+        assertEquals(Matrix3x3.identity(), new MutableMatrix3x3().toMatrix3x3());
+    }
+
+    @Test
+    @DisplayName("Get and set elements")
+    void testGetSet() {
+        MutableMatrix3x3 m = new MutableMatrix3x3(B);
+        assertEquals(6.0, m.get(1, 2), EPSILON);
+        m.set(1, 2, 42.0);
+        assertEquals(42.0, m.get(1, 2), EPSILON);
+        assertEquals(6.0, B.get(1, 2), EPSILON);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.set(0, -1, 1.0));
+    }
+
+    @Test
+    @DisplayName("Destination overloads match allocating operations")
+    void testDestinationOverloads() {
+        MutableMatrix3x3 dst = new MutableMatrix3x3();
+        assertSame(dst, A.multiply(B, dst));
+        assertEquals(A.multiply(B), dst.toMatrix3x3());
+        assertEquals(A.add(B), A.add(B, dst).toMatrix3x3());
+        assertEquals(A.subtract(B), A.subtract(B, dst).toMatrix3x3());
+        assertEquals(B.transpose(), B.transpose(dst).toMatrix3x3());
+        assertEquals(A.inverse(), A.inverse(dst).toMatrix3x3());
+
+        Vector3 v = new Vector3(1.0, 2.0, 3.0);
+        MutableVector3 out = new MutableVector3();
+        assertEquals(A.multiply(v), A.multiply(v, out).toVector3());
+        MutableVector3 u = new MutableVector3(v);
+        assertSame(u, A.multiply(u, u));
+        assertEquals(A.multiply(v), u.toVector3());
+        assertThrows(IllegalArgumentException.class, () -> A.multiply((MutableVector3) null, out));
+    }
+
+    @Test
+    @DisplayName("In-place multiply accumulates transforms")
+    void testInPlaceMultiply() {
+        MutableMatrix3x3 m = new MutableMatrix3x3(A);
+        m.multiply(B);
+        assertEquals(A.multiply(B), m.toMatrix3x3());
+
+        MutableMatrix3x3 squared = new MutableMatrix3x3(A);
+        squared.multiply(squared);
+        assertEquals(A.multiply(A), squared.toMatrix3x3());
+    }
+
+    @Test
+    @DisplayName("In-place transform of a mutable vector")
+    void testTransform() {
+        MutableMatrix3x3 m = new MutableMatrix3x3(A);
+        MutableVector3 v = new MutableVector3(1.0, 2.0, 3.0);
+        assertSame(v, m.transform(v));
+        assertEquals(A.multiply(new Vector3(1.0, 2.0, 3.0)), v.toVector3());
+    }
+
+    @Test
+    @DisplayName("Inverse into destination of singular matrix throws exception")
+    void testInverseSingular() {
+        assertThrows(ArithmeticException.class, () -> B.inverse(new MutableMatrix3x3()));
+        assertThrows(IllegalArgumentException.class, () -> A.inverse(null));
+    }
+}
@@ -0,0 +1,110 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.MutableVector4;
+import com.yourcompany.math.vector.Vector4;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MutableMatrix4x4 and the destination overloads of Matrix4x4.
+ */
+public class MutableMatrix4x4Test {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Matrix4x4 A = new Matrix4x4(new double[][]{
+        {2.0, 0.0, 1.0, 3.0},
+        {1.0, 3.0, 0.0, -1.0},
+        {0.0, 1.0, 4.0, 2.0},
+        {0.0, 0.0, 0.0, 1.0}
+    });
+
+    private static final Matrix4x4 B = new Matrix4x4(new double[][]{
+        {1.0, 2.0, 3.0, 4.0},
+        {5.0, 6.0, 7.0, 8.0},
+        {9.0, 10.0, 11.0, 12.0},
+        {13.0, 14.0, 15.0, 16.0}
+    });
+
+    @Test
+    @DisplayName("Default constructor creates identity matrix")
+    void testDefaultConstructor() {
+        assertEquals(Matrix4x4.identity(), new MutableMatrix4x4().toMatrix4x4());
+    }
+
+    @Test
+    @DisplayName("Get and set elements")
+    void testGetSet() {
+        MutableMatrix4x4 m = new MutableMatrix4x4(B);
+        assertEquals(7.0, m.get(1, 2), EPSILON);
+        m.set(1, 2, 42.0);
+        assertEquals(42.0, m.get(1, 2), EPSILON);
+        assertEquals(7.0, B.get(1, 2), EPSILON);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.get(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.set(0, -1, 1.0));
+    }
+
+    @Test
+    @DisplayName("Destination overloads match allocating operations")
+    void testDestinationOverloads() {
+        MutableMatrix4x4 dst = new MutableMatrix4x4();
+        assertSame(dst, A.multiply(B, dst));
+        assertEquals(A.multiply(B), dst.toMatrix4x4());
+        assertEquals(A.add(B), A.add(B, dst).toMatrix4x4());
+        assertEquals(A.subtract(B), A.subtract(B, dst).toMatrix4x4());
+        assertEquals(B.transpose(), B.transpose(dst).toMatrix4x4());
+        assertEquals(A.inverse(), A.inverse(dst).toMatrix4x4());
+
+        Vector4 v = new Vector4(1.0, 2.0, 3.0, 1.0);
+        MutableVector4 out = new MutableVector4();
+        assertEquals(A.multiply(v), A.multiply(v, out).toVector4());
+    }
+
+    @Test
+    @DisplayName("In-place multiply accumulates transforms")
+    void testInPlaceMultiply() {
+        MutableMatrix4x4 m = new MutableMatrix4x4(A);
+        m.multiply(B);
+        assertEquals(A.multiply(B), m.toMatrix4x4());
+
+        MutableMatrix4x4 squared = new MutableMatrix4x4(A);
+        squared.multiply(squared);
+        assertEquals(A.multiply(A), squared.toMatrix4x4());
+    }
+
+    @Test
+    @DisplayName("In-place transform of a mutable vector")
+    void testTransform() {
+        MutableMatrix4x4 m = new MutableMatrix4x4(A);
+        MutableVector4 v = new MutableVector4(1.0, 2.0, 3.0, 1.0);
+        assertSame(v, m.transform(v));
+        assertEquals(A.multiply(new Vector4(1.0, 2.0, 3.0, 1.0)), v.toVector4());
+
+        MutableVector4 u = new MutableVector4(1.0, 2.0, 3.0, 1.0);
+        MutableVector4 dst = new MutableVector4();
+        assertSame(dst, A.multiply(u, dst));
+        assertEquals(v.toVector4(), dst.toVector4());
+        assertSame(u, A.multiply(u, u));
+        assertEquals(v.toVector4(), u.toVector4());
+        assertThrows(IllegalArgumentException.class, () -> A.multiply((MutableVector4) null, dst));
+        assertThrows(IllegalArgumentException.class, () -> A.multiply(u, null));
+    }
+
+    @Test
+    @DisplayName("Null arguments throw exception")
+    void testNullArguments() {
+        MutableMatrix4x4 dst = new MutableMatrix4x4();
+        assertThrows(IllegalArgumentException.class, () -> new MutableMatrix4x4(null));
+        assertThrows(IllegalArgumentException.class, () -> A.multiply(B, null));
+        assertThrows(IllegalArgumentException.class, () -> A.multiply((Matrix4x4) null, dst));
+        assertThrows(IllegalArgumentException.class, () -> A.multiply((Vector4) null, new MutableVector4()));
+        assertThrows(IllegalArgumentException.class, () -> dst.transform(null));
+    }
+
+    @Test
+    @DisplayName("Inverse into destination of singular matrix throws exception")
+    void testInverseSingular() {
+        assertThrows(ArithmeticException.class, () -> B.inverse(new MutableMatrix4x4()));
+    }
+}
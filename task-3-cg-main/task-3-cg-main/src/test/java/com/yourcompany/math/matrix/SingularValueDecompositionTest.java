@@ -0,0 +1,116 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SingularValueDecomposition class.
+ */
+public class SingularValueDecompositionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static Matrix3x3 random(Random random) {
+        double[] e = new double[9];
+        for (int i = 0; i < 9; i++) {
+            e[i] = random.nextDouble() - 0.5;
+        }
+        return Matrix3x3.fromArray(e, 0);
+    }
+
+    private static Matrix3x3 diagonal(Vector3 d) {
+        return new Matrix3x3(d.getX(), 0, 0, 0, d.getY(), 0, 0, 0, d.getZ());
+    }
+
+    private static void assertOrthogonal(Matrix3x3 m) {
+        assertEquals(Matrix3x3.identity(), m.transpose().multiply(m));
+    }
+
+    private static void assertDecomposes(Matrix3x3 m) {
+        SingularValueDecomposition svd = SingularValueDecomposition.of(m);
+        Vector3 sigma = svd.getSingularValues();
+        assertTrue(sigma.getX() >= sigma.getY() && sigma.getY() >= sigma.getZ() && sigma.getZ() >= 0.0);
+        assertOrthogonal(svd.getU());
+        assertOrthogonal(svd.getV());
+        assertEquals(m, svd.getU().multiply(diagonal(sigma)).multiply(svd.getV().transpose()));
+
+        Matrix3x3 r = svd.getRotation();
+        Matrix3x3 s = svd.getStretch();
+        assertOrthogonal(r);
+        assertEquals(1.0, r.determinant(), EPSILON);
+        assertEquals(s, s.transpose());
+        assertEquals(m, r.multiply(s));
+    }
+
+    @Test
+    @DisplayName("Random matrices are decomposed")
+    void testRandom() {
+        Random random = new Random(17);
+        for (int t = 0; t < 1000; t++) {
+            assertDecomposes(random(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Rank-deficient matrices and reflections")
+    void testSpecialCases() {
+        assertDecomposes(Matrix3x3.zero());
+        assertDecomposes(Matrix3x3.identity());
+        // Rank 1 and rank 2
+        assertDecomposes(new Matrix3x3(1, 2, 3, 2, 4, 6, -1, -2, -3));
+        assertDecomposes(new Matrix3x3(1, 0, 0, 0, 1, 0, 1, 1, 0));
+        // Mirror
+        Matrix3x3 mirror = new Matrix3x3(1, 0, 0, 0, 1, 0, 0, 0, -1);
+        assertDecomposes(mirror);
+        assertEquals(new Vector3(1, 1, 1), SingularValueDecomposition.of(mirror).getSingularValues());
+        assertEquals(new Vector3(3, 2, 0),
+            SingularValueDecomposition.of(new Matrix3x3(0, 2, 0, 0, 0, 0, 3, 0, 0)).getSingularValues());
+        assertThrows(IllegalArgumentException.class, () -> SingularValueDecomposition.of(null));
+    }
+
+    @Test
+    @DisplayName("Polar rotation of a rotated stretch")
+    void testPolar() {
+        Matrix3x3 rotation = new Matrix3x3(
+            0.36, 0.48, -0.8,
+            -0.8, 0.6, 0.0,
+            0.48, 0.64, 0.6);
+        Matrix3x3 stretch = new Matrix3x3(2, 0.5, 0, 0.5, 1, 0.2, 0, 0.2, 3);
+        SingularValueDecomposition svd = SingularValueDecomposition.of(rotation.multiply(stretch));
+        assertEquals(rotation, svd.getRotation());
+        assertEquals(stretch, svd.getStretch());
+    }
+
+    @Test
+    @DisplayName("Batch decomposition matches single decompositions")
+    void testBatch() {
+        Random random = new Random(23);
+        int count = 40;
+        double[] src = new double[9 * count];
+        for (int i = 0; i < count; i++) {
+            random(random).toArray(src, 9 * i);
+        }
+        double[] u = new double[9 * count];
+        double[] sigma = new double[3 * count];
+        double[] v = new double[9 * count];
+        double[] rotations = new double[9 * count];
+        SingularValueDecomposition.decompose(src, 0, u, 0, sigma, 0, v, 0, count);
+        SingularValueDecomposition.rotations(src, 0, rotations, 0, count);
+        for (int i = 0; i < count; i++) {
+            SingularValueDecomposition svd = SingularValueDecomposition.of(Matrix3x3.fromArray(src, 9 * i));
+            assertEquals(svd.getU(), Matrix3x3.fromArray(u, 9 * i));
+            assertEquals(svd.getV(), Matrix3x3.fromArray(v, 9 * i));
+            assertEquals(svd.getSingularValues(), new Vector3(sigma[3 * i], sigma[3 * i + 1], sigma[3 * i + 2]));
+            assertEquals(svd.getRotation(), Matrix3x3.fromArray(rotations, 9 * i));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> SingularValueDecomposition.rotations(src, 0, rotations, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> SingularValueDecomposition.decompose(src, 0, u, 0, sigma, 1, v, 0, count));
+    }
+}
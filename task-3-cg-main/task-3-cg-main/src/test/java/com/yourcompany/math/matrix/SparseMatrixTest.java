@@ -0,0 +1,116 @@
+package com.yourcompany.math.matrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SparseMatrix class.
+ */
+public class SparseMatrixTest {
+
+    @Test
+    @DisplayName("Triplets are sorted by column and duplicates are summed")
+    void testFromTriplets() {
+        int[] rows = {2, 0, 2, 0, 1, 2};
+        int[] cols = {3, 1, 0, 1, 2, 3};
+        double[] values = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+        SparseMatrix m = SparseMatrix.fromTriplets(3, 4, rows, cols, values, 6);
+        assertEquals(3, m.getRows());
+        assertEquals(4, m.getColumns());
+        assertEquals(4, m.nonZeros());
+        assertEquals(6.0, m.get(0, 1));
+        assertEquals(5.0, m.get(1, 2));
+        assertEquals(3.0, m.get(2, 0));
+        assertEquals(7.0, m.get(2, 3));
+        assertEquals(0.0, m.get(1, 1));
+
+        // Only the first count triplets are used
+        assertEquals(2, SparseMatrix.fromTriplets(3, 4, rows, cols, values, 2).nonZeros());
+        assertEquals(0, SparseMatrix.fromTriplets(3, 4, rows, cols, values, 0).nonZeros());
+    }
+
+    @Test
+    @DisplayName("Builder accumulates triplets and grows")
+    void testBuilder() {
+        SparseMatrix.Builder builder = SparseMatrix.builder(100, 100);
+        for (int i = 0; i < 100; i++) {
+            builder.add(i, i, 1.0).add(i, 99 - i, 0.5);
+        }
+        assertEquals(200, builder.size());
+        SparseMatrix m = builder.build();
+        assertEquals(200, m.nonZeros());
+        assertEquals(1.0, m.get(3, 3));
+        assertEquals(0.5, m.get(3, 96));
+        builder.add(3, 3, 1.0);
+        assertEquals(2.0, builder.build().get(3, 3));
+        assertEquals(1.0, m.get(3, 3));
+    }
+
+    @Test
+    @DisplayName("Sequential and parallel products match a dense reference")
+    void testMultiply() {
+        Random random = new Random(7);
+        int n = 3000;
+        double[][] dense = new double[n][n];
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int t = 0; t < 60000; t++) {
+            // Rows near the start are denser, so the split by entries is uneven in rows
+            int r = random.nextInt(1 + random.nextInt(n));
+            int c = random.nextInt(n);
+            double v = random.nextDouble() - 0.5;
+            dense[r][c] += v;
+            builder.add(r, c, v);
+        }
+        SparseMatrix m = builder.build();
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble();
+        }
+        double[] expected = new double[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                expected[r] += dense[r][c] * x[c];
+            }
+        }
+        double[] sequential = m.multiply(x);
+        assertArrayEquals(expected, sequential, 1e-12);
+        for (int threads : new int[]{1, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double[] y = new double[n];
+                assertSame(y, m.multiply(x, y, pool));
+                assertArrayEquals(sequential, y, 0.0);
+                // The task tree can be run again
+                m.multiply(x, y, pool);
+                assertArrayEquals(sequential, y, 0.0);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid arguments throw exceptions")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.builder(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrix.builder(2, 2).add(2, 0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+            () -> SparseMatrix.fromTriplets(2, 2, null, new int[1], new double[1], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> SparseMatrix.fromTriplets(2, 2, new int[]{0}, new int[]{5}, new double[1], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> SparseMatrix.fromTriplets(2, 2, new int[1], new int[1], new double[1], 2));
+
+        SparseMatrix m = SparseMatrix.builder(2, 3).add(0, 0, 1.0).build();
+        double[] x = new double[3];
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(x, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> m.multiply(x, new double[2], null));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.get(0, 3));
+    }
+}
@@ -0,0 +1,164 @@
+package com.yourcompany.math.matrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SparseSolver class.
+ */
+public class SparseSolverTest {
+
+    private static final double TOLERANCE = 1e-10;
+
+    /**
+     * Five-point Laplacian of a size x size grid plus a diagonal shift, symmetric positive
+     * definite and, for a positive shift, strictly diagonally dominant.
+     */
+    private static SparseMatrix laplacian(int size, double shift) {
+        int n = size * size;
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int i = y * size + x;
+                builder.add(i, i, 4.0 + shift);
+                if (x > 0) builder.add(i, i - 1, -1.0);
+                if (x < size - 1) builder.add(i, i + 1, -1.0);
+                if (y > 0) builder.add(i, i - size, -1.0);
+                if (y < size - 1) builder.add(i, i + size, -1.0);
+            }
+        }
+        return builder.build();
+    }
+
+    private static double[] rightHandSide(int n) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = Math.sin(i * 0.1) + 1.0;
+        }
+        return b;
+    }
+
+    private static double residual(SparseMatrix a, double[] b, double[] x) {
+        double[] ax = a.multiply(x);
+        double rr = 0.0, bb = 0.0;
+        for (int i = 0; i < b.length; i++) {
+            rr += (b[i] - ax[i]) * (b[i] - ax[i]);
+            bb += b[i] * b[i];
+        }
+        return Math.sqrt(rr / bb);
+    }
+
+    @Test
+    @DisplayName("Conjugate Gradient solves an SPD system")
+    void testConjugateGradient() {
+        SparseMatrix a = laplacian(40, 0.0);
+        double[] b = rightHandSide(a.getRows());
+        double[] x = new double[b.length];
+        SolverResult result = SparseSolver.conjugateGradient(a, b, x, TOLERANCE, 1000);
+        assertTrue(result.isConverged());
+        assertTrue(result.getIterations() > 0 && result.getIterations() < 200);
+        assertEquals(residual(a, b, x), result.getResidualNorm() / Math.sqrt(dotSelf(b)), 1e-12);
+        assertTrue(residual(a, b, x) < 1e-9);
+
+        // Starting from the solution needs no iterations
+        double[] again = x.clone();
+        SolverResult warm = SparseSolver.conjugateGradient(a, b, again, 1e-6, 1000);
+        assertTrue(warm.isConverged());
+        assertEquals(0, warm.getIterations());
+    }
+
+    @Test
+    @DisplayName("Parallel Conjugate Gradient matches the sequential solve")
+    void testParallelConjugateGradient() {
+        SparseMatrix a = laplacian(120, 0.0);
+        double[] b = rightHandSide(a.getRows());
+        double[] expected = new double[b.length];
+        SolverResult sequential = SparseSolver.conjugateGradient(a, b, expected, TOLERANCE, 2000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            double[] x = new double[b.length];
+            SolverResult parallel = SparseSolver.conjugateGradient(a, b, x, TOLERANCE, 2000, pool);
+            assertTrue(parallel.isConverged());
+            assertEquals(sequential.getIterations(), parallel.getIterations());
+            assertArrayEquals(expected, x, 0.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Jacobi and Gauss-Seidel solve a diagonally dominant system")
+    void testStationarySolvers() {
+        SparseMatrix a = laplacian(20, 1.0);
+        double[] b = rightHandSide(a.getRows());
+        double[] jacobi = new double[b.length];
+        double[] gaussSeidel = new double[b.length];
+        SolverResult j = SparseSolver.jacobi(a, b, jacobi, TOLERANCE, 1000);
+        SolverResult g = SparseSolver.gaussSeidel(a, b, gaussSeidel, TOLERANCE, 1000);
+        assertTrue(j.isConverged());
+        assertTrue(g.isConverged());
+        assertTrue(g.getIterations() < j.getIterations());
+        assertEquals(residual(a, b, jacobi), j.getResidualNorm() / Math.sqrt(dotSelf(b)), 1e-15);
+        assertTrue(residual(a, b, jacobi) <= TOLERANCE);
+        assertTrue(residual(a, b, gaussSeidel) <= TOLERANCE);
+        // Gauss-Seidel stops on the residuals of its sweeps but reports the true one
+        assertEquals(residual(a, b, gaussSeidel), g.getResidualNorm() / Math.sqrt(dotSelf(b)), 1e-15);
+        assertArrayEquals(jacobi, gaussSeidel, 1e-8);
+    }
+
+    @Test
+    @DisplayName("The iteration cap stops the solve without an exception")
+    void testIterationCap() {
+        SparseMatrix a = laplacian(30, 0.0);
+        double[] b = rightHandSide(a.getRows());
+        for (int cap : new int[]{0, 5}) {
+            double[] x = new double[b.length];
+            SolverResult cg = SparseSolver.conjugateGradient(a, b, x, TOLERANCE, cap);
+            assertFalse(cg.isConverged());
+            assertEquals(cap, cg.getIterations());
+            Arrays.fill(x, 0.0);
+            SolverResult jacobi = SparseSolver.jacobi(a, b, x, TOLERANCE, cap);
+            assertFalse(jacobi.isConverged());
+            assertEquals(cap, jacobi.getIterations());
+            // The last iterate is left in x
+            assertEquals(residual(a, b, x), jacobi.getResidualNorm() / Math.sqrt(dotSelf(b)), 1e-12);
+            Arrays.fill(x, 0.0);
+            SolverResult gaussSeidel = SparseSolver.gaussSeidel(a, b, x, TOLERANCE, cap);
+            assertFalse(gaussSeidel.isConverged());
+            assertEquals(cap, gaussSeidel.getIterations());
+            assertEquals(residual(a, b, x), gaussSeidel.getResidualNorm() / Math.sqrt(dotSelf(b)), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid arguments throw exceptions")
+    void testInvalidArguments() {
+        SparseMatrix a = laplacian(3, 0.0);
+        double[] b = new double[9];
+        double[] x = new double[9];
+        assertThrows(IllegalArgumentException.class, () -> SparseSolver.conjugateGradient(null, b, x, 1e-6, 10));
+        assertThrows(IllegalArgumentException.class, () -> SparseSolver.jacobi(a, b, new double[8], 1e-6, 10));
+        assertThrows(IllegalArgumentException.class, () -> SparseSolver.gaussSeidel(a, b, b, 1e-6, 10));
+        assertThrows(IllegalArgumentException.class, () -> SparseSolver.jacobi(a, b, x, -1.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> SparseSolver.jacobi(a, b, x, 1e-6, -1));
+        SparseMatrix rectangular = SparseMatrix.builder(2, 3).add(0, 0, 1.0).build();
+        assertThrows(IllegalArgumentException.class,
+            () -> SparseSolver.conjugateGradient(rectangular, new double[2], new double[3], 1e-6, 10));
+        SparseMatrix zeroDiagonal = SparseMatrix.builder(2, 2).add(0, 0, 1.0).add(1, 0, 1.0).build();
+        assertThrows(ArithmeticException.class,
+            () -> SparseSolver.gaussSeidel(zeroDiagonal, new double[2], new double[2], 1e-6, 10));
+    }
+
+    private static double dotSelf(double[] v) {
+        double s = 0.0;
+        for (double d : v) {
+            s += d * d;
+        }
+        return s;
+    }
+}
@@ -0,0 +1,130 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SymmetricEigenDecomposition class.
+ */
+public class SymmetricEigenDecompositionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static Matrix3x3 randomSymmetric(Random random) {
+        double a = random.nextDouble() - 0.5, b = random.nextDouble() - 0.5, c = random.nextDouble() - 0.5;
+        double d = random.nextDouble() - 0.5, e = random.nextDouble() - 0.5, f = random.nextDouble() - 0.5;
+        return new Matrix3x3(a, b, c, b, d, e, c, e, f);
+    }
+
+    private static void assertDecomposes(Matrix3x3 m, SymmetricEigenDecomposition eigen) {
+        Matrix3x3 v = eigen.getEigenvectors();
+        assertEquals(1.0, v.determinant(), EPSILON);
+        assertEquals(Matrix3x3.identity(), v.transpose().multiply(v));
+        for (int i = 0; i < 3; i++) {
+            Vector3 x = eigen.getEigenvector(i);
+            Vector3 mx = m.multiply(x);
+            double lambda = eigen.getEigenvalue(i);
+            assertEquals(lambda * x.getX(), mx.getX(), EPSILON);
+            assertEquals(lambda * x.getY(), mx.getY(), EPSILON);
+            assertEquals(lambda * x.getZ(), mx.getZ(), EPSILON);
+        }
+        assertTrue(eigen.getEigenvalue(0) >= eigen.getEigenvalue(1));
+        assertTrue(eigen.getEigenvalue(1) >= eigen.getEigenvalue(2));
+    }
+
+    @Test
+    @DisplayName("Random symmetric matrices are diagonalized")
+    void testRandom() {
+        Random random = new Random(11);
+        for (int t = 0; t < 1000; t++) {
+            Matrix3x3 m = randomSymmetric(random);
+            assertDecomposes(m, SymmetricEigenDecomposition.of(m));
+        }
+    }
+
+    @Test
+    @DisplayName("Diagonal, repeated and zero eigenvalues")
+    void testSpecialCases() {
+        SymmetricEigenDecomposition identity = SymmetricEigenDecomposition.of(Matrix3x3.identity());
+        assertEquals(new Vector3(1, 1, 1), identity.getEigenvalues());
+        assertEquals(Matrix3x3.identity(), identity.getEigenvectors());
+
+        Matrix3x3 diagonal = new Matrix3x3(1, 0, 0, 0, 3, 0, 0, 0, 2);
+        SymmetricEigenDecomposition sorted = SymmetricEigenDecomposition.of(diagonal);
+        assertEquals(new Vector3(3, 2, 1), sorted.getEigenvalues());
+        assertDecomposes(diagonal, sorted);
+
+        // Two equal eigenvalues: 2, 2 and 5
+        Matrix3x3 repeated = new Matrix3x3(3, 1, 1, 1, 3, 1, 1, 1, 3);
+        SymmetricEigenDecomposition r = SymmetricEigenDecomposition.of(repeated);
+        assertEquals(new Vector3(5, 2, 2), r.getEigenvalues());
+        assertDecomposes(repeated, r);
+
+        assertEquals(new Vector3(0, 0, 0), SymmetricEigenDecomposition.of(Matrix3x3.zero()).getEigenvalues());
+        assertThrows(IllegalArgumentException.class, () -> SymmetricEigenDecomposition.of(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> r.getEigenvalue(3));
+    }
+
+    @Test
+    @DisplayName("Only the upper triangle is read")
+    void testUpperTriangle() {
+        Matrix3x3 full = new Matrix3x3(2, 1, 0, 1, 2, 1, 0, 1, 2);
+        Matrix3x3 upper = new Matrix3x3(2, 1, 0, 9, 2, 1, 9, 9, 2);
+        assertEquals(SymmetricEigenDecomposition.of(full).getEigenvalues(),
+            SymmetricEigenDecomposition.of(upper).getEigenvalues());
+    }
+
+    @Test
+    @DisplayName("Normal of a planar point neighborhood")
+    void testNormalEstimation() {
+        // Covariance of points spread in the plane with normal (1, 2, 2) / 3
+        Vector3 n = new Vector3(1, 2, 2).normalize();
+        Vector3 u = new Vector3(2, -1, 0).normalize();
+        Vector3 w = n.crossProduct(u);
+        double[] c = new double[9];
+        Random random = new Random(3);
+        for (int p = 0; p < 200; p++) {
+            Vector3 q = u.multiply(random.nextGaussian()).add(w.multiply(2 * random.nextGaussian()));
+            double[] x = {q.getX(), q.getY(), q.getZ()};
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 3; j++) {
+                    c[3 * i + j] += x[i] * x[j];
+                }
+            }
+        }
+        double[] normal = new double[3];
+        SymmetricEigenDecomposition.smallestEigenvectors(c, 0, normal, 0, 1);
+        assertEquals(1.0, Math.abs(normal[0] * n.getX() + normal[1] * n.getY() + normal[2] * n.getZ()), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Batch decomposition matches single decompositions")
+    void testBatch() {
+        Random random = new Random(5);
+        int count = 50;
+        double[] src = new double[1 + 9 * count];
+        for (int i = 0; i < count; i++) {
+            randomSymmetric(random).toArray(src, 1 + 9 * i);
+        }
+        double[] values = new double[3 * count];
+        double[] vectors = new double[2 + 9 * count];
+        double[] smallest = new double[3 * count];
+        SymmetricEigenDecomposition.decompose(src, 1, values, 0, vectors, 2, count);
+        SymmetricEigenDecomposition.smallestEigenvectors(src, 1, smallest, 0, count);
+        for (int i = 0; i < count; i++) {
+            SymmetricEigenDecomposition eigen = SymmetricEigenDecomposition.of(Matrix3x3.fromArray(src, 1 + 9 * i));
+            assertEquals(eigen.getEigenvalues(), new Vector3(values[3 * i], values[3 * i + 1], values[3 * i + 2]));
+            assertEquals(eigen.getEigenvectors(), Matrix3x3.fromArray(vectors, 2 + 9 * i));
+            assertEquals(eigen.getEigenvector(2), new Vector3(smallest[3 * i], smallest[3 * i + 1], smallest[3 * i + 2]));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> SymmetricEigenDecomposition.decompose(src, 0, null, 0, vectors, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> SymmetricEigenDecomposition.smallestEigenvectors(src, 1, smallest, 1, count));
+    }
+}
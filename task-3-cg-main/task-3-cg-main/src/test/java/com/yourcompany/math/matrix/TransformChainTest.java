@@ -0,0 +1,160 @@
+package com.yourcompany.math.matrix;
+
+import com.yourcompany.math.vector.Vector3Buffer;
+import com.yourcompany.math.vector.Vector4;
+import com.yourcompany.math.vector.Vector4Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the TransformChain class.
+ */
+public class TransformChainTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Matrix4x4 MODEL = new Matrix4x4(
+        0.0, -1.0, 0.0, 5.0,
+        1.0, 0.0, 0.0, -2.0,
+        0.0, 0.0, 2.0, 1.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    private static final Matrix4x4 VIEW = new Matrix4x4(
+        1.0, 0.0, 0.0, 0.0,
+        0.0, 0.8, -0.6, 3.0,
+        0.0, 0.6, 0.8, -10.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    private static final Matrix4x4 PROJECTION = new Matrix4x4(
+        1.5, 0.0, 0.0, 0.0,
+        0.0, 2.0, 0.0, 0.0,
+        0.0, 0.0, -1.2, -2.2,
+        0.0, 0.0, -1.0, 0.0);
+
+    private static void assertMatrixEquals(Matrix4x4 expected, Matrix4x4 actual) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                assertEquals(expected.get(r, c), actual.get(r, c), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Fused matrix is the product in application order")
+    void testFusedOrder() {
+        TransformChain chain = new TransformChain().then(MODEL).then(VIEW).then(PROJECTION);
+        assertEquals(3, chain.size());
+        assertMatrixEquals(PROJECTION.multiply(VIEW).multiply(MODEL), chain.fused());
+        assertFalse(chain.isAffine());
+
+        Vector4 v = new Vector4(1.0, 2.0, 3.0, 1.0);
+        Vector4 expected = PROJECTION.multiply(VIEW.multiply(MODEL.multiply(v)));
+        Vector4 actual = chain.multiply(v);
+        assertEquals(expected.getX(), actual.getX(), EPSILON);
+        assertEquals(expected.getY(), actual.getY(), EPSILON);
+        assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+        assertEquals(expected.getW(), actual.getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Empty chain is the identity")
+    void testEmpty() {
+        TransformChain chain = new TransformChain();
+        assertEquals(Matrix4x4.identity(), chain.fused());
+        assertTrue(chain.isAffine());
+    }
+
+    @Test
+    @DisplayName("Affine chains fuse to an exactly affine matrix")
+    void testAffineFastPath() {
+        TransformChain chain = new TransformChain(MODEL, VIEW);
+        assertTrue(chain.isAffine());
+        Matrix4x4 fused = chain.fused();
+        assertMatrixEquals(VIEW.multiply(MODEL), fused);
+        assertEquals(0.0, fused.get(3, 0));
+        assertEquals(0.0, fused.get(3, 1));
+        assertEquals(0.0, fused.get(3, 2));
+        assertEquals(1.0, fused.get(3, 3));
+
+        double[] src = {1.0, 2.0, 3.0, 1.0, -4.0, 0.5, 2.0, 0.0};
+        double[] expected = new double[8];
+        double[] actual = new double[8];
+        VIEW.multiply(MODEL).transform(src, 0, expected, 0, 2);
+        chain.transform(src, 0, actual, 0, 2);
+        assertArrayEquals(expected, actual, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Fused result is cached until a stage changes")
+    void testCaching() {
+        TransformChain chain = new TransformChain(MODEL, VIEW);
+        Matrix4x4 first = chain.fused();
+        assertSame(first, chain.fused());
+
+        chain.set(1, VIEW);
+        assertSame(first, chain.fused());
+
+        chain.then(PROJECTION);
+        Matrix4x4 second = chain.fused();
+        assertNotSame(first, second);
+        assertFalse(chain.isAffine());
+        assertMatrixEquals(PROJECTION.multiply(VIEW).multiply(MODEL), second);
+
+        chain.set(2, Matrix4x4.identity());
+        assertTrue(chain.isAffine());
+        assertMatrixEquals(first, chain.fused());
+
+        chain.remove(0);
+        assertMatrixEquals(VIEW, chain.fused());
+        chain.clear();
+        assertEquals(0, chain.size());
+        assertEquals(Matrix4x4.identity(), chain.fused());
+    }
+
+    @Test
+    @DisplayName("Batch transforms match the fused matrix")
+    void testBatchTransforms() {
+        TransformChain chain = new TransformChain(MODEL, VIEW, PROJECTION);
+        Matrix4x4 m = PROJECTION.multiply(VIEW).multiply(MODEL);
+        double[] points = {1.0, 2.0, 3.0, -1.0, 0.5, 4.0};
+        double[] expected = new double[6];
+        double[] actual = new double[6];
+        m.transformPoints(points, 0, expected, 0, 2);
+        chain.transformPoints(points, 0, actual, 0, 2);
+        assertArrayEquals(expected, actual, EPSILON);
+        m.transformDirections(points, 0, expected, 0, 2);
+        chain.transformDirections(points, 0, actual, 0, 2);
+        assertArrayEquals(expected, actual, EPSILON);
+
+        Vector3Buffer buffer = new Vector3Buffer(2);
+        buffer.set(0, 1.0, 2.0, 3.0);
+        buffer.set(1, -1.0, 0.5, 4.0);
+        Vector3Buffer out = new Vector3Buffer(2);
+        chain.transformDirections(buffer, 0, out, 0, 2);
+        assertEquals(expected[3], out.get(1).getX(), EPSILON);
+        chain.transformPoints(buffer, 0, out, 0, 2);
+        m.transformPoints(points, 0, expected, 0, 2);
+        assertEquals(expected[5], out.get(1).getZ(), EPSILON);
+
+        Vector4Buffer buffer4 = new Vector4Buffer(1);
+        buffer4.set(0, 1.0, 2.0, 3.0, 1.0);
+        Vector4Buffer out4 = new Vector4Buffer(1);
+        chain.transform(buffer4, 0, out4, 0, 1);
+        assertEquals(m.multiply(new Vector4(1.0, 2.0, 3.0, 1.0)).getW(), out4.get(0).getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        TransformChain chain = new TransformChain(MODEL);
+        assertThrows(IllegalArgumentException.class, () -> chain.then(null));
+        assertThrows(IllegalArgumentException.class, () -> chain.set(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new TransformChain((Matrix4x4[]) null));
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.set(1, VIEW));
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.remove(1));
+        assertThrows(IllegalArgumentException.class, () -> chain.transform(null, 0, new double[4], 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.transform(new double[4], 1, new double[4], 0, 1));
+    }
+}
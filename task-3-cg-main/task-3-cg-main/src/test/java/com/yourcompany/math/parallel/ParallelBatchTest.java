@@ -0,0 +1,270 @@
+package com.yourcompany.math.parallel;
+
+import com.yourcompany.math.geometry.BoundingBox;
+import com.yourcompany.math.matrix.BatchSolver;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.Vector3;
+import com.yourcompany.math.vector.Vector3Buffer;
+import com.yourcompany.math.vector.Vector4Buffer;
+import com.yourcompany.math.kernel.Precision;
+import com.yourcompany.math.kernel.Normalization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the fork-join batch operations.
+ */
+public class ParallelBatchTest {
+
+    private static final double EPSILON = 1e-10;
+    private static final int SIZE = 10_007;
+
+    private static final Matrix4x4 AFFINE = new Matrix4x4(
+        0.8, -0.6, 0.0, 10.0,
+        0.6, 0.8, 0.0, -5.0,
+        0.0, 0.0, 1.0, 2.0,
+        0.0, 0.0, 0.0, 1.0);
+
+    private static Vector3Buffer randomPoints(int size, long seed) {
+        Random random = new Random(seed);
+        Vector3Buffer points = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            points.set(i, random.nextDouble() * 100 - 50, random.nextDouble() * 100 - 50, random.nextDouble() * 100 - 50);
+        }
+        return points;
+    }
+
+    @Test
+    @DisplayName("Buffer transforms match the sequential kernels")
+    void testBufferTransforms() {
+        ParallelBatch batch = new ParallelBatch(ForkJoinPool.commonPool(), 100);
+        Vector3Buffer points = randomPoints(SIZE, 1);
+        Vector3Buffer expected = new Vector3Buffer(SIZE);
+        Vector3Buffer actual = new Vector3Buffer(SIZE);
+
+        AFFINE.transformPoints(points, 0, expected, 0, SIZE);
+        batch.transformPoints(AFFINE, points, 0, actual, 0, SIZE);
+        assertArrayEquals(expected.xArray(), actual.xArray(), 0.0);
+        assertArrayEquals(expected.zArray(), actual.zArray(), 0.0);
+
+        AFFINE.transformDirections(points, 1, expected, 0, SIZE - 1);
+        batch.transformDirections(AFFINE, points, 1, actual, 0, SIZE - 1);
+        assertArrayEquals(expected.yArray(), actual.yArray(), 0.0);
+
+        Vector4Buffer v = new Vector4Buffer(points.xArray(), points.yArray(), points.zArray(), points.xArray().clone());
+        Vector4Buffer v4Expected = new Vector4Buffer(SIZE);
+        Vector4Buffer v4Actual = new Vector4Buffer(SIZE);
+        AFFINE.transform(v, 0, v4Expected, 0, SIZE);
+        batch.transform(AFFINE, v, 0, v4Actual, 0, SIZE);
+        assertArrayEquals(v4Expected.wArray(), v4Actual.wArray(), 0.0);
+        assertArrayEquals(v4Expected.xArray(), v4Actual.xArray(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Packed transforms match the sequential kernels, including in place")
+    void testPackedTransforms() {
+        ParallelBatch batch = new ParallelBatch(ForkJoinPool.commonPool(), 64);
+        Random random = new Random(2);
+        double[] packed = new double[3 * SIZE];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = random.nextDouble();
+        }
+        double[] expected = new double[packed.length];
+        AFFINE.transformPoints(packed, 0, expected, 0, SIZE);
+        double[] inPlace = packed.clone();
+        batch.transformPoints(AFFINE, inPlace, 0, inPlace, 0, SIZE);
+        assertArrayEquals(expected, inPlace, 0.0);
+
+        expected = new double[packed.length];
+        AFFINE.transformDirections(packed, 3, expected, 0, SIZE - 1);
+        double[] actual = new double[packed.length];
+        batch.transformDirections(AFFINE, packed, 3, actual, 0, SIZE - 1);
+        assertArrayEquals(expected, actual, 0.0);
+    }
+
+    @Test
+    @DisplayName("Reductions are correct")
+    void testReductions() {
+        Vector3Buffer points = Vector3Buffer.of(
+            new Vector3(1.0, 2.0, 3.0),
+            new Vector3(-1.0, 4.0, 0.0),
+            new Vector3(3.0, 0.0, -3.0));
+        ParallelBatch batch = new ParallelBatch(ForkJoinPool.commonPool(), 1);
+        BoundingBox box = batch.boundingBox(points);
+        assertEquals(new Vector3(-1.0, 0.0, -3.0), box.getMin());
+        assertEquals(new Vector3(3.0, 4.0, 3.0), box.getMax());
+        Vector3 centroid = batch.centroid(points);
+        assertEquals(1.0, centroid.getX(), EPSILON);
+        assertEquals(2.0, centroid.getY(), EPSILON);
+        assertEquals(0.0, centroid.getZ(), EPSILON);
+        assertEquals(14.0 + 17.0 + 18.0, batch.sumOfSquaredLengths(points), EPSILON);
+        assertEquals(0.0, batch.sumOfSquaredLengths(new Vector3Buffer(0)));
+    }
+
+    @Test
+    @DisplayName("Reductions are bit-identical for any number of threads")
+    void testDeterministicReductions() {
+        Vector3Buffer points = randomPoints(SIZE, 3);
+        double sum = 0.0;
+        Vector3 centroid = null;
+        BoundingBox box = null;
+        for (int threads : new int[]{1, 2, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelBatch batch = new ParallelBatch(pool, 257);
+                for (int run = 0; run < 3; run++) {
+                    double s = batch.sumOfSquaredLengths(points);
+                    Vector3 c = batch.centroid(points);
+                    BoundingBox b = batch.boundingBox(points);
+                    if (centroid == null) {
+                        sum = s;
+                        centroid = c;
+                        box = b;
+                    }
+                    assertEquals(Double.doubleToRawLongBits(sum), Double.doubleToRawLongBits(s));
+                    assertEquals(centroid, c);
+                    assertEquals(box, b);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Batch solves match the sequential solver")
+    void testBatchSolve() {
+        Random random = new Random(5);
+        double[] a3 = new double[9 * SIZE];
+        double[] b3 = new double[3 * SIZE];
+        double[] a4 = new double[16 * SIZE];
+        double[] b4 = new double[4 * SIZE];
+        for (int i = 0; i < a3.length; i++) {
+            a3[i] = random.nextDouble() - 0.5;
+        }
+        for (int i = 0; i < a4.length; i++) {
+            a4[i] = random.nextDouble() - 0.5;
+        }
+        for (int i = 0; i < b4.length; i++) {
+            b4[i] = random.nextDouble();
+        }
+        System.arraycopy(b4, 0, b3, 0, b3.length);
+        // A zero matrix in each batch
+        for (int e = 0; e < 9; e++) {
+            a3[e * SIZE + 123] = 0.0;
+        }
+        for (int e = 0; e < 16; e++) {
+            a4[e * SIZE + 4567] = 0.0;
+        }
+
+        double[] expected = new double[4 * SIZE];
+        byte[] expectedStatus = new byte[SIZE];
+        double[] actual = new double[4 * SIZE];
+        byte[] status = new byte[SIZE];
+        for (int threads : new int[]{1, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelBatch batch = new ParallelBatch(pool, 100);
+                assertEquals(BatchSolver.solve3(a3, b3, expected, expectedStatus, SIZE),
+                    batch.solve3(a3, b3, actual, status, SIZE));
+                assertArrayEquals(expected, actual, 0.0);
+                assertArrayEquals(expectedStatus, status);
+                assertEquals(BatchSolver.SINGULAR, status[123]);
+
+                assertEquals(1, BatchSolver.solve4(a4, b4, expected, expectedStatus, SIZE));
+                assertEquals(1, batch.solve4(a4, b4, actual, status, SIZE));
+                assertArrayEquals(expected, actual, 0.0);
+                assertArrayEquals(expectedStatus, status);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        ParallelBatch batch = new ParallelBatch(ForkJoinPool.commonPool(), 100);
+        assertThrows(IllegalArgumentException.class, () -> batch.solve3(a3, null, actual, status, SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.solve4(a3, b4, actual, status, SIZE));
+        assertEquals(0, batch.solve3(a3, b3, actual, status, 0));
+    }
+
+    @Test
+    @DisplayName("Empty buffers and invalid arguments throw exceptions")
+    void testInvalidArguments() {
+        ParallelBatch batch = ParallelBatch.commonPool();
+        Vector3Buffer buffer = new Vector3Buffer(4);
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatch(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatch(ForkJoinPool.commonPool(), 0));
+        assertThrows(ArithmeticException.class, () -> batch.centroid(new Vector3Buffer(0)));
+        assertThrows(ArithmeticException.class, () -> batch.boundingBox(new Vector3Buffer(0)));
+        assertThrows(IllegalArgumentException.class, () -> batch.centroid(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> batch.transformPoints(null, buffer, 0, buffer, 0, 4));
+        assertThrows(IllegalArgumentException.class,
+            () -> batch.transformPoints(AFFINE, buffer, 0, buffer, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> batch.transformPoints(AFFINE, buffer, 1, buffer, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> batch.transformPoints(AFFINE, new double[9], 1, new double[9], 0, 3));
+    }
+
+    @Test
+    @DisplayName("Compensated reductions survive cancellation for any number of threads")
+    void testCompensatedReductions() {
+        int size = 3000;
+        Vector3Buffer points = new Vector3Buffer(size);
+        for (int i = 0; i < size; i += 3) {
+            points.set(i, 1e16, 1.0, 1e8);
+            points.set(i + 1, 1.0, 1e16, 1.0);
+            points.set(i + 2, -1e16, -1e16, -1e8);
+        }
+        Vector3 expected = new Vector3(1.0 / 3.0, 1.0 / 3.0, 1.0 / 3.0);
+        for (int threads : new int[]{1, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelBatch batch = new ParallelBatch(pool, 100, Precision.COMPENSATED);
+                assertEquals(Precision.COMPENSATED, batch.getPrecision());
+                Vector3 centroid = batch.centroid(points);
+                assertEquals(expected.getX(), centroid.getX(), 1e-15);
+                assertEquals(expected.getY(), centroid.getY(), 1e-15);
+                assertEquals(expected.getZ(), centroid.getZ(), 1e-15);
+                assertNotEquals(expected.getX(), new ParallelBatch(pool, 100).centroid(points).getX(), 1e-3);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // Squares of 1 + 2^-30 need the exact product to sum without loss
+        Vector3Buffer small = new Vector3Buffer(1000);
+        double e = 1.0 + 0x1p-30;
+        for (int i = 0; i < small.size(); i++) {
+            small.set(i, e, 0.0, 0.0);
+        }
+        ParallelBatch compensated = new ParallelBatch(ForkJoinPool.commonPool(), 64, Precision.COMPENSATED);
+        assertEquals(1000.0 * (1.0 + 0x1p-29) + 1000.0 * 0x1p-60, compensated.sumOfSquaredLengths(small), 0.0);
+        assertEquals(Precision.STANDARD, ParallelBatch.commonPool().getPrecision());
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatch(ForkJoinPool.commonPool(), 1, null));
+    }
+
+    @Test
+    @DisplayName("Parallel normalization matches the buffer kernel")
+    void testNormalize() {
+        ParallelBatch batch = new ParallelBatch(ForkJoinPool.commonPool(), 100);
+        Vector3Buffer points = randomPoints(SIZE, 5);
+        points.set(17, 0.0, 0.0, 0.0);
+        points.set(SIZE - 1, 0.0, 0.0, 0.0);
+        Vector3 fallback = new Vector3(0.0, 0.0, 1.0);
+        for (Normalization normalization : Normalization.values()) {
+            Vector3Buffer expected = points.normalize(new Vector3Buffer(SIZE), normalization, fallback);
+            Vector3Buffer actual = new Vector3Buffer(SIZE);
+            batch.normalize(points, 0, actual, 0, SIZE, normalization, fallback);
+            assertArrayEquals(expected.xArray(), actual.xArray(), 0.0);
+            assertArrayEquals(expected.zArray(), actual.zArray(), 0.0);
+            assertEquals(fallback, actual.get(17));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> batch.normalize(points, 0, points, 0, SIZE, null, fallback));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> batch.normalize(points, 1, points, 0, SIZE, Normalization.EXACT, fallback));
+    }
+}
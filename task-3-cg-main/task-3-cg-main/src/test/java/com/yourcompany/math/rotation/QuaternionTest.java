@@ -0,0 +1,175 @@
+package com.yourcompany.math.rotation;
+
+import com.yourcompany.math.matrix.Matrix3x3;
+import com.yourcompany.math.matrix.Matrix4x4;
+import com.yourcompany.math.vector.MutableVector3;
+import com.yourcompany.math.vector.Vector3;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive test suite for Quaternion class.
+ */
+public class QuaternionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Vector3 X_AXIS = new Vector3(1.0, 0.0, 0.0);
+    private static final Vector3 Z_AXIS = new Vector3(0.0, 0.0, 1.0);
+
+    private static void assertVectorEquals(Vector3 expected, Vector3 actual) {
+        assertEquals(expected.getX(), actual.getX(), EPSILON);
+        assertEquals(expected.getY(), actual.getY(), EPSILON);
+        assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+    }
+
+    private static void assertSameRotation(Quaternion expected, Quaternion actual) {
+        // q and -q represent the same rotation
+        assertEquals(1.0, Math.abs(expected.dot(actual)), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Identity leaves vectors unchanged")
+    void testIdentity() {
+        Quaternion q = Quaternion.identity();
+        assertEquals(1.0, q.getW(), EPSILON);
+        assertEquals(new Vector3(1.0, 2.0, 3.0), q.rotate(new Vector3(1.0, 2.0, 3.0)));
+    }
+
+    @Test
+    @DisplayName("Axis-angle rotation of a vector")
+    void testFromAxisAngle() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(0.0, 0.0, 5.0), Math.PI / 2);
+        assertEquals(1.0, q.length(), EPSILON);
+        assertVectorEquals(new Vector3(0.0, 1.0, 0.0), q.rotate(X_AXIS));
+        assertVectorEquals(new Vector3(-1.0, 0.0, 0.0), q.rotate(new Vector3(0.0, 1.0, 0.0)));
+        MutableVector3 dst = new MutableVector3();
+        assertSame(dst, q.rotate(X_AXIS, dst));
+        assertVectorEquals(new Vector3(0.0, 1.0, 0.0), dst.toVector3());
+    }
+
+    @Test
+    @DisplayName("Multiply composes rotations right to left")
+    void testMultiply() {
+        Quaternion aboutZ = Quaternion.fromAxisAngle(Z_AXIS, Math.PI / 2);
+        Quaternion aboutX = Quaternion.fromAxisAngle(X_AXIS, Math.PI / 2);
+        Quaternion composed = aboutX.multiply(aboutZ);
+        Vector3 v = new Vector3(1.0, 2.0, 3.0);
+        assertVectorEquals(aboutX.rotate(aboutZ.rotate(v)), composed.rotate(v));
+        assertVectorEquals(aboutX.toMatrix3x3().multiply(aboutZ.toMatrix3x3()).multiply(v), composed.rotate(v));
+    }
+
+    @Test
+    @DisplayName("Conjugate and inverse undo a rotation")
+    void testConjugateInverse() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(1.0, 1.0, 0.0), 0.7);
+        Vector3 v = new Vector3(1.0, -2.0, 0.5);
+        assertVectorEquals(v, q.conjugate().rotate(q.rotate(v)));
+        Quaternion scaled = new Quaternion(2.0 * q.getX(), 2.0 * q.getY(), 2.0 * q.getZ(), 2.0 * q.getW());
+        Quaternion product = scaled.multiply(scaled.inverse());
+        assertSameRotation(Quaternion.identity(), product);
+        assertThrows(ArithmeticException.class, () -> new Quaternion(0, 0, 0, 0).inverse());
+    }
+
+    @Test
+    @DisplayName("Normalize removes drift")
+    void testNormalize() {
+        Quaternion q = new Quaternion(0.0, 0.0, 3.0, 4.0).normalize();
+        assertEquals(new Quaternion(0.0, 0.0, 0.6, 0.8), q);
+        assertThrows(ArithmeticException.class, () -> new Quaternion(0, 0, 0, 0).normalize());
+
+        Quaternion step = Quaternion.fromAxisAngle(new Vector3(0.3, 1.0, -0.2), 0.01);
+        Quaternion accumulated = Quaternion.identity();
+        for (int i = 0; i < 10000; i++) {
+            accumulated = accumulated.multiply(step).normalize();
+        }
+        assertEquals(1.0, accumulated.length(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Matrix conversions round trip")
+    void testMatrixConversions() {
+        Quaternion[] rotations = {
+            Quaternion.fromAxisAngle(new Vector3(1.0, 2.0, 3.0), 0.4),
+            Quaternion.fromAxisAngle(X_AXIS, Math.PI),
+            Quaternion.fromAxisAngle(new Vector3(0.0, 1.0, 0.0), 3.0),
+            Quaternion.fromAxisAngle(Z_AXIS, -2.9)
+        };
+        Vector3 v = new Vector3(0.5, -1.0, 2.0);
+        for (Quaternion q : rotations) {
+            Matrix3x3 m = q.toMatrix3x3();
+            assertVectorEquals(q.rotate(v), m.multiply(v));
+            assertSameRotation(q, Quaternion.fromMatrix(m));
+            Matrix4x4 m4 = q.toMatrix4x4();
+            assertTrue(m4.isAffine());
+            assertSameRotation(q, Quaternion.fromMatrix(m4));
+        }
+    }
+
+    @Test
+    @DisplayName("Slerp keeps constant angular speed and takes the short arc")
+    void testSlerp() {
+        Quaternion a = Quaternion.identity();
+        Quaternion b = Quaternion.fromAxisAngle(Z_AXIS, Math.PI / 2);
+        assertSameRotation(Quaternion.fromAxisAngle(Z_AXIS, Math.PI / 8), a.slerp(b, 0.25));
+        assertSameRotation(a, a.slerp(b, 0.0));
+        assertSameRotation(b, a.slerp(b, 1.0));
+
+        Quaternion negated = new Quaternion(-b.getX(), -b.getY(), -b.getZ(), -b.getW());
+        assertSameRotation(Quaternion.fromAxisAngle(Z_AXIS, Math.PI / 4), a.slerp(negated, 0.5));
+
+        Quaternion tiny = Quaternion.fromAxisAngle(Z_AXIS, 1e-6);
+        assertEquals(1.0, a.slerp(tiny, 0.5).length(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Nlerp matches slerp at the midpoint")
+    void testNlerp() {
+        Quaternion a = Quaternion.fromAxisAngle(X_AXIS, 0.2);
+        Quaternion b = Quaternion.fromAxisAngle(X_AXIS, 1.4);
+        assertSameRotation(a.slerp(b, 0.5), a.nlerp(b, 0.5));
+        assertEquals(1.0, a.nlerp(b, 0.3).length(), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> a.nlerp(null, 0.5));
+    }
+
+    @Test
+    @DisplayName("Batch rotation of packed coordinates matches single rotation")
+    void testBatchRotate() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(1.0, -1.0, 2.0), 1.1);
+        double[] src = {9.0, 1.0, 2.0, 3.0, -4.0, 0.5, 6.0};
+        double[] dst = new double[8];
+        q.rotate(src, 1, dst, 2, 2);
+        Vector3 first = q.rotate(new Vector3(1.0, 2.0, 3.0));
+        Vector3 second = q.rotate(new Vector3(-4.0, 0.5, 6.0));
+        assertVectorEquals(first, new Vector3(dst[2], dst[3], dst[4]));
+        assertVectorEquals(second, new Vector3(dst[5], dst[6], dst[7]));
+        q.rotate(src, 1, src, 1, 2);
+        assertVectorEquals(first, new Vector3(src[1], src[2], src[3]));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        Quaternion q = Quaternion.identity();
+        assertThrows(IllegalArgumentException.class, () -> Quaternion.fromAxisAngle(null, 1.0));
+        assertThrows(ArithmeticException.class, () -> Quaternion.fromAxisAngle(new Vector3(0, 0, 0), 1.0));
+        assertThrows(IllegalArgumentException.class, () -> Quaternion.fromMatrix((Matrix3x3) null));
+        assertThrows(IllegalArgumentException.class, () -> q.multiply(null));
+        assertThrows(IllegalArgumentException.class, () -> q.rotate((Vector3) null));
+        assertThrows(IllegalArgumentException.class, () -> q.rotate(null, 0, new double[3], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> q.rotate(new double[3], 0, new double[3], 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> q.rotate(new double[3], 1, new double[3], 0, 1));
+    }
+
+    @Test
+    @DisplayName("Equality, hash code and string form")
+    void testEqualsHashCodeToString() {
+        Quaternion a = new Quaternion(0.1, 0.2, 0.3, 0.4);
+        Quaternion b = new Quaternion(0.1, 0.2, 0.3, 0.4);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new Quaternion(-0.1, -0.2, -0.3, -0.4));
+        assertEquals("Quaternion(0.1000, 0.2000, 0.3000, 0.4000)", a.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the off-heap DirectVector4Buffer container.
+ */
+public class DirectVector4BufferTest {
+
+    private static final Vector4 A = new Vector4(1.0, 2.0, 3.0, 4.0);
+    private static final Vector4 B = new Vector4(-5.0, 6.0, 0.5, 8.0);
+
+    @Test
+    @DisplayName("Constructor allocates zeroed direct memory in native order")
+    void testConstructor() {
+        DirectVector4Buffer buffer = new DirectVector4Buffer(3);
+        assertEquals(3, buffer.size());
+        assertEquals(new Vector4(0.0, 0.0, 0.0, 0.0), buffer.get(2));
+        ByteBuffer bytes = buffer.asByteBuffer();
+        assertTrue(bytes.isDirect());
+        assertEquals(ByteOrder.nativeOrder(), bytes.order());
+        assertEquals(3 * DirectVector4Buffer.BYTES, bytes.remaining());
+    }
+
+    @Test
+    @DisplayName("Invalid sizes throw exceptions")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectVector4Buffer(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DirectVector4Buffer(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Get and set round-trip")
+    void testGetSet() {
+        DirectVector4Buffer buffer = DirectVector4Buffer.of(A, B);
+        assertEquals(A, buffer.get(0));
+        assertEquals(B, buffer.get(1));
+        buffer.set(0, -5.0, 6.0, 0.5, 8.0);
+        assertEquals(B, buffer.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(2));
+        assertThrows(IllegalArgumentException.class, () -> buffer.set(0, null));
+    }
+
+    @Test
+    @DisplayName("Storage is interleaved and shared with the byte view")
+    void testSharedStorage() {
+        DirectVector4Buffer buffer = DirectVector4Buffer.of(A, B);
+        assertEquals(B.getX(), buffer.asDoubleBuffer().get(4), 0.0);
+        buffer.asByteBuffer().putDouble(4 * Double.BYTES, 42.0);
+        assertEquals(42.0, buffer.get(1).getX(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Wrapping keeps the byte order and starts at the position")
+    void testWrap() {
+        ByteBuffer bytes = ByteBuffer.allocateDirect(8 + 2 * DirectVector4Buffer.BYTES).order(ByteOrder.BIG_ENDIAN);
+        bytes.position(8);
+        bytes.putDouble(8, 7.0);
+        DirectVector4Buffer buffer = DirectVector4Buffer.wrap(bytes);
+        assertEquals(2, buffer.size());
+        assertEquals(7.0, buffer.get(0).getX(), 0.0);
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.asByteBuffer().order());
+        assertEquals(8, bytes.position());
+        assertThrows(IllegalArgumentException.class, () -> DirectVector4Buffer.wrap(ByteBuffer.allocate(DirectVector4Buffer.BYTES)));
+        assertThrows(IllegalArgumentException.class, () -> DirectVector4Buffer.wrap(ByteBuffer.allocateDirect(DirectVector4Buffer.BYTES + 1)));
+        assertThrows(IllegalArgumentException.class, () -> DirectVector4Buffer.wrap(null));
+    }
+
+    @Test
+    @DisplayName("Bulk copies to and from packed arrays")
+    void testBulkCopy() {
+        DirectVector4Buffer buffer = DirectVector4Buffer.of(A, B);
+        double[] packed = buffer.get(0, new double[2 * 4 + 1], 1, 2);
+        assertEquals(B.getX(), packed[1 + 4], 0.0);
+        DirectVector4Buffer copy = new DirectVector4Buffer(3);
+        copy.put(1, packed, 1, 2);
+        assertEquals(A, copy.get(1));
+        assertEquals(B, copy.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> copy.put(2, packed, 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> copy.get(0, new double[4], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> copy.get(0, null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> copy.put(0, packed, 0, -1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MutableVector2 and the destination overloads of Vector2.
+ */
+public class MutableVector2Test {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    @DisplayName("Default constructor creates zero vector")
+    void testDefaultConstructor() {
+        MutableVector2 v = new MutableVector2();
+        assertEquals(0.0, v.getX(), EPSILON);
+        assertEquals(0.0, v.getY(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Conversion to and from Vector2")
+    void testConversion() {
+        Vector2 original = new Vector2(1.0, 2.0);
+        MutableVector2 mutable = new MutableVector2(original);
+        assertEquals(original, mutable.toVector2());
+        mutable.setX(5.0);
+        assertEquals(new Vector2(5.0, 2.0), mutable.toVector2());
+        assertEquals(1.0, original.getX(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Set copies components and returns this")
+    void testSet() {
+        MutableVector2 v = new MutableVector2();
+        assertSame(v, v.set(3.0, 4.0));
+        assertEquals(5.0, v.length(), EPSILON);
+        MutableVector2 copy = new MutableVector2().set(v);
+        assertEquals(v.toVector2(), copy.toVector2());
+    }
+
+    @Test
+    @DisplayName("Conversion from null throws exception")
+    void testNull() {
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector2((Vector2) null));
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector2().set((Vector2) null));
+    }
+
+    @Test
+    @DisplayName("Destination overloads match allocating operations")
+    void testDestinationOverloads() {
+        Vector2 v1 = new Vector2(1.0, 2.0);
+        Vector2 v2 = new Vector2(4.0, 5.0);
+        MutableVector2 dst = new MutableVector2();
+
+        assertSame(dst, v1.add(v2, dst));
+        assertEquals(v1.add(v2), dst.toVector2());
+        assertEquals(v1.subtract(v2), v1.subtract(v2, dst).toVector2());
+        assertEquals(v1.multiply(2.5), v1.multiply(2.5, dst).toVector2());
+        assertEquals(v1.divide(4.0), v1.divide(4.0, dst).toVector2());
+        assertEquals(v1.normalize(), v1.normalize(dst).toVector2());
+    }
+
+    @Test
+    @DisplayName("Destination overloads validate arguments")
+    void testDestinationOverloadsInvalid() {
+        Vector2 v = new Vector2(1.0, 2.0);
+        MutableVector2 dst = new MutableVector2();
+        assertThrows(IllegalArgumentException.class, () -> v.add(v, null));
+        assertThrows(IllegalArgumentException.class, () -> v.subtract(null, dst));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0, dst));
+        assertThrows(ArithmeticException.class, () -> new Vector2(0.0, 0.0).normalize(dst));
+    }
+
+    @Test
+    @DisplayName("In-place operations match immutable operations and chain on one instance")
+    void testInPlaceOperations() {
+        Vector2 v1 = new Vector2(3.0, -4.0);
+        Vector2 v2 = new Vector2(0.5, 2.0);
+        MutableVector2 v = new MutableVector2(v1);
+        assertSame(v, v.add(v2));
+        assertEquals(v1.add(v2), v.toVector2());
+        assertEquals(v1, v.subtract(new MutableVector2(v2)).toVector2());
+        assertEquals(v1.multiply(2.5), v.multiply(2.5).toVector2());
+        assertEquals(v1, v.divide(2.5).toVector2());
+        assertEquals(v1.dotProduct(v2), v.dotProduct(v2), EPSILON);
+        assertEquals(v1.dotProduct(v2), v.dotProduct(new MutableVector2(v2)), EPSILON);
+        assertEquals(v1.normalize(), v.normalize().toVector2());
+        assertEquals(v1.add(v2).normalize(), new MutableVector2(v1).add(v2).normalize().toVector2());
+
+        assertThrows(IllegalArgumentException.class, () -> v.add((Vector2) null));
+        assertThrows(IllegalArgumentException.class, () -> v.dotProduct((MutableVector2) null));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0));
+        assertThrows(ArithmeticException.class, () -> new MutableVector2().normalize());
+    }
+}
@@ -0,0 +1,103 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MutableVector3 and the destination overloads of Vector3.
+ */
+public class MutableVector3Test {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    @DisplayName("Default constructor creates zero vector")
+    void testDefaultConstructor() {
+        MutableVector3 v = new MutableVector3();
+        assertEquals(0.0, v.getX(), EPSILON);
+        assertEquals(0.0, v.getY(), EPSILON);
+        assertEquals(0.0, v.getZ(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Conversion to and from Vector3")
+    void testConversion() {
+        Vector3 original = new Vector3(1.0, 2.0, 3.0);
+        MutableVector3 mutable = new MutableVector3(original);
+        assertEquals(original, mutable.toVector3());
+        mutable.setX(5.0);
+        assertEquals(new Vector3(5.0, 2.0, 3.0), mutable.toVector3());
+        assertEquals(1.0, original.getX(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Set copies components and returns this")
+    void testSet() {
+        MutableVector3 v = new MutableVector3();
+        assertSame(v, v.set(1.0, 2.0, 2.0));
+        assertEquals(3.0, v.length(), EPSILON);
+        MutableVector3 copy = new MutableVector3().set(v);
+        assertEquals(v.toVector3(), copy.toVector3());
+    }
+
+    @Test
+    @DisplayName("Conversion from null throws exception")
+    void testNull() {
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector3((Vector3) null));
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector3().set((Vector3) null));
+    }
+
+    @Test
+    @DisplayName("Destination overloads match allocating operations")
+    void testDestinationOverloads() {
+        Vector3 v1 = new Vector3(1.0, 2.0, 3.0);
+        Vector3 v2 = new Vector3(4.0, 5.0, 6.0);
+        MutableVector3 dst = new MutableVector3();
+
+        assertSame(dst, v1.add(v2, dst));
+        assertEquals(v1.add(v2), dst.toVector3());
+        assertEquals(v1.subtract(v2), v1.subtract(v2, dst).toVector3());
+        assertEquals(v1.multiply(2.5), v1.multiply(2.5, dst).toVector3());
+        assertEquals(v1.divide(4.0), v1.divide(4.0, dst).toVector3());
+        assertEquals(v1.normalize(), v1.normalize(dst).toVector3());
+        assertEquals(v1.crossProduct(v2), v1.crossProduct(v2, dst).toVector3());
+    }
+
+    @Test
+    @DisplayName("Destination overloads validate arguments")
+    void testDestinationOverloadsInvalid() {
+        Vector3 v = new Vector3(1.0, 2.0, 3.0);
+        MutableVector3 dst = new MutableVector3();
+        assertThrows(IllegalArgumentException.class, () -> v.add(v, null));
+        assertThrows(IllegalArgumentException.class, () -> v.crossProduct(null, dst));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0, dst));
+        assertThrows(ArithmeticException.class, () -> new Vector3(0.0, 0.0, 0.0).normalize(dst));
+    }
+
+    @Test
+    @DisplayName("In-place operations match immutable operations and chain on one instance")
+    void testInPlaceOperations() {
+        Vector3 v1 = new Vector3(1.0, 2.0, 3.0);
+        Vector3 v2 = new Vector3(4.0, -5.0, 6.0);
+        MutableVector3 v = new MutableVector3(v1);
+        assertSame(v, v.add(v2));
+        assertEquals(v1.add(v2), v.toVector3());
+        assertEquals(v1, v.subtract(new MutableVector3(v2)).toVector3());
+        assertEquals(v1.multiply(2.5), v.multiply(2.5).toVector3());
+        assertEquals(v1, v.divide(2.5).toVector3());
+        assertEquals(v1.dotProduct(v2), v.dotProduct(v2), EPSILON);
+        assertEquals(v1.dotProduct(v2), v.dotProduct(new MutableVector3(v2)), EPSILON);
+        assertEquals(v1.crossProduct(v2), v.crossProduct(v2).toVector3());
+        assertEquals(v1.crossProduct(v2).crossProduct(v1),
+            v.crossProduct(new MutableVector3(v1)).toVector3());
+        assertEquals(new Vector3(0.0, 0.0, 0.0), new MutableVector3(v1).crossProduct(new MutableVector3(v1)).toVector3());
+        assertEquals(v1.add(v2).normalize().crossProduct(v2),
+            new MutableVector3(v1).add(v2).normalize().crossProduct(v2).toVector3());
+
+        assertThrows(IllegalArgumentException.class, () -> v.add((Vector3) null));
+        assertThrows(IllegalArgumentException.class, () -> v.crossProduct((MutableVector3) null));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0));
+        assertThrows(ArithmeticException.class, () -> new MutableVector3().normalize());
+    }
+}
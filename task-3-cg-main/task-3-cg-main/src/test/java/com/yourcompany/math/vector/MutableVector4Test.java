@@ -0,0 +1,98 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MutableVector4 and the destination overloads of Vector4.
+ */
+public class MutableVector4Test {
+
+    private static final double EPSILON = 1e-10;
+
+    @Test
+    @DisplayName("Default constructor creates zero vector")
+    void testDefaultConstructor() {
+        MutableVector4 v = new MutableVector4();
+        assertEquals(0.0, v.getX(), EPSILON);
+        assertEquals(0.0, v.getY(), EPSILON);
+        assertEquals(0.0, v.getZ(), EPSILON);
+        assertEquals(0.0, v.getW(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Conversion to and from Vector4")
+    void testConversion() {
+        Vector4 original = new Vector4(1.0, 2.0, 3.0, 4.0);
+        MutableVector4 mutable = new MutableVector4(original);
+        assertEquals(original, mutable.toVector4());
+        mutable.setX(5.0);
+        assertEquals(new Vector4(5.0, 2.0, 3.0, 4.0), mutable.toVector4());
+        assertEquals(1.0, original.getX(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Set copies components and returns this")
+    void testSet() {
+        MutableVector4 v = new MutableVector4();
+        assertSame(v, v.set(1.0, 1.0, 1.0, 1.0));
+        assertEquals(2.0, v.length(), EPSILON);
+        MutableVector4 copy = new MutableVector4().set(v);
+        assertEquals(v.toVector4(), copy.toVector4());
+    }
+
+    @Test
+    @DisplayName("Conversion from null throws exception")
+    void testNull() {
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector4((Vector4) null));
+        assertThrows(IllegalArgumentException.class, () -> new MutableVector4().set((Vector4) null));
+    }
+
+    @Test
+    @DisplayName("Destination overloads match allocating operations")
+    void testDestinationOverloads() {
+        Vector4 v1 = new Vector4(1.0, 2.0, 3.0, 4.0);
+        Vector4 v2 = new Vector4(5.0, 6.0, 7.0, 8.0);
+        MutableVector4 dst = new MutableVector4();
+
+        assertSame(dst, v1.add(v2, dst));
+        assertEquals(v1.add(v2), dst.toVector4());
+        assertEquals(v1.subtract(v2), v1.subtract(v2, dst).toVector4());
+        assertEquals(v1.multiply(2.5), v1.multiply(2.5, dst).toVector4());
+        assertEquals(v1.divide(4.0), v1.divide(4.0, dst).toVector4());
+        assertEquals(v1.normalize(), v1.normalize(dst).toVector4());
+    }
+
+    @Test
+    @DisplayName("Destination overloads validate arguments")
+    void testDestinationOverloadsInvalid() {
+        Vector4 v = new Vector4(1.0, 2.0, 3.0, 4.0);
+        MutableVector4 dst = new MutableVector4();
+        assertThrows(IllegalArgumentException.class, () -> v.add(v, null));
+        assertThrows(IllegalArgumentException.class, () -> v.subtract(null, dst));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0, dst));
+        assertThrows(ArithmeticException.class, () -> new Vector4(0.0, 0.0, 0.0, 0.0).normalize(dst));
+    }
+
+    @Test
+    @DisplayName("In-place operations match immutable operations and chain on one instance")
+    void testInPlaceOperations() {
+        Vector4 v1 = new Vector4(1.0, 2.0, 3.0, 4.0);
+        Vector4 v2 = new Vector4(-5.0, 6.0, 0.5, 8.0);
+        MutableVector4 v = new MutableVector4(v1);
+        assertSame(v, v.add(v2));
+        assertEquals(v1.add(v2), v.toVector4());
+        assertEquals(v1, v.subtract(new MutableVector4(v2)).toVector4());
+        assertEquals(v1.multiply(2.5), v.multiply(2.5).toVector4());
+        assertEquals(v1, v.divide(2.5).toVector4());
+        assertEquals(v1.dotProduct(v2), v.dotProduct(v2), EPSILON);
+        assertEquals(v1.dotProduct(v2), v.dotProduct(new MutableVector4(v2)), EPSILON);
+        assertEquals(v1.normalize(), v.normalize().toVector4());
+
+        assertThrows(IllegalArgumentException.class, () -> v.subtract((Vector4) null));
+        assertThrows(IllegalArgumentException.class, () -> v.dotProduct((MutableVector4) null));
+        assertThrows(ArithmeticException.class, () -> v.divide(0.0));
+        assertThrows(ArithmeticException.class, () -> new MutableVector4().normalize());
+    }
+}
@@ -0,0 +1,80 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the single-precision Vector2f class.
+ */
+public class Vector2fTest {
+
+    private static final float EPSILON = 1e-6f;
+
+    @Test
+    @DisplayName("Addition and subtraction")
+    void testAddSubtract() {
+        Vector2f a = new Vector2f(1.0f, 2.0f);
+        Vector2f b = new Vector2f(4.0f, -5.0f);
+        assertEquals(new Vector2f(5.0f, -3.0f), a.add(b));
+        assertEquals(new Vector2f(-3.0f, 7.0f), a.subtract(b));
+    }
+
+    @Test
+    @DisplayName("Scalar multiplication and division")
+    void testMultiplyDivide() {
+        Vector2f a = new Vector2f(1.0f, 2.0f);
+        assertEquals(new Vector2f(2.0f, 4.0f), a.multiply(2.0f));
+        assertEquals(a, a.multiply(2.0f).divide(2.0f));
+        assertThrows(ArithmeticException.class, () -> a.divide(0.0f));
+    }
+
+    @Test
+    @DisplayName("Length, normalization and dot product")
+    void testLengthNormalizeDot() {
+        Vector2f a = new Vector2f(1.0f, 2.0f);
+        assertEquals((float) Math.sqrt(1.0 + 4.0), a.length(), EPSILON);
+        assertEquals(1.0f, a.normalize().length(), EPSILON);
+        assertEquals(-6.0f, a.dotProduct(new Vector2f(4.0f, -5.0f)), EPSILON);
+        assertThrows(ArithmeticException.class, () -> new Vector2f(0.0f, 0.0f).normalize());
+    }
+
+    @Test
+    @DisplayName("Length does not overflow for large components")
+    void testLengthLargeComponents() {
+        Vector2f v = new Vector2f(3e20f, 3e20f);
+        assertEquals((float) (3e20 * Math.sqrt(2)), v.length(), 1e15f);
+    }
+
+    @Test
+    @DisplayName("Widening is exact and narrowing rounds to float")
+    void testConversions() {
+        Vector2f f = new Vector2f(1.0f, 2.0f);
+        assertEquals(new Vector2(1.0, 2.0), f.toVector2());
+        Vector2 d = new Vector2(1.0 / 3.0, 0.1);
+        Vector2f narrowed = Vector2f.narrow(d);
+        assertEquals((float) (1.0 / 3.0), narrowed.getX());
+        assertEquals(narrowed, Vector2f.narrow(narrowed.toVector2()));
+    }
+
+    @Test
+    @DisplayName("Null arguments throw exceptions")
+    void testNullArguments() {
+        Vector2f a = new Vector2f(1.0f, 2.0f);
+        assertThrows(IllegalArgumentException.class, () -> a.add(null));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(null));
+        assertThrows(IllegalArgumentException.class, () -> a.dotProduct(null));
+        assertThrows(IllegalArgumentException.class, () -> new Vector2f(null));
+        assertThrows(IllegalArgumentException.class, () -> Vector2f.narrow(null));
+    }
+
+    @Test
+    @DisplayName("Equals and hashCode")
+    void testEqualsHashCode() {
+        Vector2f a = new Vector2f(1.0f, 2.0f);
+        Vector2f b = new Vector2f(a);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new Vector2f(4.0f, -5.0f));
+    }
+}
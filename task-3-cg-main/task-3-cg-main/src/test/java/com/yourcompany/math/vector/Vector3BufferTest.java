@@ -0,0 +1,128 @@
+package com.yourcompany.math.vector;
+
+import com.yourcompany.math.kernel.Normalization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the Vector3Buffer structure-of-arrays container.
+ */
+public class Vector3BufferTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Vector3 A = new Vector3(1.0, 2.0, 3.0);
+    private static final Vector3 B = new Vector3(4.0, -5.0, 6.0);
+    private static final Vector3 C = new Vector3(0.0, 3.0, 4.0);
+
+    @Test
+    @DisplayName("Constructor creates zero vectors")
+    void testConstructor() {
+        Vector3Buffer buffer = new Vector3Buffer(3);
+        assertEquals(3, buffer.size());
+        assertEquals(new Vector3(0.0, 0.0, 0.0), buffer.get(2));
+    }
+
+    @Test
+    @DisplayName("Negative size throws exception")
+    void testConstructorNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Vector3Buffer(-1));
+    }
+
+    @Test
+    @DisplayName("Wrapping arrays shares storage")
+    void testWrap() {
+        double[] x = {1.0, 2.0};
+        double[] y = {3.0, 4.0};
+        double[] z = {5.0, 6.0};
+        Vector3Buffer buffer = new Vector3Buffer(x, y, z);
+        assertEquals(new Vector3(2.0, 4.0, 6.0), buffer.get(1));
+        x[1] = 9.0;
+        assertEquals(9.0, buffer.get(1).getX(), EPSILON);
+        assertSame(x, buffer.xArray());
+        assertThrows(IllegalArgumentException.class, () -> new Vector3Buffer(x, y, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> new Vector3Buffer(x, null, z));
+    }
+
+    @Test
+    @DisplayName("Indexed get and set round trip")
+    void testGetSet() {
+        Vector3Buffer buffer = Vector3Buffer.of(A, B);
+        assertEquals(A, buffer.get(0));
+        buffer.set(0, 7.0, 8.0, 9.0);
+        assertEquals(new Vector3(7.0, 8.0, 9.0), buffer.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, A));
+        assertThrows(IllegalArgumentException.class, () -> buffer.set(0, null));
+    }
+
+    @Test
+    @DisplayName("Bulk kernels match per-vector operations")
+    void testKernels() {
+        Vector3Buffer left = Vector3Buffer.of(A, B, C);
+        Vector3Buffer right = Vector3Buffer.of(B, C, A);
+        Vector3Buffer dst = new Vector3Buffer(3);
+        double[] scalars = new double[3];
+
+        left.add(right, dst);
+        assertEquals(A.add(B), dst.get(0));
+        assertEquals(C.add(A), dst.get(2));
+
+        left.scale(2.5, dst);
+        assertEquals(B.multiply(2.5), dst.get(1));
+
+        left.cross(right, dst);
+        assertEquals(A.crossProduct(B), dst.get(0));
+        assertEquals(B.crossProduct(C), dst.get(1));
+
+        left.dot(right, scalars);
+        assertEquals(A.dotProduct(B), scalars[0], EPSILON);
+        assertEquals(C.dotProduct(A), scalars[2], EPSILON);
+
+        left.length(scalars);
+        assertEquals(5.0, scalars[2], EPSILON);
+
+        left.normalize(dst);
+        assertEquals(A.normalize().getX(), dst.get(0).getX(), EPSILON);
+        assertEquals(0.8, dst.get(2).getZ(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Kernels may write in place")
+    void testInPlace() {
+        Vector3Buffer buffer = Vector3Buffer.of(A, C);
+        buffer.cross(buffer, buffer);
+        assertEquals(new Vector3(0.0, 0.0, 0.0), buffer.get(0));
+        Vector3Buffer scaled = Vector3Buffer.of(A);
+        scaled.scale(2.0, scaled);
+        assertEquals(A.multiply(2.0), scaled.get(0));
+    }
+
+    @Test
+    @DisplayName("Kernels validate sizes and zero vectors")
+    void testKernelsInvalid() {
+        Vector3Buffer buffer = Vector3Buffer.of(A, new Vector3(0.0, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> buffer.add(new Vector3Buffer(3), new Vector3Buffer(2)));
+        assertThrows(IllegalArgumentException.class, () -> buffer.scale(1.0, null));
+        assertThrows(IllegalArgumentException.class, () -> buffer.length(new double[1]));
+        assertThrows(ArithmeticException.class, () -> buffer.normalize(new Vector3Buffer(2)));
+    }
+
+    @Test
+    @DisplayName("Normalize with a fallback does not throw on zero vectors")
+    void testNormalizeFallback() {
+        Vector3Buffer buffer = Vector3Buffer.of(new Vector3(0.0, 3.0, 4.0), new Vector3(0.0, 0.0, 0.0));
+        Vector3Buffer dst = new Vector3Buffer(2);
+        buffer.normalize(dst, Normalization.EXACT, new Vector3(0.0, 1.0, 0.0));
+        assertEquals(Vector3Buffer.of(new Vector3(0.0, 3.0, 4.0)).normalize(new Vector3Buffer(1)).get(0), dst.get(0));
+        assertEquals(new Vector3(0.0, 1.0, 0.0), dst.get(1));
+        buffer.normalize(buffer, Normalization.APPROXIMATE, new Vector3(0.0, 0.0, 0.0));
+        assertEquals(0.8, buffer.get(0).getZ(), 0.8 * Normalization.APPROXIMATE_ERROR);
+        assertEquals(new Vector3(0.0, 0.0, 0.0), buffer.get(1));
+        double[] lengths = Vector3Buffer.of(A, C).length(new double[2], Normalization.APPROXIMATE);
+        assertEquals(A.length(), lengths[0], A.length() * Normalization.APPROXIMATE_ERROR);
+        assertThrows(IllegalArgumentException.class, () -> buffer.normalize(dst, Normalization.EXACT, null));
+        assertThrows(IllegalArgumentException.class, () -> buffer.normalize(dst, null, new Vector3(0.0, 0.0, 1.0)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourcompany.math.vector;
 
+import com.yourcompany.math.kernel.Precision;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
@@ -247,5 +248,17 @@ public class Vector3Test {
         assertNotSame(original, added);
         assertNotSame(original, cross);
     }
-}
 
+    @Test
+    @DisplayName("Compensated dot product and length")
+    void testCompensatedPrecision() {
+        Vector3 a = new Vector3(1e16, 1.0, -1e16);
+        Vector3 ones = new Vector3(1.0, 1.0, 1.0);
+        assertEquals(0.0, a.dotProduct(ones, Precision.STANDARD));
+        assertEquals(1.0, a.dotProduct(ones, Precision.COMPENSATED));
+        assertEquals(5.0, new Vector3(3.0, 4.0, 0.0).length(Precision.COMPENSATED), EPSILON);
+        assertEquals(a.length(), a.length(Precision.STANDARD));
+        assertThrows(IllegalArgumentException.class, () -> a.dotProduct(null, Precision.COMPENSATED));
+        assertThrows(IllegalArgumentException.class, () -> a.length(null));
+    }
+}
@@ -0,0 +1,89 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the single-precision Vector3f class.
+ */
+public class Vector3fTest {
+
+    private static final float EPSILON = 1e-6f;
+
+    @Test
+    @DisplayName("Addition and subtraction")
+    void testAddSubtract() {
+        Vector3f a = new Vector3f(1.0f, 2.0f, 3.0f);
+        Vector3f b = new Vector3f(4.0f, -5.0f, 6.0f);
+        assertEquals(new Vector3f(5.0f, -3.0f, 9.0f), a.add(b));
+        assertEquals(new Vector3f(-3.0f, 7.0f, -3.0f), a.subtract(b));
+    }
+
+    @Test
+    @DisplayName("Scalar multiplication and division")
+    void testMultiplyDivide() {
+        Vector3f a = new Vector3f(1.0f, 2.0f, 3.0f);
+        assertEquals(new Vector3f(2.0f, 4.0f, 6.0f), a.multiply(2.0f));
+        assertEquals(a, a.multiply(2.0f).divide(2.0f));
+        assertThrows(ArithmeticException.class, () -> a.divide(0.0f));
+    }
+
+    @Test
+    @DisplayName("Length, normalization and dot product")
+    void testLengthNormalizeDot() {
+        Vector3f a = new Vector3f(1.0f, 2.0f, 3.0f);
+        assertEquals((float) Math.sqrt(1.0 + 4.0 + 9.0), a.length(), EPSILON);
+        assertEquals(1.0f, a.normalize().length(), EPSILON);
+        assertEquals(12.0f, a.dotProduct(new Vector3f(4.0f, -5.0f, 6.0f)), EPSILON);
+        assertThrows(ArithmeticException.class, () -> new Vector3f(0.0f, 0.0f, 0.0f).normalize());
+    }
+
+    @Test
+    @DisplayName("Length does not overflow for large components")
+    void testLengthLargeComponents() {
+        Vector3f v = new Vector3f(3e20f, 3e20f, 3e20f);
+        assertEquals((float) (3e20 * Math.sqrt(3)), v.length(), 1e15f);
+    }
+
+    @Test
+    @DisplayName("Cross product")
+    void testCrossProduct() {
+        Vector3f x = new Vector3f(1.0f, 0.0f, 0.0f);
+        Vector3f y = new Vector3f(0.0f, 1.0f, 0.0f);
+        assertEquals(new Vector3f(0.0f, 0.0f, 1.0f), x.crossProduct(y));
+        assertThrows(IllegalArgumentException.class, () -> x.crossProduct(null));
+    }
+
+    @Test
+    @DisplayName("Widening is exact and narrowing rounds to float")
+    void testConversions() {
+        Vector3f f = new Vector3f(1.0f, 2.0f, 3.0f);
+        assertEquals(new Vector3(1.0, 2.0, 3.0), f.toVector3());
+        Vector3 d = new Vector3(1.0 / 3.0, 0.1, 0.1);
+        Vector3f narrowed = Vector3f.narrow(d);
+        assertEquals((float) (1.0 / 3.0), narrowed.getX());
+        assertEquals(narrowed, Vector3f.narrow(narrowed.toVector3()));
+    }
+
+    @Test
+    @DisplayName("Null arguments throw exceptions")
+    void testNullArguments() {
+        Vector3f a = new Vector3f(1.0f, 2.0f, 3.0f);
+        assertThrows(IllegalArgumentException.class, () -> a.add(null));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(null));
+        assertThrows(IllegalArgumentException.class, () -> a.dotProduct(null));
+        assertThrows(IllegalArgumentException.class, () -> new Vector3f(null));
+        assertThrows(IllegalArgumentException.class, () -> Vector3f.narrow(null));
+    }
+
+    @Test
+    @DisplayName("Equals and hashCode")
+    void testEqualsHashCode() {
+        Vector3f a = new Vector3f(1.0f, 2.0f, 3.0f);
+        Vector3f b = new Vector3f(a);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new Vector3f(4.0f, -5.0f, 6.0f));
+    }
+}
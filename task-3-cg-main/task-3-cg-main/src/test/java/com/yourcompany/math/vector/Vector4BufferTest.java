@@ -0,0 +1,107 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the Vector4Buffer structure-of-arrays container.
+ */
+public class Vector4BufferTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final Vector4 A = new Vector4(1.0, 2.0, 3.0, 4.0);
+    private static final Vector4 B = new Vector4(4.0, -5.0, 6.0, -7.0);
+    private static final Vector4 C = new Vector4(0.0, 3.0, 4.0, 0.0);
+
+    @Test
+    @DisplayName("Constructor creates zero vectors")
+    void testConstructor() {
+        Vector4Buffer buffer = new Vector4Buffer(3);
+        assertEquals(3, buffer.size());
+        assertEquals(new Vector4(0.0, 0.0, 0.0, 0.0), buffer.get(2));
+    }
+
+    @Test
+    @DisplayName("Negative size throws exception")
+    void testConstructorNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Vector4Buffer(-1));
+    }
+
+    @Test
+    @DisplayName("Wrapping arrays shares storage")
+    void testWrap() {
+        double[] x = {1.0, 2.0};
+        double[] y = {3.0, 4.0};
+        double[] z = {5.0, 6.0};
+        double[] w = {7.0, 8.0};
+        Vector4Buffer buffer = new Vector4Buffer(x, y, z, w);
+        assertEquals(new Vector4(2.0, 4.0, 6.0, 8.0), buffer.get(1));
+        x[1] = 9.0;
+        assertEquals(9.0, buffer.get(1).getX(), EPSILON);
+        assertSame(x, buffer.xArray());
+        assertThrows(IllegalArgumentException.class, () -> new Vector4Buffer(x, y, z, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> new Vector4Buffer(x, null, z, w));
+    }
+
+    @Test
+    @DisplayName("Indexed get and set round trip")
+    void testGetSet() {
+        Vector4Buffer buffer = Vector4Buffer.of(A, B);
+        assertEquals(A, buffer.get(0));
+        buffer.set(0, 7.0, 8.0, 9.0, 1.0);
+        assertEquals(new Vector4(7.0, 8.0, 9.0, 1.0), buffer.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, A));
+        assertThrows(IllegalArgumentException.class, () -> buffer.set(0, null));
+    }
+
+    @Test
+    @DisplayName("Bulk kernels match per-vector operations")
+    void testKernels() {
+        Vector4Buffer left = Vector4Buffer.of(A, B, C);
+        Vector4Buffer right = Vector4Buffer.of(B, C, A);
+        Vector4Buffer dst = new Vector4Buffer(3);
+        double[] scalars = new double[3];
+
+        left.add(right, dst);
+        assertEquals(A.add(B), dst.get(0));
+        assertEquals(C.add(A), dst.get(2));
+
+        left.scale(2.5, dst);
+        assertEquals(B.multiply(2.5), dst.get(1));
+
+        left.dot(right, scalars);
+        assertEquals(A.dotProduct(B), scalars[0], EPSILON);
+        assertEquals(C.dotProduct(A), scalars[2], EPSILON);
+
+        left.length(scalars);
+        assertEquals(5.0, scalars[2], EPSILON);
+
+        left.normalize(dst);
+        assertEquals(A.normalize().getX(), dst.get(0).getX(), EPSILON);
+        assertEquals(0.8, dst.get(2).getZ(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Kernels may write in place")
+    void testInPlace() {
+        Vector4Buffer buffer = Vector4Buffer.of(A, C);
+        buffer.add(buffer, buffer);
+        assertEquals(C.multiply(2.0), buffer.get(1));
+        Vector4Buffer scaled = Vector4Buffer.of(A);
+        scaled.scale(2.0, scaled);
+        assertEquals(A.multiply(2.0), scaled.get(0));
+    }
+
+    @Test
+    @DisplayName("Kernels validate sizes and zero vectors")
+    void testKernelsInvalid() {
+        Vector4Buffer buffer = Vector4Buffer.of(A, new Vector4(0.0, 0.0, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> buffer.add(new Vector4Buffer(3), new Vector4Buffer(2)));
+        assertThrows(IllegalArgumentException.class, () -> buffer.scale(1.0, null));
+        assertThrows(IllegalArgumentException.class, () -> buffer.length(new double[1]));
+        assertThrows(ArithmeticException.class, () -> buffer.normalize(new Vector4Buffer(2)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.yourcompany.math.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the single-precision Vector4f class.
+ */
+public class Vector4fTest {
+
+    private static final float EPSILON = 1e-6f;
+
+    @Test
+    @DisplayName("Addition and subtraction")
+    void testAddSubtract() {
+        Vector4f a = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        Vector4f b = new Vector4f(4.0f, -5.0f, 6.0f, 0.5f);
+        assertEquals(new Vector4f(5.0f, -3.0f, 9.0f, 4.5f), a.add(b));
+        assertEquals(new Vector4f(-3.0f, 7.0f, -3.0f, 3.5f), a.subtract(b));
+    }
+
+    @Test
+    @DisplayName("Scalar multiplication and division")
+    void testMultiplyDivide() {
+        Vector4f a = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        assertEquals(new Vector4f(2.0f, 4.0f, 6.0f, 8.0f), a.multiply(2.0f));
+        assertEquals(a, a.multiply(2.0f).divide(2.0f));
+        assertThrows(ArithmeticException.class, () -> a.divide(0.0f));
+    }
+
+    @Test
+    @DisplayName("Length, normalization and dot product")
+    void testLengthNormalizeDot() {
+        Vector4f a = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        assertEquals((float) Math.sqrt(1.0 + 4.0 + 9.0 + 16.0), a.length(), EPSILON);
+        assertEquals(1.0f, a.normalize().length(), EPSILON);
+        assertEquals(14.0f, a.dotProduct(new Vector4f(4.0f, -5.0f, 6.0f, 0.5f)), EPSILON);
+        assertThrows(ArithmeticException.class, () -> new Vector4f(0.0f, 0.0f, 0.0f, 0.0f).normalize());
+    }
+
+    @Test
+    @DisplayName("Length does not overflow for large components")
+    void testLengthLargeComponents() {
+        Vector4f v = new Vector4f(3e20f, 3e20f, 3e20f, 3e20f);
+        assertEquals((float) (3e20 * Math.sqrt(4)), v.length(), 1e15f);
+    }
+
+    @Test
+    @DisplayName("Widening is exact and narrowing rounds to float")
+    void testConversions() {
+        Vector4f f = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        assertEquals(new Vector4(1.0, 2.0, 3.0, 4.0), f.toVector4());
+        Vector4 d = new Vector4(1.0 / 3.0, 0.1, 0.1, 0.1);
+        Vector4f narrowed = Vector4f.narrow(d);
+        assertEquals((float) (1.0 / 3.0), narrowed.getX());
+        assertEquals(narrowed, Vector4f.narrow(narrowed.toVector4()));
+    }
+
+    @Test
+    @DisplayName("Null arguments throw exceptions")
+    void testNullArguments() {
+        Vector4f a = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        assertThrows(IllegalArgumentException.class, () -> a.add(null));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(null));
+        assertThrows(IllegalArgumentException.class, () -> a.dotProduct(null));
+        assertThrows(IllegalArgumentException.class, () -> new Vector4f(null));
+        assertThrows(IllegalArgumentException.class, () -> Vector4f.narrow(null));
+    }
+
+    @Test
+    @DisplayName("Equals and hashCode")
+    void testEqualsHashCode() {
+        Vector4f a = new Vector4f(1.0f, 2.0f, 3.0f, 4.0f);
+        Vector4f b = new Vector4f(a);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new Vector4f(4.0f, -5.0f, 6.0f, 0.5f));
+    }
+}